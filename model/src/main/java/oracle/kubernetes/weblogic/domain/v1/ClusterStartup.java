@@ -44,6 +44,20 @@ public class ClusterStartup {
     @SerializedName("replicas")
     @Expose
     private Integer replicas;
+    /**
+     * Maximum number of servers of this cluster that may be unavailable while the servers are restarted to apply a changed specification, as a count or as a percentage of the running servers of the cluster, such as "25%". When not specified, as many servers are restarted at a time as leaves at least two servers of the cluster available.
+     * 
+     */
+    @SerializedName("maxUnavailable")
+    @Expose
+    private String maxUnavailable;
+    /**
+     * Seconds to wait after a restarted server of this cluster is ready before restarting the next server.
+     * 
+     */
+    @SerializedName("rollingPauseSeconds")
+    @Expose
+    private Integer rollingPauseSeconds;
     /**
      * Environment variables to pass while starting managed servers in this cluster.
      * 
@@ -134,6 +148,58 @@ public class ClusterStartup {
         return this;
     }
 
+    /**
+     * Maximum number of servers of this cluster that may be unavailable while the servers are restarted, as a count or as a percentage.
+     * @return Maximum unavailable servers
+     */
+    public String getMaxUnavailable() {
+        return maxUnavailable;
+    }
+
+    /**
+     * Maximum number of servers of this cluster that may be unavailable while the servers are restarted, as a count or as a percentage.
+     * @param maxUnavailable Maximum unavailable servers
+     */
+    public void setMaxUnavailable(String maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+    }
+
+    /**
+     * Maximum number of servers of this cluster that may be unavailable while the servers are restarted, as a count or as a percentage.
+     * @param maxUnavailable Maximum unavailable servers
+     * @return this
+     */
+    public ClusterStartup withMaxUnavailable(String maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+        return this;
+    }
+
+    /**
+     * Seconds to wait after a restarted server of this cluster is ready before restarting the next server.
+     * @return Rolling pause seconds
+     */
+    public Integer getRollingPauseSeconds() {
+        return rollingPauseSeconds;
+    }
+
+    /**
+     * Seconds to wait after a restarted server of this cluster is ready before restarting the next server.
+     * @param rollingPauseSeconds Rolling pause seconds
+     */
+    public void setRollingPauseSeconds(Integer rollingPauseSeconds) {
+        this.rollingPauseSeconds = rollingPauseSeconds;
+    }
+
+    /**
+     * Seconds to wait after a restarted server of this cluster is ready before restarting the next server.
+     * @param rollingPauseSeconds Rolling pause seconds
+     * @return this
+     */
+    public ClusterStartup withRollingPauseSeconds(Integer rollingPauseSeconds) {
+        this.rollingPauseSeconds = rollingPauseSeconds;
+        return this;
+    }
+
     /**
      * Environment variables to pass while starting managed servers in this cluster.
      * @return Environment variables
@@ -162,12 +228,12 @@ public class ClusterStartup {
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).append("desiredState", desiredState).append("clusterName", clusterName).append("replicas", replicas).append("env", env).toString();
+        return new ToStringBuilder(this).append("desiredState", desiredState).append("clusterName", clusterName).append("replicas", replicas).append("maxUnavailable", maxUnavailable).append("rollingPauseSeconds", rollingPauseSeconds).append("env", env).toString();
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder().append(desiredState).append(env).append(replicas).append(clusterName).toHashCode();
+        return new HashCodeBuilder().append(desiredState).append(env).append(replicas).append(clusterName).append(maxUnavailable).append(rollingPauseSeconds).toHashCode();
     }
 
     @Override
@@ -179,7 +245,7 @@ public class ClusterStartup {
             return false;
         }
         ClusterStartup rhs = ((ClusterStartup) other);
-        return new EqualsBuilder().append(desiredState, rhs.desiredState).append(env, rhs.env).append(replicas, rhs.replicas).append(clusterName, rhs.clusterName).isEquals();
+        return new EqualsBuilder().append(desiredState, rhs.desiredState).append(env, rhs.env).append(replicas, rhs.replicas).append(clusterName, rhs.clusterName).append(maxUnavailable, rhs.maxUnavailable).append(rollingPauseSeconds, rhs.rollingPauseSeconds).isEquals();
     }
 
 }
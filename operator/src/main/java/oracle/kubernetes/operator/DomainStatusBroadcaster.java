@@ -0,0 +1,427 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.kubernetes.client.JSON;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+
+/**
+ * Fans out the status of each domain, as computed by {@link DomainStatusUpdater}, to the clients following it, so
+ * that any number of clients are served by one status computation.  A client first receives the current status,
+ * then the changes to it.  Each event has an id that a reconnecting client may present to resume after the last
+ * event it received: recent events are replayed, and a client that is too far behind receives the current status
+ * again.  Events are queued for each client; when a slow client's queue overflows, the queued events are replaced
+ * by the current status, so that a slow client holds bounded memory and never delays the other clients.
+ */
+public class DomainStatusBroadcaster {
+  /**
+   * Name of an event whose data is the complete domain status
+   */
+  public static final String STATUS_EVENT = "status";
+
+  /**
+   * Name of an event whose data is the change to the domain status: a JSON merge patch of the domain-level status,
+   * the server statuses that were added or changed, and the names of the servers whose status was removed
+   */
+  public static final String DELTA_EVENT = "delta";
+
+  static final int HISTORY_SIZE = 100;
+  static final int MAX_PENDING = 32;
+
+  private static final String SERVERS = "servers";
+  private static final String SERVER_NAME = "serverName";
+  private static final String REMOVED_SERVERS = "removedServers";
+
+  private static final DomainStatusBroadcaster INSTANCE = new DomainStatusBroadcaster();
+
+  private static final Gson statusGson = new JSON().getGson();
+  private static final Gson eventGson = new GsonBuilder().serializeNulls().create();
+
+  private final String epoch;
+  private final int maxPending;
+  private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+  private final AtomicLong overflows = new AtomicLong();
+
+  /**
+   * Returns the broadcaster of the operator's domains
+   * @return Broadcaster
+   */
+  public static DomainStatusBroadcaster getInstance() {
+    return INSTANCE;
+  }
+
+  DomainStatusBroadcaster() {
+    // ids of events published before the operator restarted are not resumable
+    this(Long.toString(System.currentTimeMillis(), 36), MAX_PENDING);
+  }
+
+  DomainStatusBroadcaster(String epoch, int maxPending) {
+    this.epoch = epoch;
+    this.maxPending = maxPending;
+  }
+
+  /**
+   * Publishes the status of a domain to the clients following it, if it changed since it was last published
+   * @param domainUID Domain UID
+   * @param status Domain status
+   */
+  public void publish(String domainUID, DomainStatus status) {
+    JsonObject current = statusGson.toJsonTree(status).getAsJsonObject();
+    channels.computeIfAbsent(domainUID, k -> new Channel()).publish(current);
+  }
+
+  /**
+   * Follows the status of a domain
+   * @param domainUID Domain UID
+   * @param lastEventId Id of the last event the client received, or null for a new client
+   * @param subscriber Receives the events
+   * @param executor Delivers the events to the subscriber
+   * @return Subscription, to cancel once the client is gone
+   */
+  public Subscription subscribe(String domainUID, String lastEventId, Subscriber subscriber, Executor executor) {
+    Subscription subscription = new Subscription(subscriber, executor);
+    channels.computeIfAbsent(domainUID, k -> new Channel()).subscribe(subscription, getSequence(lastEventId));
+    return subscription;
+  }
+
+  /**
+   * Closes the subscriptions to the status of a domain that is no longer present
+   * @param domainUID Domain UID
+   */
+  public void close(String domainUID) {
+    Channel channel = channels.remove(domainUID);
+    if (channel != null) {
+      for (Subscription subscription : channel.close()) {
+        subscription.end();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of subscriptions
+   * @return Subscriber count
+   */
+  public int getSubscriberCount() {
+    int count = 0;
+    for (Channel channel : channels.values()) {
+      count += channel.getSubscriberCount();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of times the events queued for a slow client were replaced by the current status
+   * @return Overflow count
+   */
+  public long getOverflowCount() {
+    return overflows.get();
+  }
+
+  private String getEventId(long sequence) {
+    return epoch + "-" + sequence;
+  }
+
+  // returns the sequence of the event with the id, or -1 if the id is not one of this broadcaster's
+  private long getSequence(String eventId) {
+    if (eventId == null || !eventId.startsWith(epoch + "-")) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(eventId.substring(epoch.length() + 1));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static JsonObject createDelta(JsonObject previous, JsonObject current) {
+    JsonObject delta = new JsonObject();
+
+    JsonObject patch = new JsonObject();
+    for (Map.Entry<String, JsonElement> entry : current.entrySet()) {
+      if (!SERVERS.equals(entry.getKey()) && !entry.getValue().equals(previous.get(entry.getKey()))) {
+        patch.add(entry.getKey(), entry.getValue());
+      }
+    }
+    for (Map.Entry<String, JsonElement> entry : previous.entrySet()) {
+      if (!SERVERS.equals(entry.getKey()) && !current.has(entry.getKey())) {
+        patch.add(entry.getKey(), JsonNull.INSTANCE);
+      }
+    }
+    if (!patch.entrySet().isEmpty()) {
+      delta.add(STATUS_EVENT, patch);
+    }
+
+    Map<String, JsonElement> previousServers = getServers(previous);
+    JsonArray changed = new JsonArray();
+    for (Map.Entry<String, JsonElement> entry : getServers(current).entrySet()) {
+      if (!entry.getValue().equals(previousServers.remove(entry.getKey()))) {
+        changed.add(entry.getValue());
+      }
+    }
+    if (changed.size() > 0) {
+      delta.add(SERVERS, changed);
+    }
+    if (!previousServers.isEmpty()) {
+      JsonArray removed = new JsonArray();
+      for (String serverName : previousServers.keySet()) {
+        removed.add(new JsonPrimitive(serverName));
+      }
+      delta.add(REMOVED_SERVERS, removed);
+    }
+    return delta;
+  }
+
+  private static Map<String, JsonElement> getServers(JsonObject status) {
+    Map<String, JsonElement> servers = new LinkedHashMap<>();
+    JsonElement array = status.get(SERVERS);
+    if (array != null && array.isJsonArray()) {
+      for (JsonElement server : array.getAsJsonArray()) {
+        JsonElement name = server.isJsonObject() ? server.getAsJsonObject().get(SERVER_NAME) : null;
+        if (name != null && name.isJsonPrimitive()) {
+          servers.put(name.getAsString(), server);
+        }
+      }
+    }
+    return servers;
+  }
+
+  /**
+   * Receives the events of a subscription
+   */
+  public interface Subscriber {
+    /**
+     * Sends an event to the client
+     * @param event Event
+     * @return false, if the client is gone
+     */
+    boolean send(Event event);
+
+    /**
+     * Ends the client's stream, since the domain is no longer present
+     */
+    void close();
+  }
+
+  /**
+   * A status event
+   */
+  public static class Event {
+    private final long sequence;
+    private final String id;
+    private final String name;
+    private final String data;
+
+    Event(long sequence, String id, String name, String data) {
+      this.sequence = sequence;
+      this.id = id;
+      this.name = name;
+      this.data = data;
+    }
+
+    /**
+     * Returns the id of the event, which a client may present to resume after it
+     * @return Id
+     */
+    public String getId() {
+      return id;
+    }
+
+    /**
+     * Returns the name of the event: {@link #STATUS_EVENT} or {@link #DELTA_EVENT}
+     * @return Name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the data of the event, as JSON
+     * @return Data
+     */
+    public String getData() {
+      return data;
+    }
+  }
+
+  private class Channel {
+    private final Deque<Event> history = new ArrayDeque<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private JsonObject latest;
+    private Event snapshot;
+    private long sequence;
+    private boolean closed;
+
+    synchronized void publish(JsonObject current) {
+      Event event;
+      if (latest == null) {
+        event = new Event(++sequence, getEventId(sequence), STATUS_EVENT, eventGson.toJson(current));
+        snapshot = event;
+      } else {
+        JsonObject delta = createDelta(latest, current);
+        if (delta.entrySet().isEmpty()) {
+          return;
+        }
+        event = new Event(++sequence, getEventId(sequence), DELTA_EVENT, eventGson.toJson(delta));
+        snapshot = null;
+      }
+      latest = current;
+
+      history.addLast(event);
+      if (history.size() > HISTORY_SIZE) {
+        history.removeFirst();
+      }
+      for (Subscription subscription : subscriptions) {
+        subscription.offer(event);
+      }
+    }
+
+    synchronized void subscribe(Subscription subscription, long lastSequence) {
+      if (closed) {
+        subscription.subscriber.close();
+        return;
+      }
+      subscription.channel = this;
+      subscriptions.add(subscription);
+      if (lastSequence >= 0 && lastSequence <= sequence && !history.isEmpty()
+          && history.getFirst().sequence <= lastSequence + 1) {
+        for (Event event : history) {
+          if (event.sequence > lastSequence) {
+            subscription.offer(event);
+          }
+        }
+      } else if (latest != null) {
+        subscription.offer(getSnapshot());
+      }
+    }
+
+    synchronized void unsubscribe(Subscription subscription) {
+      subscriptions.remove(subscription);
+    }
+
+    synchronized List<Subscription> close() {
+      closed = true;
+      List<Subscription> result = new ArrayList<>(subscriptions);
+      subscriptions.clear();
+      return result;
+    }
+
+    synchronized int getSubscriberCount() {
+      return subscriptions.size();
+    }
+
+    // returns an event with the complete current status and the id of the last event
+    synchronized Event getSnapshot() {
+      if (snapshot == null) {
+        snapshot = new Event(sequence, getEventId(sequence), STATUS_EVENT, eventGson.toJson(latest));
+      }
+      return snapshot;
+    }
+  }
+
+  /**
+   * A client following the status of a domain
+   */
+  public class Subscription {
+    private final Subscriber subscriber;
+    private final Executor executor;
+    private final Deque<Event> pending = new ArrayDeque<>();
+    private volatile Channel channel;
+    private boolean draining;
+    private boolean ending;
+    private boolean cancelled;
+
+    Subscription(Subscriber subscriber, Executor executor) {
+      this.subscriber = subscriber;
+      this.executor = executor;
+    }
+
+    // called with the channel locked, so that events are queued in order
+    void offer(Event event) {
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        if (pending.size() >= maxPending) {
+          // the client is too slow to follow the changes; it is sent the current status instead
+          overflows.incrementAndGet();
+          pending.clear();
+          pending.add(channel.getSnapshot());
+        } else {
+          pending.add(event);
+        }
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      executor.execute(this::drain);
+    }
+
+    // ends the client's stream once the queued events are sent
+    void end() {
+      synchronized (this) {
+        ending = true;
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      executor.execute(this::drain);
+    }
+
+    private void drain() {
+      while (true) {
+        Event event;
+        synchronized (this) {
+          event = cancelled ? null : pending.poll();
+          if (event == null) {
+            draining = false;
+            if (!ending) {
+              return;
+            }
+            cancelled = true;
+            break;
+          }
+        }
+        if (!subscriber.send(event)) {
+          cancel();
+        }
+      }
+      subscriber.close();
+    }
+
+    /**
+     * Stops sending events to the client
+     */
+    public void cancel() {
+      synchronized (this) {
+        cancelled = true;
+        pending.clear();
+      }
+      if (channel != null) {
+        channel.unsubscribe(this);
+      }
+    }
+  }
+}
@@ -5,16 +5,16 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 import org.joda.time.DateTime;
 
-import io.kubernetes.client.ApiException;
-import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainCondition;
@@ -23,19 +23,14 @@ import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
 import oracle.kubernetes.weblogic.domain.v1.ServerHealth;
 import oracle.kubernetes.weblogic.domain.v1.ServerStartup;
 import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
-import oracle.kubernetes.operator.helpers.CallBuilder;
-import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
-import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
-import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
-import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
@@ -53,6 +48,7 @@ public class DomainStatusUpdater {
   public static final String INSPECTING_DOMAIN_PROGRESS_REASON = "InspectingDomainPrescence";
   public static final String ADMIN_SERVER_STARTING_PROGRESS_REASON = "AdminServerStarting";
   public static final String MANAGED_SERVERS_STARTING_PROGRESS_REASON = "ManagedServersStarting";
+  public static final String ROLLING_SERVERS_PROGRESS_REASON = "RollingServers";
 
   public static final String SERVERS_READY_AVAILABLE_REASON = "ServersReady";
   public static final String ALL_STOPPED_AVAILABLE_REASON = "AllServersStopped";
@@ -92,13 +88,30 @@ public class DomainStatusUpdater {
     }
   }
   
-  private static class StatusUpdateStep extends Step {
+  // changes the domain status while holding the lock of the domain presence info, under which the status is copied
+  // to be written
+  private abstract static class StatusChangeStep extends Step {
+    StatusChangeStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      synchronized (packet.getSPI(DomainPresenceInfo.class)) {
+        return applyToStatus(packet);
+      }
+    }
+
+    abstract NextAction applyToStatus(Packet packet);
+  }
+
+  private static class StatusUpdateStep extends StatusChangeStep {
     public StatusUpdateStep(Step next) {
       super(next);
     }
     
     @Override
-    public NextAction apply(Packet packet) {
+    NextAction applyToStatus(Packet packet) {
       LOGGER.entering();
       
       boolean madeChange = false;
@@ -110,15 +123,13 @@ public class DomainStatusUpdater {
       DomainSpec spec = dom.getSpec();
       DomainStatus status = dom.getStatus();
       
-      List<ServerStatus> existingServerStatuses = null;
       if (status == null) {
         // If this is the first time, create status
         status = new DomainStatus();
         status.setStartTime(now);
         dom.setStatus(status);
+        info.markStatusDirty();
         madeChange = true;
-      } else {
-        existingServerStatuses = status.getServers();
       }
       
       // Acquire current state
@@ -128,50 +139,24 @@ public class DomainStatusUpdater {
       @SuppressWarnings("unchecked")
       ConcurrentMap<String, ServerHealth> serverHealth = (ConcurrentMap<String, ServerHealth>) packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
 
-      Map<String, ServerStatus> serverStatuses = new TreeMap<>();
-      WlsDomainConfig scan = info.getScan();
-      if (scan != null) {
-        for (Map.Entry<String, WlsServerConfig> entry : scan.getServerConfigs().entrySet()) {
+      if (info.clearServerStatusesStale()) {
+        rebuildServerStatuses(info, serverState, serverHealth);
+      } else {
+        for (Map.Entry<String, String> entry : serverState.entrySet()) {
           String serverName = entry.getKey();
-          ServerStatus ss = new ServerStatus()
-              .withState(serverState.getOrDefault(serverName, WebLogicConstants.SHUTDOWN_STATE))
-              .withServerName(serverName)
-              .withHealth(serverHealth.get(serverName));
-          outer:
-          for (Map.Entry<String, WlsClusterConfig> cluster : scan.getClusterConfigs().entrySet()) {
-            for (WlsServerConfig sic : cluster.getValue().getServerConfigs()) {
-              if (serverName.equals(sic.getName())) {
-                ss.setClusterName(cluster.getKey());
-                break outer;
-              }
-            }
-          }
-          ServerKubernetesObjects sko = info.getServers().get(serverName);
-          if (sko != null) {
-            V1Pod pod = sko.getPod().get();
-            if (pod != null) {
-              ss.setNodeName(pod.getSpec().getNodeName());
-            }
-          }
-          serverStatuses.put(serverName, ss);
-        }
-      }
-      for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-        String serverName = entry.getKey();
-        if (!serverStatuses.containsKey(serverName)) {
-          V1Pod pod = entry.getValue().getPod().get();
-          if (pod != null) {
-            ServerStatus ss = new ServerStatus()
-                .withState(serverState.getOrDefault(serverName, WebLogicConstants.SHUTDOWN_STATE))
-                .withClusterName(pod.getMetadata().getLabels().get(LabelConstants.CLUSTERNAME_LABEL))
-                .withNodeName(pod.getSpec().getNodeName())
-                .withServerName(serverName)
-                .withHealth(serverHealth.get(serverName));
-            serverStatuses.put(serverName, ss);
-          }
+          applyServerStatus(info, serverName, entry.getValue(), serverHealth.get(serverName));
         }
       }
       
+      if (!info.clearStatusDirty()) {
+        // No watch event or status read changed anything since the last update
+        packet.put(ProcessingConstants.STATUS_UNCHANGED, Boolean.TRUE);
+        LOGGER.exiting();
+        return doNext(packet);
+      }
+
+      Map<String, ServerStatus> serverStatuses = info.getServerStatuses();
+      List<ServerStatus> existingServerStatuses = status.getServers();
       if (existingServerStatuses != null) {
         if (!compare(existingServerStatuses, serverStatuses)) {
           status.setServers(new ArrayList<>(serverStatuses.values()));
@@ -296,9 +281,94 @@ public class DomainStatusUpdater {
       }
       LOGGER.exiting();
       
-      return madeChange == true ? doDomainUpdate(dom, info, packet, StatusUpdateStep.this, next) : doNext(packet);
+      if (madeChange) {
+        DomainStatusWriter.requestWrite(info, status);
+      }
+      return doNext(packet);
     }
   }
+
+  /**
+   * Applies a pod or event watch delta for a server to the domain's server statuses and marks the domain
+   * status dirty so that the next status update re-derives the conditions
+   * @param info Domain presence info
+   * @param serverName Server name
+   */
+  public static void onServerChanged(DomainPresenceInfo info, String serverName) {
+    // watch threads apply deltas under the lock that status updates hold
+    synchronized (info) {
+      info.markStatusDirty();
+
+      ServerKubernetesObjects sko = info.getServers().get(serverName);
+      V1Pod pod = sko != null ? sko.getPod().get() : null;
+      WlsDomainConfig scan = info.getScan();
+      if (pod == null && (scan == null || scan.getServerConfig(serverName) == null)) {
+        info.removeServerStatus(serverName);
+        return;
+      }
+
+      ServerStatus current = info.getServerStatuses().get(serverName);
+      String state = sko != null ? sko.getLastKnownStatus().get() : null;
+      if (pod == null) {
+        state = WebLogicConstants.SHUTDOWN_STATE;
+      } else if (state == null) {
+        state = current != null ? current.getState() : WebLogicConstants.SHUTDOWN_STATE;
+      }
+      ServerHealth health = current != null && WebLogicConstants.STATES_SUPPORTING_REST.contains(state) ? current.getHealth() : null;
+      applyServerStatus(info, serverName, state, health);
+    }
+  }
+
+  private static void rebuildServerStatuses(DomainPresenceInfo info, Map<String, String> serverState, Map<String, ServerHealth> serverHealth) {
+    Set<String> serverNames = new HashSet<>();
+    WlsDomainConfig scan = info.getScan();
+    if (scan != null) {
+      for (String serverName : scan.getServerConfigs().keySet()) {
+        serverNames.add(serverName);
+        applyServerStatus(info, serverName, serverState.getOrDefault(serverName, WebLogicConstants.SHUTDOWN_STATE), 
+            serverHealth.get(serverName));
+      }
+    }
+    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
+      String serverName = entry.getKey();
+      if (!serverNames.contains(serverName) && entry.getValue().getPod().get() != null) {
+        serverNames.add(serverName);
+        applyServerStatus(info, serverName, serverState.getOrDefault(serverName, WebLogicConstants.SHUTDOWN_STATE), 
+            serverHealth.get(serverName));
+      }
+    }
+    for (String serverName : info.getServerStatuses().keySet()) {
+      if (!serverNames.contains(serverName)) {
+        info.removeServerStatus(serverName);
+      }
+    }
+  }
+
+  private static void applyServerStatus(DomainPresenceInfo info, String serverName, String state, ServerHealth health) {
+    ServerKubernetesObjects sko = info.getServers().get(serverName);
+    V1Pod pod = sko != null ? sko.getPod().get() : null;
+    String nodeName = pod != null ? pod.getSpec().getNodeName() : null;
+    String clusterName = null;
+    WlsDomainConfig scan = info.getScan();
+    WlsClusterConfig cluster = scan != null ? scan.getClusterConfigForServer(serverName) : null;
+    if (cluster != null) {
+      clusterName = cluster.getClusterName();
+    } else if (pod != null) {
+      clusterName = pod.getMetadata().getLabels().get(LabelConstants.CLUSTERNAME_LABEL);
+    }
+
+    ServerStatus current = info.getServerStatuses().get(serverName);
+    if (current != null && Objects.equals(state, current.getState()) && Objects.equals(health, current.getHealth())
+        && Objects.equals(nodeName, current.getNodeName()) && Objects.equals(clusterName, current.getClusterName())) {
+      return;
+    }
+    info.updateServerStatus(serverName, new ServerStatus()
+        .withState(state)
+        .withServerName(serverName)
+        .withHealth(health)
+        .withClusterName(clusterName)
+        .withNodeName(nodeName));
+  }
   
   private static boolean compare(List<ServerStatus> currentServerStatuses, Map<String, ServerStatus> serverStatuses) {
     if (currentServerStatuses.size() == serverStatuses.size()) {
@@ -323,16 +393,30 @@ public class DomainStatusUpdater {
    * @return Step
    */
   public static Step createProgressingStep(String reason, boolean isPreserveAvailable, Step next) {
-    return new ProgressingHookStep(reason, isPreserveAvailable, next);
+    return new ProgressingHookStep(reason, null, isPreserveAvailable, next);
+  }
+  
+  /**
+   * Asynchronous step to set Domain condition to Progressing with a message describing the progress
+   * @param reason Progressing reason
+   * @param message Progressing message
+   * @param isPreserveAvailable true, if existing Available=True condition should be preserved
+   * @param next Next step
+   * @return Step
+   */
+  public static Step createProgressingStep(String reason, String message, boolean isPreserveAvailable, Step next) {
+    return new ProgressingHookStep(reason, message, isPreserveAvailable, next);
   }
   
   private static class ProgressingHookStep extends Step {
     private final String reason;
+    private final String message;
     private final boolean isPreserveAvailable;
     
-    private ProgressingHookStep(String reason, boolean isPreserveAvailable, Step next) {
+    private ProgressingHookStep(String reason, String message, boolean isPreserveAvailable, Step next) {
       super(next);
       this.reason = reason;
+      this.message = message;
       this.isPreserveAvailable = isPreserveAvailable;
     }
 
@@ -341,7 +425,7 @@ public class DomainStatusUpdater {
       Fiber f = Fiber.current().createChildFiber();
       Packet p = new Packet();
       p.getComponents().putAll(packet.getComponents());
-      f.start(new ProgressingStep(reason, isPreserveAvailable), p, new CompletionCallback() {
+      f.start(new ProgressingStep(reason, message, isPreserveAvailable), p, new CompletionCallback() {
         @Override
         public void onCompletion(Packet packet) {
         }
@@ -356,18 +440,20 @@ public class DomainStatusUpdater {
     }
   }
   
-  private static class ProgressingStep extends Step {
+  private static class ProgressingStep extends StatusChangeStep {
     private final String reason;
+    private final String message;
     private final boolean isPreserveAvailable;
 
-    private ProgressingStep(String reason, boolean isPreserveAvailable) {
+    private ProgressingStep(String reason, String message, boolean isPreserveAvailable) {
       super(null);
       this.reason = reason;
+      this.message = message;
       this.isPreserveAvailable = isPreserveAvailable;
     }
 
     @Override
-    public NextAction apply(Packet packet) {
+    NextAction applyToStatus(Packet packet) {
       LOGGER.entering();
       
       boolean madeChange = false;
@@ -406,6 +492,10 @@ public class DomainStatusUpdater {
             dc.setReason(reason);
             madeChange = true;
           }
+          if (!Objects.equals(message, dc.getMessage())) {
+            dc.setMessage(message);
+            madeChange = true;
+          }
           break;
         case AVAILABLE_TYPE:
           if (isPreserveAvailable) {
@@ -423,6 +513,7 @@ public class DomainStatusUpdater {
         dc.setStatus(TRUE);
         dc.setLastTransitionTime(now);
         dc.setReason(reason);
+        dc.setMessage(message);
         conditions.add(dc);
         madeChange = true;
       }
@@ -430,7 +521,10 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, dom.getSpec().getDomainUID(), status);
       LOGGER.exiting();
       
-      return madeChange == true ? doDomainUpdate(dom, info, packet, ProgressingStep.this, next) : doNext(packet);
+      if (madeChange) {
+        DomainStatusWriter.requestWrite(info, status);
+      }
+      return doNext(packet);
     }
   }
 
@@ -443,14 +537,14 @@ public class DomainStatusUpdater {
     return new EndProgressingStep(next);
   }
   
-  private static class EndProgressingStep extends Step {
+  private static class EndProgressingStep extends StatusChangeStep {
 
     public EndProgressingStep(Step next) {
       super(next);
     }
 
     @Override
-    public NextAction apply(Packet packet) {
+    NextAction applyToStatus(Packet packet) {
       LOGGER.entering();
       
       boolean madeChange = false;
@@ -495,7 +589,10 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, dom.getSpec().getDomainUID(), status);
       LOGGER.exiting();
       
-      return madeChange == true ? doDomainUpdate(dom, info, packet, EndProgressingStep.this, next) : doNext(packet);
+      if (madeChange) {
+        DomainStatusWriter.requestWrite(info, status);
+      }
+      return doNext(packet);
     }
   }
 
@@ -537,7 +634,7 @@ public class DomainStatusUpdater {
     }
   }
   
-  private static class AvailableStep extends Step {
+  private static class AvailableStep extends StatusChangeStep {
     private final String reason;
 
     private AvailableStep(String reason) {
@@ -546,7 +643,7 @@ public class DomainStatusUpdater {
     }
 
     @Override
-    public NextAction apply(Packet packet) {
+    NextAction applyToStatus(Packet packet) {
       LOGGER.entering();
       
       boolean madeChange = false;
@@ -606,32 +703,11 @@ public class DomainStatusUpdater {
 
       LOGGER.info(MessageKeys.DOMAIN_STATUS, dom.getSpec().getDomainUID(), status);
       LOGGER.exiting();
-      return madeChange == true ? doDomainUpdate(dom, info, packet, AvailableStep.this, next) : doNext(packet);
-    }
-  }
-  
-  private static NextAction doDomainUpdate(Domain dom, DomainPresenceInfo info, Packet packet, Step conflictStep, Step next) {
-    V1ObjectMeta meta = dom.getMetadata();
-    NextAction na = new NextAction();
-    CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
-    na.invoke(factory.create().replaceDomainAsync(meta.getName(), meta.getNamespace(), dom, new ResponseStep<Domain>(next) {
-      @Override
-      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        if (statusCode == CallBuilder.NOT_FOUND) {
-          return doNext(packet); // Just ignore update
-        }
-        return super.onFailure(conflictStep, packet, e, statusCode, responseHeaders);
-      }
-      
-      @Override
-      public NextAction onSuccess(Packet packet, Domain result, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        info.setDomain(result);
-        return doNext(packet);
+      if (madeChange) {
+        DomainStatusWriter.requestWrite(info, status);
       }
-    }), packet);
-    return na;
+      return doNext(packet);
+    }
   }
   
   /**
@@ -672,7 +748,7 @@ public class DomainStatusUpdater {
     }
   }
   
-  private static class FailedStep extends Step {
+  private static class FailedStep extends StatusChangeStep {
     private final Throwable throwable;
 
     private FailedStep(Throwable throwable) {
@@ -681,7 +757,7 @@ public class DomainStatusUpdater {
     }
 
     @Override
-    public NextAction apply(Packet packet) {
+    NextAction applyToStatus(Packet packet) {
       LOGGER.entering();
       
       boolean madeChange = false;
@@ -747,7 +823,10 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, dom.getSpec().getDomainUID(), status);
       LOGGER.exiting();
       
-      return madeChange == true ? doDomainUpdate(dom, info, packet, FailedStep.this, next) : doNext(packet);
+      if (madeChange) {
+        DomainStatusWriter.requestWrite(info, status);
+      }
+      return doNext(packet);
     }
   }
 }
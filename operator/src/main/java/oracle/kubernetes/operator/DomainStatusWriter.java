@@ -0,0 +1,214 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+
+/**
+ * Single writer of the status of a domain.  The {@link DomainStatusUpdater} steps change the status in memory, while
+ * holding the lock of the domain presence info, and request a write; the write serializes a copy of the status made
+ * under that lock, and the changes requested within the write interval are written with one replace of the Domain.
+ * A conflict is resolved here by reading the latest Domain and applying the pending status to it, and a status whose
+ * write fails is written again after the interval, unless a newer status is pending by then.  Each requested
+ * status that differs from the one last published is also published to the clients following the domain's status.
+ */
+class DomainStatusWriter {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final long DEFAULT_WRITE_INTERVAL_MILLIS = 1000;
+
+  private static final JSON json = new JSON();
+
+  private DomainStatusWriter() {
+  }
+
+  /**
+   * Requests that the domain status be written
+   * @param info Domain presence info
+   * @param status Changed domain status
+   */
+  static void requestWrite(DomainPresenceInfo info, DomainStatus status) {
+    Container c = ContainerResolver.getInstance().getContainer();
+    TuningParameters tuning = c.getSPI(TuningParameters.class);
+    requestWrite(info, status, c.getSPI(Engine.class),
+        tuning != null ? tuning.getMainTuning().statusUpdateWriteIntervalMillis : DEFAULT_WRITE_INTERVAL_MILLIS);
+  }
+
+  /**
+   * Requests that the domain status be written.  If no write is scheduled for the domain, one is scheduled after the
+   * write interval; otherwise, the changed status will be written by the scheduled write or the one following it.
+   * @param info Domain presence info
+   * @param status Changed domain status
+   * @param engine Engine that runs the write
+   * @param intervalMillis Write interval, in milliseconds
+   */
+  static void requestWrite(DomainPresenceInfo info, DomainStatus status, Engine engine, long intervalMillis) {
+    DomainStatus copy;
+    synchronized (info) {
+      copy = copyOf(status);
+    }
+
+    // clients following the status receive the change now, rather than once it is written
+    Domain dom = info.getDomain();
+    DomainStatus published = info.getPublishedStatus().getAndSet(copy);
+    if (!copy.equals(published) && dom != null && dom.getSpec() != null) {
+      DomainStatusBroadcaster.getInstance().publish(dom.getSpec().getDomainUID(), copy);
+    }
+
+    info.getPendingStatus().set(copy);
+    schedule(info, engine, intervalMillis);
+  }
+
+  private static void schedule(DomainPresenceInfo info, Engine engine, long intervalMillis) {
+    if (info.getStatusWriteScheduled().compareAndSet(false, true)) {
+      engine.getExecutor().schedule(() -> startWrite(info, engine, intervalMillis),
+          intervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static DomainStatus copyOf(DomainStatus status) {
+    return json.deserialize(json.serialize(status), DomainStatus.class);
+  }
+
+  private static void startWrite(DomainPresenceInfo info, Engine engine, long intervalMillis) {
+    AtomicReference<DomainStatus> written = new AtomicReference<>();
+    engine.createFiber().start(new WriteStatusStep(info, written), new Packet(), new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        writeCompleted(info, engine, intervalMillis);
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+        // the next status update recomputes the status, rather than finding it unchanged
+        info.markStatusDirty();
+        DomainStatus status = written.get();
+        if (status != null) {
+          info.getPendingStatus().compareAndSet(null, status);
+        }
+        writeCompleted(info, engine, intervalMillis);
+      }
+    });
+  }
+
+  private static void writeCompleted(DomainPresenceInfo info, Engine engine, long intervalMillis) {
+    info.getStatusWriteScheduled().set(false);
+    if (info.getPendingStatus().get() != null) {
+      // status changed again while the write was in progress
+      schedule(info, engine, intervalMillis);
+    }
+  }
+
+  private static class WriteStatusStep extends Step {
+    private final DomainPresenceInfo info;
+    private final AtomicReference<DomainStatus> written;
+
+    WriteStatusStep(DomainPresenceInfo info, AtomicReference<DomainStatus> written) {
+      super(null);
+      this.info = info;
+      this.written = written;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainStatus status = info.getPendingStatus().getAndSet(null);
+      written.set(status);
+      Domain dom = info.getDomain();
+      if (status == null || dom == null) {
+        return doNext(packet);
+      }
+      CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+      return doNext(createReplaceStep(factory, info, dom, status, next), packet);
+    }
+  }
+
+  // the domain to replace has the written status, so that the status the steps change is not serialized
+  private static Domain withStatus(Domain dom, DomainStatus status) {
+    return new Domain().withApiVersion(dom.getApiVersion()).withKind(dom.getKind())
+        .withMetadata(dom.getMetadata()).withSpec(dom.getSpec()).withStatus(status);
+  }
+
+  // the domain read or written replaces the one in memory, keeping the status the steps change
+  private static void setDomain(DomainPresenceInfo info, Domain result) {
+    synchronized (info) {
+      Domain current = info.getDomain();
+      if (current != null && current.getStatus() != null) {
+        result.setStatus(current.getStatus());
+      }
+      info.setDomain(result);
+    }
+  }
+
+  private static Step createReplaceStep(CallBuilderFactory factory, DomainPresenceInfo info, Domain dom,
+      DomainStatus status, Step next) {
+    V1ObjectMeta meta = dom.getMetadata();
+    return factory.create().replaceDomainAsync(meta.getName(), meta.getNamespace(), withStatus(dom, status),
+        new ResponseStep<Domain>(next) {
+      @Override
+      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        if (statusCode == CallBuilder.NOT_FOUND) {
+          return doNext(packet); // Just ignore update
+        }
+        if (statusCode == CallBuilder.CONFLICT) {
+          LOGGER.info(MessageKeys.DOMAIN_STATUS_CONFLICT, meta.getName());
+          return doNext(createReadStep(factory, info, meta, status, next), packet);
+        }
+        return super.onFailure(packet, e, statusCode, responseHeaders);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, Domain result, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        setDomain(info, result);
+        return doNext(packet);
+      }
+    });
+  }
+
+  private static Step createReadStep(CallBuilderFactory factory, DomainPresenceInfo info, V1ObjectMeta meta,
+      DomainStatus status, Step next) {
+    return factory.create().readDomainAsync(meta.getName(), meta.getNamespace(), new ResponseStep<Domain>(next) {
+      @Override
+      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        if (statusCode == CallBuilder.NOT_FOUND) {
+          return doNext(packet); // Domain was deleted
+        }
+        return super.onFailure(packet, e, statusCode, responseHeaders);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, Domain result, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        setDomain(info, result);
+        return doNext(createReplaceStep(factory, info, result, status, next), packet);
+      }
+    });
+  }
+}
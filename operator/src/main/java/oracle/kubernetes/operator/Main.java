@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -21,8 +22,6 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.JSON;
@@ -41,7 +40,10 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.helpers.CRDHelper;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.AuthenticationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
@@ -54,6 +56,9 @@ import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.rest.AlertScaler;
+import oracle.kubernetes.operator.rest.RestBackendImpl;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
@@ -63,6 +68,7 @@ import oracle.kubernetes.operator.steps.DomainPrescenceStep;
 import oracle.kubernetes.operator.steps.ExternalAdminChannelsStep;
 import oracle.kubernetes.operator.steps.ListPersistentVolumeClaimStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
+import oracle.kubernetes.operator.steps.ParallelStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
 import oracle.kubernetes.operator.utils.ConcurrentWeakHashMap;
 import oracle.kubernetes.operator.wlsconfig.WlsRetriever;
@@ -114,17 +120,20 @@ public class Main {
   private static final ScheduledExecutorService wrappedExecutorService = Engine.wrappedExecutorService("operator",
       container);
 
+  private static final Engine engine = new Engine(wrappedExecutorService);
+
   static {
     container.getComponents().put(ProcessingConstants.MAIN_COMPONENT_NAME,
         Component.createFor(
             ScheduledExecutorService.class, wrappedExecutorService, 
             TuningParameters.class, tuningAndConfig,
             ThreadFactory.class, factory,
-            callBuilderFactory, skoFactory));
+            engine, callBuilderFactory, skoFactory));
   }
 
-  private static final Engine engine = new Engine(wrappedExecutorService);
   private static final FiberGate domainUpdaters = new FiberGate(engine);
+  private static final StatusUpdateScheduler statusUpdateScheduler = new StatusUpdateScheduler(
+      engine.getExecutor(), tuningAndConfig::getMainTuning, 100, 512);
 
   private static final ConcurrentMap<String, Boolean> initialized = new ConcurrentHashMap<>();
   private static final AtomicBoolean stopping = new AtomicBoolean(false);
@@ -167,6 +176,8 @@ public class Main {
     // start liveness thread
     startLivenessThread();
 
+    registerMetrics();
+
     engine.getExecutor().execute(Main::begin);
 
     // now we just wait until the pod is terminated
@@ -344,62 +355,25 @@ public class Main {
   }
 
   private static void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
-    AtomicInteger unchangedCount = new AtomicInteger(0);
-    AtomicReference<ScheduledFuture<?>> statusUpdater = info.getStatusUpdater();
-    Runnable command = new Runnable() {
-      public void run() {
-        try {
-          Runnable r = this; // resolve visibility
-          Packet packet = new Packet();
-          packet.getComponents().put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info, version));
-          MainTuning main = tuningAndConfig.getMainTuning();
-          Step strategy = DomainStatusUpdater.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-          engine.createFiber().start(strategy, packet, new CompletionCallback() {
-            @Override
-            public void onCompletion(Packet packet) {
-              Boolean isStatusUnchanged = (Boolean) packet.get(ProcessingConstants.STATUS_UNCHANGED);
-              ScheduledFuture<?> existing = null;
-              if (Boolean.TRUE.equals(isStatusUnchanged)) {
-                if (unchangedCount.incrementAndGet() == main.unchangedCountToDelayStatusRecheck) {
-                  // slow down retries because of sufficient unchanged statuses
-                  existing = statusUpdater.getAndSet(engine.getExecutor().scheduleWithFixedDelay(r,
-                      main.eventualLongDelay, main.eventualLongDelay, TimeUnit.SECONDS));
-                }
-              } else {
-                // reset to trying after shorter delay because of changed status
-                unchangedCount.set(0);
-                existing = statusUpdater.getAndSet(engine.getExecutor().scheduleWithFixedDelay(r,
-                    main.initialShortDelay, main.initialShortDelay, TimeUnit.SECONDS));
-                if (existing != null) {
-                  existing.cancel(false);
-                }
-              }
-              if (existing != null) {
-                existing.cancel(false);
-              }
-            }
-
-            @Override
-            public void onThrowable(Packet packet, Throwable throwable) {
-              LOGGER.severe(MessageKeys.EXCEPTION, throwable);
-              // retry to trying after shorter delay because of exception
-              unchangedCount.set(0);
-              ScheduledFuture<?> existing = statusUpdater.getAndSet(engine.getExecutor().scheduleWithFixedDelay(r,
-                  main.initialShortDelay, main.initialShortDelay, TimeUnit.SECONDS));
-              if (existing != null) {
-                existing.cancel(false);
-              }
-            }
-          });
-        } catch (Throwable t) {
-          LOGGER.severe(MessageKeys.EXCEPTION, t);
+    ScheduledFuture<?> existing = info.getStatusUpdater().getAndSet(statusUpdateScheduler.schedule(completion -> {
+      Packet packet = new Packet();
+      packet.getComponents().put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info, version));
+      MainTuning main = tuningAndConfig.getMainTuning();
+      Step strategy = DomainStatusUpdater.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+      engine.createFiber().start(strategy, packet, new CompletionCallback() {
+        @Override
+        public void onCompletion(Packet packet) {
+          completion.done(Boolean.TRUE.equals(packet.get(ProcessingConstants.STATUS_UNCHANGED)));
         }
-      }
-    };
 
-    MainTuning main = tuningAndConfig.getMainTuning();
-    ScheduledFuture<?> existing = statusUpdater.getAndSet(engine.getExecutor().scheduleWithFixedDelay(command,
-        main.initialShortDelay, main.initialShortDelay, TimeUnit.SECONDS));
+        @Override
+        public void onThrowable(Packet packet, Throwable throwable) {
+          LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+          // retry after shorter delay because of exception
+          completion.done(false);
+        }
+      });
+    }));
 
     if (existing != null) {
       existing.cancel(false);
@@ -525,8 +499,10 @@ public class Main {
   // pre-conditions: DomainPresenceInfo SPI
   // "principal"
   private static Step bringAdminServerUp(Step next) {
-    return new ListPersistentVolumeClaimStep(
-        PodHelper.createAdminPodStep(new BeforeAdminServiceStep(ServiceHelper.createForServerStep(next))));
+    // the admin server's entries are kept for the steps that follow, as when the pod and service were made in turn
+    return new ListPersistentVolumeClaimStep(new ParallelStep(next,
+        Arrays.asList(ProcessingConstants.SERVER_NAME, ProcessingConstants.PORT, ProcessingConstants.NODE_PORT),
+        PodHelper.createAdminPodStep(null), new BeforeAdminServiceStep(ServiceHelper.createForServerStep(null))));
   }
 
   private static Step connectToAdminAndInspectDomain(Step next) {
@@ -555,6 +531,9 @@ public class Main {
     if (info != null) {
       DomainPresenceControl.cancelDomainStatusUpdating(info);
     }
+    DomainStatusBroadcaster.getInstance().close(domainUID);
+    MetricsRegistry.getInstance().removeSeries("domain", domainUID);
+    AlertScaler.getInstance().forget(domainUID);
     domainUpdaters.startFiber(domainUID, new DeleteDomainStep(namespace, domainUID), new Packet(),
         new CompletionCallback() {
           @Override
@@ -595,8 +574,39 @@ public class Main {
     return targetNamespaces;
   }
 
+  private static void registerMetrics() {
+    engine.registerMetrics("operator");
+
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    registry.gauge("operator_fiber_gate_active_keys", "Keys that have a running fiber, such as the domains "
+        + "whose presence is being updated.", "gate").set(domainUpdaters::getActiveKeyCount, "domain");
+    registry.gauge("operator_client_pool_size", "Kubernetes API clients in the pool, available to be taken.")
+        .set(() -> ClientPool.getInstance().size());
+    registry.suppliedCounter("operator_client_pool_created_total", "Kubernetes API clients created because the "
+        + "pool was empty.").set(() -> ClientPool.getInstance().getCreatedCount());
+    registry.gauge("operator_status_updates_running", "Periodic domain status updates that are running.")
+        .set(statusUpdateScheduler::getRunningCount);
+
+    DomainStatusBroadcaster broadcaster = DomainStatusBroadcaster.getInstance();
+    registry.gauge("operator_status_subscribers", "Clients following the status of a domain.")
+        .set(broadcaster::getSubscriberCount);
+    registry.suppliedCounter("operator_status_overflows_total", "Times the status events queued for a slow "
+        + "client were replaced by the current status.").set(broadcaster::getOverflowCount);
+
+    registry.registerCache("token_review",
+        AuthenticationProxy.getCache()::getHitCount, AuthenticationProxy.getCache()::getMissCount);
+    registry.registerCache("authorization",
+        AuthorizationProxy.getCache()::getHitCount, AuthorizationProxy.getCache()::getMissCount);
+
+    registry.suppliedCounter("operator_scale_requests_coalesced_total", "Requests to scale a cluster that were "
+        + "coalesced with an earlier request.").set(RestBackendImpl.getScaleCoalescer()::getCoalescedCount);
+    registry.suppliedCounter("operator_scale_requests_replayed_total", "Requests to scale a cluster that were "
+        + "answered with the result of an earlier request with the same idempotency key.")
+        .set(RestBackendImpl.getScaleCoalescer()::getReplayedCount);
+  }
+
   private static void startRestServer(String principal, Collection<String> targetNamespaces) throws Exception {
-    restServer = new RestServer(new RestConfigImpl(principal, targetNamespaces));
+    restServer = new RestServer(new RestConfigImpl(principal, targetNamespaces, domains));
     restServer.start(container);
   }
 
@@ -663,6 +673,7 @@ public class Main {
           if (sko != null) {
             int idx = message.lastIndexOf(':');
             sko.getLastKnownStatus().set(message.substring(idx + 1).trim());
+            onServerChanged(sko);
           }
         }
       }
@@ -708,13 +719,27 @@ public class Main {
 
             case "ERROR":
             default:
+              return;
             }
+            DomainStatusUpdater.onServerChanged(info, serverName);
           }
         }
       }
     }
   }
 
+  private static void onServerChanged(ServerKubernetesObjects sko) {
+    V1Pod pod = sko.getPod().get();
+    Map<String, String> labels = pod != null ? pod.getMetadata().getLabels() : null;
+    if (labels != null) {
+      DomainPresenceInfo info = domains.get(labels.get(LabelConstants.DOMAINUID_LABEL));
+      String serverName = labels.get(LabelConstants.SERVERNAME_LABEL);
+      if (info != null && serverName != null && info.getServers().get(serverName) == sko) {
+        DomainStatusUpdater.onServerChanged(info, serverName);
+      }
+    }
+  }
+
   private static ServiceWatcher createServiceWatcher(String namespace, String initialResourceVersion) {
     return ServiceWatcher.create(factory, namespace, initialResourceVersion, Main::dispatchServiceWatch, stopping);
   }
@@ -30,7 +30,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -177,15 +179,28 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
    * @return Asynchronous step
    */
   public Step waitForReady(V1Pod pod, Step next) {
-    return new WaitForPodReadyStep(pod, next);
+    return new WaitForPodReadyStep(pod, 0, next);
+  }
+  
+  /**
+   * Waits until the Pod is Ready or the timeout expires, whichever comes first
+   * @param pod Pod to watch
+   * @param timeoutSeconds Maximum time to wait, in seconds, or 0 to wait until the Pod is Ready
+   * @param next Next processing step once Pod is ready or the timeout expired
+   * @return Asynchronous step
+   */
+  public Step waitForReady(V1Pod pod, int timeoutSeconds, Step next) {
+    return new WaitForPodReadyStep(pod, timeoutSeconds, next);
   }
   
   private class WaitForPodReadyStep extends Step {
     private final V1Pod pod;
+    private final int timeoutSeconds;
 
-    private WaitForPodReadyStep(V1Pod pod, Step next) {
+    private WaitForPodReadyStep(V1Pod pod, int timeoutSeconds, Step next) {
       super(next);
       this.pod = pod;
+      this.timeoutSeconds = timeoutSeconds;
     }
 
     @Override
@@ -207,6 +222,18 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
         };
         readyCallbackRegistrations.put(metadata.getName(), ready);
 
+        if (timeoutSeconds > 0) {
+          ScheduledExecutorService executor = ContainerResolver.getInstance().getContainer()
+              .getSPI(ScheduledExecutorService.class);
+          executor.schedule(() -> {
+            if (didResume.compareAndSet(false, true)) {
+              readyCallbackRegistrations.remove(metadata.getName(), ready);
+              LOGGER.info(MessageKeys.POD_READY_TIMED_OUT, metadata.getName(), timeoutSeconds);
+              fiber.resume(packet);
+            }
+          }, timeoutSeconds, TimeUnit.SECONDS);
+        }
+
         // Timing window -- pod may have come ready before registration for callback
         CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
         fiber.createChildFiber().start(factory.create().readPodAsync(
@@ -26,6 +26,7 @@ public interface ProcessingConstants {
   public static final String NETWORK_ACCESS_POINT = "nap";
   
   public static final String SERVERS_TO_ROLL = "roll";
+  public static final String STARTED_POD = "startedPod";
   
   public static final String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   public static final String SERVER_STATE_MAP = "serverStateMap";
@@ -0,0 +1,271 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Histogram;
+
+/**
+ * Central scheduler for the periodic domain status updates.  Rather than one fixed delay task per domain, the
+ * registered updates are kept in a hashed timing wheel that is advanced by a single task.  Each update is rescheduled
+ * after it completes, using the short delay until its status has been unchanged for the configured count of updates
+ * and the long delay after that.  Delays are jittered so that domains drift apart rather than updating in bursts,
+ * and updates that expire while the maximum number of updates are running wait for a later tick.
+ */
+public class StatusUpdateScheduler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Histogram DURATION = MetricsRegistry.getInstance().histogram(
+      "operator_status_update_duration_seconds", "Time taken by a periodic domain status update.");
+
+  /**
+   * A status update for one domain
+   */
+  public interface StatusUpdate {
+    /**
+     * Starts the status update.  The completion must be notified exactly once, when the update is done.
+     * @param completion Completion
+     */
+    void start(Completion completion);
+  }
+
+  /**
+   * Completion of a status update
+   */
+  public interface Completion {
+    /**
+     * Notifies that the status update is done
+     * @param unchanged true, if the status update did not change the domain status
+     */
+    void done(boolean unchanged);
+  }
+
+  private final ScheduledExecutorService executor;
+  private final Supplier<MainTuning> tuning;
+  private final long tickMillis;
+  private final Deque<Registration>[] wheel;
+
+  private final Queue<Registration> pending = new ConcurrentLinkedQueue<>();
+  private final Deque<Registration> expired = new ArrayDeque<>();
+  private final AtomicInteger running = new AtomicInteger(0);
+
+  private long tick = 0;
+  private ScheduledFuture<?> ticker;
+
+  /**
+   * Creates the scheduler
+   * @param executor Executor that advances the wheel
+   * @param tuning Supplier of the current tuning parameters
+   * @param tickMillis Duration of one tick of the wheel, in milliseconds
+   * @param wheelSize Number of buckets in the wheel
+   */
+  @SuppressWarnings("unchecked")
+  public StatusUpdateScheduler(ScheduledExecutorService executor, Supplier<MainTuning> tuning, long tickMillis, int wheelSize) {
+    this.executor = executor;
+    this.tuning = tuning;
+    this.tickMillis = tickMillis;
+    this.wheel = new Deque[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+  }
+
+  /**
+   * Registers a status update.  The first update runs at a random point within the short delay.
+   * @param update Status update
+   * @return Future that cancels the registration
+   */
+  public ScheduledFuture<?> schedule(StatusUpdate update) {
+    Registration registration = new Registration(update);
+    long initialShortDelay = TimeUnit.SECONDS.toMillis(tuning.get().initialShortDelay);
+    enqueue(registration, ThreadLocalRandom.current().nextLong(Math.max(1, initialShortDelay)));
+    startTicker();
+    return registration;
+  }
+
+  /**
+   * Number of status updates that are currently running
+   * @return Running status updates
+   */
+  public int getRunningCount() {
+    return running.get();
+  }
+
+  /**
+   * Stops advancing the wheel.  Registered updates will not run again.
+   */
+  public synchronized void shutdown() {
+    if (ticker != null) {
+      ticker.cancel(false);
+      ticker = null;
+    }
+  }
+
+  private synchronized void startTicker() {
+    if (ticker == null) {
+      ticker = executor.scheduleAtFixedRate(this::onTick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void enqueue(Registration registration, long delayMillis) {
+    registration.delayTicks = Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+    registration.nextRunNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+    pending.add(registration);
+  }
+
+  private long nextDelayMillis(Registration registration, boolean unchanged) {
+    MainTuning main = tuning.get();
+    long delaySeconds;
+    if (unchanged && registration.unchangedCount.incrementAndGet() >= main.unchangedCountToDelayStatusRecheck) {
+      // slow down retries because of sufficient unchanged statuses
+      delaySeconds = main.eventualLongDelay;
+    } else {
+      if (!unchanged) {
+        registration.unchangedCount.set(0);
+      }
+      delaySeconds = main.initialShortDelay;
+    }
+    long delayMillis = TimeUnit.SECONDS.toMillis(delaySeconds);
+    long jitterMillis = delayMillis * main.statusUpdateJitterPercent / 100;
+    if (jitterMillis > 0) {
+      delayMillis += ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+    }
+    return delayMillis;
+  }
+
+  // Runs only on the ticker, so the wheel, the expired queue and the tick count need no further synchronization
+  private void onTick() {
+    try {
+      tick++;
+
+      Registration registration;
+      while ((registration = pending.poll()) != null) {
+        if (!registration.isCancelled()) {
+          long target = tick - 1 + registration.delayTicks;
+          registration.rounds = (target - tick) / wheel.length;
+          wheel[(int) (target % wheel.length)].add(registration);
+        }
+      }
+
+      Iterator<Registration> it = wheel[(int) (tick % wheel.length)].iterator();
+      while (it.hasNext()) {
+        registration = it.next();
+        if (registration.isCancelled()) {
+          it.remove();
+        } else if (registration.rounds > 0) {
+          registration.rounds--;
+        } else {
+          it.remove();
+          expired.add(registration);
+        }
+      }
+
+      int maxConcurrency = tuning.get().statusUpdateMaxConcurrency;
+      while (!expired.isEmpty() && running.get() < maxConcurrency) {
+        registration = expired.poll();
+        if (!registration.isCancelled()) {
+          run(registration);
+        }
+      }
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    }
+  }
+
+  private void run(Registration registration) {
+    running.incrementAndGet();
+    long startNanos = System.nanoTime();
+    AtomicInteger completions = new AtomicInteger(0);
+    Completion completion = unchanged -> {
+      if (completions.incrementAndGet() == 1) {
+        running.decrementAndGet();
+        DURATION.observeSince(startNanos);
+        if (!registration.isCancelled()) {
+          enqueue(registration, nextDelayMillis(registration, unchanged));
+        }
+      }
+    };
+    try {
+      registration.update.start(completion);
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+      completion.done(false);
+    }
+  }
+
+  private static class Registration implements ScheduledFuture<Object> {
+    private final StatusUpdate update;
+    private final AtomicInteger unchangedCount = new AtomicInteger(0);
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private volatile long nextRunNanos;
+    private long delayTicks;
+    private long rounds;
+
+    Registration(StatusUpdate update) {
+      this.update = update;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(nextRunNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (isCancelled()) {
+        return false;
+      }
+      cancelled.countDown();
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled.getCount() == 0;
+    }
+
+    @Override
+    public boolean isDone() {
+      return isCancelled();
+    }
+
+    @Override
+    public Object get() throws InterruptedException {
+      cancelled.await();
+      throw new CancellationException();
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+      if (!cancelled.await(timeout, unit)) {
+        throw new TimeoutException();
+      }
+      throw new CancellationException();
+    }
+  }
+}
@@ -25,16 +25,33 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck; 
     public final long initialShortDelay; 
     public final long eventualLongDelay;
+    public final int statusUpdateMaxConcurrency;
+    public final int statusUpdateJitterPercent;
+    public final long statusUpdateWriteIntervalMillis;
+    public final int startupMaxConcurrency;
+    public final int startupMaxConcurrencyPerCluster;
+    public final int startupReadyTimeoutSeconds;
+    public final int gracefulShutdownTimeoutSeconds;
     
     public MainTuning(int domainPresenceFailureRetrySeconds, int domainPresenceRecheckIntervalSeconds,
         int statusUpdateTimeoutSeconds, int unchangedCountToDelayStatusRecheck, 
-        long initialShortDelay, long eventualLongDelay) {
+        long initialShortDelay, long eventualLongDelay,
+        int statusUpdateMaxConcurrency, int statusUpdateJitterPercent, long statusUpdateWriteIntervalMillis,
+        int startupMaxConcurrency, int startupMaxConcurrencyPerCluster, int startupReadyTimeoutSeconds,
+        int gracefulShutdownTimeoutSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
       this.statusUpdateTimeoutSeconds = statusUpdateTimeoutSeconds;
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.statusUpdateMaxConcurrency = statusUpdateMaxConcurrency;
+      this.statusUpdateJitterPercent = statusUpdateJitterPercent;
+      this.statusUpdateWriteIntervalMillis = statusUpdateWriteIntervalMillis;
+      this.startupMaxConcurrency = startupMaxConcurrency;
+      this.startupMaxConcurrencyPerCluster = startupMaxConcurrencyPerCluster;
+      this.startupReadyTimeoutSeconds = startupReadyTimeoutSeconds;
+      this.gracefulShutdownTimeoutSeconds = gracefulShutdownTimeoutSeconds;
     }
   }
   
@@ -78,8 +95,50 @@ public interface TuningParameters extends Map<String, String> {
     }
   }
 
+  public static class RestTuning {
+    public final int authenticationCacheTtlSeconds;
+    public final int authenticationFailureCacheTtlSeconds;
+    public final int authorizationCacheTtlSeconds;
+    public final int restWorkerThreads;
+    public final int restSelectorThreads;
+    public final int restKeepAliveMaxRequests;
+    public final int restKeepAliveIdleTimeoutSeconds;
+    public final int restRequestThreads;
+    public final int restRequestTimeoutSeconds;
+    public final long scaleCoalescingWindowMillis;
+    public final int scaleIdempotencyTtlSeconds;
+    public final int restResponseCacheTtlSeconds;
+    public final int alertScaleStep;
+    public final int alertScaleCooldownSeconds;
+    public final int alertScaleMinManagedServerCount;
+
+    public RestTuning(int authenticationCacheTtlSeconds, int authenticationFailureCacheTtlSeconds,
+        int authorizationCacheTtlSeconds, int restWorkerThreads, int restSelectorThreads,
+        int restKeepAliveMaxRequests, int restKeepAliveIdleTimeoutSeconds,
+        int restRequestThreads, int restRequestTimeoutSeconds, long scaleCoalescingWindowMillis,
+        int scaleIdempotencyTtlSeconds, int restResponseCacheTtlSeconds, int alertScaleStep,
+        int alertScaleCooldownSeconds, int alertScaleMinManagedServerCount) {
+      this.authenticationCacheTtlSeconds = authenticationCacheTtlSeconds;
+      this.authenticationFailureCacheTtlSeconds = authenticationFailureCacheTtlSeconds;
+      this.authorizationCacheTtlSeconds = authorizationCacheTtlSeconds;
+      this.restWorkerThreads = restWorkerThreads;
+      this.restSelectorThreads = restSelectorThreads;
+      this.restKeepAliveMaxRequests = restKeepAliveMaxRequests;
+      this.restKeepAliveIdleTimeoutSeconds = restKeepAliveIdleTimeoutSeconds;
+      this.restRequestThreads = restRequestThreads;
+      this.restRequestTimeoutSeconds = restRequestTimeoutSeconds;
+      this.scaleCoalescingWindowMillis = scaleCoalescingWindowMillis;
+      this.scaleIdempotencyTtlSeconds = scaleIdempotencyTtlSeconds;
+      this.restResponseCacheTtlSeconds = restResponseCacheTtlSeconds;
+      this.alertScaleStep = alertScaleStep;
+      this.alertScaleCooldownSeconds = alertScaleCooldownSeconds;
+      this.alertScaleMinManagedServerCount = alertScaleMinManagedServerCount;
+    }
+  }
+
   public MainTuning getMainTuning();
   public CallBuilderTuning getCallBuilderTuning();
   public WatchTuning getWatchTuning();
   public PodTuning getPodTuning();
+  public RestTuning getRestTuning();
 }
@@ -22,6 +22,7 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private RestTuning rest = null;
   
   synchronized static TuningParameters initializeInstance(
         ThreadFactory factory, String mountPoint) throws IOException {
@@ -54,7 +55,14 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
         (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
         (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
         readTuningParameter("statusUpdateInitialShortDelay", 3),
-        readTuningParameter("statusUpdateEventualLongDelay", 30));
+        readTuningParameter("statusUpdateEventualLongDelay", 30),
+        (int) readTuningParameter("statusUpdateMaxConcurrency", 20),
+        (int) readTuningParameter("statusUpdateJitterPercent", 10),
+        readTuningParameter("statusUpdateWriteIntervalMillis", 1000),
+        (int) readTuningParameter("startupMaxConcurrency", 10),
+        (int) readTuningParameter("startupMaxConcurrencyPerCluster", 5),
+        (int) readTuningParameter("startupReadyTimeoutSeconds", 600),
+        (int) readTuningParameter("gracefulShutdownTimeoutSeconds", 30));
 
     CallBuilderTuning callBuilder = new CallBuilderTuning(
         (int) readTuningParameter("callRequestLimit", 500),
@@ -72,12 +80,30 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
         (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
         (int) readTuningParameter("livenessProbePeriodSeconds", 10));
 
+    RestTuning rest = new RestTuning(
+        (int) readTuningParameter("authenticationCacheTtlSeconds", 60),
+        (int) readTuningParameter("authenticationFailureCacheTtlSeconds", 10),
+        (int) readTuningParameter("authorizationCacheTtlSeconds", 10),
+        (int) readTuningParameter("restWorkerThreads", 3),
+        (int) readTuningParameter("restSelectorThreads", 3),
+        (int) readTuningParameter("restKeepAliveMaxRequests", 256),
+        (int) readTuningParameter("restKeepAliveIdleTimeoutSeconds", 30),
+        (int) readTuningParameter("restRequestThreads", 10),
+        (int) readTuningParameter("restRequestTimeoutSeconds", 60),
+        readTuningParameter("scaleCoalescingWindowMillis", 1000),
+        (int) readTuningParameter("scaleIdempotencyTtlSeconds", 300),
+        (int) readTuningParameter("restResponseCacheTtlSeconds", 5),
+        (int) readTuningParameter("alertScaleStep", 1),
+        (int) readTuningParameter("alertScaleCooldownSeconds", 120),
+        (int) readTuningParameter("alertScaleMinManagedServerCount", 1));
+
     lock.writeLock().lock();
     try {
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.rest = rest;
     } finally {
       lock.writeLock().unlock();
     }
@@ -122,4 +148,14 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public RestTuning getRestTuning() {
+    lock.readLock().lock();
+    try {
+      return rest;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
@@ -12,6 +12,8 @@ import oracle.kubernetes.operator.builders.WatchI;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Counter;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 import java.lang.reflect.Method;
@@ -31,6 +33,10 @@ abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED_RESOURCE_VERSION = "0";
+  private static final Counter EVENTS = MetricsRegistry.getInstance().counter(
+      "operator_watch_events_total", "Events received by the operator's watches, by event type.", "watcher", "type");
+  private static final Counter RECONNECTS = MetricsRegistry.getInstance().counter(
+      "operator_watch_reconnects_total", "Times a watch ended and was started again.", "watcher");
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private String resourceVersion;
@@ -90,14 +96,25 @@ abstract class Watcher<T> {
   private void doWatch() {
     setIsDraining(false);
 
+    boolean started = false;
     while (!isDraining()) {
       if (isStopping())
         setIsDraining(true);
-      else
+      else {
+        if (started)
+          RECONNECTS.inc(getWatcherName());
+        started = true;
         watchForEvents();
+      }
     }
   }
 
+  // names the watcher in its metrics
+  private String getWatcherName() {
+    String name = getClass().getSimpleName();
+    return name.isEmpty() ? getClass().getName() : name;
+  }
+
   // Are we draining?
   private boolean isDraining() {
     return isDraining.get();
@@ -116,6 +133,7 @@ abstract class Watcher<T> {
     try (WatchI<T> watch = initiateWatch(new WatchBuilder().withResourceVersion(resourceVersion))) {
       while (watch.hasNext()) {
         Watch.Response<T> item = watch.next();
+        EVENTS.inc(getWatcherName(), item.type);
 
         if (isStopping())
           setIsDraining(true);
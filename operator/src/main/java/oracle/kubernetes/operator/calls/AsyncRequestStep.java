@@ -21,6 +21,9 @@ import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Histogram;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -37,6 +40,18 @@ public class AsyncRequestStep<T> extends Step {
   private static final int SCALE = 100;
   private static final int MAX = 10000;
 
+  private static final String TIMEOUT = "timeout";
+  private static final String ERROR = "error";
+  private static final Histogram LATENCY = MetricsRegistry.getInstance().histogram(
+      "operator_kubernetes_request_duration_seconds",
+      "Time until an asynchronous Kubernetes API request responded, failed or timed out.", "call");
+  private static final Counter FAILURES = MetricsRegistry.getInstance().counter(
+      "operator_kubernetes_request_failures_total",
+      "Asynchronous Kubernetes API requests that failed, by status code, or that timed out.", "call", "code");
+  private static final Counter RETRIES = MetricsRegistry.getInstance().counter(
+      "operator_kubernetes_request_retries_total",
+      "Asynchronous Kubernetes API requests that were retried, by the status code of the failure.", "call", "code");
+
   private final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private final ClientPool helper;
   private final RequestParams requestParams;
@@ -86,12 +101,15 @@ public class AsyncRequestStep<T> extends Step {
     LOGGER.fine(MessageKeys.ASYNC_REQUEST, requestParams.call, requestParams.namespace, requestParams.name, requestParams.body, fieldSelector, labelSelector, resourceVersion);
 
     AtomicBoolean didResume = new AtomicBoolean(false);
+    long startNanos = System.nanoTime();
     ApiClient client = helper.take();
     return doSuspend((fiber) -> {
       ApiCallback<T> callback = new BaseApiCallback<T>() {
         @Override
         public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
           if (didResume.compareAndSet(false, true)) {
+            LATENCY.observeSince(startNanos, requestParams.call);
+            FAILURES.inc(requestParams.call, Integer.toString(statusCode));
             if (statusCode != CallBuilder.NOT_FOUND) {
               LOGGER.info(MessageKeys.ASYNC_FAILURE, e, statusCode, responseHeaders, requestParams.call, requestParams.namespace, requestParams.name, requestParams.body, fieldSelector, labelSelector, resourceVersion);
             }
@@ -105,6 +123,7 @@ public class AsyncRequestStep<T> extends Step {
         @Override
         public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
           if (didResume.compareAndSet(false, true)) {
+            LATENCY.observeSince(startNanos, requestParams.call);
             LOGGER.fine(MessageKeys.ASYNC_SUCCESS, result, statusCode, responseHeaders);
 
             helper.recycle(client);
@@ -120,6 +139,8 @@ public class AsyncRequestStep<T> extends Step {
         // timeout handling
         fiber.owner.getExecutor().schedule(() -> {
           if (didResume.compareAndSet(false, true)) {
+            LATENCY.observeSince(startNanos, requestParams.call);
+            FAILURES.inc(requestParams.call, TIMEOUT);
             try {
               c.cancel();
             } finally {
@@ -132,6 +153,7 @@ public class AsyncRequestStep<T> extends Step {
       } catch (Throwable t) {
         LOGGER.warning(MessageKeys.ASYNC_FAILURE, t, 0, null, requestParams, requestParams.namespace, requestParams.name, requestParams.body, fieldSelector, labelSelector, resourceVersion);
         if (didResume.compareAndSet(false, true)) {
+          FAILURES.inc(requestParams.call, ERROR);
           packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, _retry));
           fiber.resume(packet);
         }
@@ -183,6 +205,7 @@ public class AsyncRequestStep<T> extends Step {
             timeoutSeconds *= 2;
           }
 
+          RETRIES.inc(requestParams.call, Integer.toString(statusCode));
           NextAction na = new NextAction();
           if (statusCode == 0 && retryCount <= maxRetryCount) {
             na.invoke(retryStep, packet);
@@ -200,6 +223,7 @@ public class AsyncRequestStep<T> extends Step {
           long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
 
           LOGGER.info(MessageKeys.ASYNC_RETRY, String.valueOf(waitTime));
+          RETRIES.inc(requestParams.call, Integer.toString(statusCode));
           NextAction na = new NextAction();
           na.delay(conflictStep, packet, waitTime, TimeUnit.MILLISECONDS);
           return na;
@@ -3,6 +3,12 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.google.common.hash.Hashing;
+
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ObjectMeta;
 
 /**
@@ -10,6 +16,10 @@ import io.kubernetes.client.models.V1ObjectMeta;
  * 
  */
 public class AnnotationHelper {
+  public static final String SHA256_ANNOTATION = "weblogic.oracle/sha256";
+
+  private static final JSON json = new JSON();
+
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from
    * the wls-exporter web-app.  The specified httpPort should be the listen port of the WebLogic server
@@ -22,4 +32,30 @@ public class AnnotationHelper {
      meta.putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics");
      meta.putAnnotationsItem("prometheus.io/scrape", "true");
   }
+
+  /**
+   * Marks metadata with a hash of the desired specification of the object, so that later checks
+   * can detect a changed specification by comparing hashes rather than the objects.  The hash is
+   * computed from the specification the operator built, so fields that the API server defaults
+   * do not affect it.
+   * @param meta Metadata
+   * @param spec Desired specification
+   */
+  public static void annotateWithSha256(V1ObjectMeta meta, Object spec) {
+    meta.putAnnotationsItem(SHA256_ANNOTATION, createSha256(spec));
+  }
+
+  /**
+   * Hash of the specification with which the object was created
+   * @param meta Metadata
+   * @return Hash, or null if the object was not annotated
+   */
+  public static String getSha256(V1ObjectMeta meta) {
+    Map<String, String> annotations = meta != null ? meta.getAnnotations() : null;
+    return annotations != null ? annotations.get(SHA256_ANNOTATION) : null;
+  }
+
+  static String createSha256(Object spec) {
+    return Hashing.sha256().hashString(json.serialize(spec), StandardCharsets.UTF_8).toString();
+  }
 }
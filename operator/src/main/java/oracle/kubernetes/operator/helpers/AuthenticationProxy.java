@@ -7,6 +7,8 @@ import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1TokenReviewSpec;
 import io.kubernetes.client.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -19,9 +21,19 @@ public class AuthenticationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+  private static final TokenReviewCache cache = new TokenReviewCache();
 
   /**
-   * Check if the specified access token can be authenticated
+   * Returns the cache of token review results, whose counters report how effective the cache is
+   * @return Token review cache
+   */
+  public static TokenReviewCache getCache() {
+    return cache;
+  }
+
+  /**
+   * Check if the specified access token can be authenticated.  Results are cached by token for the time set
+   * by the authenticationCacheTtlSeconds and authenticationFailureCacheTtlSeconds tuning parameters.
    *
    * @param principal The user, group or service account.
    * @param token  The access token that identifies the user.
@@ -29,6 +41,16 @@ public class AuthenticationProxy {
    * an error explaining why the user couldn't be authenticated
    */
   public V1TokenReviewStatus check(String principal, String token) {
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    RestTuning rest = tuning != null ? tuning.getRestTuning() : null;
+    if (rest == null) {
+      return review(principal, token);
+    }
+    return cache.get(token, rest.authenticationCacheTtlSeconds, rest.authenticationFailureCacheTtlSeconds,
+        () -> review(principal, token));
+  }
+
+  private V1TokenReviewStatus review(String principal, String token) {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
@@ -0,0 +1,216 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.models.V1ResourceRule;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+
+/**
+ * Bounded cache of access review decisions, so that the checks made for a burst of REST requests from the same
+ * user cost one access review each rather than one per request.  Decisions are cached for a short time, since
+ * role bindings may change.  Denials are cached like grants, but a review that could not be made is not cached,
+ * so that the next check reviews access again rather than repeating a transient failure.  Only the decisions for
+ * the operator's own service account can be pre-warmed, from the rules of a self subject rules review; the
+ * decisions for REST clients are always made by access reviews first.
+ */
+public class AuthorizationCache {
+  static final int MAX_SIZE = 5000;
+
+  // user of the decisions made by self subject access and rules reviews
+  static final String SELF = "";
+
+  private static final String WILDCARD = "*";
+
+  private final TtlCache<Key, Boolean> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public AuthorizationCache() {
+    this(MAX_SIZE, System::nanoTime);
+  }
+
+  AuthorizationCache(int maxSize, LongSupplier clock) {
+    this.cache = new TtlCache<>(maxSize, clock);
+  }
+
+  /**
+   * Returns the cached decision, or reviews access and caches the decision
+   * @param key Access to check
+   * @param ttlSeconds Time the decision is cached, or 0 to not cache
+   * @param review Reviews access; returns null if the review could not be made
+   * @return true, if access is allowed; false, if it is denied or the review could not be made, in which case
+   * nothing is cached
+   */
+  public boolean check(Key key, int ttlSeconds, Supplier<Boolean> review) {
+    Boolean cached = cache.get(key);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    Boolean allowed = review.get();
+    if (allowed == null) {
+      cache.remove(key);
+      return false;
+    }
+    cache.put(key, allowed, ttlSeconds);
+    return allowed;
+  }
+
+  /**
+   * Caches the namespace operations that the rules of a self subject rules review allow, as decisions for
+   * {@link #SELF}.  Operations that the rules do not allow are left to be reviewed, since the rules may be
+   * incomplete.
+   * @param namespace Namespace of the rules review
+   * @param rules Resource rules of the review
+   * @param ttlSeconds Time the decisions are cached, or 0 to not cache
+   */
+  public void addRules(String namespace, List<V1ResourceRule> rules, int ttlSeconds) {
+    if (rules == null || ttlSeconds <= 0) {
+      return;
+    }
+    for (Resource resource : Resource.values()) {
+      for (Operation operation : Operation.values()) {
+        if (isAllowed(rules, resource, operation)) {
+          cache.put(new Key(SELF, null, operation, resource, null, namespace), true, ttlSeconds);
+        }
+      }
+    }
+  }
+
+  private static boolean isAllowed(List<V1ResourceRule> rules, Resource resource, Operation operation) {
+    String name = resource.getResource();
+    String sub = resource.getSubResource();
+    if (sub != null && !sub.isEmpty()) {
+      name = name + "/" + sub;
+    }
+    for (V1ResourceRule rule : rules) {
+      // rules restricted to resource names do not allow the operation on every resource
+      if (rule.getResourceNames() != null && !rule.getResourceNames().isEmpty()) {
+        continue;
+      }
+      if (matchesApiGroup(rule.getApiGroups(), resource.getAPIGroup())
+          && matches(rule.getResources(), name)
+          && matches(rule.getVerbs(), operation.name())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean matchesApiGroup(List<String> apiGroups, String apiGroup) {
+    if (apiGroup.isEmpty() && (apiGroups == null || apiGroups.isEmpty())) {
+      return true;
+    }
+    return matches(apiGroups, apiGroup);
+  }
+
+  private static boolean matches(List<String> values, String value) {
+    return values != null && (values.contains(value) || values.contains(WILDCARD));
+  }
+
+  /**
+   * Returns the number of checks answered with a cached decision
+   * @return Hit count
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of checks that required an access review
+   * @return Miss count
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of decisions evicted because the cache was full
+   * @return Eviction count
+   */
+  public long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  /**
+   * Returns the number of cached decisions, including decisions that have expired but were not yet replaced
+   * @return Size
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Identifies an access check: the user and groups making it, the operation and the resource
+   */
+  public static class Key {
+    private final String user;
+    private final List<String> groups;
+    private final Operation operation;
+    private final Resource resource;
+    private final String resourceName;
+    private final String namespace;
+
+    /**
+     * Creates the key
+     * @param user User, or {@link AuthorizationCache#SELF} for the operator's own service account
+     * @param groups Groups of the user, or null
+     * @param operation Operation
+     * @param resource Kind of resource
+     * @param resourceName Name of the resource, or null
+     * @param namespace Namespace, or null for a cluster-scoped check
+     */
+    public Key(String user, List<String> groups, Operation operation, Resource resource,
+        String resourceName, String namespace) {
+      this.user = user;
+      this.groups = sorted(groups);
+      this.operation = operation;
+      this.resource = resource;
+      this.resourceName = resourceName;
+      this.namespace = namespace;
+    }
+
+    private static List<String> sorted(List<String> groups) {
+      if (groups == null || groups.isEmpty()) {
+        return Collections.emptyList();
+      }
+      List<String> result = new ArrayList<>(groups);
+      Collections.sort(result);
+      return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return Objects.equals(user, other.user)
+          && groups.equals(other.groups)
+          && operation == other.operation
+          && resource == other.resource
+          && Objects.equals(resourceName, other.resourceName)
+          && Objects.equals(namespace, other.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(user, groups, operation, resource, resourceName, namespace);
+    }
+  }
+}
@@ -15,6 +15,8 @@ import io.kubernetes.client.models.V1SelfSubjectRulesReviewSpec;
 import io.kubernetes.client.models.V1SubjectAccessReview;
 import io.kubernetes.client.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.models.V1SubjectAccessReviewStatus;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -26,6 +28,26 @@ import oracle.kubernetes.operator.work.ContainerResolver;
 public class AuthorizationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private static final AuthorizationCache cache = new AuthorizationCache();
+
+  /**
+   * Returns the cache of access review decisions, whose counters report how effective the cache is
+   * @return Authorization cache
+   */
+  public static AuthorizationCache getCache() {
+    return cache;
+  }
+
+  private static int getCacheTtlSeconds() {
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    RestTuning rest = tuning != null ? tuning.getRestTuning() : null;
+    return rest != null ? rest.authorizationCacheTtlSeconds : 0;
+  }
+
+  private static String getNamespace(Scope scope, String namespaceName) {
+    return Scope.namespace == scope ? namespaceName : null;
+  }
+
   public enum Operation {
     get,
     list,
@@ -111,7 +133,8 @@ public class AuthorizationProxy {
 
   /**
    * Check if the specified principal is allowed to perform the specified operation on the
-   * specified resource in the specified scope.
+   * specified resource in the specified scope.  Decisions are cached for the time set by the
+   * authorizationCacheTtlSeconds tuning parameter.
    *
    * @param principal     The user, group or service account.
    * @param groups        The groups that principal is a member of.
@@ -123,6 +146,13 @@ public class AuthorizationProxy {
    * @return true if the operation is allowed, or false if not.
    */
   public boolean check(String principal, final List<String> groups, Operation operation, Resource resource, String resourceName, Scope scope, String namespaceName) {
+    AuthorizationCache.Key key = new AuthorizationCache.Key(principal, groups, operation, resource, resourceName,
+        getNamespace(scope, namespaceName));
+    return cache.check(key, getCacheTtlSeconds(),
+        () -> review(principal, groups, operation, resource, resourceName, scope, namespaceName));
+  }
+
+  private Boolean review(String principal, final List<String> groups, Operation operation, Resource resource, String resourceName, Scope scope, String namespaceName) {
     LOGGER.entering();
     V1SubjectAccessReview subjectAccessReview = prepareSubjectAccessReview(principal, groups, operation, resource, resourceName, scope, namespaceName);
     try {
@@ -131,7 +161,7 @@ public class AuthorizationProxy {
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
       LOGGER.exiting(Boolean.FALSE);
-      return Boolean.FALSE;
+      return null;
 
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
@@ -140,7 +170,26 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Check if the operator's service account is allowed to perform the specified operation on the
+   * specified resource in the specified scope.  Decisions are cached, and may be answered from the
+   * rules of an earlier {@link #review(String)} of the namespace.
+   *
+   * @param operation     The operation to be authorized.
+   * @param resource      The kind of resource on which the operation is to be authorized.
+   * @param resourceName  The name of the resource instance on which the operation is to be authorized.
+   * @param scope         The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, or false if not.
+   */
   public boolean check(Operation operation, Resource resource, String resourceName, Scope scope, String namespaceName) {
+    AuthorizationCache.Key key = new AuthorizationCache.Key(AuthorizationCache.SELF, null, operation, resource,
+        resourceName, getNamespace(scope, namespaceName));
+    return cache.check(key, getCacheTtlSeconds(),
+        () -> review(operation, resource, resourceName, scope, namespaceName));
+  }
+
+  private Boolean review(Operation operation, Resource resource, String resourceName, Scope scope, String namespaceName) {
     LOGGER.entering();
     V1SelfSubjectAccessReview subjectAccessReview = prepareSelfSubjectAccessReview(operation, resource, resourceName, scope, namespaceName);
     try {
@@ -149,7 +198,7 @@ public class AuthorizationProxy {
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
       LOGGER.exiting(Boolean.FALSE);
-      return Boolean.FALSE;
+      return null;
 
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
@@ -235,6 +284,13 @@ public class AuthorizationProxy {
     return resourceAttributes;
   }
   
+  /**
+   * Reviews the operations the operator's service account may perform in the namespace.  The operations the
+   * rules allow are cached for later checks.
+   *
+   * @param namespace Namespace
+   * @return the rules review, or null if the review could not be made
+   */
   V1SelfSubjectRulesReview review(String namespace) {
     V1SelfSubjectRulesReview subjectRulesReview = new V1SelfSubjectRulesReview();
     V1SelfSubjectRulesReviewSpec spec = new V1SelfSubjectRulesReviewSpec();
@@ -242,7 +298,11 @@ public class AuthorizationProxy {
     subjectRulesReview.setSpec(spec);
     CallBuilderFactory factory = new CallBuilderFactory();
     try {
-      return factory.create().createSelfSubjectRulesReview(subjectRulesReview);
+      V1SelfSubjectRulesReview result = factory.create().createSelfSubjectRulesReview(subjectRulesReview);
+      if (result != null && result.getStatus() != null) {
+        cache.addRules(namespace, result.getStatus().getResourceRules(), getCacheTtlSeconds());
+      }
+      return result;
     } catch (ApiException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       return null;
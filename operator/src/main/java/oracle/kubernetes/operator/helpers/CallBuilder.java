@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import com.squareup.okhttp.Call;
@@ -203,6 +204,24 @@ public class CallBuilder {
     return createRequestAsync(responseStep, new RequestParams("listDomain", namespace, null, null), LIST_DOMAIN);
   }
   
+  private com.squareup.okhttp.Call readDomainAsync(ApiClient client, String name, String namespace, ApiCallback<Domain> callback) throws ApiException {
+    return new WeblogicApi(client).readWebLogicOracleV1NamespacedDomainAsync(name, namespace, pretty, exact, export, callback);
+  }
+
+  private final CallFactory<Domain> READ_DOMAIN = (requestParams, usage, cont, callback)
+        -> wrap(readDomainAsync(usage, requestParams.name, requestParams.namespace, callback));
+
+  /**
+   * Asynchronous step for reading domain
+   * @param name Name
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readDomainAsync(String name, String namespace, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(responseStep, new RequestParams("readDomain", namespace, name, null), READ_DOMAIN);
+  }
+
   /**
    * Replace domain
    * @param name Name
@@ -214,7 +233,7 @@ public class CallBuilder {
   public Domain replaceDomain(String name, String namespace, Domain body) throws ApiException {
     ApiClient client = helper.take();
     try {
-      return new WeblogicApi(client).replaceWebLogicOracleV1NamespacedDomain(name, namespace, body, pretty);
+      return CALL_FACTORY.replaceDomain(client, name, namespace, body, pretty);
     } finally {
       helper.recycle(client);
     }
@@ -385,6 +404,25 @@ public class CallBuilder {
     return createRequestAsync(responseStep, new RequestParams("createPod", namespace, null, body), CREATE_POD);
   }
 
+  private com.squareup.okhttp.Call patchPodAsync(ApiClient client, String name, String namespace, Object body, ApiCallback<V1Pod> callback) throws ApiException {
+    return new CoreV1Api(client).patchNamespacedPodAsync(name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<V1Pod> PATCH_POD = (requestParams, usage, cont, callback)
+        -> wrap(patchPodAsync(usage, requestParams.name, requestParams.namespace, requestParams.body, callback));
+  
+  /**
+   * Asynchronous step for patching pod
+   * @param name Name
+   * @param namespace Namespace
+   * @param patch JSON patch operations
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchPodAsync(String name, String namespace, List<Object> patch, ResponseStep<V1Pod> responseStep) {
+    return createRequestAsync(responseStep, new RequestParams("patchPod", namespace, name, patch), PATCH_POD);
+  }
+
   private com.squareup.okhttp.Call deletePodAsync(ApiClient client, String name, String namespace, V1DeleteOptions deleteOptions, ApiCallback<V1Status> callback) throws ApiException {
     return new CoreV1Api(client).deleteNamespacedPodAsync(name, namespace, deleteOptions, pretty, gracePeriodSeconds, orphanDependents, propagationPolicy, callback);
   }
@@ -565,6 +603,25 @@ public class CallBuilder {
     }
   }
 
+  private com.squareup.okhttp.Call patchServiceAsync(ApiClient client, String name, String namespace, Object body, ApiCallback<V1Service> callback) throws ApiException {
+    return new CoreV1Api(client).patchNamespacedServiceAsync(name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<V1Service> PATCH_SERVICE = (requestParams, usage, cont, callback)
+        -> wrap(patchServiceAsync(usage, requestParams.name, requestParams.namespace, requestParams.body, callback));
+  
+  /**
+   * Asynchronous step for patching service
+   * @param name Name
+   * @param namespace Namespace
+   * @param patch JSON patch operations
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(String name, String namespace, List<Object> patch, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(responseStep, new RequestParams("patchService", namespace, name, patch), PATCH_SERVICE);
+  }
+
   private com.squareup.okhttp.Call deleteServiceAsync(ApiClient client, String name, String namespace, ApiCallback<V1Status> callback) throws ApiException {
     return new CoreV1Api(client).deleteNamespacedServiceAsync(name, namespace, pretty, callback);
   }
@@ -722,7 +779,7 @@ public class CallBuilder {
   public V1SubjectAccessReview createSubjectAccessReview(V1SubjectAccessReview body) throws ApiException {
     ApiClient client = helper.take();
     try {
-      return new AuthorizationV1Api(client).createSubjectAccessReview(body, pretty);
+      return CALL_FACTORY.createSubjectAccessReview(client, body, pretty);
     } finally {
       helper.recycle(client);
     }
@@ -825,7 +882,7 @@ public class CallBuilder {
   public V1TokenReview createTokenReview(V1TokenReview body) throws ApiException {
     ApiClient client = helper.take();
     try {
-      return new AuthenticationV1Api(client).createTokenReview(body, pretty);
+      return CALL_FACTORY.createTokenReview(client, body, pretty);
     } finally {
       helper.recycle(client);
     }
@@ -959,6 +1016,24 @@ public class CallBuilder {
     return createRequestAsync(responseStep, new RequestParams("deleteIngress", namespace, name, deleteOptions), DELETE_INGRESS);
   }
 
+  private com.squareup.okhttp.Call deleteCollectionIngressAsync(ApiClient client, String namespace, String _continue, ApiCallback<V1Status> callback) throws ApiException {
+    return new ExtensionsV1beta1Api(client).deleteCollectionNamespacedIngressAsync(namespace, pretty, _continue, fieldSelector,
+        includeUninitialized, labelSelector, limit, resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  private final CallFactory<V1Status> DELETECOLLECTION_INGRESS = (requestParams, usage, cont, callback)
+        -> wrap(deleteCollectionIngressAsync(usage, requestParams.namespace, cont, callback));
+
+  /**
+   * Asynchronous step for deleting collection of ingresses
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteCollectionIngressAsync(String namespace, ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(responseStep, new RequestParams("deleteCollectionIngress", namespace, null, null), DELETECOLLECTION_INGRESS);
+  }
+
 
   private static final AsyncRequestStepFactory STEP_FACTORY = AsyncRequestStep::new;
 
@@ -999,5 +1074,20 @@ public class CallBuilder {
       return new WeblogicApi(client).listWebLogicOracleV1NamespacedDomain(namespace, pretty, _continue,
             fieldSelector, includeUninitialized, labelSelector, limit, resourceVersion, timeoutSeconds, watch);
     }
+
+    @Override
+    public Domain replaceDomain(ApiClient client, String name, String namespace, Domain body, String pretty) throws ApiException {
+      return new WeblogicApi(client).replaceWebLogicOracleV1NamespacedDomain(name, namespace, body, pretty);
+    }
+
+    @Override
+    public V1SubjectAccessReview createSubjectAccessReview(ApiClient client, V1SubjectAccessReview body, String pretty) throws ApiException {
+      return new AuthorizationV1Api(client).createSubjectAccessReview(body, pretty);
+    }
+
+    @Override
+    public V1TokenReview createTokenReview(ApiClient client, V1TokenReview body, String pretty) throws ApiException {
+      return new AuthenticationV1Api(client).createTokenReview(body, pretty);
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.kubernetes.client.JSON;
+
+/**
+ * Reports the fields in which an existing Kubernetes object differs from the object the operator would build.
+ * Only the fields the operator sets are compared, so fields that the API server adds with default values are
+ * not reported.
+ */
+public class DiffHelper {
+  private static final Gson gson = new JSON().getGson();
+
+  private DiffHelper() {
+  }
+
+  /**
+   * Paths of the fields that differ, such as "spec.containers[0].image"
+   * @param name Name of the root of the paths
+   * @param desired Object the operator would build
+   * @param current Existing object
+   * @return Paths of the changed fields, empty if the objects match
+   */
+  public static List<String> getDifferences(String name, Object desired, Object current) {
+    List<String> differences = new ArrayList<>();
+    addDifferences(name, gson.toJsonTree(desired), gson.toJsonTree(current), differences);
+    return differences;
+  }
+
+  private static void addDifferences(String path, JsonElement desired, JsonElement current, List<String> differences) {
+    if (desired == null || desired.isJsonNull()) {
+      return;
+    }
+    if (current == null || current.isJsonNull()) {
+      differences.add(path);
+    } else if (desired.isJsonObject() && current.isJsonObject()) {
+      JsonObject currentObject = current.getAsJsonObject();
+      for (Map.Entry<String, JsonElement> entry : desired.getAsJsonObject().entrySet()) {
+        addDifferences(path + "." + entry.getKey(), entry.getValue(), currentObject.get(entry.getKey()), differences);
+      }
+    } else if (desired.isJsonArray() && current.isJsonArray()) {
+      JsonArray desiredArray = desired.getAsJsonArray();
+      JsonArray currentArray = current.getAsJsonArray();
+      if (desiredArray.size() != currentArray.size()) {
+        differences.add(path);
+        return;
+      }
+      for (int i = 0; i < desiredArray.size(); i++) {
+        addDifferences(path + "[" + i + "]", desiredArray.get(i), currentArray.get(i), differences);
+      }
+    } else if (!desired.equals(current)) {
+      differences.add(path);
+    }
+  }
+}
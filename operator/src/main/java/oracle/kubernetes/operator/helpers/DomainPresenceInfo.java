@@ -5,9 +5,11 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -21,7 +23,10 @@ import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1beta1Ingress;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
 import oracle.kubernetes.weblogic.domain.v1.ServerStartup;
+import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+import oracle.kubernetes.operator.steps.StartupScheduler;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
@@ -40,6 +45,17 @@ public class DomainPresenceInfo {
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1beta1Ingress> ingresses = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ServerStatus> serverStatuses = new ConcurrentSkipListMap<>();
+
+  private final AtomicBoolean statusDirty = new AtomicBoolean(true);
+  private final AtomicBoolean serverStatusesStale = new AtomicBoolean(true);
+  private final AtomicReference<DomainStatus> pendingStatus = new AtomicReference<>(null);
+  private final AtomicReference<DomainStatus> publishedStatus = new AtomicReference<>(null);
+  private final AtomicBoolean statusWriteScheduled = new AtomicBoolean(false);
+
+  private final ConcurrentMap<String, PodHelper.ManagedPodTemplate> podTemplates = new ConcurrentHashMap<>();
+  private final AtomicReference<ServiceHelper.ServerServiceTemplate> serviceTemplate = new AtomicReference<>(null);
+  private final AtomicReference<StartupScheduler> startupScheduler = new AtomicReference<>(null);
   
   private final AtomicBoolean explicitRestartAdmin = new AtomicBoolean(false);
   private final Set<String> explicitRestartServers = new CopyOnWriteArraySet<>();
@@ -48,6 +64,7 @@ public class DomainPresenceInfo {
   private V1PersistentVolumeClaimList claims = null;
 
   private WlsDomainConfig domainConfig;
+  private String scanFingerprint;
   private DateTime lastScanTime;
   private DateTime lastCompletionTime;
 
@@ -102,9 +119,29 @@ public class DomainPresenceInfo {
    * @param domainConfig Scan
    */
   public void setScan(WlsDomainConfig domainConfig) {
+    if (this.domainConfig != domainConfig) {
+      serverStatusesStale.set(true);
+      statusDirty.set(true);
+    }
     this.domainConfig = domainConfig;
   }
 
+  /**
+   * Fingerprint of the WebLogic configuration from which the scan was created
+   * @return Scan fingerprint
+   */
+  public String getScanFingerprint() {
+    return scanFingerprint;
+  }
+
+  /**
+   * Sets scan fingerprint
+   * @param scanFingerprint Scan fingerprint
+   */
+  public void setScanFingerprint(String scanFingerprint) {
+    this.scanFingerprint = scanFingerprint;
+  }
+
   /**
    * Last scan time
    * @return Last scan time
@@ -145,11 +182,14 @@ public class DomainPresenceInfo {
   }
   
   /**
-   * Sets the domain.
+   * Sets the domain, and marks the domain status dirty if its spec changed.
    * @param domain Domain
    */
   public void setDomain(Domain domain) {
-    this.domain.set(domain);
+    Domain current = this.domain.getAndSet(domain);
+    if (current == null || !Objects.equals(current.getSpec(), domain.getSpec())) {
+      statusDirty.set(true);
+    }
   }
 
   /**
@@ -232,6 +272,65 @@ public class DomainPresenceInfo {
    */
   public void setServerStartupInfo(Collection<ServerStartupInfo> serverStartupInfo) {
     this.serverStartupInfo.set(serverStartupInfo);
+    statusDirty.set(true);
+  }
+
+  /**
+   * Map from server name to the last known status of that server, ordered by server name.  Entries are
+   * replaced as watch events and status reads report changes rather than being rebuilt on each status update.
+   * @return Server status map
+   */
+  public ConcurrentMap<String, ServerStatus> getServerStatuses() {
+    return serverStatuses;
+  }
+
+  /**
+   * Replaces the status of a server, if it differs from the current status, and marks the domain status dirty
+   * @param serverName Server name
+   * @param serverStatus New server status
+   * @return true, if the status changed
+   */
+  public boolean updateServerStatus(String serverName, ServerStatus serverStatus) {
+    ServerStatus current = serverStatuses.put(serverName, serverStatus);
+    if (serverStatus.equals(current)) {
+      return false;
+    }
+    statusDirty.set(true);
+    return true;
+  }
+
+  /**
+   * Removes the status of a server and marks the domain status dirty
+   * @param serverName Server name
+   */
+  public void removeServerStatus(String serverName) {
+    if (serverStatuses.remove(serverName) != null) {
+      statusDirty.set(true);
+    }
+  }
+
+  /**
+   * Marks the domain status dirty so that the next status update recomputes the status and conditions
+   */
+  public void markStatusDirty() {
+    statusDirty.set(true);
+  }
+
+  /**
+   * Clears the domain status dirty flag
+   * @return true, if the domain status was dirty
+   */
+  public boolean clearStatusDirty() {
+    return statusDirty.getAndSet(false);
+  }
+
+  /**
+   * Clears the flag that indicates that the server statuses must be rebuilt from the scan, which is set
+   * when the scan is replaced
+   * @return true, if the server statuses were stale
+   */
+  public boolean clearServerStatusesStale() {
+    return serverStatusesStale.getAndSet(false);
   }
 
   /**
@@ -258,6 +357,58 @@ public class DomainPresenceInfo {
     }
   }
   
+  /**
+   * Domain status with changes that have not yet been written
+   * @return Pending domain status
+   */
+  public AtomicReference<DomainStatus> getPendingStatus() {
+    return pendingStatus;
+  }
+
+  /**
+   * Domain status last published to the clients following the domain's status
+   * @return Published domain status
+   */
+  public AtomicReference<DomainStatus> getPublishedStatus() {
+    return publishedStatus;
+  }
+
+  /**
+   * Control for if a write of the domain status is scheduled or in progress
+   * @return Control for scheduled domain status write
+   */
+  public AtomicBoolean getStatusWriteScheduled() {
+    return statusWriteScheduled;
+  }
+
+  /**
+   * Templates for the managed server pods, by cluster name ("" for servers that are not in a cluster)
+   * @return Managed server pod templates
+   */
+  ConcurrentMap<String, PodHelper.ManagedPodTemplate> getPodTemplates() {
+    return podTemplates;
+  }
+
+  /**
+   * Template for the per-server services
+   * @return Per-server service template
+   */
+  AtomicReference<ServiceHelper.ServerServiceTemplate> getServiceTemplate() {
+    return serviceTemplate;
+  }
+
+  /**
+   * Scheduler that limits the number of the domain's managed servers starting at a time.  The scheduler is
+   * replaced when the limits change.
+   * @param maxStarting Maximum number of servers of the domain starting at a time, or 0 for no limit
+   * @param maxStartingPerCluster Maximum number of servers of a cluster starting at a time, or 0 for no limit
+   * @return Startup scheduler
+   */
+  public StartupScheduler getStartupScheduler(int maxStarting, int maxStartingPerCluster) {
+    return startupScheduler.updateAndGet(s -> s != null && s.hasLimits(maxStarting, maxStartingPerCluster)
+        ? s : new StartupScheduler(maxStarting, maxStartingPerCluster));
+  }
+
   /**
    * Domain status updater
    * @return Domain status updater
@@ -0,0 +1,85 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+
+/**
+ * Builds JSON patch (RFC 6902) operations for the changes that can be applied to an existing pod or service
+ * without replacing it, such as labels, annotations, service ports and selectors.
+ */
+public class PatchHelper {
+
+  private PatchHelper() {
+  }
+
+  /**
+   * Checks if the existing metadata has all of the labels and annotations of the desired metadata.  Labels and
+   * annotations that were added by others are ignored.
+   * @param build Desired metadata
+   * @param current Existing metadata
+   * @return true, if no labels or annotations need to be patched
+   */
+  public static boolean isMetadataCurrent(V1ObjectMeta build, V1ObjectMeta current) {
+    return containsAll(current.getLabels(), build.getLabels())
+        && containsAll(current.getAnnotations(), build.getAnnotations());
+  }
+
+  /**
+   * Adds the operations that set the desired labels and annotations on the existing metadata
+   * @param patch JSON patch operations
+   * @param build Desired metadata
+   * @param current Existing metadata
+   */
+  public static void addMetadataPatch(List<Object> patch, V1ObjectMeta build, V1ObjectMeta current) {
+    addMapPatch(patch, "/metadata/labels", build.getLabels(), current.getLabels());
+    addMapPatch(patch, "/metadata/annotations", build.getAnnotations(), current.getAnnotations());
+  }
+
+  private static void addMapPatch(List<Object> patch, String path, Map<String, String> build, Map<String, String> current) {
+    if (build == null || containsAll(current, build)) {
+      return;
+    }
+    if (current == null) {
+      patch.add(createAddOperation(path, build));
+      return;
+    }
+    for (Map.Entry<String, String> entry : build.entrySet()) {
+      if (!Objects.equals(entry.getValue(), current.get(entry.getKey()))) {
+        patch.add(createAddOperation(path + "/" + escape(entry.getKey()), entry.getValue()));
+      }
+    }
+  }
+
+  /**
+   * Creates an operation that adds or replaces the value at the path
+   * @param path JSON pointer
+   * @param value Value
+   * @return JSON patch operation
+   */
+  public static Map<String, Object> createAddOperation(String path, Object value) {
+    Map<String, Object> operation = new HashMap<>();
+    operation.put("op", "add");
+    operation.put("path", path);
+    operation.put("value", value);
+    return operation;
+  }
+
+  private static boolean containsAll(Map<String, String> current, Map<String, String> build) {
+    if (build == null || build.isEmpty()) {
+      return true;
+    }
+    return current != null && current.entrySet().containsAll(build.entrySet());
+  }
+
+  // JSON pointer escaping of a map key, such as "prometheus.io/port"
+  private static String escape(String key) {
+    return key.replace("~", "~0").replace("/", "~1");
+  }
+}
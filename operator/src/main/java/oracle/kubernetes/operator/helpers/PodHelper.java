@@ -44,6 +44,9 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +83,7 @@ public class PodHelper {
 
       // Compute the desired pod configuration for the admin server
       V1Pod adminPod = computeAdminPodConfig(configMapHelper, packet);
+      AnnotationHelper.annotateWithSha256(adminPod.getMetadata(), adminPod.getSpec());
 
       // Verify if Kubernetes api server has a matching Pod
       // Create or replace, if necessary
@@ -133,12 +137,22 @@ public class PodHelper {
             });
             return doNext(create, packet);
           } else if (!isExplicitRestartThisServer && validateCurrentPod(adminPod, result)) {
+            if (!PatchHelper.isMetadataCurrent(metadata, result.getMetadata())) {
+              // only labels or annotations changed, which does not require a restart
+              Step patch = new PatchPodStep(
+                  AdminPodStep.this,
+                  podName, namespace, adminPod, result, weblogicDomainUID, asName, sko, next);
+              return doNext(patch, packet);
+            }
             // existing Pod has correct spec
             LOGGER.fine(MessageKeys.ADMIN_POD_EXISTS, weblogicDomainUID, asName);
             sko.getPod().set(result);
             return doNext(packet);
           } else {
             // we need to update the Pod
+            if (!isExplicitRestartThisServer) {
+              logPodSpecChanges(weblogicDomainUID, asName, adminPod, result);
+            }
             Step replace = new CyclePodStep(
                 AdminPodStep.this,
                 podName, namespace, adminPod, MessageKeys.ADMIN_POD_REPLACED, 
@@ -397,6 +411,57 @@ public class PodHelper {
     }
   }
   
+  private static class PatchPodStep extends Step {
+    private final Step conflictStep;
+    private final String podName;
+    private final String namespace;
+    private final V1Pod newPod;
+    private final V1Pod currentPod;
+    private final String weblogicDomainUID;
+    private final String serverName;
+    private final ServerKubernetesObjects sko;
+
+    public PatchPodStep(Step conflictStep, String podName, String namespace, V1Pod newPod, V1Pod currentPod,
+        String weblogicDomainUID, String serverName, ServerKubernetesObjects sko, Step next) {
+      super(next);
+      this.conflictStep = conflictStep;
+      this.podName = podName;
+      this.namespace = namespace;
+      this.newPod = newPod;
+      this.currentPod = currentPod;
+      this.weblogicDomainUID = weblogicDomainUID;
+      this.serverName = serverName;
+      this.sko = sko;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      List<Object> patch = new ArrayList<>();
+      PatchHelper.addMetadataPatch(patch, newPod.getMetadata(), currentPod.getMetadata());
+      CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+      Step patchPod = factory.create().patchPodAsync(podName, namespace, patch, new ResponseStep<V1Pod>(next) {
+        @Override
+        public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          if (statusCode == CallBuilder.NOT_FOUND) {
+            // Pod was deleted since it was read; start over
+            return doNext(conflictStep, packet);
+          }
+          return super.onFailure(conflictStep, packet, e, statusCode, responseHeaders);
+        }
+
+        @Override
+        public NextAction onSuccess(Packet packet, V1Pod result, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          LOGGER.info(MessageKeys.POD_PATCHED, weblogicDomainUID, serverName);
+          sko.getPod().set(result != null ? result : currentPod);
+          return doNext(packet);
+        }
+      });
+      return doNext(patchPod, packet);
+    }
+  }
+  
   /**
    * Factory for {@link Step} that creates managed server pod
    * @param next Next processing step
@@ -410,8 +475,15 @@ public class PodHelper {
     // We want to detect changes that would require replacing an existing Pod
     // however, we've also found that Pod.equals(Pod) isn't right because k8s
     // returns fields, such as nodeName, even when export=true is specified.
-    // Therefore, we'll just compare specific fields
+    // Therefore, we compare the hash of the spec from which the existing Pod was built.
+    // Labels and annotations are not part of the hash; they can be patched without a restart.
+    
+    String currentSha256 = AnnotationHelper.getSha256(current.getMetadata());
+    if (currentSha256 != null) {
+      return currentSha256.equals(AnnotationHelper.getSha256(build.getMetadata()));
+    }
     
+    // Pods created before the hash annotation: compare specific fields
     if (!VersionHelper.matchesResourceVersion(current.getMetadata(), VersionConstants.DOMAIN_V1)) {
       return false;
     }
@@ -456,6 +528,11 @@ public class PodHelper {
     return true;
   }
   
+  private static void logPodSpecChanges(String weblogicDomainUID, String serverName, V1Pod build, V1Pod current) {
+    List<String> differences = DiffHelper.getDifferences("spec", build.getSpec(), current.getSpec());
+    LOGGER.info(MessageKeys.POD_SPEC_CHANGED, weblogicDomainUID, serverName, differences);
+  }
+  
   private static <T> boolean compareUnordered(List<T> a, List<T> b) {
     if (a == b) {
       return true;
@@ -490,6 +567,7 @@ public class PodHelper {
 
       // Compute the desired pod configuration for the managed server
       V1Pod pod = computeManagedPodConfig(configMapHelper, packet);
+      AnnotationHelper.annotateWithSha256(pod.getMetadata(), pod.getSpec());
 
       // Verify if Kubernetes api server has a matching Pod
       // Create or replace, if necessary
@@ -538,18 +616,29 @@ public class PodHelper {
                 LOGGER.info(MessageKeys.MANAGED_POD_CREATED, weblogicDomainUID, weblogicServerName);
                 if (result != null) {
                   sko.getPod().set(result);
+                  packet.put(ProcessingConstants.STARTED_POD, result);
                 }
                 return doNext(packet);
               }
             });
             return doNext(DomainStatusUpdater.createProgressingStep(DomainStatusUpdater.MANAGED_SERVERS_STARTING_PROGRESS_REASON, false, create), packet);
           } else if (!isExplicitRestartThisServer && validateCurrentPod(pod, result)) {
+            if (!PatchHelper.isMetadataCurrent(metadata, result.getMetadata())) {
+              // only labels or annotations changed, which does not require a restart
+              Step patch = new PatchPodStep(
+                  ManagedPodStep.this,
+                  podName, namespace, pod, result, weblogicDomainUID, weblogicServerName, sko, next);
+              return doNext(patch, packet);
+            }
             // existing Pod has correct spec
             LOGGER.fine(MessageKeys.MANAGED_POD_EXISTS, weblogicDomainUID, weblogicServerName);
             sko.getPod().set(result);
             return doNext(packet);
           } else {
             // we need to update the Pod
+            if (!isExplicitRestartThisServer) {
+              logPodSpecChanges(weblogicDomainUID, weblogicServerName, pod, result);
+            }
             // defer to Pod rolling step
             Step replace = new CyclePodStep(
                 ManagedPodStep.this,
@@ -575,28 +664,61 @@ public class PodHelper {
     protected V1Pod computeManagedPodConfig(TuningParameters configMapHelper, Packet packet) {
       DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
-      Domain dom = info.getDomain();
-      V1ObjectMeta meta = dom.getMetadata();
-      DomainSpec spec = dom.getSpec();
-      String namespace = meta.getNamespace();
-
-      String weblogicDomainUID = spec.getDomainUID();
-      String weblogicDomainName = spec.getDomainName();
-      
       WlsServerConfig scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
       WlsClusterConfig cluster = (WlsClusterConfig) packet.get(ProcessingConstants.CLUSTER_SCAN);
       @SuppressWarnings("unchecked")
       List<V1EnvVar> envVars = (List<V1EnvVar>) packet.get(ProcessingConstants.ENVVARS);
-      
-      String weblogicServerName = scan.getName();
-      
-      // Create local managed server Pod object
-      String podName = CallBuilder.toDNS1123LegalName(weblogicDomainUID + "-" + weblogicServerName);
 
-      String weblogicClusterName = null;
-      if (cluster != null)
-        weblogicClusterName = cluster.getClusterName();
-      
+      ManagedPodTemplate template = ManagedPodTemplate.getTemplate(
+          info, configMapHelper.getPodTuning(), cluster != null ? cluster.getClusterName() : null);
+      return template.createPod(scan.getName(), scan.getListenPort(), envVars);
+    }
+  }
+
+  /**
+   * The parts of the managed server pods of a cluster that are the same for every server.  Templates are cached
+   * in the {@link DomainPresenceInfo} and rebuilt when a domain spec value or the pod tuning they depend on changes;
+   * the pod for each server is assembled from the shared parts and its server specific values.
+   */
+  static class ManagedPodTemplate {
+    private final List<Object> key;
+    private final DomainSpec spec;
+    private final String namespace;
+    private final String clusterName;
+    private final String imageName;
+    private final String imagePullPolicy;
+    private final PodTuning tuning;
+    private final List<V1VolumeMount> volumeMounts;
+    private final List<V1Volume> volumes;
+
+    /**
+     * Template for the managed servers of the cluster, built only if the cached template is out of date
+     * @param info Domain presence info
+     * @param tuning Pod tuning
+     * @param clusterName Cluster name, or null for servers that are not in a cluster
+     * @return Template
+     */
+    static ManagedPodTemplate getTemplate(DomainPresenceInfo info, PodTuning tuning, String clusterName) {
+      Domain dom = info.getDomain();
+      DomainSpec spec = dom.getSpec();
+      String claimName = info.getClaims().getItems().isEmpty()
+          ? null : info.getClaims().getItems().iterator().next().getMetadata().getName();
+      List<Object> key = Arrays.asList(dom.getMetadata().getNamespace(), spec.getDomainUID(), spec.getDomainName(),
+          spec.getImage(), spec.getImagePullPolicy(), spec.getAsName(), spec.getAsPort(),
+          spec.getAdminSecret().getName(), claimName, tuning, clusterName);
+      return info.getPodTemplates().compute(clusterName != null ? clusterName : "",
+          (name, template) -> template != null && template.key.equals(key)
+              ? template : new ManagedPodTemplate(key, spec, dom.getMetadata().getNamespace(), clusterName, claimName, tuning));
+    }
+
+    private ManagedPodTemplate(List<Object> key, DomainSpec spec, String namespace, String clusterName,
+        String claimName, PodTuning tuning) {
+      this.key = key;
+      this.spec = spec;
+      this.namespace = namespace;
+      this.clusterName = clusterName;
+      this.tuning = tuning;
+
       String imageName = spec.getImage();
       if (imageName == null || imageName.length() == 0) {
         imageName = KubernetesConstants.DEFAULT_IMAGE;
@@ -605,6 +727,69 @@ public class PodHelper {
       if (imagePullPolicy == null || imagePullPolicy.length() == 0) {
         imagePullPolicy = (imageName.endsWith(KubernetesConstants.LATEST_IMAGE_SUFFIX)) ? KubernetesConstants.ALWAYS_IMAGEPULLPOLICY : KubernetesConstants.IFNOTPRESENT_IMAGEPULLPOLICY;
       }
+      this.imageName = imageName;
+      this.imagePullPolicy = imagePullPolicy;
+
+      List<V1VolumeMount> volumeMounts = new ArrayList<>();
+      V1VolumeMount volumeMount = new V1VolumeMount();
+      volumeMount.setName("weblogic-domain-storage-volume");
+      volumeMount.setMountPath("/shared");
+      volumeMounts.add(volumeMount);
+
+      V1VolumeMount volumeMountSecret = new V1VolumeMount();
+      volumeMountSecret.setName("weblogic-credentials-volume");
+      volumeMountSecret.setMountPath("/weblogic-operator/secrets");
+      volumeMountSecret.setReadOnly(true);
+      volumeMounts.add(volumeMountSecret);
+
+      V1VolumeMount volumeMountScripts = new V1VolumeMount();
+      volumeMountScripts.setName("weblogic-domain-cm-volume");
+      volumeMountScripts.setMountPath("/weblogic-operator/scripts");
+      volumeMountScripts.setReadOnly(true);
+      volumeMounts.add(volumeMountScripts);
+      this.volumeMounts = Collections.unmodifiableList(volumeMounts);
+
+      List<V1Volume> volumes = new ArrayList<>();
+      if (claimName != null) {
+        V1Volume volume = new V1Volume();
+        volume.setName("weblogic-domain-storage-volume");
+        V1PersistentVolumeClaimVolumeSource pvClaimSource = new V1PersistentVolumeClaimVolumeSource();
+        pvClaimSource.setClaimName(claimName);
+        volume.setPersistentVolumeClaim(pvClaimSource);
+        volumes.add(volume);
+      }
+
+      V1Volume volumeSecret = new V1Volume();
+      volumeSecret.setName("weblogic-credentials-volume");
+      V1SecretVolumeSource secret = new V1SecretVolumeSource();
+      secret.setSecretName(spec.getAdminSecret().getName());
+      volumeSecret.setSecret(secret);
+      volumes.add(volumeSecret);
+      
+      V1Volume volumeDomainConfigMap = new V1Volume();
+      volumeDomainConfigMap.setName("weblogic-domain-cm-volume");
+      V1ConfigMapVolumeSource cm = new V1ConfigMapVolumeSource();
+      cm.setName(KubernetesConstants.DOMAIN_CONFIG_MAP_NAME);
+      cm.setDefaultMode(0555); // read and execute
+      volumeDomainConfigMap.setConfigMap(cm);
+      volumes.add(volumeDomainConfigMap);
+      this.volumes = Collections.unmodifiableList(volumes);
+    }
+
+    /**
+     * Creates the pod for a managed server.  The volumes and volume mounts are shared with the template and
+     * must not be modified.
+     * @param weblogicServerName Server name
+     * @param listenPort Server listen port
+     * @param envVars Environment variables from the server startup, may be null
+     * @return Pod
+     */
+    V1Pod createPod(String weblogicServerName, Integer listenPort, List<V1EnvVar> envVars) {
+      String weblogicDomainUID = spec.getDomainUID();
+      String weblogicDomainName = spec.getDomainName();
+
+      // Create local managed server Pod object
+      String podName = CallBuilder.toDNS1123LegalName(weblogicDomainUID + "-" + weblogicServerName);
 
       V1Pod pod = new V1Pod();
 
@@ -613,7 +798,7 @@ public class PodHelper {
       metadata.setNamespace(namespace);
       pod.setMetadata(metadata);
 
-      AnnotationHelper.annotateForPrometheus(metadata, scan.getListenPort());
+      AnnotationHelper.annotateForPrometheus(metadata, listenPort);
 
       Map<String, String> labels = new HashMap<>();
       labels.put(LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DOMAIN_V1);
@@ -621,8 +806,8 @@ public class PodHelper {
       labels.put(LabelConstants.DOMAINNAME_LABEL, weblogicDomainName);
       labels.put(LabelConstants.SERVERNAME_LABEL, weblogicServerName);
       labels.put(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
-      if (weblogicClusterName != null) {
-        labels.put(LabelConstants.CLUSTERNAME_LABEL, weblogicClusterName);
+      if (clusterName != null) {
+        labels.put(LabelConstants.CLUSTERNAME_LABEL, clusterName);
       }
       metadata.setLabels(labels);
 
@@ -639,7 +824,7 @@ public class PodHelper {
       container.setImagePullPolicy(imagePullPolicy);
 
       V1ContainerPort containerPort = new V1ContainerPort();
-      containerPort.setContainerPort(scan.getListenPort());
+      containerPort.setContainerPort(listenPort);
       containerPort.setProtocol("TCP");
       container.addPortsItem(containerPort);
 
@@ -654,22 +839,7 @@ public class PodHelper {
       lifecycle.setPreStop(preStop);
       container.setLifecycle(lifecycle);
 
-      V1VolumeMount volumeMount = new V1VolumeMount();
-      volumeMount.setName("weblogic-domain-storage-volume");
-      volumeMount.setMountPath("/shared");
-      container.addVolumeMountsItem(volumeMount);
-
-      V1VolumeMount volumeMountSecret = new V1VolumeMount();
-      volumeMountSecret.setName("weblogic-credentials-volume");
-      volumeMountSecret.setMountPath("/weblogic-operator/secrets");
-      volumeMountSecret.setReadOnly(true);
-      container.addVolumeMountsItem(volumeMountSecret);
-
-      V1VolumeMount volumeMountScripts = new V1VolumeMount();
-      volumeMountScripts.setName("weblogic-domain-cm-volume");
-      volumeMountScripts.setMountPath("/weblogic-operator/scripts");
-      volumeMountScripts.setReadOnly(true);
-      container.addVolumeMountsItem(volumeMountScripts);
+      container.setVolumeMounts(volumeMounts);
 
       container.addCommandItem("/weblogic-operator/scripts/startServer.sh");
       container.addCommandItem(weblogicDomainUID);
@@ -678,8 +848,6 @@ public class PodHelper {
       container.addCommandItem(spec.getAsName());
       container.addCommandItem(String.valueOf(spec.getAsPort()));
 
-      PodTuning tuning = configMapHelper.getPodTuning();
-      
       V1Probe readinessProbe = new V1Probe();
       V1ExecAction readinessAction = new V1ExecAction();
       readinessAction.addCommandItem("/weblogic-operator/scripts/readinessProbe.sh");
@@ -704,29 +872,7 @@ public class PodHelper {
       livenessProbe.setFailureThreshold(1); // must be 1
       container.livenessProbe(livenessProbe);
 
-      if (!info.getClaims().getItems().isEmpty()) {
-        V1Volume volume = new V1Volume();
-        volume.setName("weblogic-domain-storage-volume");
-        V1PersistentVolumeClaimVolumeSource pvClaimSource = new V1PersistentVolumeClaimVolumeSource();
-        pvClaimSource.setClaimName(info.getClaims().getItems().iterator().next().getMetadata().getName());
-        volume.setPersistentVolumeClaim(pvClaimSource);
-        podSpec.addVolumesItem(volume);
-      }
-
-      V1Volume volumeSecret = new V1Volume();
-      volumeSecret.setName("weblogic-credentials-volume");
-      V1SecretVolumeSource secret = new V1SecretVolumeSource();
-      secret.setSecretName(spec.getAdminSecret().getName());
-      volumeSecret.setSecret(secret);
-      podSpec.addVolumesItem(volumeSecret);
-      
-      V1Volume volumeDomainConfigMap = new V1Volume();
-      volumeDomainConfigMap.setName("weblogic-domain-cm-volume");
-      V1ConfigMapVolumeSource cm = new V1ConfigMapVolumeSource();
-      cm.setName(KubernetesConstants.DOMAIN_CONFIG_MAP_NAME);
-      cm.setDefaultMode(0555); // read and execute
-      volumeDomainConfigMap.setConfigMap(cm);
-      podSpec.addVolumesItem(volumeDomainConfigMap);
+      podSpec.setVolumes(volumes);
 
       if (envVars != null) {
         for (V1EnvVar ev : envVars) {
@@ -769,6 +915,9 @@ public class PodHelper {
     addEnvVar(container, "ADMIN_PASSWORD", null);
 
     // resolve tokens in externally specified env that refers to internal env via $(XXX)
+    if (envList == null) {
+      return;
+    }
     for (V1EnvVar ev : envList) {
       String oldValue = ev.getValue();
       if (oldValue == null) continue;
@@ -800,6 +949,96 @@ public class PodHelper {
     return new DeletePodStep(sko, next);
   }
 
+  /**
+   * Factory for {@link Step} that deletes the pods of several servers with one delete-collection call
+   * @param skos Server Kubernetes Objects
+   * @param next Next processing step
+   * @return Step for deleting server pods
+   */
+  public static Step deletePodsStep(Collection<ServerKubernetesObjects> skos, Step next) {
+    return new DeletePodsStep(skos, next);
+  }
+
+  private static class DeletePodsStep extends Step {
+    private final Collection<ServerKubernetesObjects> skos;
+
+    DeletePodsStep(Collection<ServerKubernetesObjects> skos, Step next) {
+      super(next);
+      this.skos = skos;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+
+      Domain dom = info.getDomain();
+      String namespace = dom.getMetadata().getNamespace();
+
+      CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+      List<String> serverNames = new ArrayList<>();
+      Step deletes = next;
+      for (ServerKubernetesObjects sko : skos) {
+        // Set pod to null so that watcher doesn't try to recreate pod
+        V1Pod oldPod = sko.getPod().getAndSet(null);
+        if (oldPod == null) {
+          continue;
+        }
+        Map<String, String> labels = oldPod.getMetadata().getLabels();
+        String serverName = labels != null ? labels.get(LabelConstants.SERVERNAME_LABEL) : null;
+        if (serverName != null) {
+          serverNames.add(serverName);
+        } else {
+          // a pod the label selector cannot match is deleted by name
+          deletes = createDeletePodStep(factory, oldPod.getMetadata().getName(), namespace, deletes);
+        }
+      }
+      if (serverNames.isEmpty()) {
+        return doNext(deletes, packet);
+      }
+
+      String labelSelector = LabelConstants.DOMAINUID_LABEL + "=" + dom.getSpec().getDomainUID() + ","
+          + LabelConstants.SERVERNAME_LABEL + " in (" + String.join(",", serverNames) + "),"
+          + LabelConstants.CREATEDBYOPERATOR_LABEL;
+      return doNext(factory.create().with($ -> {
+        $.labelSelector = labelSelector;
+      }).deleteCollectionPodAsync(namespace, new ResponseStep<V1Status>(deletes) {
+        @Override
+        public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          if (statusCode == CallBuilder.NOT_FOUND) {
+            return onSuccess(packet, null, statusCode, responseHeaders);
+          }
+          return super.onFailure(packet, e, statusCode, responseHeaders);
+        }
+
+        @Override
+        public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          return doNext(packet);
+        }
+      }), packet);
+    }
+  }
+
+  private static Step createDeletePodStep(CallBuilderFactory factory, String name, String namespace, Step next) {
+    return factory.create().deletePodAsync(name, namespace, new V1DeleteOptions(), new ResponseStep<V1Status>(next) {
+      @Override
+      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        if (statusCode == CallBuilder.NOT_FOUND) {
+          return onSuccess(packet, null, statusCode, responseHeaders);
+        }
+        return super.onFailure(packet, e, statusCode, responseHeaders);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
+          Map<String, List<String>> responseHeaders) {
+        return doNext(packet);
+      }
+    });
+  }
+
   private static class DeletePodStep extends Step {
     private final ServerKubernetesObjects sko;
 
@@ -816,27 +1055,11 @@ public class PodHelper {
       V1ObjectMeta meta = dom.getMetadata();
       String namespace = meta.getNamespace();
       
-      V1DeleteOptions deleteOptions = new V1DeleteOptions();
       // Set pod to null so that watcher doesn't try to recreate pod
       V1Pod oldPod = sko.getPod().getAndSet(null);
       if (oldPod != null) {
         CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
-        return doNext(factory.create().deletePodAsync(oldPod.getMetadata().getName(), namespace, deleteOptions, new ResponseStep<V1Status>(next) {
-          @Override
-          public NextAction onFailure(Packet packet, ApiException e, int statusCode,
-              Map<String, List<String>> responseHeaders) {
-            if (statusCode == CallBuilder.NOT_FOUND) {
-              return onSuccess(packet, null, statusCode, responseHeaders);
-            }
-            return super.onFailure(packet, e, statusCode, responseHeaders);
-          }
-  
-          @Override
-          public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
-              Map<String, List<String>> responseHeaders) {
-            return doNext(next, packet);
-          }
-        }), packet);
+        return doNext(createDeletePodStep(factory, oldPod.getMetadata().getName(), namespace, next), packet);
       }
       return doNext(packet);
     }
@@ -8,6 +8,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 
 import java.lang.ref.WeakReference;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * General-purpose object pool.
@@ -17,6 +18,7 @@ public abstract class Pool<T> {
 
   // volatile since multiple threads may access queue reference
   private volatile WeakReference<ConcurrentLinkedQueue<T>> queue;
+  private final AtomicLong created = new AtomicLong();
 
   /**
    * Gets a new object from the pool.
@@ -28,6 +30,7 @@ public abstract class Pool<T> {
     T instance = getQueue().poll();
     if (instance == null) {
       LOGGER.finer("Creating instance");
+      created.incrementAndGet();
       return create();
     }
 
@@ -74,6 +77,22 @@ public abstract class Pool<T> {
    */
   protected abstract T create();
 
+  /**
+   * Returns the number of objects in the pool, available to be taken
+   * @return Pool size
+   */
+  public int size() {
+    return getQueue().size();
+  }
+
+  /**
+   * Returns the number of objects created, because the pool was empty when an object was taken
+   * @return Created count
+   */
+  public long getCreatedCount() {
+    return created.get();
+  }
+
   /**
    * Drains pool of all entries; useful for unit-testing
    */
@@ -5,16 +5,24 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
-import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
-import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -27,20 +35,21 @@ import oracle.kubernetes.operator.work.Step.StepAndPacket;
 
 /**
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an out-of-date specification,
- * it defers the processing of these servers to the RollingHelper.  This class will ensure that a minimum number of cluster
- * members remain up, if possible, throughout the rolling process.
- * 
+ * it defers the processing of these servers to the RollingHelper.  This class will ensure that no more cluster members than
+ * the cluster's maxUnavailable setting, counting those that are already down, are unavailable at a time or, if the cluster
+ * has no such setting, that a minimum number of cluster members remain up, if possible, throughout the rolling process.
+ *
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  
+
   private static final int MINIMUM_FOR_CLUSTER = 2;
 
   private RollingHelper() {}
-  
+
   /**
-   * Creates an asynchronous step that completes the rolling.  The rolling parameter is a map from 
-   * server name to a {@link StepAndPacket} that includes the asynchronous step and packet necessary to 
+   * Creates an asynchronous step that completes the rolling.  The rolling parameter is a map from
+   * server name to a {@link StepAndPacket} that includes the asynchronous step and packet necessary to
    * roll that individual server.  This will include first stopping (deleting) the existing Pod, recreating
    * the Pod with the updated specification, waiting for that new Pod to become Ready and, finally, completing
    * the server presence with necessary Service and Ingress objects, etc.
@@ -51,10 +60,69 @@ public class RollingHelper {
   public static Step rollServers(Map<String, StepAndPacket> rolling, Step next) {
     return new RollingStep(rolling, next);
   }
-  
+
+  // A server is available if the pod watcher last reported its pod as ready
+  private static boolean isAvailable(DomainPresenceInfo info, String serverName) {
+    ServerKubernetesObjects sko = info.getServers().get(serverName);
+    return sko != null && WebLogicConstants.RUNNING_STATE.equals(sko.getLastKnownStatus().get());
+  }
+
+  private static String getServerName(StepAndPacket stepAndPacket, Domain dom) {
+    WlsServerConfig scan = (WlsServerConfig) stepAndPacket.packet.get(ProcessingConstants.SERVER_SCAN);
+    return scan != null ? scan.getName() : dom.getSpec().getAsName();
+  }
+
+  /**
+   * Number of servers of a cluster that may be restarted now.  Servers of the cluster that are already unavailable,
+   * including those that are restarted right away because they are not ready, count against the number of servers
+   * that may be unavailable at a time.
+   * @param maxUnavailable The cluster's maxUnavailable setting, a count or a percentage such as "25%", or null
+   * @param clusterSize Number of servers of the cluster that are to be running
+   * @param unavailableCount Number of those servers that are presently not available
+   * @return Number of servers to restart at a time, or 0, if as many servers as may be unavailable already are
+   */
+  static int getConcurrentRestarts(String maxUnavailable, int clusterSize, int unavailableCount) {
+    return Math.max(0, getMaxUnavailable(maxUnavailable, clusterSize) - unavailableCount);
+  }
+
+  // number of servers of the cluster that may be unavailable at a time, at least 1
+  private static int getMaxUnavailable(String maxUnavailable, int clusterSize) {
+    int count;
+    if (maxUnavailable == null) {
+      // leave at least the minimum number of cluster members available
+      count = clusterSize - MINIMUM_FOR_CLUSTER;
+    } else {
+      try {
+        String value = maxUnavailable.trim();
+        if (value.endsWith("%")) {
+          count = clusterSize * Integer.parseInt(value.substring(0, value.length() - 1).trim()) / 100;
+        } else {
+          count = Integer.parseInt(value);
+        }
+      } catch (NumberFormatException e) {
+        LOGGER.warning(MessageKeys.INVALID_MAX_UNAVAILABLE, maxUnavailable);
+        count = 1;
+      }
+    }
+    // We will always allow at least one server to be restarted
+    return Math.max(1, count);
+  }
+
+  private static ClusterStartup getClusterStartup(DomainSpec spec, String clusterName) {
+    List<ClusterStartup> lcs = spec.getClusterStartup();
+    if (lcs != null) {
+      for (ClusterStartup cs : lcs) {
+        if (clusterName.equals(cs.getClusterName())) {
+          return cs;
+        }
+      }
+    }
+    return null;
+  }
+
   private static class RollingStep extends Step {
     private final Map<String, StepAndPacket> rolling;
-    
+
     private RollingStep(Map<String, StepAndPacket> rolling, Step next) {
       super(next);
       this.rolling = rolling;
@@ -63,33 +131,22 @@ public class RollingHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-      
+
       Domain dom = info.getDomain();
-      DomainStatus status = dom.getStatus();
-      // These are presently Ready servers
-      List<String> availableServers = new ArrayList<>();
-      List<ServerStatus> ss = status.getServers();
-      if (ss != null) {
-        for (ServerStatus s : ss) {
-          if (WebLogicConstants.RUNNING_STATE.equals(s.getState())) {
-            availableServers.add(s.getServerName());
-          }
-        }
-      }
 
       Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
       Map<String, Collection<StepAndPacket>> clusteredRestarts = new HashMap<>();
-      
+
       List<String> servers = new ArrayList<>();
       for(Map.Entry<String, StepAndPacket> entry : rolling.entrySet()) {
         // If this server isn't currently Ready, then it can be safely restarted now
         // regardless of the state of its cluster (if any)
-        if (!availableServers.contains(entry.getKey())) {
+        if (!isAvailable(info, entry.getKey())) {
           servers.add(entry.getKey());
           serversThatCanRestartNow.add(entry.getValue());
           continue;
         }
-        
+
         // If this server isn't part of a cluster, then it can also be safely restarted now
         Packet p = entry.getValue().packet;
         WlsClusterConfig cluster = (WlsClusterConfig) p.get(ProcessingConstants.CLUSTER_SCAN);
@@ -98,131 +155,197 @@ public class RollingHelper {
           serversThatCanRestartNow.add(entry.getValue());
           continue;
         }
-        
+
         // clustered server
-        String clusterName = cluster.getClusterName();
-        Collection<StepAndPacket> cr = clusteredRestarts.get(clusterName);
-        if (cr == null) {
-          cr = new ArrayList<>();
-          clusteredRestarts.put(clusterName, cr);
-        }
-        cr.add(entry.getValue());
+        clusteredRestarts.computeIfAbsent(cluster.getClusterName(), k -> new ArrayList<>()).add(entry.getValue());
       }
-      
+
       if (!servers.isEmpty()) {
         LOGGER.info(MessageKeys.CYCLING_SERVERS, dom.getSpec().getDomainUID(), servers);
       }
-      
+
+      RollingProgress progress = new RollingProgress(rolling.size());
       Collection<StepAndPacket> work = new ArrayList<>();
       if (!serversThatCanRestartNow.isEmpty()) {
-        work.add(new StepAndPacket(new ServersThatCanRestartNowStep(serversThatCanRestartNow, null), packet));
+        work.add(new StepAndPacket(new ServersThatCanRestartNowStep(serversThatCanRestartNow, progress, null), packet));
       }
-      
-      if (!clusteredRestarts.isEmpty()) {
-        for (Map.Entry<String, Collection<StepAndPacket>> entry : clusteredRestarts.entrySet()) {
-          work.add(new StepAndPacket(new RollSpecificClusterStep(entry.getKey(), entry.getValue(), null), packet));
-        }
+
+      for (Map.Entry<String, Collection<StepAndPacket>> entry : clusteredRestarts.entrySet()) {
+        work.add(new StepAndPacket(new RollSpecificClusterStep(entry.getKey(), entry.getValue(), progress, null), packet));
       }
-      
+
       if (!work.isEmpty()) {
-        return doForkJoin(next, packet, work);
+        return doNext(progress.createProgressStep(new ForkJoinStep(work, next)), packet);
       }
-      
+
       return doNext(packet);
     }
   }
-  
+
+  private static class ForkJoinStep extends Step {
+    private final Collection<StepAndPacket> work;
+
+    ForkJoinStep(Collection<StepAndPacket> work, Step next) {
+      super(next);
+      this.work = work;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(next, packet, work);
+    }
+  }
+
+  /**
+   * Reports the progress of the rolling in the Progressing condition of the domain status
+   */
+  private static class RollingProgress {
+    private final int total;
+    private final AtomicInteger restarted = new AtomicInteger(0);
+
+    RollingProgress(int total) {
+      this.total = total;
+    }
+
+    Step createProgressStep(Step next) {
+      return createProgressStep(restarted.get(), next);
+    }
+
+    Step createRestartedStep(int count, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          return doNext(createProgressStep(restarted.addAndGet(count), next), packet);
+        }
+      };
+    }
+
+    private Step createProgressStep(int count, Step next) {
+      return DomainStatusUpdater.createProgressingStep(DomainStatusUpdater.ROLLING_SERVERS_PROGRESS_REASON,
+          "Restarted " + count + " of " + total + " servers with a changed specification", true, next);
+    }
+  }
+
   private static class ServersThatCanRestartNowStep extends Step {
     private final Collection<StepAndPacket> serversThatCanRestartNow;
+    private final RollingProgress progress;
 
-    public ServersThatCanRestartNowStep(Collection<StepAndPacket> serversThatCanRestartNow, Step next) {
+    public ServersThatCanRestartNowStep(Collection<StepAndPacket> serversThatCanRestartNow, RollingProgress progress, Step next) {
       super(next);
       this.serversThatCanRestartNow = serversThatCanRestartNow;
+      this.progress = progress;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(next, packet, serversThatCanRestartNow);
+      return doForkJoin(progress.createRestartedStep(serversThatCanRestartNow.size(), next), packet, serversThatCanRestartNow);
     }
   }
-  
+
+  /**
+   * Restarts the servers of a cluster in as many lanes as servers may be restarted at a time.  Each lane restarts
+   * its next server as soon as the server it restarted before is ready again, which the {@link PodWatcher}
+   * reports when it receives the event for the ready pod, so that a slow server holds up only its own lane.
+   */
   private static class RollSpecificClusterStep extends Step {
     private final String clusterName;
-    private final Iterator<StepAndPacket> it;
+    private final Collection<StepAndPacket> clusteredServerRestarts;
+    private final RollingProgress progress;
 
-    public RollSpecificClusterStep(String clusterName, Collection<StepAndPacket> clusteredServerRestarts, Step next) {
+    public RollSpecificClusterStep(String clusterName, Collection<StepAndPacket> clusteredServerRestarts,
+        RollingProgress progress, Step next) {
       super(next);
       this.clusterName = clusterName;
-      it = clusteredServerRestarts.iterator();
+      this.clusteredServerRestarts = clusteredServerRestarts;
+      this.progress = progress;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      if (it.hasNext()) {
-        DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-        
-        // Refresh as this is constantly changing
-        Domain dom = info.getDomain();
-        DomainStatus status = dom.getStatus();
-        // These are presently Ready servers
-        List<String> availableServers = new ArrayList<>();
-        List<ServerStatus> ss = status.getServers();
-        if (ss != null) {
-          for (ServerStatus s : ss) {
-            if (WebLogicConstants.RUNNING_STATE.equals(s.getState())) {
-              availableServers.add(s.getServerName());
-            }
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      Domain dom = info.getDomain();
+
+      Queue<StepAndPacket> pending = new ConcurrentLinkedQueue<>(clusteredServerRestarts);
+      List<String> servers = new ArrayList<>();
+      for (StepAndPacket current : clusteredServerRestarts) {
+        servers.add(getServerName(current, dom));
+      }
+
+      // figure out which of the servers of the cluster that are to be running are currently ready
+      Set<String> clusterServers = new HashSet<>(servers);
+      Collection<ServerStartupInfo> ssic = info.getServerStartupInfo();
+      if (ssic != null) {
+        for (ServerStartupInfo ssi : ssic) {
+          if (ssi.clusterConfig != null && clusterName.equals(ssi.clusterConfig.getClusterName())) {
+            clusterServers.add(ssi.serverConfig.getName());
           }
         }
+      }
+      List<String> readyServers = new ArrayList<>();
+      for (String serverName : clusterServers) {
+        if (isAvailable(info, serverName)) {
+          readyServers.add(serverName);
+        }
+      }
+      int unavailableCount = clusterServers.size() - readyServers.size();
 
-        List<String> servers = new ArrayList<>();
-        List<String> readyServers = new ArrayList<>();
-        
-        Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
-        // We will always restart at least one server
-        StepAndPacket current = it.next();
-        serversThatCanRestartNow.add(current);
-        
-        WlsServerConfig scan = (WlsServerConfig) current.packet.get(ProcessingConstants.SERVER_SCAN);
-        servers.add(scan != null ? scan.getName() : dom.getSpec().getAsName());
-        
-        // See if we can restart more now
-        if (it.hasNext()) {
-          // we are already pending a restart of one server, so start count at -1
-          int countReady = -1;
-          WlsClusterConfig cluster = info.getScan().getClusterConfig(clusterName);
-          if (cluster != null) {
-            List<WlsServerConfig> serversConfigs = cluster.getServerConfigs();
-            if (serversConfigs != null) {
-              for (WlsServerConfig s : serversConfigs) {
-                // figure out how many servers are currently ready
-                if (availableServers.contains(s.getName())) {
-                  readyServers.add(s.getName());
-                  countReady++;
-                }
-              }
-            }
-          }
-          
-          // then add as many as possible next() entries leaving at least minimum cluster availability
-          while (countReady-- > MINIMUM_FOR_CLUSTER) {
-            current = it.next();
-            scan = (WlsServerConfig) current.packet.get(ProcessingConstants.SERVER_SCAN);
-            servers.add(scan != null ? scan.getName() : dom.getSpec().getAsName());
-            serversThatCanRestartNow.add(current);
-            if (!it.hasNext()) {
-              break;
-            }
-          }
+      ClusterStartup cs = getClusterStartup(dom.getSpec(), clusterName);
+      int lanes = Math.min(pending.size(),
+          getConcurrentRestarts(cs != null ? cs.getMaxUnavailable() : null, clusterServers.size(), unavailableCount));
+      Integer pauseSeconds = cs != null ? cs.getRollingPauseSeconds() : null;
+
+      readyServers.removeAll(servers);
+      if (lanes == 0) {
+        // the servers are rolled by a later check of the domain, once enough servers of the cluster are ready
+        LOGGER.info(MessageKeys.ROLLING_DEFERRED, dom.getSpec().getDomainUID(), servers, clusterName,
+            unavailableCount);
+        return doNext(packet);
+      }
+      LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getSpec().getDomainUID(), servers, readyServers);
+
+      Collection<StepAndPacket> work = new ArrayList<>();
+      for (int i = 0; i < lanes; i++) {
+        work.add(new StepAndPacket(
+            new RollNextServerStep(pending, pauseSeconds != null ? pauseSeconds : 0, progress), packet));
+      }
+      return doForkJoin(next, packet, work);
+    }
+  }
+
+  private static class RollNextServerStep extends Step {
+    private final Queue<StepAndPacket> pending;
+    private final int pauseSeconds;
+    private final RollingProgress progress;
+
+    RollNextServerStep(Queue<StepAndPacket> pending, int pauseSeconds, RollingProgress progress) {
+      super(null);
+      this.pending = pending;
+      this.pauseSeconds = pauseSeconds;
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      StepAndPacket current = pending.poll();
+      if (current == null) {
+        return doNext(packet);
+      }
+      // the server's step completes when its new pod is ready
+      return doForkJoin(progress.createRestartedStep(1, new PauseStep(this)), packet, Collections.singletonList(current));
+    }
+
+    private class PauseStep extends Step {
+      PauseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        if (pauseSeconds > 0 && !pending.isEmpty()) {
+          return doDelay(next, packet, pauseSeconds, TimeUnit.SECONDS);
         }
-        
-        readyServers.removeAll(servers);
-        LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getSpec().getDomainUID(), servers, readyServers);
-        
-        return doNext(new ServersThatCanRestartNowStep(serversThatCanRestartNow, this), packet);
+        return doNext(packet);
       }
-      
-      return doNext(packet);
     }
   }
 }
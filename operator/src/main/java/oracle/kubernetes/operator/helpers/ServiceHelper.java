@@ -22,9 +22,13 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 public class ServiceHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -63,49 +67,9 @@ public class ServiceHelper {
       String namespace = meta.getNamespace();
 
       String weblogicDomainUID = spec.getDomainUID();
-      String weblogicDomainName = spec.getDomainName();
-
-      String name = CallBuilder.toDNS1123LegalName(weblogicDomainUID + "-" + serverName);
-
-      V1Service service = new V1Service(); 
-
-      V1ObjectMeta metadata = new V1ObjectMeta();
-      metadata.setName(name);
-      metadata.setNamespace(namespace);
-      
-      metadata.putAnnotationsItem("service.alpha.kubernetes.io/tolerate-unready-endpoints", "true");
-
-      Map<String, String> labels = new HashMap<>();
-      labels.put(LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DOMAIN_V1);
-      labels.put(LabelConstants.DOMAINUID_LABEL, weblogicDomainUID);
-      labels.put(LabelConstants.DOMAINNAME_LABEL, weblogicDomainName);
-      labels.put(LabelConstants.SERVERNAME_LABEL, serverName);
-      labels.put(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
-      metadata.setLabels(labels);
-      service.setMetadata(metadata);
 
-      V1ServiceSpec serviceSpec = new V1ServiceSpec();
-      serviceSpec.setType(nodePort == null ? "ClusterIP" : "NodePort");
-
-      Map<String, String> selector = new HashMap<>();
-      selector.put(LabelConstants.DOMAINUID_LABEL, weblogicDomainUID);
-      selector.put(LabelConstants.SERVERNAME_LABEL, serverName);
-      selector.put(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
-      serviceSpec.setSelector(selector);
-
-      if (version != null && (version.major > 1 || (version.major == 1 && version.minor >= 8))) {
-        serviceSpec.setPublishNotReadyAddresses(Boolean.TRUE);
-      }
-
-      List<V1ServicePort> ports = new ArrayList<>();
-      V1ServicePort servicePort = new V1ServicePort();
-      servicePort.setPort(port);
-      if (nodePort != null) {
-        servicePort.setNodePort(nodePort);
-      }
-      ports.add(servicePort);
-      serviceSpec.setPorts(ports);
-      service.setSpec(serviceSpec);
+      V1Service service = ServerServiceTemplate.getTemplate(info, version).createService(serverName, port, nodePort);
+      String name = service.getMetadata().getName();
 
       // Verify if Kubernetes api server has a matching Service
       // Create or replace, if necessary
@@ -146,6 +110,12 @@ public class ServiceHelper {
             });
             return doNext(create, packet);
           } else if (validateCurrentService(service, result)) {
+            List<Object> patch = createServicePatch(service, result);
+            if (!patch.isEmpty()) {
+              Step patchService = new PatchServiceStep(
+                  ForServerStep.this, name, namespace, patch, result, weblogicDomainUID, sko.getService()::set, next);
+              return doNext(patchService, packet);
+            }
             // existing Service has correct spec
             LOGGER.fine(serverName.equals(spec.getAsName()) ? MessageKeys.ADMIN_SERVICE_EXISTS : MessageKeys.MANAGED_SERVICE_EXISTS, weblogicDomainUID, serverName);
             sko.getService().set(result);
@@ -166,6 +136,102 @@ public class ServiceHelper {
     }
   }
   
+  /**
+   * The parts of the per-server services of a domain that are the same for every server, cached in the
+   * {@link DomainPresenceInfo} and rebuilt when a domain spec value they depend on changes.
+   */
+  static class ServerServiceTemplate {
+    private final List<Object> key;
+    private final String namespace;
+    private final String weblogicDomainUID;
+    private final Map<String, String> annotations;
+    private final Map<String, String> labels;
+    private final Map<String, String> selector;
+    private final Boolean publishNotReadyAddresses;
+
+    /**
+     * Template for the per-server services of the domain, built only if the cached template is out of date
+     * @param info Domain presence info
+     * @param version Kubernetes version, may be null
+     * @return Template
+     */
+    static ServerServiceTemplate getTemplate(DomainPresenceInfo info, KubernetesVersion version) {
+      Domain dom = info.getDomain();
+      DomainSpec spec = dom.getSpec();
+      boolean publishNotReadyAddresses = version != null && (version.major > 1 || (version.major == 1 && version.minor >= 8));
+      String namespace = dom.getMetadata().getNamespace();
+      List<Object> key = Arrays.asList(namespace, spec.getDomainUID(), spec.getDomainName(), publishNotReadyAddresses);
+      return info.getServiceTemplate().updateAndGet(
+          template -> template != null && template.key.equals(key)
+              ? template : new ServerServiceTemplate(key, namespace, spec.getDomainUID(), spec.getDomainName(), publishNotReadyAddresses));
+    }
+
+    private ServerServiceTemplate(List<Object> key, String namespace, String weblogicDomainUID, String weblogicDomainName,
+        boolean publishNotReadyAddresses) {
+      this.key = key;
+      this.namespace = namespace;
+      this.weblogicDomainUID = weblogicDomainUID;
+      this.publishNotReadyAddresses = publishNotReadyAddresses ? Boolean.TRUE : null;
+
+      Map<String, String> annotations = new HashMap<>();
+      annotations.put("service.alpha.kubernetes.io/tolerate-unready-endpoints", "true");
+      this.annotations = Collections.unmodifiableMap(annotations);
+
+      Map<String, String> labels = new HashMap<>();
+      labels.put(LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DOMAIN_V1);
+      labels.put(LabelConstants.DOMAINUID_LABEL, weblogicDomainUID);
+      labels.put(LabelConstants.DOMAINNAME_LABEL, weblogicDomainName);
+      labels.put(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+      this.labels = labels;
+
+      Map<String, String> selector = new HashMap<>();
+      selector.put(LabelConstants.DOMAINUID_LABEL, weblogicDomainUID);
+      selector.put(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+      this.selector = selector;
+    }
+
+    /**
+     * Creates the service for a server.  The annotations are shared with the template and must not be modified.
+     * @param serverName Server name
+     * @param port Server listen port
+     * @param nodePort Node port, or null for a ClusterIP service
+     * @return Service
+     */
+    V1Service createService(String serverName, Integer port, Integer nodePort) {
+      V1Service service = new V1Service(); 
+
+      V1ObjectMeta metadata = new V1ObjectMeta();
+      metadata.setName(CallBuilder.toDNS1123LegalName(weblogicDomainUID + "-" + serverName));
+      metadata.setNamespace(namespace);
+      metadata.setAnnotations(annotations);
+
+      Map<String, String> labels = new HashMap<>(this.labels);
+      labels.put(LabelConstants.SERVERNAME_LABEL, serverName);
+      metadata.setLabels(labels);
+      service.setMetadata(metadata);
+
+      V1ServiceSpec serviceSpec = new V1ServiceSpec();
+      serviceSpec.setType(nodePort == null ? "ClusterIP" : "NodePort");
+
+      Map<String, String> selector = new HashMap<>(this.selector);
+      selector.put(LabelConstants.SERVERNAME_LABEL, serverName);
+      serviceSpec.setSelector(selector);
+
+      serviceSpec.setPublishNotReadyAddresses(publishNotReadyAddresses);
+
+      List<V1ServicePort> ports = new ArrayList<>();
+      V1ServicePort servicePort = new V1ServicePort();
+      servicePort.setPort(port);
+      if (nodePort != null) {
+        servicePort.setNodePort(nodePort);
+      }
+      ports.add(servicePort);
+      serviceSpec.setPorts(ports);
+      service.setSpec(serviceSpec);
+      return service;
+    }
+  }
+  
   /**
    * Factory for {@link Step} that deletes per-managed server service
    * @param sko Server Kubernetes Objects
@@ -314,6 +380,13 @@ public class ServiceHelper {
             });
             return doNext(create, packet);
           } else if (validateCurrentService(service, result)) {
+            List<Object> patch = createServicePatch(service, result);
+            if (!patch.isEmpty()) {
+              Step patchService = new PatchServiceStep(
+                  ForClusterStep.this, name, namespace, patch, result, weblogicDomainUID,
+                  patched -> info.getClusters().put(clusterName, patched), next);
+              return doNext(patchService, packet);
+            }
             // existing Service has correct spec
             LOGGER.fine(MessageKeys.CLUSTER_SERVICE_EXISTS, weblogicDomainUID, clusterName);
             info.getClusters().put(clusterName, result);
@@ -365,33 +438,46 @@ public class ServiceHelper {
   }
   
   private static boolean validateCurrentService(V1Service build, V1Service current) {
-    V1ServiceSpec buildSpec = build.getSpec();
-    V1ServiceSpec currentSpec = current.getSpec();
-    
-    if (!VersionHelper.matchesResourceVersion(current.getMetadata(), VersionConstants.DOMAIN_V1)) {
-      return false;
-    }
-    
-    String buildType = buildSpec.getType();
+    // Only a change of type requires replacing the Service; labels, annotations,
+    // ports and selectors are patched
+    String buildType = build.getSpec().getType();
     if (buildType == null) {
       buildType = "ClusterIP";
     }
-    String currentType = currentSpec.getType();
+    String currentType = current.getSpec().getType();
     if (currentType == null) {
       currentType = "ClusterIP";
     }
-    if (!currentType.equals(buildType)) {
-      return false;
-    }
+    return currentType.equals(buildType);
+  }
+  
+  private static List<Object> createServicePatch(V1Service build, V1Service current) {
+    List<Object> patch = new ArrayList<>();
+    PatchHelper.addMetadataPatch(patch, build.getMetadata(), current.getMetadata());
     
+    V1ServiceSpec buildSpec = build.getSpec();
+    V1ServiceSpec currentSpec = current.getSpec();
+    if (!validatePorts(buildSpec, currentSpec)) {
+      patch.add(PatchHelper.createAddOperation("/spec/ports", buildSpec.getPorts()));
+    }
+    if (!Objects.equals(buildSpec.getSelector(), currentSpec.getSelector())) {
+      patch.add(PatchHelper.createAddOperation("/spec/selector", buildSpec.getSelector()));
+    }
+    return patch;
+  }
+  
+  private static boolean validatePorts(V1ServiceSpec buildSpec, V1ServiceSpec currentSpec) {
     List<V1ServicePort> buildPorts = buildSpec.getPorts();
     List<V1ServicePort> currentPorts = currentSpec.getPorts();
+    if (currentPorts == null) {
+      return false;
+    }
     
     outer:
     for (V1ServicePort bp : buildPorts) {
       for (V1ServicePort cp : currentPorts) {
         if (cp.getPort().equals(bp.getPort())) {
-          if (!"NodePort".equals(buildType) || bp.getNodePort() == null || bp.getNodePort().equals(cp.getNodePort())) {
+          if (!"NodePort".equals(buildSpec.getType()) || bp.getNodePort() == null || bp.getNodePort().equals(cp.getNodePort())) {
             continue outer;
           }
         }
@@ -402,6 +488,53 @@ public class ServiceHelper {
     return true;
   }
   
+  private static class PatchServiceStep extends Step {
+    private final Step conflictStep;
+    private final String serviceName;
+    private final String namespace;
+    private final List<Object> patch;
+    private final V1Service currentService;
+    private final String weblogicDomainUID;
+    private final Consumer<V1Service> onPatched;
+    
+    public PatchServiceStep(Step conflictStep, String serviceName, String namespace, List<Object> patch,
+        V1Service currentService, String weblogicDomainUID, Consumer<V1Service> onPatched, Step next) {
+      super(next);
+      this.conflictStep = conflictStep;
+      this.serviceName = serviceName;
+      this.namespace = namespace;
+      this.patch = patch;
+      this.currentService = currentService;
+      this.weblogicDomainUID = weblogicDomainUID;
+      this.onPatched = onPatched;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+      Step patchService = factory.create().patchServiceAsync(serviceName, namespace, patch, new ResponseStep<V1Service>(next) {
+        @Override
+        public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          if (statusCode == CallBuilder.NOT_FOUND) {
+            // Service was deleted since it was read; start over
+            return doNext(conflictStep, packet);
+          }
+          return super.onFailure(conflictStep, packet, e, statusCode, responseHeaders);
+        }
+
+        @Override
+        public NextAction onSuccess(Packet packet, V1Service result, int statusCode,
+            Map<String, List<String>> responseHeaders) {
+          LOGGER.info(MessageKeys.SERVICE_PATCHED, weblogicDomainUID, serviceName);
+          onPatched.accept(result != null ? result : currentService);
+          return doNext(packet);
+        }
+      });
+      return doNext(patchService, packet);
+    }
+  }
+  
   private static class CycleServiceStep extends Step  {
     private final Step conflictStep;
     private final String serviceName;
@@ -585,6 +718,13 @@ public class ServiceHelper {
             });
             return doNext(create, packet);
           } else if (validateCurrentService(service, result)) {
+            List<Object> patch = createServicePatch(service, result);
+            if (!patch.isEmpty()) {
+              Step patchService = new PatchServiceStep(
+                  ForExternalChannelStep.this, name, namespace, patch, result, weblogicDomainUID,
+                  patched -> sko.getChannels().put(networkAccessPoint.getName(), patched), next);
+              return doNext(patchService, packet);
+            }
             // existing Service has correct spec
             LOGGER.fine(serverName.equals(spec.getAsName()) ? MessageKeys.ADMIN_SERVICE_EXISTS : MessageKeys.MANAGED_SERVICE_EXISTS, weblogicDomainUID, serverName);
             sko.getChannels().put(networkAccessPoint.getName(), result);
@@ -7,8 +7,11 @@ import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1PersistentVolumeList;
 import io.kubernetes.client.models.V1SelfSubjectRulesReview;
+import io.kubernetes.client.models.V1SubjectAccessReview;
+import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.models.VersionInfo;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainList;
 
 
@@ -25,4 +28,10 @@ public interface SynchronousCallFactory {
   VersionInfo getVersionCode(ApiClient client) throws ApiException;
 
   DomainList getDomainList(ApiClient client, String namespace, String pretty, String _continue, String fieldSelector, Boolean includeUninitialized, String labelSelector, Integer limit, String resourceVersion, Integer timeoutSeconds, Boolean watch) throws ApiException;
+
+  Domain replaceDomain(ApiClient client, String name, String namespace, Domain body, String pretty) throws ApiException;
+
+  V1SubjectAccessReview createSubjectAccessReview(ApiClient client, V1SubjectAccessReview body, String pretty) throws ApiException;
+
+  V1TokenReview createTokenReview(ApiClient client, V1TokenReview body, String pretty) throws ApiException;
 }
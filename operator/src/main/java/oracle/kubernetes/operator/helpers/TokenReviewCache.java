@@ -0,0 +1,112 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.hash.Hashing;
+
+import io.kubernetes.client.models.V1TokenReviewStatus;
+
+/**
+ * Bounded cache of token review results, so that a client calling the REST API repeatedly with the same token
+ * is authenticated by a hash lookup rather than by a call to the API server.  Entries are keyed by the SHA-256
+ * hash of the token, so the cache does not hold credentials.  Tokens that could not be authenticated are cached
+ * as well, usually for a shorter time; a review that could not be made at all is not cached.
+ */
+public class TokenReviewCache {
+  static final int MAX_SIZE = 1000;
+
+  private final TtlCache<String, V1TokenReviewStatus> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong negativeHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public TokenReviewCache() {
+    this(MAX_SIZE, System::nanoTime);
+  }
+
+  TokenReviewCache(int maxSize, LongSupplier clock) {
+    this.cache = new TtlCache<>(maxSize, clock);
+  }
+
+  /**
+   * Returns the cached result for the token, or reviews the token and caches the result
+   * @param token Access token
+   * @param ttlSeconds Time an authenticated token is cached, or 0 to not cache
+   * @param failureTtlSeconds Time a token that failed authentication is cached, or 0 to not cache
+   * @param review Reviews the token; returns null if the review could not be made
+   * @return Token review status, or null if the review could not be made, in which case nothing is cached and
+   * the next request with the token is reviewed again
+   */
+  public V1TokenReviewStatus get(String token, int ttlSeconds, int failureTtlSeconds,
+      Supplier<V1TokenReviewStatus> review) {
+    String key = hash(token);
+    V1TokenReviewStatus cached = cache.get(key);
+    if (cached != null) {
+      (isAuthenticated(cached) ? hits : negativeHits).incrementAndGet();
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    V1TokenReviewStatus status = review.get();
+    if (status == null) {
+      cache.remove(key);
+      return null;
+    }
+    cache.put(key, status, isAuthenticated(status) ? ttlSeconds : failureTtlSeconds);
+    return status;
+  }
+
+  private static String hash(String token) {
+    return Hashing.sha256().hashString(token != null ? token : "", StandardCharsets.UTF_8).toString();
+  }
+
+  private static boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.isAuthenticated());
+  }
+
+  /**
+   * Returns the number of requests answered with a cached authenticated result
+   * @return Hit count
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of requests answered with a cached authentication failure
+   * @return Negative hit count
+   */
+  public long getNegativeHitCount() {
+    return negativeHits.get();
+  }
+
+  /**
+   * Returns the number of requests that required a token review
+   * @return Miss count
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of entries evicted because the cache was full
+   * @return Eviction count
+   */
+  public long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  /**
+   * Returns the number of cached entries, including entries that have expired but were not yet replaced
+   * @return Size
+   */
+  public long size() {
+    return cache.size();
+  }
+}
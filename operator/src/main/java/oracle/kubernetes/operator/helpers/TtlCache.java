@@ -0,0 +1,89 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Bounded cache whose entries each expire after their own time to live.  Entries are evicted when the cache is
+ * full; expired entries are not returned, and are dropped once replaced or evicted.
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class TtlCache<K, V> {
+  private final Cache<K, Entry<V>> cache;
+  private final LongSupplier clock;
+
+  /**
+   * Creates the cache
+   * @param maxSize Maximum number of entries
+   * @param clock Current time, in nanoseconds
+   */
+  public TtlCache(int maxSize, LongSupplier clock) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the value cached for the key
+   * @param key Key
+   * @return Value, or null if none is cached or it has expired
+   */
+  public V get(K key) {
+    Entry<V> entry = cache.getIfPresent(key);
+    return entry != null && entry.expiresAt - clock.getAsLong() > 0 ? entry.value : null;
+  }
+
+  /**
+   * Caches the value for the key or, if the time to live is not positive, removes the key
+   * @param key Key
+   * @param value Value
+   * @param ttlSeconds Time the value is cached
+   */
+  public void put(K key, V value, int ttlSeconds) {
+    if (ttlSeconds > 0) {
+      cache.put(key, new Entry<>(value, clock.getAsLong() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+    } else {
+      cache.invalidate(key);
+    }
+  }
+
+  /**
+   * Removes the key
+   * @param key Key
+   */
+  public void remove(K key) {
+    cache.invalidate(key);
+  }
+
+  /**
+   * Returns the number of entries evicted because the cache was full
+   * @return Eviction count
+   */
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /**
+   * Returns the number of cached entries, including entries that have expired but were not yet replaced
+   * @return Size
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final long expiresAt;
+
+    Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
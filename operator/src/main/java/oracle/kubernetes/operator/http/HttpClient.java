@@ -20,9 +20,12 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 
+import org.glassfish.jersey.client.ClientProperties;
+
 import java.util.Arrays;
 import java.util.Map;
 
@@ -138,6 +141,51 @@ public class HttpClient {
     return new Result(responseString, status, successful);
   }
 
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and the
+   * payload provided to issue an asynchronous HTTP POST request that fails if it does not complete within
+   * the timeout.  The calling thread does not wait for the response.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceURL The service URL containing the host and port of the server where the HTTP
+   *                   request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @param timeoutMillis Maximum time to wait for the response, in milliseconds
+   * @param callback Callback for the Result of the REST call, or for the failure if the server cannot be reached or
+   *                 does not respond within the timeout
+   */
+  public void executePostUrlOnServiceClusterIPAsync(String requestUrl, String serviceURL, String payload,
+                                                    int timeoutMillis, InvocationCallback<Result> callback) {
+    String url = serviceURL + requestUrl;
+    WebTarget target = httpClient.target(url)
+        .property(ClientProperties.CONNECT_TIMEOUT, timeoutMillis)
+        .property(ClientProperties.READ_TIMEOUT, timeoutMillis);
+    Invocation.Builder invocationBuilder = target.request().accept("application/json")
+        .header("Authorization", "Basic " + encodedCredentials)
+        .header("X-Requested-By", "Weblogic Operator");
+    invocationBuilder.async().post(Entity.json(payload), new InvocationCallback<Response>() {
+      @Override
+      public void completed(Response response) {
+        String responseString = null;
+        boolean successful = false;
+        if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+          successful = true;
+          if (response.hasEntity()) {
+            responseString = String.valueOf(response.readEntity(String.class));
+          }
+        } else {
+          LOGGER.warning(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
+        }
+        callback.completed(new Result(responseString, response.getStatus(), successful));
+      }
+
+      @Override
+      public void failed(Throwable throwable) {
+        callback.failed(throwable);
+      }
+    });
+  }
+
   /**
    * Asynchronous {@link Step} for creating an authenticated HTTP client targeted at a server instance
    * @param namespace Namespace
@@ -138,4 +138,25 @@ public class MessageKeys {
   public static final String WLS_CLUSTER_SIZE_UPDATED = "WLSKO-0132";
   public static final String WLS_SERVER_TEMPLATE_NOT_FOUND = "WLSKO-0133";
   public static final String SCRIPT_LOADED = "WLSKO-0134";
+  public static final String WLS_CONFIGURATION_UNCHANGED = "WLSKO-0135";
+  public static final String DOMAIN_STATUS_CONFLICT = "WLSKO-0136";
+  public static final String POD_SPEC_CHANGED = "WLSKO-0137";
+  public static final String POD_PATCHED = "WLSKO-0138";
+  public static final String SERVICE_PATCHED = "WLSKO-0139";
+  public static final String INVALID_MAX_UNAVAILABLE = "WLSKO-0140";
+  public static final String POD_READY_TIMED_OUT = "WLSKO-0141";
+  public static final String STARTING_SERVERS = "WLSKO-0142";
+  public static final String DELETING_DOMAIN_RESOURCES = "WLSKO-0143";
+  public static final String SERVICES_DELETED = "WLSKO-0144";
+  public static final String DOMAIN_RESOURCES_DELETED = "WLSKO-0145";
+  public static final String SERVER_SHUTDOWN_STARTING = "WLSKO-0146";
+  public static final String SERVER_SHUTDOWN_FAILED = "WLSKO-0147";
+  public static final String MATCHING_CLUSTER_NOT_FOUND = "WLSKO-0148";
+  public static final String SCALE_REQUEST_COALESCED = "WLSKO-0149";
+  public static final String SCALE_REQUEST_REPLAYED = "WLSKO-0150";
+  public static final String ALERT_SCALED_CLUSTER = "WLSKO-0151";
+  public static final String ALERT_SCALING_COOLDOWN = "WLSKO-0152";
+  public static final String ROLLING_DEFERRED = "WLSKO-0153";
+  public static final String SCALE_REQUEST_INCOMPLETE = "WLSKO-0154";
+  public static final String SCALE_DOMAIN_FAILED = "WLSKO-0155";
 }
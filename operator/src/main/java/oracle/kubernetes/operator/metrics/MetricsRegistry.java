@@ -0,0 +1,379 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the metrics of the operator's internals, written in the Prometheus text exposition format.  Counters
+ * and histograms are updated by the code they measure; gauges, and counters kept by other classes, are read from
+ * suppliers when the metrics are written, so that the measured code pays nothing for them.  A metric may have
+ * labels; each combination of label values is a separate series.
+ */
+public class MetricsRegistry {
+  /**
+   * Content type of the Prometheus text exposition format
+   */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  // upper bounds, in seconds, of the buckets of latency histograms
+  static final double[] LATENCY_BUCKETS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60 };
+
+  private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+  private final ConcurrentMap<String, Family<?>> families = new ConcurrentSkipListMap<>();
+
+  /**
+   * Returns the registry of the operator's metrics
+   * @return Registry
+   */
+  public static MetricsRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  MetricsRegistry() {
+  }
+
+  /**
+   * Returns the counter with the name, registering it if needed
+   * @param name Metric name, which should end with '_total'
+   * @param help Description of the metric
+   * @param labelNames Names of the labels of the metric
+   * @return Counter
+   */
+  public Counter counter(String name, String help, String... labelNames) {
+    return register(Counter.class, new Counter(name, help, labelNames));
+  }
+
+  /**
+   * Returns the latency histogram with the name, registering it if needed
+   * @param name Metric name, which should end with '_seconds'
+   * @param help Description of the metric
+   * @param labelNames Names of the labels of the metric
+   * @return Histogram
+   */
+  public Histogram histogram(String name, String help, String... labelNames) {
+    return register(Histogram.class, new Histogram(name, help, LATENCY_BUCKETS, labelNames));
+  }
+
+  /**
+   * Returns the gauge with the name, registering it if needed
+   * @param name Metric name
+   * @param help Description of the metric
+   * @param labelNames Names of the labels of the metric
+   * @return Gauge
+   */
+  public Gauge gauge(String name, String help, String... labelNames) {
+    return register(Gauge.class, new Gauge(name, help, Gauge.GAUGE, labelNames));
+  }
+
+  /**
+   * Returns the counter with the name whose values are kept by other classes, registering it if needed
+   * @param name Metric name, which should end with '_total'
+   * @param help Description of the metric
+   * @param labelNames Names of the labels of the metric
+   * @return Counter, as a gauge whose values are only expected to increase
+   */
+  public Gauge suppliedCounter(String name, String help, String... labelNames) {
+    return register(Gauge.class, new Gauge(name, help, Gauge.COUNTER, labelNames));
+  }
+
+  /**
+   * Exports the hit and miss counts of a cache
+   * @param cache Cache name, used as the value of the metrics' cache label
+   * @param hits Supplier of the number of lookups answered from the cache
+   * @param misses Supplier of the number of lookups not answered from the cache
+   */
+  public void registerCache(String cache, LongSupplier hits, LongSupplier misses) {
+    suppliedCounter("operator_cache_hits_total", "Lookups answered from a cache.", "cache").set(hits, cache);
+    suppliedCounter("operator_cache_misses_total", "Lookups not answered from a cache.", "cache").set(misses, cache);
+  }
+
+  private <F extends Family<?>> F register(Class<F> type, F family) {
+    Family<?> existing = families.putIfAbsent(family.name, family);
+    if (existing == null) {
+      return family;
+    }
+    if (!type.isInstance(existing) || !existing.type.equals(family.type)
+        || !existing.labelNames.equals(family.labelNames)) {
+      throw new IllegalArgumentException(family.name);
+    }
+    return type.cast(existing);
+  }
+
+  /**
+   * Removes the series of every metric whose label has the value, such as the series of a domain that is no longer
+   * present
+   * @param labelName Label name
+   * @param labelValue Label value
+   */
+  public void removeSeries(String labelName, String labelValue) {
+    for (Family<?> family : families.values()) {
+      family.removeSeries(labelName, labelValue);
+    }
+  }
+
+  /**
+   * Writes the metrics in the Prometheus text exposition format
+   * @return Metrics
+   */
+  public String write() {
+    StringBuilder sb = new StringBuilder();
+    for (Family<?> family : families.values()) {
+      family.write(sb);
+    }
+    return sb.toString();
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String format(double value) {
+    if (value == Double.POSITIVE_INFINITY) {
+      return "+Inf";
+    }
+    if (value == (long) value) {
+      return Long.toString((long) value);
+    }
+    return Double.toString(value);
+  }
+
+  /**
+   * A metric and its series
+   * @param <S> Type of a series
+   */
+  public abstract static class Family<S> {
+    final String name;
+    private final String help;
+    final String type;
+    final List<String> labelNames;
+    private final ConcurrentMap<List<String>, S> series = new ConcurrentHashMap<>();
+
+    Family(String name, String help, String type, String... labelNames) {
+      this.name = name;
+      this.help = help;
+      this.type = type;
+      this.labelNames = Collections.unmodifiableList(Arrays.asList(labelNames));
+    }
+
+    S getSeries(String[] labelValues) {
+      return series.computeIfAbsent(toKey(labelValues), k -> createSeries());
+    }
+
+    S putSeries(String[] labelValues, S value) {
+      return series.put(toKey(labelValues), value);
+    }
+
+    abstract S createSeries();
+
+    abstract void writeSeries(StringBuilder sb, String name, List<String> labelValues, S value);
+
+    private List<String> toKey(String[] labelValues) {
+      if (labelValues.length != labelNames.size()) {
+        throw new IllegalArgumentException(name + " has labels " + labelNames);
+      }
+      return Collections.unmodifiableList(Arrays.asList(labelValues));
+    }
+
+    /**
+     * Removes the series with the label values
+     * @param labelValues Label values, in the order of the label names
+     */
+    public void remove(String... labelValues) {
+      series.remove(toKey(labelValues));
+    }
+
+    void removeSeries(String labelName, String labelValue) {
+      int index = labelNames.indexOf(labelName);
+      if (index >= 0) {
+        series.keySet().removeIf(labelValues -> labelValue.equals(labelValues.get(index)));
+      }
+    }
+
+    void write(StringBuilder sb) {
+      sb.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n"))
+          .append('\n');
+      sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+      for (Map.Entry<List<String>, S> entry : series.entrySet()) {
+        writeSeries(sb, name, entry.getKey(), entry.getValue());
+      }
+    }
+
+    void writeSample(StringBuilder sb, String sampleName, List<String> labelValues,
+        String extraLabelName, String extraLabelValue, String value) {
+      sb.append(sampleName);
+      if (!labelValues.isEmpty() || extraLabelName != null) {
+        sb.append('{');
+        for (int i = 0; i < labelValues.size(); i++) {
+          if (i > 0) {
+            sb.append(',');
+          }
+          sb.append(labelNames.get(i)).append("=\"").append(escape(labelValues.get(i))).append('"');
+        }
+        if (extraLabelName != null) {
+          if (!labelValues.isEmpty()) {
+            sb.append(',');
+          }
+          sb.append(extraLabelName).append("=\"").append(extraLabelValue).append('"');
+        }
+        sb.append('}');
+      }
+      sb.append(' ').append(value).append('\n');
+    }
+  }
+
+  /**
+   * A count of events
+   */
+  public static class Counter extends Family<LongAdder> {
+    Counter(String name, String help, String... labelNames) {
+      super(name, help, "counter", labelNames);
+    }
+
+    /**
+     * Counts an event
+     * @param labelValues Label values, in the order of the label names
+     */
+    public void inc(String... labelValues) {
+      getSeries(labelValues).increment();
+    }
+
+    /**
+     * Returns the count of events
+     * @param labelValues Label values, in the order of the label names
+     * @return Count
+     */
+    public long get(String... labelValues) {
+      return getSeries(labelValues).sum();
+    }
+
+    @Override
+    LongAdder createSeries() {
+      return new LongAdder();
+    }
+
+    @Override
+    void writeSeries(StringBuilder sb, String name, List<String> labelValues, LongAdder value) {
+      writeSample(sb, name, labelValues, null, null, Long.toString(value.sum()));
+    }
+  }
+
+  /**
+   * A value read when the metrics are written
+   */
+  public static class Gauge extends Family<LongSupplier> {
+    static final String GAUGE = "gauge";
+    static final String COUNTER = "counter";
+
+    Gauge(String name, String help, String type, String... labelNames) {
+      super(name, help, type, labelNames);
+    }
+
+    /**
+     * Sets the supplier of the value, replacing any earlier supplier of the series
+     * @param value Supplier of the value
+     * @param labelValues Label values, in the order of the label names
+     */
+    public void set(LongSupplier value, String... labelValues) {
+      putSeries(labelValues, value);
+    }
+
+    @Override
+    LongSupplier createSeries() {
+      return () -> 0;
+    }
+
+    @Override
+    void writeSeries(StringBuilder sb, String name, List<String> labelValues, LongSupplier value) {
+      writeSample(sb, name, labelValues, null, null, Long.toString(value.getAsLong()));
+    }
+  }
+
+  /**
+   * A distribution of latencies, in seconds
+   */
+  public static class Histogram extends Family<Histogram.Series> {
+    private final double[] buckets;
+
+    Histogram(String name, String help, double[] buckets, String... labelNames) {
+      super(name, help, "histogram", labelNames);
+      this.buckets = buckets;
+    }
+
+    /**
+     * Records the time since the start of an operation
+     * @param startNanos Value of {@link System#nanoTime()} when the operation started
+     * @param labelValues Label values, in the order of the label names
+     */
+    public void observeSince(long startNanos, String... labelValues) {
+      observe((System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1), labelValues);
+    }
+
+    /**
+     * Records a latency
+     * @param seconds Latency, in seconds
+     * @param labelValues Label values, in the order of the label names
+     */
+    public void observe(double seconds, String... labelValues) {
+      getSeries(labelValues).observe(seconds);
+    }
+
+    /**
+     * Returns the number of latencies recorded
+     * @param labelValues Label values, in the order of the label names
+     * @return Count
+     */
+    public long getCount(String... labelValues) {
+      return getSeries(labelValues).count.sum();
+    }
+
+    @Override
+    Series createSeries() {
+      return new Series();
+    }
+
+    @Override
+    void writeSeries(StringBuilder sb, String name, List<String> labelValues, Series value) {
+      long cumulative = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        cumulative += value.bucketCounts.get(i);
+        writeSample(sb, name + "_bucket", labelValues, "le", format(buckets[i]), Long.toString(cumulative));
+      }
+      // read the count after the buckets, so that it is never less than the count of the last bucket
+      long count = Math.max(value.count.sum(), cumulative);
+      writeSample(sb, name + "_bucket", labelValues, "le", "+Inf", Long.toString(count));
+      writeSample(sb, name + "_sum", labelValues, null, null, format(value.sum.sum()));
+      writeSample(sb, name + "_count", labelValues, null, null, Long.toString(count));
+    }
+
+    class Series {
+      private final AtomicLongArray bucketCounts = new AtomicLongArray(buckets.length);
+      private final DoubleAdder sum = new DoubleAdder();
+      private final LongAdder count = new LongAdder();
+
+      void observe(double seconds) {
+        for (int i = 0; i < buckets.length; i++) {
+          if (seconds <= buckets[i]) {
+            bucketCounts.incrementAndGet(i);
+            break;
+          }
+        }
+        sum.add(seconds);
+        count.increment();
+      }
+    }
+  }
+}
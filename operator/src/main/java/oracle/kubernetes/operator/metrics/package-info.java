@@ -0,0 +1,7 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+/**
+ * Metrics of the Operator's internals, exported in the Prometheus text format.
+ */
+package oracle.kubernetes.operator.metrics;
@@ -0,0 +1,301 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.WebApplicationException;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Counter;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.AlertResultModel;
+import oracle.kubernetes.operator.work.ContainerResolver;
+
+/**
+ * Scales WebLogic clusters in response to the alerts posted to the operator's alert webhook, so that a WLDF policy
+ * or a Prometheus alert scales a cluster without running a script that looks up the operator and calls its REST api.
+ * A payload is either a Prometheus Alertmanager notification, whose alerts each have labels and annotations, or a
+ * flat JSON object, such as the notification of a WLDF REST action, whose properties are the labels of one alert.
+ * The labels name the domain, the cluster and the action, and may override the step size, the cooldown and the
+ * bounds of the cluster's size.  The cluster is scaled relative to its size in the domain last seen by the operator,
+ * through the same path as the scale requests of the REST api; once an alert scaled a cluster, alerts do not scale
+ * it again until the cooldown has passed.
+ */
+public class AlertScaler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  public static final String DOMAIN_UID_LABEL = "domainUID";
+  public static final String CLUSTER_LABEL = "clusterName";
+  public static final String ACTION_LABEL = "action";
+  public static final String STEP_LABEL = "scalingSize";
+  public static final String COOLDOWN_LABEL = "cooldownSeconds";
+  public static final String MIN_LABEL = "minManagedServerCount";
+  public static final String MAX_LABEL = "maxManagedServerCount";
+  public static final String SCALE_UP = "scaleUp";
+  public static final String SCALE_DOWN = "scaleDown";
+
+  static final int DEFAULT_STEP = 1;
+  static final int DEFAULT_COOLDOWN_SECONDS = 120;
+  static final int DEFAULT_MIN = 1;
+
+  private static final String ALERTS = "alerts";
+  private static final String STATUS = "status";
+  private static final String FIRING = "firing";
+  private static final String LABELS = "labels";
+  private static final String ANNOTATIONS = "annotations";
+  private static final String[] NAME_LABELS = { "alertname", "policyName", "watchName" };
+
+  private static final AlertScaler INSTANCE = new AlertScaler(System::nanoTime);
+
+  private static final Counter OUTCOMES = MetricsRegistry.getInstance().counter(
+      "operator_scaling_alerts_total", "Alerts posted to the operator's alert webhook, by outcome.", "outcome");
+
+  private final ConcurrentMap<String, Long> lastScaled = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+
+  /**
+   * Returns the scaler of the operator's alert webhook
+   * @return Scaler
+   */
+  public static AlertScaler getInstance() {
+    return INSTANCE;
+  }
+
+  AlertScaler(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Scales the clusters named by the firing alerts of a webhook payload
+   * @param payload Alertmanager notification, or the labels of a single alert
+   * @param backend Backend of the request, which authorizes and applies the scaling
+   * @param executor Applies scaling requests that are coalesced with earlier requests for the same cluster
+   * @return Completes with the outcome of each alert, in payload order
+   */
+  public CompletableFuture<List<AlertResultModel>> scale(Map<String, Object> payload, RestBackend backend,
+      ScheduledExecutorService executor) {
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    RestTuning rest = tuning != null ? tuning.getRestTuning() : null;
+    return scale(payload, backend, executor,
+        rest != null ? rest.alertScaleStep : DEFAULT_STEP,
+        rest != null ? rest.alertScaleCooldownSeconds : DEFAULT_COOLDOWN_SECONDS,
+        rest != null ? rest.alertScaleMinManagedServerCount : DEFAULT_MIN);
+  }
+
+  CompletableFuture<List<AlertResultModel>> scale(Map<String, Object> payload, RestBackend backend,
+      ScheduledExecutorService executor, int step, int cooldownSeconds, int min) {
+    List<CompletableFuture<AlertResultModel>> results = new ArrayList<>();
+    for (Alert alert : getAlerts(payload)) {
+      results.add(scale(alert, backend, executor, step, cooldownSeconds, min).thenApply(result -> {
+        OUTCOMES.inc(result.getOutcome());
+        return result;
+      }));
+    }
+    return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[results.size()]))
+        .thenApply(v -> results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  }
+
+  private CompletableFuture<AlertResultModel> scale(Alert alert, RestBackend backend,
+      ScheduledExecutorService executor, int defaultStep, int defaultCooldownSeconds, int defaultMin) {
+    String domainUID = alert.labels.get(DOMAIN_UID_LABEL);
+    String cluster = alert.labels.get(CLUSTER_LABEL);
+    String action = alert.labels.get(ACTION_LABEL);
+    if (!FIRING.equals(alert.status)) {
+      return CompletableFuture.completedFuture(alert.result(AlertResultModel.IGNORED, 0, null));
+    }
+    if (domainUID == null || cluster == null || !(SCALE_UP.equals(action) || SCALE_DOWN.equals(action))) {
+      return CompletableFuture.completedFuture(alert.result(AlertResultModel.FAILED, 0, "The alert must have the labels "
+          + DOMAIN_UID_LABEL + ", " + CLUSTER_LABEL + " and " + ACTION_LABEL + ", whose value is " + SCALE_UP + " or "
+          + SCALE_DOWN));
+    }
+
+    try {
+      int step = alert.getInt(STEP_LABEL, defaultStep);
+      int cooldownSeconds = alert.getInt(COOLDOWN_LABEL, defaultCooldownSeconds);
+      int min = Math.max(alert.getInt(MIN_LABEL, defaultMin), 0);
+      int max = alert.getInt(MAX_LABEL, Integer.MAX_VALUE);
+      if (step < 1) {
+        return CompletableFuture.completedFuture(
+            alert.result(AlertResultModel.FAILED, 0, STEP_LABEL + " must be at least 1: " + step));
+      }
+      if (!backend.isDomainUID(domainUID) || !backend.isCluster(domainUID, cluster)) {
+        return CompletableFuture.completedFuture(alert.result(AlertResultModel.FAILED, 0,
+            "WebLogic cluster " + cluster + " of domain with UID " + domainUID + " was not found"));
+      }
+      return scale(alert, backend, executor, domainUID, cluster, SCALE_UP.equals(action), step, cooldownSeconds,
+          min, max);
+    } catch (NumberFormatException e) {
+      return CompletableFuture.completedFuture(alert.result(AlertResultModel.FAILED, 0,
+          "The alert has a label that is not an integer: " + e.getMessage()));
+    } catch (WebApplicationException e) {
+      return CompletableFuture.completedFuture(failed(alert, e));
+    }
+  }
+
+  private CompletableFuture<AlertResultModel> scale(Alert alert, RestBackend backend,
+      ScheduledExecutorService executor, String domainUID, String cluster, boolean up, int step, int cooldownSeconds,
+      int min, int max) {
+    String clusterKey = domainUID + "/" + cluster;
+    long now = clock.getAsLong();
+    long cooldownNanos = TimeUnit.SECONDS.toNanos(cooldownSeconds);
+
+    // the cluster is reserved before it is scaled, so that alerts that arrive together scale it once
+    Long[] previous = new Long[1];
+    boolean[] reserved = new boolean[1];
+    lastScaled.compute(clusterKey, (k, last) -> {
+      previous[0] = last;
+      if (last != null && now - last < cooldownNanos) {
+        return last;
+      }
+      reserved[0] = true;
+      return now;
+    });
+    if (!reserved[0]) {
+      LOGGER.fine(MessageKeys.ALERT_SCALING_COOLDOWN, domainUID, cluster, alert.name, cooldownSeconds);
+      return CompletableFuture.completedFuture(
+          alert.result(AlertResultModel.COOLDOWN, backend.getManagedServerCount(domainUID, cluster), null));
+    }
+
+    int current;
+    CompletableFuture<Integer> applied;
+    try {
+      current = backend.getManagedServerCount(domainUID, cluster);
+      int target = up ? (int) Math.min((long) current + step, max) : Math.max(current - step, min);
+      if (up ? target <= current : target >= current) {
+        unreserve(clusterKey, now, previous[0]);
+        return CompletableFuture.completedFuture(alert.result(AlertResultModel.UNCHANGED, current, null));
+      }
+      applied = backend.scaleCluster(domainUID, cluster, target, null, executor);
+    } catch (RuntimeException e) {
+      unreserve(clusterKey, now, previous[0]);
+      throw e;
+    }
+    return applied.handle((count, throwable) -> {
+      if (throwable != null) {
+        unreserve(clusterKey, now, previous[0]);
+        return failed(alert, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+      }
+      LOGGER.info(MessageKeys.ALERT_SCALED_CLUSTER, domainUID, cluster, alert.name, current, count);
+      return alert.result(AlertResultModel.SCALED, count, null);
+    });
+  }
+
+  // an alert that did not scale the cluster does not start a cooldown
+  private void unreserve(String clusterKey, long reservedAt, Long previous) {
+    if (previous != null) {
+      lastScaled.replace(clusterKey, reservedAt, previous);
+    } else {
+      lastScaled.remove(clusterKey, reservedAt);
+    }
+  }
+
+  private static AlertResultModel failed(Alert alert, Throwable throwable) {
+    if (throwable instanceof WebApplicationException) {
+      Object entity = ((WebApplicationException) throwable).getResponse().getEntity();
+      if (entity != null) {
+        return alert.result(AlertResultModel.FAILED, 0, entity.toString());
+      }
+    }
+    return alert.result(AlertResultModel.FAILED, 0, throwable.getMessage());
+  }
+
+  /**
+   * Forgets when the clusters of a domain that is no longer present were scaled
+   * @param domainUID Domain UID
+   */
+  public void forget(String domainUID) {
+    lastScaled.keySet().removeIf(clusterKey -> clusterKey.startsWith(domainUID + "/"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Alert> getAlerts(Map<String, Object> payload) {
+    List<Alert> alerts = new ArrayList<>();
+    if (payload == null) {
+      return alerts;
+    }
+    Object list = payload.get(ALERTS);
+    if (list instanceof List) {
+      // an Alertmanager notification, whose alerts are firing or resolved
+      for (Object item : (List<Object>) list) {
+        if (item instanceof Map) {
+          Map<String, Object> alert = (Map<String, Object>) item;
+          Map<String, String> labels = new HashMap<>();
+          addLabels(labels, alert.get(ANNOTATIONS));
+          addLabels(labels, alert.get(LABELS));
+          alerts.add(new Alert(labels, toString(alert.get(STATUS))));
+        }
+      }
+    } else {
+      // the notification of a single alert, such as that of a WLDF REST action, that fired
+      Map<String, String> labels = new HashMap<>();
+      addLabels(labels, payload);
+      alerts.add(new Alert(labels, FIRING));
+    }
+    return alerts;
+  }
+
+  private static void addLabels(Map<String, String> labels, Object values) {
+    if (values instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) values).entrySet()) {
+        String value = toString(entry.getValue());
+        if (value != null) {
+          labels.put(String.valueOf(entry.getKey()), value);
+        }
+      }
+    }
+  }
+
+  private static String toString(Object value) {
+    return value instanceof String || value instanceof Number || value instanceof Boolean
+        ? String.valueOf(value) : null;
+  }
+
+  private static class Alert {
+    private final Map<String, String> labels;
+    private final String status;
+    private final String name;
+
+    Alert(Map<String, String> labels, String status) {
+      this.labels = labels;
+      this.status = status;
+      this.name = getName(labels);
+    }
+
+    private static String getName(Map<String, String> labels) {
+      for (String label : NAME_LABELS) {
+        if (labels.containsKey(label)) {
+          return labels.get(label);
+        }
+      }
+      return null;
+    }
+
+    int getInt(String label, int defaultValue) {
+      String value = labels.get(label);
+      return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    AlertResultModel result(String outcome, int managedServerCount, String message) {
+      return new AlertResultModel(name, labels.get(DOMAIN_UID_LABEL), labels.get(CLUSTER_LABEL),
+          labels.get(ACTION_LABEL), outcome, managedServerCount, message);
+    }
+  }
+}
@@ -17,10 +17,14 @@ import javax.ws.rs.container.PreMatching;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.PathSegment;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.ext.Provider;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.logging.Logger;
@@ -46,7 +50,12 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
 
   public static final String REST_BACKEND_PROPERTY = "RestBackend";
 
-  private static final String ACCESS_TOKEN_PREFIX = "Bearer ";
+  static final String ACCESS_TOKEN_PREFIX = "Bearer ";
+
+  // alert senders that can only send basic credentials, such as WLDF REST actions, send the access token as the
+  // password; basic credentials are not accepted for the other paths
+  private static final String BASIC_CREDENTIALS_PREFIX = "Basic ";
+  private static final String ALERTS_PATH_SEGMENT = "alerts";
 
   private static LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -89,6 +98,13 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
         return t;
       }
     }
+    if (atz != null && atz.startsWith(BASIC_CREDENTIALS_PREFIX) && isAlertsPath(req)) {
+      String t = getPassword(atz.substring(BASIC_CREDENTIALS_PREFIX.length()));
+      if (t != null && t.length() > 0) {
+        LOGGER.exiting();
+        return t;
+      }
+    }
     String msg = formatMessage(req, MessageKeys.REST_AUTHENTICATION_MISSING_ACCESS_TOKEN);
     WebApplicationException e =
       new WebApplicationException(Response.status(Status.UNAUTHORIZED).entity(msg).build());
@@ -96,6 +112,26 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
     throw e;
   }
 
+  // the alerts path is /operator/{version}/alerts
+  private static boolean isAlertsPath(ContainerRequestContext req) {
+    List<PathSegment> segments = req.getUriInfo().getPathSegments();
+    int size = segments.size();
+    if (size > 0 && segments.get(size - 1).getPath().isEmpty()) {
+      size--; // trailing slash
+    }
+    return size == 3 && ALERTS_PATH_SEGMENT.equals(segments.get(2).getPath());
+  }
+
+  private static String getPassword(String credentials) {
+    try {
+      String decoded = new String(Base64.getDecoder().decode(credentials.trim()), StandardCharsets.UTF_8);
+      int colon = decoded.indexOf(':');
+      return colon >= 0 ? decoded.substring(colon + 1) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
   private String formatMessage(ContainerRequestContext req, String msgId) {
     return getResourceBundle(req.getLanguage()).getString(msgId);
   }
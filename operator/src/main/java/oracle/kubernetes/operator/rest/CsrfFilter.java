@@ -0,0 +1,46 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
+
+import oracle.kubernetes.operator.rest.resource.AlertsResource;
+
+/**
+ * CsrfFilter protects the WebLogic operator REST api against cross site request forgery
+ * by requiring the X-Requested-By header on requests that make changes.  Requests to the
+ * alert webhook that send JSON are exempt, since Prometheus Alertmanager and WLDF cannot send
+ * custom headers: a browser cannot send a cross-origin request with that content type without
+ * a CORS preflight, which the operator does not allow, so a forged request cannot send JSON.
+ */
+@Provider
+@Priority(FilterPriorities.CSRF_PROTECTION_FILTER_PRIORITY)
+public class CsrfFilter extends CsrfProtectionFilter {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void filter(ContainerRequestContext req) throws IOException {
+    List<Object> resources = req.getUriInfo().getMatchedResources();
+    if (!resources.isEmpty() && resources.get(0) instanceof AlertsResource && isJson(req)) {
+      return;
+    }
+    super.filter(req);
+  }
+
+  private static boolean isJson(ContainerRequestContext req) {
+    MediaType type = req.getMediaType();
+    return type != null && MediaType.APPLICATION_JSON_TYPE.getType().equalsIgnoreCase(type.getType())
+        && MediaType.APPLICATION_JSON_TYPE.getSubtype().equalsIgnoreCase(type.getSubtype());
+  }
+}
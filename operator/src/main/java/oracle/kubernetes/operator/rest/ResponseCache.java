@@ -0,0 +1,84 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.helpers.TtlCache;
+
+/**
+ * Bounded cache of the entities of REST resources, by resource and version, so that clients polling a resource
+ * that has not changed are answered without the entity being computed again.  Entities are cached for a short
+ * time only, as a resource may change in ways its version does not reflect.
+ */
+public class ResponseCache {
+  static final int MAX_SIZE = 1000;
+
+  private final TtlCache<String, Object> cache;
+  private final int ttlSeconds;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates the cache
+   * @param ttlSeconds Time an entity is cached, or 0 to not cache
+   */
+  public ResponseCache(int ttlSeconds) {
+    this(ttlSeconds, MAX_SIZE, System::nanoTime);
+  }
+
+  ResponseCache(int ttlSeconds, int maxSize, LongSupplier clock) {
+    this.cache = new TtlCache<>(maxSize, clock);
+    this.ttlSeconds = ttlSeconds;
+  }
+
+  /**
+   * Returns the cached entity of the resource at the version, or computes and caches it
+   * @param href Resource path
+   * @param version Version of the resource
+   * @param entity Computes the entity
+   * @return Entity
+   */
+  public Object get(String href, String version, Supplier<?> entity) {
+    String key = href + " " + version;
+    Object cached = cache.get(key);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    Object result = entity.get();
+    if (result != null) {
+      cache.put(key, result, ttlSeconds);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of entities answered from the cache
+   * @return Hit count
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of entities that were computed
+   * @return Miss count
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of cached entities, including entities that have expired but were not yet replaced
+   * @return Size
+   */
+  public long size() {
+    return cache.size();
+  }
+}
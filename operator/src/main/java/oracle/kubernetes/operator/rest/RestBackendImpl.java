@@ -4,9 +4,15 @@
 package oracle.kubernetes.operator.rest;
 
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1TokenReviewStatus;
 import io.kubernetes.client.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainStatusBroadcaster;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscriber;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscription;
 import oracle.kubernetes.operator.StartupControlConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
 import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainList;
@@ -17,10 +23,12 @@ import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.backend.ScaleRequest;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsRetriever;
 import oracle.kubernetes.operator.work.ContainerResolver;
@@ -33,12 +41,18 @@ import javax.ws.rs.core.Response.Status;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -46,6 +60,9 @@ import java.util.stream.Collectors;
  * RestBackendImpl implements the backend of the WebLogic operator REST api
  * by making calls to Kubernetes and WebLogic.  A separate instance is created
  * for each REST request since we need to hold some per-request state.
+ * When given the operator's domain presence map, domains and their WebLogic
+ * configuration are read from memory, and Kubernetes and WebLogic are only
+ * called for domains or clusters the operator does not know yet.
  */
 public class RestBackendImpl implements RestBackend {
 
@@ -53,10 +70,14 @@ public class RestBackendImpl implements RestBackend {
 
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
+  private static final ScaleCoalescer coalescer = new ScaleCoalescer();
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Map<String, DomainPresenceInfo> domainPresenceInfos;
+
+  private static final JSON json = new JSON();
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -68,10 +89,27 @@ public class RestBackendImpl implements RestBackend {
    * the WebLogic operator manages.
    */
   public RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
+    this(principal, accessToken, targetNamespaces, null);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   * @param principal is the name of the Kubernetes user to use when calling
+   * the Kubernetes REST api.
+   * @param accessToken is the access token of the Kubernetes service account of the client
+   * calling the WebLogic operator REST api.
+   * @param targetNamespaces a list of Kubernetes namepaces that contain domains that
+   * the WebLogic operator manages.
+   * @param domainPresenceInfos the operator's map from domain UID to the presence of the domain,
+   * or null to read the domains from Kubernetes.
+   */
+  public RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces,
+      Map<String, DomainPresenceInfo> domainPresenceInfos) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     userInfo = authenticate(accessToken);
     this.targetNamespaces = targetNamespaces;
+    this.domainPresenceInfos = domainPresenceInfos;
     LOGGER.exiting();
   }
 
@@ -122,15 +160,7 @@ public class RestBackendImpl implements RestBackend {
       throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
 
-    return getNamespace(domainUID, getDomainsList());
-  }
-
-  private String getNamespace(String domainUID, List<Domain> domains) {
-    if (domainUID == null) {
-      throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
-    }
-    Domain domain = findDomain(domainUID, domains);
-    return domain.getMetadata().getNamespace();
+    return findDomain(domainUID).getMetadata().getNamespace();
   }
 
   private V1UserInfo authenticate(String accessToken) {
@@ -178,6 +208,20 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private List<Domain> getDomainsList() {
+    if (domainPresenceInfos != null) {
+      List<Domain> result = new ArrayList<>();
+      for (DomainPresenceInfo info : domainPresenceInfos.values()) {
+        Domain domain = info.getDomain();
+        if (domain != null && targetNamespaces.contains(domain.getMetadata().getNamespace())) {
+          result.add(domain);
+        }
+      }
+      return result;
+    }
+    return listDomains();
+  }
+
+  private List<Domain> listDomains() {
     CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
     Collection<List<Domain>> c = new ArrayList<List<Domain>>();
     try {
@@ -194,6 +238,25 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDomainVersion(String domainUID) {
+    LOGGER.entering(domainUID);
+    authorize(domainUID, Operation.get);
+    String result = null;
+    // only the domains the operator manages have a scan, which is replaced along with its fingerprint
+    DomainPresenceInfo info = domainPresenceInfos != null ? domainPresenceInfos.get(domainUID) : null;
+    Domain domain = info != null ? info.getDomain() : null;
+    if (domain != null && domain.getMetadata().getResourceVersion() != null
+        && info.getScan() != null && info.getScanFingerprint() != null) {
+      result = domain.getMetadata().getResourceVersion() + "-" + info.getScanFingerprint();
+    }
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -220,10 +283,7 @@ public class RestBackendImpl implements RestBackend {
 
     // Get list of WLS Configured Clusters defined for the corresponding WLS Domain identified by Domain UID
     Domain domain = findDomain(domainUID);
-    String namespace = getNamespace(domainUID);
-    String adminServerServiceName = getAdminServerServiceName(domain);
-    String adminSecretName = getAdminServiceSecretName(domain);
-    Map<String, WlsClusterConfig> wlsClusterConfigs = getWLSConfiguredClusters(namespace, adminServerServiceName, adminSecretName);
+    Map<String, WlsClusterConfig> wlsClusterConfigs = getWlsDomainConfig(domain, false).getClusterConfigs();
     Set<String> result = wlsClusterConfigs.keySet();
     LOGGER.exiting(result);
     return result;
@@ -250,48 +310,147 @@ public class RestBackendImpl implements RestBackend {
    * {@inheritDoc}
    */
   @Override
-  public void scaleCluster(String domainUID, String cluster, int managedServerCount) {
-    LOGGER.entering(domainUID, cluster, managedServerCount);
+  public int getManagedServerCount(String domainUID, String cluster) {
+    LOGGER.entering(domainUID, cluster);
+    authorize(domainUID, cluster, Operation.get);
+    Domain domain = findDomain(domainUID);
+    ClusterStartup clusterStartup = getClusterStartup(domain, cluster);
+    Integer replicas = clusterStartup != null ? clusterStartup.getReplicas() : domain.getSpec().getReplicas();
+    int result = replicas != null ? replicas : 0;
+    LOGGER.exiting(result);
+    return result;
+  }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Integer> scaleCluster(String domainUID, String cluster, int managedServerCount,
+      String idempotencyKey, ScheduledExecutorService executor) {
+    LOGGER.entering(domainUID, cluster, managedServerCount, idempotencyKey);
     if (managedServerCount < 0) {
-      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, managedServerCount);
+      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT,
+          managedServerCount);
     }
-
+    // each request is authorized before it may be coalesced with the requests of other users
     authorize(domainUID, cluster, Operation.update);
 
-    List<Domain> domains = getDomainsList();
-    Domain domain = findDomain(domainUID, domains);
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    RestTuning rest = tuning != null ? tuning.getRestTuning() : null;
+    CompletableFuture<Integer> result = coalescer.scale(domainUID, cluster, managedServerCount, idempotencyKey,
+        rest != null ? rest.scaleCoalescingWindowMillis : 0, rest != null ? rest.scaleIdempotencyTtlSeconds : 0,
+        executor, count -> {
+          WebApplicationException e =
+              scaleClusters(Collections.singletonList(new ScaleRequest(domainUID, cluster, count))).get(0);
+          if (e != null) {
+            throw e;
+          }
+        });
+    LOGGER.exiting();
+    return result;
+  }
 
-    String namespace = getNamespace(domainUID, domains);
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Subscription subscribeDomainStatus(String domainUID, String lastEventId, Subscriber subscriber,
+      Executor executor) {
+    LOGGER.entering(domainUID, lastEventId);
+    authorize(domainUID, Operation.watch);
+    Subscription result = DomainStatusBroadcaster.getInstance().subscribe(domainUID, lastEventId, subscriber, executor);
+    LOGGER.exiting();
+    return result;
+  }
 
-    verifyWLSConfiguredClusterCapacity(namespace, domain, cluster, managedServerCount);
+  /**
+   * Returns the coalescer of the requests to scale a single cluster
+   * @return Scale coalescer
+   */
+  public static ScaleCoalescer getScaleCoalescer() {
+    return coalescer;
+  }
 
-    updateReplicasForDomain(namespace, domain, cluster, managedServerCount);
-    LOGGER.exiting();
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<WebApplicationException> scaleClusters(List<ScaleRequest> requests) {
+    LOGGER.entering(requests.size());
+    WebApplicationException[] failures = new WebApplicationException[requests.size()];
+    Map<String, List<Integer>> requestsByDomain = new LinkedHashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      ScaleRequest request = requests.get(i);
+      if (request.getDomainUID() == null || request.getCluster() == null) {
+        failures[i] = createWebApplicationException(Status.BAD_REQUEST, MessageKeys.SCALE_REQUEST_INCOMPLETE,
+            request.getDomainUID(), request.getCluster());
+      } else if (request.getManagedServerCount() < 0) {
+        failures[i] = createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT,
+            request.getManagedServerCount());
+      } else {
+        requestsByDomain.computeIfAbsent(request.getDomainUID(), k -> new ArrayList<>()).add(i);
+      }
+    }
+    for (Map.Entry<String, List<Integer>> entry : requestsByDomain.entrySet()) {
+      scaleClustersOfDomain(entry.getKey(), requests, entry.getValue(), failures);
+    }
+    List<WebApplicationException> result = Arrays.asList(failures);
+    LOGGER.exiting(result);
+    return result;
   }
 
-  private void updateReplicasForDomain(String namespace, Domain domain, String cluster, int managedServerCount) {
-    // Capacity of configured cluster is valid for scaling
-    // Set replicas value on corresponding ClusterStartup (if defined)
-    // or on the Domain level replicas value for cluster not defined in a ClusterStartup
+  private void scaleClustersOfDomain(String domainUID, List<ScaleRequest> requests, List<Integer> indexes,
+      WebApplicationException[] failures) {
+    try {
+      // access to the domain covers all of its clusters
+      authorize(domainUID, Operation.update);
+
+      Domain domain = findDomain(domainUID);
+      List<Integer> verified = new ArrayList<>();
+      for (int i : indexes) {
+        try {
+          verifyWLSConfiguredClusterCapacity(domain, requests.get(i).getCluster(),
+              requests.get(i).getManagedServerCount());
+          verified.add(i);
+        } catch (WebApplicationException e) {
+          failures[i] = e;
+        }
+      }
+
+      updateReplicasForDomain(domain.getMetadata().getNamespace(), copyOf(domain), requests, verified, failures,
+          domainPresenceInfos != null);
+    } catch (WebApplicationException e) {
+      reportDomainFailure(indexes, failures, e);
+    } catch (RuntimeException e) {
+      // the failure to scale one domain is reported in its results, and does not prevent scaling the others
+      LOGGER.warning(MessageKeys.SCALE_DOMAIN_FAILED, domainUID, e);
+      reportDomainFailure(indexes, failures, createWebApplicationException(Status.INTERNAL_SERVER_ERROR,
+          MessageKeys.SCALE_DOMAIN_FAILED, domainUID, e));
+    }
+  }
+
+  private static void reportDomainFailure(List<Integer> indexes, WebApplicationException[] failures,
+      WebApplicationException failure) {
+    for (int i : indexes) {
+      if (failures[i] == null) {
+        failures[i] = failure;
+      }
+    }
+  }
+
+  private void updateReplicasForDomain(String namespace, Domain domain, List<ScaleRequest> requests,
+      List<Integer> indexes, WebApplicationException[] failures, boolean retryOnConflict) {
+    // Capacity of configured clusters is valid for scaling; the replicas of all of the domain's
+    // clusters are set on the domain, which is then written once
     String domainUID = domain.getSpec().getDomainUID();
     boolean domainModified = false;
-    ClusterStartup clusterStartup = getClusterStartup(domain, cluster);
-    int currentReplicasCount = clusterStartup != null ? clusterStartup.getReplicas() : domain.getSpec().getReplicas();
-
-    if (managedServerCount != currentReplicasCount) {
-      if (clusterStartup != null) {
-        // set replica value on corresponding ClusterStartup
-        clusterStartup.setReplicas(managedServerCount);
-        domainModified = true;
-      } else if (StartupControlConstants.AUTO_STARTUPCONTROL.equals(domain.getSpec().getStartupControl())){
-        // set replica on Domain for cluster not defined in ClusterStartup
-        domain.getSpec().setReplicas(managedServerCount);
-        domainModified = true;
-      } else {
-        // WebLogic Cluster is not defined in ClusterStartup AND Startup Control is not spec'd as AUTO
-        // so scaling will not occur since Domain.spec.Replicas property will be ignored.
-        throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.SCALING_AUTO_CONTROL_AUTO, cluster);
+    List<Integer> applied = new ArrayList<>();
+    for (int i : indexes) {
+      try {
+        domainModified |= setReplicas(domain, requests.get(i).getCluster(), requests.get(i).getManagedServerCount());
+        applied.add(i);
+      } catch (WebApplicationException e) {
+        failures[i] = e;
       }
     }
 
@@ -302,18 +461,57 @@ public class RestBackendImpl implements RestBackend {
         // TODO: Can we patch instead of replace?
         factory.create().replaceDomain(domainUID, namespace, domain);
       } catch (ApiException e) {
+        if (e.getCode() == CallBuilder.CONFLICT && retryOnConflict) {
+          // the domain in memory is older than the domain in Kubernetes; scale the latest domain
+          updateReplicasForDomain(namespace, findDomain(domainUID, listDomains()), requests, applied, failures, false);
+          return;
+        }
         LOGGER.finer("Unexpected exception when updating Domain " + domainUID + " in namespace " + namespace, e);
-        throw new WebApplicationException(e.getMessage());
+        WebApplicationException failure = new WebApplicationException(e.getMessage());
+        for (int i : applied) {
+          failures[i] = failure;
+        }
       }
     }
   }
 
-  private void verifyWLSConfiguredClusterCapacity(String namespace, Domain domain, String cluster, int managedServerCount) {
-    // Query WebLogic Admin Server for current configured WebLogic Cluster size
+  // returns true if the replicas of the cluster were changed
+  private boolean setReplicas(Domain domain, String cluster, int managedServerCount) {
+    // Set replicas value on corresponding ClusterStartup (if defined)
+    // or on the Domain level replicas value for cluster not defined in a ClusterStartup
+    ClusterStartup clusterStartup = getClusterStartup(domain, cluster);
+    int currentReplicasCount = clusterStartup != null ? clusterStartup.getReplicas() : domain.getSpec().getReplicas();
+
+    if (managedServerCount == currentReplicasCount) {
+      return false;
+    }
+    if (clusterStartup != null) {
+      // set replica value on corresponding ClusterStartup
+      clusterStartup.setReplicas(managedServerCount);
+      return true;
+    }
+    if (StartupControlConstants.AUTO_STARTUPCONTROL.equals(domain.getSpec().getStartupControl())) {
+      // set replica on Domain for cluster not defined in ClusterStartup
+      domain.getSpec().setReplicas(managedServerCount);
+      return true;
+    }
+    // WebLogic Cluster is not defined in ClusterStartup AND Startup Control is not spec'd as AUTO
+    // so scaling will not occur since Domain.spec.Replicas property will be ignored.
+    throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.SCALING_AUTO_CONTROL_AUTO, cluster);
+  }
+
+  private void verifyWLSConfiguredClusterCapacity(Domain domain, String cluster, int managedServerCount) {
+    // Use the WebLogic configuration the operator last read or, if the operator has not read the cluster's
+    // configuration, query WebLogic Admin Server for current configured WebLogic Cluster size
     // and verify we have enough configured managed servers to auto-scale
-    String adminServerServiceName = getAdminServerServiceName(domain);
-    String adminSecretName = getAdminServiceSecretName(domain);
-    WlsClusterConfig wlsClusterConfig = getWlsClusterConfig(namespace, cluster, adminServerServiceName, adminSecretName);
+    WlsClusterConfig wlsClusterConfig = getWlsDomainConfig(domain, false).getClusterConfig(cluster);
+    if (wlsClusterConfig == null) {
+      wlsClusterConfig = getWlsDomainConfig(domain, true).getClusterConfig(cluster);
+    }
+    if (wlsClusterConfig == null) {
+      throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_CLUSTER_NOT_FOUND, cluster,
+          domain.getSpec().getDomainUID());
+    }
 
     // Verify the current configured cluster size
     int clusterSize = wlsClusterConfig.getClusterSize();
@@ -341,21 +539,36 @@ public class RestBackendImpl implements RestBackend {
     return null;
   }
 
-  private WlsClusterConfig getWlsClusterConfig(String namespace, String cluster, String adminServerServiceName, String adminSecretName) {
-    WlsRetriever wlsConfigRetriever = WlsRetriever.create(namespace, adminServerServiceName, adminSecretName);
-    WlsDomainConfig wlsDomainConfig = wlsConfigRetriever.readConfig();
-    return wlsDomainConfig.getClusterConfig(cluster);
+  private WlsDomainConfig getWlsDomainConfig(Domain domain, boolean refresh) {
+    if (!refresh && domainPresenceInfos != null) {
+      DomainPresenceInfo info = domainPresenceInfos.get(domain.getSpec().getDomainUID());
+      WlsDomainConfig scan = info != null ? info.getScan() : null;
+      if (scan != null) {
+        return scan;
+      }
+    }
+    String namespace = domain.getMetadata().getNamespace();
+    WlsRetriever wlsConfigRetriever = WlsRetriever.create(namespace, getAdminServerServiceName(domain),
+        getAdminServiceSecretName(domain));
+    return wlsConfigRetriever.readConfig();
   }
 
-  private Map<String, WlsClusterConfig> getWLSConfiguredClusters(String namespace, String adminServerServiceName,  String adminSecretName) {
-    WlsRetriever wlsConfigRetriever = WlsRetriever.create(namespace, adminServerServiceName, adminSecretName);
-    WlsDomainConfig wlsDomainConfig = wlsConfigRetriever.readConfig();
-    return wlsDomainConfig.getClusterConfigs();
+  private Domain findDomain(String domainUID) {
+    if (domainPresenceInfos != null) {
+      DomainPresenceInfo info = domainPresenceInfos.get(domainUID);
+      Domain domain = info != null ? info.getDomain() : null;
+      if (domain != null && targetNamespaces.contains(domain.getMetadata().getNamespace())) {
+        return domain;
+      }
+      // the operator may not have seen the domain yet
+      return findDomain(domainUID, listDomains());
+    }
+    return findDomain(domainUID, getDomainsList());
   }
 
-  private Domain findDomain(String domainUID) {
-    List<Domain> domains = getDomainsList();
-    return findDomain(domainUID, domains);
+  // the operator compares the domain in memory with the changed domain, so it must not be changed here
+  private static Domain copyOf(Domain domain) {
+    return json.deserialize(json.serialize(domain), Domain.class);
   }
 
   private Domain findDomain(String domainUID, List<Domain> domains) {
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.rest;
 
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
@@ -11,6 +12,7 @@ import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * RestConfigImpl provides the WebLogic Operator REST api configuration.
@@ -21,6 +23,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Map<String, DomainPresenceInfo> domains;
 
   /**
    * Constructs a RestConfigImpl.
@@ -29,9 +32,22 @@ public class RestConfigImpl implements RestConfig {
    * @param targetNamespaces is a list of the Kubernetes Namespaces covered by this Operator.
    */
   public RestConfigImpl(String principal, Collection<String> targetNamespaces) {
+    this(principal, targetNamespaces, null);
+  }
+
+  /**
+   * Constructs a RestConfigImpl.
+   * @param principal is the name of the Kubernetes User or Service Account to use when calling
+   * the Kubernetes REST API.
+   * @param targetNamespaces is a list of the Kubernetes Namespaces covered by this Operator.
+   * @param domains is the Operator's map from domain UID to the presence of the domain, from which
+   * the REST api reads domains and their WebLogic configuration instead of calling Kubernetes and WebLogic.
+   */
+  public RestConfigImpl(String principal, Collection<String> targetNamespaces, Map<String, DomainPresenceInfo> domains) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     this.targetNamespaces = targetNamespaces;
+    this.domains = domains;
     LOGGER.exiting();
   }
 
@@ -129,7 +145,7 @@ public class RestConfigImpl implements RestConfig {
   @Override
   public RestBackend getBackend(String accessToken) {
     LOGGER.entering();
-    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces);
+    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces, domains);
     LOGGER.exiting();
     return result;
   }
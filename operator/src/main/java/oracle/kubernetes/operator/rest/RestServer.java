@@ -6,10 +6,14 @@ package oracle.kubernetes.operator.rest;
 import org.apache.commons.codec.binary.Base64;
 
 import io.kubernetes.client.util.SSLUtils;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Engine;
 
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.http.server.NetworkListener;
@@ -19,7 +23,6 @@ import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
-import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
@@ -32,6 +35,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -57,6 +61,34 @@ import java.util.concurrent.ThreadFactory;
 public class RestServer {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int CORE_POOL_SIZE = 3;
+  private static final int REQUEST_THREADS = 10;
+  private static final int REQUEST_TIMEOUT_SECONDS = 60;
+  private static final int RESPONSE_CACHE_TTL_SECONDS = 5;
+  private static final int STREAM_THREADS = 2;
+
+  /**
+   * This constant is used internally to pass the {@link Engine} whose fibers complete asynchronous
+   * requests from the RestServer to the resources.
+   */
+  public static final String REQUEST_ENGINE_PROPERTY = "RequestEngine";
+
+  /**
+   * This constant is used internally to pass the time, in seconds, that an asynchronous request may take
+   * from the RestServer to the resources.
+   */
+  public static final String REQUEST_TIMEOUT_PROPERTY = "RequestTimeoutSeconds";
+
+  /**
+   * This constant is used internally to pass the {@link ResponseCache} of the entities of
+   * conditional requests from the RestServer to the resources.
+   */
+  public static final String RESPONSE_CACHE_PROPERTY = "ResponseCache";
+
+  /**
+   * This constant is used internally to pass the executor that writes the events of the domain status
+   * streams from the RestServer to the resources.
+   */
+  public static final String STREAM_EXECUTOR_PROPERTY = "StreamExecutor";
 
   private RestConfig config;
 
@@ -66,6 +98,10 @@ public class RestServer {
 
   HttpServer externalHttpsServer;
   HttpServer internalHttpsServer;
+  private Engine requestEngine;
+  private ScheduledExecutorService streamExecutor;
+  private ResponseCache responseCache;
+  private RestTuning tuning;
 
   private static final String SSL_PROTOCOL = "TLSv1.2";
   private static final String[] SSL_PROTOCOLS = { SSL_PROTOCOL }; // ONLY support TLSv1.2 (by default, we would get TLSv1 and TLSv1.1 too)
@@ -121,6 +157,19 @@ public class RestServer {
     }
     boolean fullyStarted = false;
     try {
+      TuningParameters tuningParameters = container.getSPI(TuningParameters.class);
+      tuning = tuningParameters != null ? tuningParameters.getRestTuning() : null;
+      // requests are completed by fibers of their own engine, so that requests waiting for Kubernetes
+      // or WebLogic neither hold the server's worker threads nor delay the operator's own fibers
+      requestEngine = new Engine(Engine.wrappedExecutorService("rest", container,
+          tuning != null ? tuning.restRequestThreads : REQUEST_THREADS));
+      responseCache = new ResponseCache(
+          tuning != null ? tuning.restResponseCacheTtlSeconds : RESPONSE_CACHE_TTL_SECONDS);
+      requestEngine.registerMetrics("rest");
+      // status streams are written by their own threads, so that slow clients do not hold the request threads
+      streamExecutor = Engine.wrappedExecutorService("stream", container, STREAM_THREADS);
+      MetricsRegistry.getInstance().registerCache("response", responseCache::getHitCount, responseCache::getMissCount);
+
       if (isExternalSSLConfigured()) {
         externalHttpsServer = createExternalHttpsServer(container);
         LOGGER.info("Started the external ssl REST server on " + getExternalHttpsUri() + "/operator"); // TBD .fine ?
@@ -164,6 +213,14 @@ public class RestServer {
       internalHttpsServer = null;
       LOGGER.info("Stopped the internal ssl REST server"); // TBD .fine ?
     }
+    if (requestEngine != null) {
+      requestEngine.getExecutor().shutdownNow();
+      requestEngine = null;
+    }
+    if (streamExecutor != null) {
+      streamExecutor.shutdownNow();
+      streamExecutor = null;
+    }
     LOGGER.exiting();
   }
 
@@ -218,16 +275,22 @@ public class RestServer {
     // We discovered the default thread pool configuration was generating hundreds of 
     // threads.  Tune it down to something more modest.  Note: these are core
     // pool sizes, so they can still grow if there is sufficient load.
+    int workerThreads = tuning != null ? tuning.restWorkerThreads : CORE_POOL_SIZE;
+    int selectorThreads = tuning != null ? tuning.restSelectorThreads : CORE_POOL_SIZE;
     Collection<NetworkListener> nlc = h.getListeners();
     if (nlc != null) {
       for (NetworkListener nl : nlc) {
+        if (tuning != null) {
+          nl.getKeepAlive().setMaxRequestsCount(tuning.restKeepAliveMaxRequests);
+          nl.getKeepAlive().setIdleTimeoutInSeconds(tuning.restKeepAliveIdleTimeoutSeconds);
+        }
         TCPNIOTransport transport = nl.getTransport();
         ThreadPoolConfig t = transport.getWorkerThreadPoolConfig();
         if (t == null) {
           t = ThreadPoolConfig.defaultConfig();
           transport.setWorkerThreadPoolConfig(t);
         }
-        t.setCorePoolSize(CORE_POOL_SIZE);
+        t.setCorePoolSize(workerThreads);
         ThreadFactory x = t.getThreadFactory();
         ThreadFactory tf = x != null ? x : Executors.defaultThreadFactory();
         t.setThreadFactory((r) -> {
@@ -246,7 +309,7 @@ public class RestServer {
           t = ThreadPoolConfig.defaultConfig();
           transport.setKernelThreadPoolConfig(t);
         }
-        t.setCorePoolSize(CORE_POOL_SIZE);
+        t.setCorePoolSize(selectorThreads);
         x = t.getThreadFactory();
         ThreadFactory tf2 = x != null ? x : Executors.defaultThreadFactory();
         t.setThreadFactory((r) -> {
@@ -259,7 +322,7 @@ public class RestServer {
           }
           return n;
         });
-        transport.setSelectorRunnersCount(CORE_POOL_SIZE);
+        transport.setSelectorRunnersCount(selectorThreads);
       }
     }
     
@@ -274,7 +337,7 @@ public class RestServer {
     ResourceConfig rc =
         new ResourceConfig()
             .register(JacksonFeature.class)
-            .register(CsrfProtectionFilter.class)
+            .register(CsrfFilter.class)
             .register(ErrorFilter.class)
             .register(AuthenticationFilter.class)
             .register(RequestDebugLoggingFilter.class)
@@ -286,6 +349,10 @@ public class RestServer {
     // attach the rest backend impl to the resource config
     // so that the resource impls can find it
     extraProps.put(RestConfig.REST_CONFIG_PROPERTY, config);
+    extraProps.put(REQUEST_ENGINE_PROPERTY, requestEngine);
+    extraProps.put(REQUEST_TIMEOUT_PROPERTY, tuning != null ? tuning.restRequestTimeoutSeconds : REQUEST_TIMEOUT_SECONDS);
+    extraProps.put(RESPONSE_CACHE_PROPERTY, responseCache);
+    extraProps.put(STREAM_EXECUTOR_PROPERTY, streamExecutor);
     rc.addProperties(extraProps);
 
     LOGGER.exiting();
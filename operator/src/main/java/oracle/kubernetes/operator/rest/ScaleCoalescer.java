@@ -0,0 +1,194 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.helpers.TtlCache;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Coalesces requests to scale the same WebLogic cluster that arrive close together, such as the scaling actions
+ * of a WLDF alert that fires repeatedly, so that the domain is written and reconciled at most once per coalescing
+ * window.  A request for a cluster that has no request in its window is applied right away, and opens the window;
+ * the requests that arrive within the window wait for its end, when the target requested last is applied and every
+ * one of them completes with it.  No thread waits for the window: its end is scheduled with the executor of the
+ * REST server's request engine.  A request may carry an idempotency key, in which case a retry of the request
+ * after it completed returns the recorded target without scaling again.
+ */
+public class ScaleCoalescer {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int MAX_COMPLETED = 1000;
+
+  private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+  private final TtlCache<String, Integer> completed;
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong replayed = new AtomicLong();
+
+  public ScaleCoalescer() {
+    this(MAX_COMPLETED, System::nanoTime);
+  }
+
+  ScaleCoalescer(int maxCompleted, LongSupplier clock) {
+    this.completed = new TtlCache<>(maxCompleted, clock);
+  }
+
+  /**
+   * Scales the cluster to the requested number of managed servers or, if the request arrives within the
+   * coalescing window of an earlier request for the cluster, to the number requested last in the window
+   * @param domainUID Domain UID
+   * @param cluster Cluster name
+   * @param managedServerCount Requested number of managed servers
+   * @param idempotencyKey Identifies retries of the request, or null
+   * @param windowMillis Time after a request is applied during which later requests are coalesced, or 0 to not
+   * coalesce requests
+   * @param idempotencyTtlSeconds Time the target of a request with an idempotency key is recorded
+   * @param executor Applies the requests that arrived within a window once it ends, or null to not coalesce requests
+   * @param scale Scales the cluster to the given number of managed servers
+   * @return Completes with the number of managed servers the cluster was scaled to, or with the failure to scale it
+   */
+  public CompletableFuture<Integer> scale(String domainUID, String cluster, int managedServerCount,
+      String idempotencyKey, long windowMillis, int idempotencyTtlSeconds, ScheduledExecutorService executor,
+      IntConsumer scale) {
+    String clusterKey = domainUID + "/" + cluster;
+    String completedKey = idempotencyKey != null ? clusterKey + "/" + idempotencyKey : null;
+    if (completedKey != null) {
+      Integer target = completed.get(completedKey);
+      if (target != null) {
+        replayed.incrementAndGet();
+        LOGGER.fine(MessageKeys.SCALE_REQUEST_REPLAYED, domainUID, cluster, idempotencyKey, target);
+        return CompletableFuture.completedFuture(target);
+      }
+    }
+
+    CompletableFuture<Integer> result;
+    if (windowMillis > 0 && executor != null) {
+      result = coalesce(clusterKey, managedServerCount, windowMillis, executor, scale);
+    } else {
+      result = new CompletableFuture<>();
+      apply(managedServerCount, scale, result);
+    }
+    return result.whenComplete((target, throwable) -> {
+      if (throwable != null) {
+        return;
+      }
+      if (target != managedServerCount) {
+        LOGGER.fine(MessageKeys.SCALE_REQUEST_COALESCED, domainUID, cluster, managedServerCount, target);
+      }
+      if (completedKey != null && idempotencyTtlSeconds > 0) {
+        completed.put(completedKey, target, idempotencyTtlSeconds);
+      }
+    });
+  }
+
+  private CompletableFuture<Integer> coalesce(String clusterKey, int managedServerCount, long windowMillis,
+      ScheduledExecutorService executor, IntConsumer scale) {
+    Window created = new Window();
+    while (true) {
+      Window window = windows.putIfAbsent(clusterKey, created);
+      if (window == null) {
+        // nothing is pending for the cluster, so the request is not delayed
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        apply(managedServerCount, scale, result);
+        scheduleEnd(clusterKey, created, windowMillis, executor, scale);
+        return result;
+      }
+      CompletableFuture<Integer> result = window.offer(managedServerCount);
+      if (result != null) {
+        coalesced.incrementAndGet();
+        return result;
+      }
+    }
+  }
+
+  private void scheduleEnd(String clusterKey, Window window, long windowMillis, ScheduledExecutorService executor,
+      IntConsumer scale) {
+    executor.schedule(() -> endWindow(clusterKey, window, windowMillis, executor, scale),
+        windowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void endWindow(String clusterKey, Window window, long windowMillis, ScheduledExecutorService executor,
+      IntConsumer scale) {
+    Batch batch = window.take();
+    if (batch == null) {
+      // requests that arrive from now on are applied right away
+      windows.remove(clusterKey, window);
+      return;
+    }
+    apply(batch.target, scale, batch.result);
+    // the requests that arrive while the batch is applied, or after it, wait for the next window
+    scheduleEnd(clusterKey, window, windowMillis, executor, scale);
+  }
+
+  private static void apply(int target, IntConsumer scale, CompletableFuture<Integer> result) {
+    try {
+      scale.accept(target);
+      result.complete(target);
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  // returns true if requests to scale the cluster are coalesced
+  boolean isPending(String domainUID, String cluster) {
+    return windows.containsKey(domainUID + "/" + cluster);
+  }
+
+  /**
+   * Returns the number of requests that were coalesced with an earlier request for the same cluster
+   * @return Coalesced count
+   */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+
+  /**
+   * Returns the number of requests answered with the recorded target of an earlier request with the same
+   * idempotency key
+   * @return Replayed count
+   */
+  public long getReplayedCount() {
+    return replayed.get();
+  }
+
+  // the coalescing window of a cluster, and the requests that arrived within it
+  private static class Window {
+    private Batch batch;
+    private boolean closed;
+
+    synchronized CompletableFuture<Integer> offer(int target) {
+      if (closed) {
+        return null;
+      }
+      if (batch == null) {
+        batch = new Batch();
+      }
+      batch.target = target;
+      return batch.result;
+    }
+
+    // returns the requests that arrived within the window or, if there are none, closes the window
+    synchronized Batch take() {
+      Batch taken = batch;
+      batch = null;
+      closed = taken == null;
+      return taken;
+    }
+  }
+
+  private static class Batch {
+    private final CompletableFuture<Integer> result = new CompletableFuture<>();
+    private int target;
+  }
+}
@@ -3,7 +3,16 @@
 
 package oracle.kubernetes.operator.rest.backend;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.ws.rs.WebApplicationException;
+
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscriber;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscription;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources
@@ -19,6 +28,19 @@ public interface RestBackend {
    */
   public Set<String> getDomainUIDs();
 
+  /**
+   * Get the version of what the WebLogic operator knows about a WebLogic domain: its
+   * Kubernetes resource and its WebLogic configuration.  The version changes whenever
+   * either of them changes.
+   * @param domainUID - the unique identifier assigned to the Weblogic domain
+   * when it was registered with the WebLogic operator.  The caller is responsible
+   * for calling isDomainUID first and not calling this method if the domain has not
+   * been registered.
+   * @return the version, or null if the operator has not read the domain's WebLogic
+   * configuration.
+   */
+  public String getDomainVersion(String domainUID);
+
   /**
    * Determines whether or not a WebLogic domain has been registered with the
    * WebLogic operator.
@@ -48,6 +70,22 @@ public interface RestBackend {
    */
   public boolean isCluster(String domainUID, String cluster);
 
+  /**
+   * Gets the number of managed servers a WebLogic cluster is configured to run.
+   * It is read from the domain as last seen by the WebLogic operator, so that it
+   * can be used to scale the cluster relative to its current size without a
+   * round trip to Kubernetes.
+   * @param domainUID - the unique identifier assigned to the Weblogic domain
+   * when it was registered with the WebLogic operator.  The caller is responsible
+   * for calling isDomainUID first and not calling this method if the domain has not
+   * been registered.
+   * @param cluster - the name of the cluster in the WebLogic domain.  The
+   * caller is responsible for calling isCluster first and not calling this method
+   * if the cluster does not exist.
+   * @return the configured number of managed servers.
+   */
+  public int getManagedServerCount(String domainUID, String cluster);
+
   /**
    * Scales the number of managed servers in a WebLogic cluster.
    * This method configures the desired number of managed servers, both at the
@@ -61,6 +99,42 @@ public interface RestBackend {
    * caller is responsible for calling isCluster first and not calling this method
    * if the cluster does not exist.
    * @param managedServerCount - the desired number of WebLogic managed servers.
+   * @param idempotencyKey - identifies retries of the same request, which are not applied
+   * again, or null.
+   * @param executor - applies the requests to scale the cluster that are coalesced with
+   * earlier requests, once the coalescing window ends, or null to not coalesce requests.
+   * @return completes with the number of managed servers the cluster was scaled to, or
+   * with the WebApplicationException that scaling the cluster failed with.  Requests to
+   * scale the same cluster that arrive close together are coalesced, and the number
+   * requested last is applied.
+   */
+  public CompletableFuture<Integer> scaleCluster(String domainUID, String cluster, int managedServerCount,
+      String idempotencyKey, ScheduledExecutorService executor);
+
+  /**
+   * Scales the number of managed servers in several WebLogic clusters, possibly of
+   * several WebLogic domains.  Each domain is updated once for all of its clusters,
+   * and a request that fails does not prevent the others from being made.
+   * Unlike scaleCluster, the domains and clusters need not have been checked.
+   * @param requests - the clusters to scale and their desired number of managed servers.
+   * @return the failure of each request, in request order, or null for a request that succeeded.
+   */
+  public List<WebApplicationException> scaleClusters(List<ScaleRequest> requests);
+
+  /**
+   * Follows the status of a WebLogic domain.  The subscriber first receives the
+   * current status, then the changes to it, until the subscription is cancelled
+   * or the domain is no longer present.
+   * @param domainUID - the unique identifier assigned to the Weblogic domain
+   * when it was registered with the WebLogic operator.  The caller is responsible
+   * for calling isDomainUID first and not calling this method if the domain has not
+   * been registered.
+   * @param lastEventId - the id of the last event the client received, to resume
+   * after it, or null.
+   * @param subscriber - receives the status events.
+   * @param executor - delivers the status events to the subscriber.
+   * @return the subscription, to be cancelled once the client is gone.
    */
-  public void scaleCluster(String domainUID, String cluster, int managedServerCount);
+  public Subscription subscribeDomainStatus(String domainUID, String lastEventId, Subscriber subscriber,
+      Executor executor);
 }
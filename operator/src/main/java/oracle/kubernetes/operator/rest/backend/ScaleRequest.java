@@ -0,0 +1,38 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.backend;
+
+/**
+ * ScaleRequest identifies a WebLogic cluster to scale and its desired number of managed servers.
+ */
+public class ScaleRequest {
+
+  private final String domainUID;
+  private final String cluster;
+  private final int managedServerCount;
+
+  /**
+   * Construct a ScaleRequest.
+   * @param domainUID - the unique identifier assigned to the WebLogic domain.
+   * @param cluster - the name of the cluster in the WebLogic domain.
+   * @param managedServerCount - the desired number of WebLogic managed servers.
+   */
+  public ScaleRequest(String domainUID, String cluster, int managedServerCount) {
+    this.domainUID = domainUID;
+    this.cluster = cluster;
+    this.managedServerCount = managedServerCount;
+  }
+
+  public String getDomainUID() {
+    return domainUID;
+  }
+
+  public String getCluster() {
+    return cluster;
+  }
+
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+}
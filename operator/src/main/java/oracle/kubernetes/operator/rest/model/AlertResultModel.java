@@ -0,0 +1,190 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * AlertResultModel describes the outcome of handling one alert posted to the alert webhook.
+ */
+public class AlertResultModel extends ItemModel {
+
+  /**
+   * The cluster was scaled.
+   */
+  public static final String SCALED = "scaled";
+
+  /**
+   * The cluster was not scaled since it already has the minimum or maximum number of managed servers.
+   */
+  public static final String UNCHANGED = "unchanged";
+
+  /**
+   * The cluster was not scaled since an alert scaled it within the cooldown period.
+   */
+  public static final String COOLDOWN = "cooldown";
+
+  /**
+   * The alert was not acted upon since it is resolved.
+   */
+  public static final String IGNORED = "ignored";
+
+  /**
+   * The alert could not be acted upon.
+   */
+  public static final String FAILED = "failed";
+
+  /**
+   * Construct an empty AlertResultModel.
+   */
+  public AlertResultModel() {
+  }
+
+  /**
+   * Construct a populated AlertResultModel.
+   * @param alert - the alert's name, or null.
+   * @param domainUID - the unique identifier of the WebLogic domain named by the alert.
+   * @param cluster - the cluster named by the alert.
+   * @param action - the scaling action named by the alert.
+   * @param outcome - the outcome of handling the alert.
+   * @param managedServerCount - the number of managed servers in the cluster after handling the alert.
+   * @param message - the reason the alert could not be acted upon, or null.
+   */
+  public AlertResultModel(String alert, String domainUID, String cluster, String action, String outcome,
+      int managedServerCount, String message) {
+    setAlert(alert);
+    setDomainUID(domainUID);
+    setCluster(cluster);
+    setAction(action);
+    setOutcome(outcome);
+    setManagedServerCount(managedServerCount);
+    setMessage(message);
+  }
+
+  private String alert;
+  private String domainUID;
+  private String cluster;
+  private String action;
+  private String outcome;
+  private int managedServerCount;
+  private String message;
+
+  /**
+   * Get the alert's name.
+   * @return the alert's name, or null.
+   */
+  public String getAlert() {
+    return alert;
+  }
+
+  /**
+   * Set the alert's name.
+   * @param alert - the alert's name, or null.
+   */
+  public void setAlert(String alert) {
+    this.alert = alert;
+  }
+
+  /**
+   * Get the unique identifier of the WebLogic domain named by the alert.
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUID() {
+    return domainUID;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain named by the alert.
+   * @param domainUID - the domain's unique identifier.
+   */
+  public void setDomainUID(String domainUID) {
+    this.domainUID = domainUID;
+  }
+
+  /**
+   * Get the name of the cluster named by the alert.
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the name of the cluster named by the alert.
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the scaling action named by the alert: scaleUp or scaleDown.
+   * @return the scaling action.
+   */
+  public String getAction() {
+    return action;
+  }
+
+  /**
+   * Set the scaling action named by the alert.
+   * @param action - the scaling action.
+   */
+  public void setAction(String action) {
+    this.action = action;
+  }
+
+  /**
+   * Get the outcome of handling the alert: scaled, unchanged, cooldown, ignored or failed.
+   * @return the outcome.
+   */
+  public String getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Set the outcome of handling the alert.
+   * @param outcome - the outcome.
+   */
+  public void setOutcome(String outcome) {
+    this.outcome = outcome;
+  }
+
+  /**
+   * Get the number of managed servers in the cluster after handling the alert.
+   * @return the number of managed servers, or 0 if the alert failed or was ignored.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the number of managed servers in the cluster after handling the alert.
+   * @param managedServerCount - the number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  /**
+   * Get the reason the alert could not be acted upon.
+   * @return the reason, or null.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Set the reason the alert could not be acted upon.
+   * @param message - the reason, or null.
+   */
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "alert=" + getAlert() + ", domainUID=" + getDomainUID() + ", cluster=" + getCluster()
+        + ", action=" + getAction() + ", outcome=" + getOutcome()
+        + ", managedServerCount=" + getManagedServerCount() + ", message=" + getMessage()
+        + ", " + super.propertiesToString();
+  }
+}
@@ -0,0 +1,48 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleClusterResultModel describes the outcome of the WebLogic cluster scaling operation.
+ */
+public class ScaleClusterResultModel extends BaseModel {
+
+  /**
+   * Construct an empty ScaleClusterResultModel.
+   */
+  public ScaleClusterResultModel() {
+  }
+
+  /**
+   * Construct a populated ScaleClusterResultModel.
+   * @param managedServerCount - the number of managed servers the cluster was scaled to.
+   */
+  public ScaleClusterResultModel(int managedServerCount) {
+    setManagedServerCount(managedServerCount);
+  }
+
+  private int managedServerCount;
+
+  /**
+   * Get the number of managed servers the cluster was scaled to.  It differs from the
+   * requested number if the request was coalesced with a later request to scale the cluster.
+   * @return the number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the number of managed servers the cluster was scaled to.
+   * @param managedServerCount - the number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "managedServerCount=" + getManagedServerCount(); // super has no properties
+  }
+}
@@ -0,0 +1,86 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleItemModel describes one WebLogic cluster to scale in a bulk scaling operation.
+ */
+public class ScaleItemModel extends BaseModel {
+
+  /**
+   * Construct an empty ScaleItemModel.
+   */
+  public ScaleItemModel() {
+  }
+
+  /**
+   * Construct a populated ScaleItemModel.
+   * @param domainUID - the unique identifier assigned to the WebLogic domain that contains the cluster.
+   * @param cluster - the cluster's name.
+   * @param managedServerCount - the desired number of managed servers.
+   */
+  public ScaleItemModel(String domainUID, String cluster, int managedServerCount) {
+    setDomainUID(domainUID);
+    setCluster(cluster);
+    setManagedServerCount(managedServerCount);
+  }
+
+  private String domainUID;
+  private String cluster;
+  private int managedServerCount;
+
+  /**
+   * Get the unique identifier of the WebLogic domain that contains the cluster.
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUID() {
+    return domainUID;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain that contains the cluster.
+   * @param domainUID - the domain's unique identifier.
+   */
+  public void setDomainUID(String domainUID) {
+    this.domainUID = domainUID;
+  }
+
+  /**
+   * Get the cluster's name.
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the cluster's name.
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the desired number of managed servers in the WebLogic cluster.
+   * @return the desired number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the desired number of managed servers in the WebLogic cluster.
+   * @param managedServerCount - the desired number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "domainUID=" + getDomainUID() + ", cluster=" + getCluster()
+        + ", managedServerCount=" + getManagedServerCount(); // super has no properties
+  }
+}
@@ -0,0 +1,44 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ScaleParamsModel describes the input parameters to the bulk WebLogic cluster scaling operation.
+ */
+public class ScaleParamsModel extends BaseModel {
+
+  private List<ScaleItemModel> items = new ArrayList<ScaleItemModel>();
+
+  /**
+   * Get the clusters to scale.
+   * @return a List of clusters and their desired number of managed servers.
+   */
+  public List<ScaleItemModel> getItems() {
+    return items;
+  }
+
+  /**
+   * Set the clusters to scale.
+   * @param items - a List of clusters and their desired number of managed servers.
+   */
+  public void setItems(List<ScaleItemModel> items) {
+    this.items = items;
+  }
+
+  /**
+   * Add a cluster to scale.
+   * @param item - the cluster and its desired number of managed servers.
+   */
+  public void addItem(ScaleItemModel item) {
+    items.add(item);
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "items=" + getItems(); // super has no properties
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleResultModel describes the outcome of scaling one WebLogic cluster in a bulk scaling operation.
+ */
+public class ScaleResultModel extends ItemModel {
+
+  /**
+   * Construct an empty ScaleResultModel.
+   */
+  public ScaleResultModel() {
+  }
+
+  /**
+   * Construct a populated ScaleResultModel.
+   * @param item - the cluster that was to be scaled.
+   * @param status - the http status code of scaling the cluster.
+   * @param message - the reason scaling the cluster failed, or null.
+   */
+  public ScaleResultModel(ScaleItemModel item, int status, String message) {
+    setDomainUID(item.getDomainUID());
+    setCluster(item.getCluster());
+    setManagedServerCount(item.getManagedServerCount());
+    setStatus(status);
+    setMessage(message);
+  }
+
+  private String domainUID;
+  private String cluster;
+  private int managedServerCount;
+  private int status;
+  private String message;
+
+  /**
+   * Get the unique identifier of the WebLogic domain that contains the cluster.
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUID() {
+    return domainUID;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain that contains the cluster.
+   * @param domainUID - the domain's unique identifier.
+   */
+  public void setDomainUID(String domainUID) {
+    this.domainUID = domainUID;
+  }
+
+  /**
+   * Get the cluster's name.
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the cluster's name.
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the requested number of managed servers in the WebLogic cluster.
+   * @return the requested number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the requested number of managed servers in the WebLogic cluster.
+   * @param managedServerCount - the requested number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  /**
+   * Get the http status code of scaling the cluster: 204 if the cluster was scaled,
+   * otherwise the status the single cluster scaling operation would have returned.
+   * @return the status code.
+   */
+  public int getStatus() {
+    return status;
+  }
+
+  /**
+   * Set the http status code of scaling the cluster.
+   * @param status - the status code.
+   */
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  /**
+   * Get the reason scaling the cluster failed.
+   * @return the reason, or null if the cluster was scaled.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Set the reason scaling the cluster failed.
+   * @param message - the reason, or null if the cluster was scaled.
+   */
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "domainUID=" + getDomainUID() + ", cluster=" + getCluster()
+        + ", managedServerCount=" + getManagedServerCount() + ", status=" + getStatus()
+        + ", message=" + getMessage() + ", " + super.propertiesToString();
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Map;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.AlertScaler;
+import oracle.kubernetes.operator.rest.model.AlertResultModel;
+import oracle.kubernetes.operator.rest.model.CollectionModel;
+
+/**
+ * AlertsResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/alerts path.
+ * It is a webhook that WLDF policies and Prometheus Alertmanager post their
+ * alerts to, so that an alert scales a WebLogic cluster up or down directly.
+ * Since these clients cannot send custom headers, requests that send JSON do not
+ * require the X-Requested-By header.  Requests may send the access token as a bearer
+ * token or as the password of basic credentials.
+ */
+public class AlertsResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct an AlertsResource.
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public AlertsResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Scale the WebLogic clusters named by the firing alerts of a notification.
+   * The response reports the outcome for each alert, in notification order; an
+   * alert that cannot be acted upon does not prevent the others from being handled.
+   * @param payload - a Prometheus Alertmanager notification, or a JSON object whose
+   * properties are the labels of a single alert, such as a WLDF REST notification.
+   * @param asyncResponse - the suspended response, completed once the alerts are handled.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(final Map<String, Object> payload, @Suspended final AsyncResponse asyncResponse) {
+    LOGGER.entering(href(), payload);
+    resumeWhenComplete(asyncResponse, () ->
+        AlertScaler.getInstance().scale(payload, getBackend(), getRequestScheduler()).thenApply(results -> {
+          CollectionModel<AlertResultModel> collection = new CollectionModel<AlertResultModel>();
+          for (AlertResultModel result : results) {
+            collection.addItem(result);
+          }
+          addSelfAndParentLinks(collection);
+          LOGGER.exiting(collection);
+          return collection;
+        }));
+  }
+}
@@ -4,18 +4,39 @@
 package oracle.kubernetes.operator.rest.resource;
 
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.ResponseCache;
+import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 
+import org.glassfish.jersey.server.ResourceConfig;
+
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * BaseResource is the base resource of all the WebLogic operator's REST resources.
@@ -30,6 +51,21 @@ public class BaseResource {
   private UriInfo uriInfo;
   @Context
   private ContainerRequestContext containerRequestContext;
+  @Context
+  private Application application;
+  @Context
+  private Request request;
+
+  // set by the work of a request once it has passed its checks; read by the timeout handler
+  private volatile boolean accepted;
+
+  // clients may keep a copy of a response, but must check that it is current before using it
+  private static final CacheControl REVALIDATE = new CacheControl();
+
+  static {
+    REVALIDATE.setPrivate(true);
+    REVALIDATE.setNoCache(true);
+  }
 
   protected BaseResource(BaseResource parent, String pathSegment) {
     this.parent = parent;
@@ -60,6 +96,194 @@ public class BaseResource {
     return (getParent() != null) ? getParent().getRoot() : this;
   }
 
+  /**
+   * Completes an asynchronous request with the result of work that may wait for Kubernetes or WebLogic.
+   * The work is done by a fiber of the REST server's request engine, so that the server's worker thread
+   * is free to accept other requests; it first checks that the resource exists.  If the work does not complete in time, the request
+   * fails with 503 (Service Unavailable), unless it makes changes and its work has already been accepted
+   * (see #accept); since those changes are still applied once the work completes, it is answered with 202 (Accepted).
+   * @param asyncResponse the suspended response of the request.
+   * @param work computes the response entity, or null for none, or throws a WebApplicationException.
+   */
+  protected void resumeAsync(AsyncResponse asyncResponse, Supplier<?> work) {
+    Supplier<?> checked = () -> {
+      checkExists();
+      return work.get();
+    };
+    resumeAsync(asyncResponse, new WorkStep(checked), () -> toResponse(checked.get()));
+  }
+
+  /**
+   * Completes an asynchronous request with the result of work that completes later, without a thread
+   * waiting for it.  The work is started like that of #resumeAsync; the request is completed once the
+   * stage the work returns completes.  The work is accepted once it has returned that stage, so it must
+   * validate and authorize the request before doing so.
+   * @param asyncResponse the suspended response of the request.
+   * @param work starts the work, and returns the stage that completes with the response entity, or null
+   * for none, or with a WebApplicationException.
+   */
+  protected void resumeWhenComplete(AsyncResponse asyncResponse, Supplier<? extends CompletionStage<?>> work) {
+    Supplier<? extends CompletionStage<?>> checked = () -> {
+      checkExists();
+      CompletionStage<?> stage = work.get();
+      accept();
+      return stage;
+    };
+    resumeAsync(asyncResponse, new CompletionStep(checked),
+        () -> toResponse(checked.get().toCompletableFuture().join()));
+  }
+
+  /**
+   * Verifies that this resource, and each resource that it is a sub resource of, exists.  Since the check
+   * may call Kubernetes or WebLogic, it is made by the work of a request rather than when its resource is
+   * located, so that it does not hold a worker thread of the REST server.
+   * @throws WebApplicationException 404 (Not Found), if a resource does not exist.
+   */
+  protected void checkExists() {
+    if (getParent() != null) {
+      getParent().checkExists();
+    }
+  }
+
+  /**
+   * Marks the work of a request that makes changes as accepted: it has been validated and authorized, so
+   * its changes will be applied even if the request times out first.
+   */
+  protected void accept() {
+    accepted = true;
+  }
+
+  private void resumeAsync(AsyncResponse asyncResponse, Step step, Supplier<Object> inline) {
+    ResourceConfig rc = getResourceConfig();
+    Engine engine = (Engine) rc.getProperty(RestServer.REQUEST_ENGINE_PROPERTY);
+    if (engine == null) {
+      try {
+        asyncResponse.resume(inline.get());
+      } catch (CompletionException e) {
+        asyncResponse.resume(e.getCause());
+      } catch (RuntimeException e) {
+        asyncResponse.resume(e);
+      }
+      return;
+    }
+
+    Integer timeoutSeconds = (Integer) rc.getProperty(RestServer.REQUEST_TIMEOUT_PROPERTY);
+    if (timeoutSeconds != null && timeoutSeconds > 0) {
+      asyncResponse.setTimeout(timeoutSeconds, TimeUnit.SECONDS);
+      boolean safe = isSafe(getContainerRequestContext().getMethod());
+      asyncResponse.setTimeoutHandler((response) -> response.resume(
+          Response.status(!safe && accepted ? Status.ACCEPTED : Status.SERVICE_UNAVAILABLE).build()));
+    }
+    engine.createFiber().start(step, new Packet(), new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        asyncResponse.resume(toResponse(packet.get(WorkStep.RESULT)));
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        asyncResponse.resume(throwable);
+      }
+    });
+  }
+
+  private static boolean isSafe(String method) {
+    return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+  }
+
+  /**
+   * Returns the executor of the REST server's request engine, for work that is scheduled to complete requests later.
+   * @return the executor, or null if the server has no request engine.
+   */
+  protected ScheduledExecutorService getRequestScheduler() {
+    Engine engine = (Engine) getResourceConfig().getProperty(RestServer.REQUEST_ENGINE_PROPERTY);
+    return engine != null ? engine.getExecutor() : null;
+  }
+
+  /**
+   * Returns the executor that writes the events of the domain status streams.
+   * @return the executor, or null if the server has none.
+   */
+  protected ScheduledExecutorService getStreamExecutor() {
+    return (ScheduledExecutorService) getResourceConfig().getProperty(RestServer.STREAM_EXECUTOR_PROPERTY);
+  }
+
+  /**
+   * Returns the response to a request to get this resource.  If the version of the resource is known, the response
+   * is tagged with it and is 304 (Not Modified) when the client already has that version; otherwise, its entity
+   * is taken from the REST server's response cache, so that the entity is only computed when the resource changed.
+   * @param version the version of the resource, or null if it is not known.
+   * @param entity computes the entity of the response.
+   * @return the response.
+   */
+  protected Response getConditionally(String version, Supplier<?> entity) {
+    if (version == null) {
+      return Response.ok(entity.get()).build();
+    }
+    EntityTag tag = new EntityTag(version);
+    ResponseBuilder notModified = getRoot().request.evaluatePreconditions(tag);
+    if (notModified != null) {
+      return notModified.cacheControl(REVALIDATE).build();
+    }
+    ResponseCache cache = (ResponseCache) getResourceConfig().getProperty(RestServer.RESPONSE_CACHE_PROPERTY);
+    Object result = cache != null ? cache.get(href(), version, entity) : entity.get();
+    return Response.ok(result).tag(tag).cacheControl(REVALIDATE).build();
+  }
+
+  private ResourceConfig getResourceConfig() {
+    return (ResourceConfig) getRoot().application;
+  }
+
+  // like a synchronous resource method, a request without a response entity succeeds with 204 (No Content)
+  private static Object toResponse(Object entity) {
+    return entity != null ? entity : Response.noContent().build();
+  }
+
+  private static class WorkStep extends Step {
+    private static final String RESULT = "result";
+
+    private final Supplier<?> work;
+
+    WorkStep(Supplier<?> work) {
+      super(null);
+      this.work = work;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Object result = work.get();
+      if (result != null) {
+        packet.put(RESULT, result);
+      }
+      return doNext(packet);
+    }
+  }
+
+  // the fiber is suspended, rather than a thread blocked, until the work completes
+  private static class CompletionStep extends Step {
+    private final Supplier<? extends CompletionStage<?>> work;
+
+    CompletionStep(Supplier<? extends CompletionStage<?>> work) {
+      super(null);
+      this.work = work;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      CompletionStage<?> stage = work.get();
+      return doSuspend((fiber) -> stage.whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          fiber.terminate(throwable instanceof CompletionException ? throwable.getCause() : throwable, packet);
+          return;
+        }
+        if (result != null) {
+          packet.put(WorkStep.RESULT, result);
+        }
+        fiber.resume(packet);
+      }));
+    }
+  }
+
   protected void addSelfAndParentLinks(LinkContainerModel lc) {
     if (getParent() == null) {
       lc.addSelfLinks(href());
@@ -10,7 +10,10 @@ import oracle.kubernetes.operator.rest.model.ClusterModel;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  * ClusterResource is a jaxrs resource that implements the REST api for the
@@ -32,17 +35,25 @@ public class ClusterResource extends BaseResource {
 
   /**
    * Get a description of this Weblogic cluster.
-   * @return a ClusterModel describing this cluster.
+   * The response is tagged with the domain's version, and is 304 (Not Modified) if
+   * the request's If-None-Match header has the current version.
+   * @param asyncResponse - the suspended response, completed with a ClusterModel
+   * describing this cluster.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public ClusterModel get() {
+  public void get(@Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href());
-    ClusterModel item = new ClusterModel(getCluster());
-    addSelfAndParentLinks(item);
-    addActionLink(item, "scale");
-    LOGGER.exiting(item);
-    return item;
+    resumeAsync(asyncResponse, () -> {
+      Response result = getConditionally(getBackend().getDomainVersion(getDomainUid()), () -> {
+        ClusterModel item = new ClusterModel(getCluster());
+        addSelfAndParentLinks(item);
+        addActionLink(item, "scale");
+        return item;
+      });
+      LOGGER.exiting(result.getEntity());
+      return result;
+    });
   }
 
   /**
@@ -57,7 +68,19 @@ public class ClusterResource extends BaseResource {
     return result;
   }
 
+  @Override
+  protected void checkExists() {
+    super.checkExists();
+    if (!getBackend().isCluster(getDomainUid(), getCluster())) {
+      throw getParent().notFound(getCluster());
+    }
+  }
+
   private String getCluster() {
     return getPathSegment();
   }
+
+  private String getDomainUid() {
+    return getParent().getParent().getPathSegment();
+  }
 }
@@ -12,8 +12,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  * ClustersResource is a jaxrs resource that implements the REST api for the
@@ -35,38 +37,41 @@ public class ClustersResource extends BaseResource {
 
   /**
    * List a WebLogic domain's clusters.
-   * @return a collection of ClusterModels describing the clusters.
+   * The response is a collection of ClusterModels describing the clusters.  It is tagged
+   * with the domain's version, and is 304 (Not Modified) if the request's If-None-Match
+   * header has the current version.
+   * @param asyncResponse - the suspended response, completed once the clusters are listed.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public void get(@Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href());
     String domainUid = getDomainUid();
-    CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
-    for (String cluster : getBackend().getClusters(domainUid)) {
-      ClusterModel item = new ClusterModel(cluster);
-      item.addSelfLinks(href(item.getCluster()));
-      collection.addItem(item);
-    }
-    addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
-    return collection;
+    resumeAsync(asyncResponse, () -> {
+      Response result = getConditionally(getBackend().getDomainVersion(domainUid), () -> {
+        CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
+        for (String cluster : getBackend().getClusters(domainUid)) {
+          ClusterModel item = new ClusterModel(cluster);
+          item.addSelfLinks(href(item.getCluster()));
+          collection.addItem(item);
+        }
+        addSelfAndParentLinks(collection);
+        return collection;
+      });
+      LOGGER.exiting(result.getEntity());
+      return result;
+    });
   }
 
   /**
-   * Construct and return a 'cluster' jaxrs child resource.
+   * Construct and return a 'cluster' jaxrs child resource.  Whether the
+   * cluster exists is checked by the work of the request, rather than here.
    * @param cluster - the name of the WebLogic cluster.
-   * @return the cluster sub resource, throws a WebApplicationException if
-   * cluster does not exist.
+   * @return the cluster sub resource.
    */
   @Path("{clusters}")
   public ClusterResource getClusterResource(@PathParam("clusters") String cluster) {
     LOGGER.entering(href(), cluster);
-    if (!getBackend().isCluster(getDomainUid(), cluster)) {
-      WebApplicationException e = notFound(cluster);
-      LOGGER.throwing(e);
-      throw e;
-    }
     ClusterResource result = new ClusterResource(this, cluster);
     LOGGER.exiting(result);
     return result;
@@ -10,7 +10,10 @@ import oracle.kubernetes.operator.rest.model.DomainModel;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  * DomainResource is a jaxrs resource that implements the REST api for the
@@ -33,17 +36,25 @@ public class DomainResource extends BaseResource {
 
   /**
    * Get a description of this Weblogic domain.
-   * @return a DomainModel describing this domain.
+   * The response is tagged with the domain's version, and is 304 (Not Modified) if
+   * the request's If-None-Match header has the current version.
+   * @param asyncResponse - the suspended response, completed with a DomainModel
+   * describing this domain.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public DomainModel get() {
+  public void get(@Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href());
-    DomainModel item = new DomainModel(getDomainUID());
-    addSelfAndParentLinks(item);
-    addLink(item, "clusters");
-    LOGGER.exiting(item);
-    return item;
+    resumeAsync(asyncResponse, () -> {
+      Response result = getConditionally(getBackend().getDomainVersion(getDomainUID()), () -> {
+        DomainModel item = new DomainModel(getDomainUID());
+        addSelfAndParentLinks(item);
+        addLink(item, "clusters");
+        return item;
+      });
+      LOGGER.exiting(result.getEntity());
+      return result;
+    });
   }
 
   /**
@@ -58,6 +69,26 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'status' jaxrs child resource.
+   * @return the status sub resource.
+   */
+  @Path("status")
+  public DomainStatusResource getDomainStatusResource() {
+    LOGGER.entering(href());
+    DomainStatusResource result = new DomainStatusResource(this, "status");
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  @Override
+  protected void checkExists() {
+    super.checkExists();
+    if (!getBackend().isDomainUID(getDomainUID())) {
+      throw getParent().notFound(getDomainUID());
+    }
+  }
+
   private String getDomainUID() {
     return getPathSegment();
   }
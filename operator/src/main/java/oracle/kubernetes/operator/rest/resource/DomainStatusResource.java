@@ -0,0 +1,139 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Event;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscriber;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscription;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+import org.glassfish.jersey.server.ChunkedOutput;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+
+/**
+ * DomainStatusResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/status path.
+ * It can be used to follow the status of a WebLogic domain as the operator computes it.
+ */
+public class DomainStatusResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  public static final String EVENT_STREAM = "text/event-stream";
+  public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+  private static final long KEEP_ALIVE_SECONDS = 15;
+  private static final String KEEP_ALIVE = ":\n\n";
+
+  /**
+   * Construct a DomainStatusResource.
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public DomainStatusResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Stream the status of this WebLogic domain as server-sent events.
+   * The first event, named 'status', contains the current domain status; each following
+   * event, named 'delta', contains a change to it.  The stream stays open until the
+   * client disconnects or the domain is no longer present; the events are written by
+   * the server's stream threads, and a comment is written periodically so that a client
+   * that disconnected is noticed while the status does not change.
+   * @param lastEventId - the id of the last event the client received, sent by a reconnecting
+   * client so that the stream resumes after it, or null.
+   * @param resume - the id of the last event the client received, for clients that cannot
+   * set the Last-Event-ID header, or null.
+   * @return the stream of status events.
+   */
+  @GET
+  @Path("stream")
+  @Produces(EVENT_STREAM)
+  public ChunkedOutput<String> stream(@HeaderParam(LAST_EVENT_ID_HEADER) String lastEventId,
+      @QueryParam("resume") String resume) {
+    LOGGER.entering(href(), lastEventId, resume);
+    checkExists();
+    ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+    ScheduledExecutorService executor = getStreamExecutor();
+    EventStreamSubscriber subscriber = new EventStreamSubscriber(output);
+    Subscription subscription = getBackend().subscribeDomainStatus(getDomainUID(),
+        lastEventId != null ? lastEventId : resume, subscriber, executor != null ? executor : Runnable::run);
+    if (executor != null) {
+      subscriber.keepAlive(subscription, executor);
+    }
+    LOGGER.exiting();
+    return output;
+  }
+
+  private String getDomainUID() {
+    return getParent().getPathSegment();
+  }
+
+  private static class EventStreamSubscriber implements Subscriber {
+    private final ChunkedOutput<String> output;
+    private volatile ScheduledFuture<?> keepAlive;
+
+    EventStreamSubscriber(ChunkedOutput<String> output) {
+      this.output = output;
+    }
+
+    // a client that disconnects while the status does not change is only noticed when something is written to it,
+    // so a comment is written periodically; once it fails, the subscription is cancelled
+    void keepAlive(Subscription subscription, ScheduledExecutorService executor) {
+      keepAlive = executor.scheduleWithFixedDelay(() -> {
+        if (!write(KEEP_ALIVE)) {
+          subscription.cancel();
+          close();
+        }
+      }, KEEP_ALIVE_SECONDS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+      if (output.isClosed()) {
+        // the stream ended before the keep-alive was scheduled
+        keepAlive.cancel(false);
+      }
+    }
+
+    @Override
+    public boolean send(Event event) {
+      return write("id: " + event.getId() + "\nevent: " + event.getName() + "\ndata: " + event.getData() + "\n\n");
+    }
+
+    private boolean write(String chunk) {
+      if (output.isClosed()) {
+        return false;
+      }
+      try {
+        output.write(chunk);
+        return true;
+      } catch (IOException e) {
+        // the client is gone
+        return false;
+      }
+    }
+
+    @Override
+    public void close() {
+      ScheduledFuture<?> future = keepAlive;
+      if (future != null) {
+        future.cancel(false);
+      }
+      try {
+        output.close();
+      } catch (IOException e) {
+        // the client is gone
+      }
+    }
+  }
+}
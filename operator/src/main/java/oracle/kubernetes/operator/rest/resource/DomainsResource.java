@@ -12,7 +12,8 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 /**
@@ -36,38 +37,36 @@ public class DomainsResource extends BaseResource {
 
   /**
    * List the WebLogic domains that are registered with the WebLogic operator.
-   * @return a collection of DomainModels describing the domains.
+   * The response is a collection of DomainModels describing the domains.
+   * @param asyncResponse - the suspended response, completed once the domains are listed.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  public void get(@Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href());
-    CollectionModel<DomainModel> collection = new CollectionModel<DomainModel>();
-    for (String domainUID : getBackend().getDomainUIDs()) {
-      DomainModel item = new DomainModel(domainUID);
-      item.addSelfLinks(href(item.getDomainUID()));
-      collection.addItem(item);
-    }
-    addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
-    return collection;
+    resumeAsync(asyncResponse, () -> {
+      CollectionModel<DomainModel> collection = new CollectionModel<DomainModel>();
+      for (String domainUID : getBackend().getDomainUIDs()) {
+        DomainModel item = new DomainModel(domainUID);
+        item.addSelfLinks(href(item.getDomainUID()));
+        collection.addItem(item);
+      }
+      addSelfAndParentLinks(collection);
+      LOGGER.exiting(collection);
+      return collection;
+    });
   }
 
   /**
-   * Construct and return a 'domain' jaxrs child resource.
+   * Construct and return a 'domain' jaxrs child resource.  Whether domainUID
+   * is registered is checked by the work of the request, rather than here.
    * @param domainUID - the unique identifier assigned to the WebLogic domain
    * when it was registered with the WebLogic operator.
-   * @return the domain sub resource, throws a WebApplicationException if
-   * domainUID is not registered.
+   * @return the domain sub resource.
    */
   @Path("{domainUID}")
   public DomainResource getDomainResource(@PathParam("domainUID") String domainUID) {
     LOGGER.entering(href(), domainUID);
-    if (!getBackend().isDomainUID(domainUID)) {
-      WebApplicationException e = notFound(domainUID);
-      LOGGER.throwing(e);
-      throw e;
-    }
     DomainResource result = new DomainResource(this, domainUID);
     LOGGER.exiting(result);
     return result;
@@ -0,0 +1,43 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the
+ * /metrics path.
+ * It can be used by Prometheus to scrape the metrics of the WebLogic operator's internals.
+ */
+@Path("metrics")
+public class MetricsResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a MetricsResource.
+   */
+  public MetricsResource() {
+    super(null, "metrics");
+  }
+
+  /**
+   * Get the metrics of the WebLogic operator.
+   * @return the metrics, in the Prometheus text exposition format.
+   */
+  @GET
+  @Produces(MetricsRegistry.CONTENT_TYPE)
+  public String get() {
+    LOGGER.entering(href());
+    String result = MetricsRegistry.getInstance().write();
+    LOGGER.exiting();
+    return result;
+  }
+}
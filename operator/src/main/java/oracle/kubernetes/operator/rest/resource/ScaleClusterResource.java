@@ -6,9 +6,14 @@ package oracle.kubernetes.operator.rest.resource;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
 
 import javax.ws.rs.Consumes;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 /**
@@ -21,6 +26,8 @@ public class ScaleClusterResource extends BaseResource {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
   /**
    * Construct a ScaleClusterResource.
    * @param parent - the jaxrs resource that parents this resource.
@@ -35,15 +42,31 @@ public class ScaleClusterResource extends BaseResource {
    * This method configures the specified numer of managed servers at both the
    * Kubernetes and WebLogic levels, then returns.  It does not wait for the
    * new managed servers to start or removed managed servers to stop.
+   * Requests to scale the cluster that arrive close together are coalesced, and
+   * the number of managed servers requested last is configured.
    * @param params - a ScaleClusterParamsModel that specifies the desired number
    * of managed servers in the cluster
+   * @param idempotencyKey - identifies retries of the same request, which are not
+   * applied again, or null
+   * @param asyncResponse - the suspended response, completed once the cluster is configured
+   * with a ScaleClusterResultModel that specifies the number of managed servers configured.
+   * A request that is coalesced with an earlier one is completed when the coalescing window
+   * ends, without holding a thread in the meantime.
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
-    LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
-    LOGGER.exiting();
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(final ScaleClusterParamsModel params,
+      @HeaderParam(IDEMPOTENCY_KEY_HEADER) final String idempotencyKey,
+      @Suspended final AsyncResponse asyncResponse) {
+    LOGGER.entering(href(), params, idempotencyKey);
+    resumeWhenComplete(asyncResponse, () ->
+        getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount(), idempotencyKey,
+            getRequestScheduler()).thenApply(managedServerCount -> {
+              ScaleClusterResultModel result = new ScaleClusterResultModel(managedServerCount);
+              LOGGER.exiting(result);
+              return result;
+            }));
   }
 
   private String getCluster() {
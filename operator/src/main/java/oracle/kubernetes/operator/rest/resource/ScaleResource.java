@@ -0,0 +1,92 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.ScaleRequest;
+import oracle.kubernetes.operator.rest.model.CollectionModel;
+import oracle.kubernetes.operator.rest.model.ScaleItemModel;
+import oracle.kubernetes.operator.rest.model.ScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleResultModel;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ScaleResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/scale path.
+ * It can be used to scale up or down the number of managed servers in several
+ * WebLogic clusters, of one or more WebLogic domains, in one request.
+ */
+public class ScaleResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a ScaleResource.
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public ScaleResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Scale several WebLogic clusters up or down.
+   * Each domain is updated once for all of its clusters in the request.  The
+   * response reports the outcome for each cluster, in request order; a cluster
+   * that cannot be scaled does not prevent the others from being scaled.
+   * @param params - a ScaleParamsModel that specifies the clusters and their desired
+   * number of managed servers
+   * @param asyncResponse - the suspended response, completed once the clusters are configured.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(final ScaleParamsModel params, @Suspended final AsyncResponse asyncResponse) {
+    LOGGER.entering(href(), params);
+    resumeAsync(asyncResponse, () -> {
+      if (params == null || params.getItems() == null) {
+        throw new WebApplicationException(Status.BAD_REQUEST);
+      }
+      // the request no longer fails as a whole; each item reports its own outcome
+      accept();
+      List<ScaleItemModel> items = new ArrayList<>();
+      List<ScaleRequest> requests = new ArrayList<>();
+      for (ScaleItemModel item : params.getItems()) {
+        // an empty item is reported as not naming its cluster
+        ScaleItemModel checked = item != null ? item : new ScaleItemModel();
+        items.add(checked);
+        requests.add(new ScaleRequest(checked.getDomainUID(), checked.getCluster(), checked.getManagedServerCount()));
+      }
+      List<WebApplicationException> failures = getBackend().scaleClusters(requests);
+
+      CollectionModel<ScaleResultModel> collection = new CollectionModel<ScaleResultModel>();
+      for (int i = 0; i < items.size(); i++) {
+        collection.addItem(createResult(items.get(i), failures.get(i)));
+      }
+      addSelfAndParentLinks(collection);
+      LOGGER.exiting(collection);
+      return collection;
+    });
+  }
+
+  private ScaleResultModel createResult(ScaleItemModel item, WebApplicationException failure) {
+    if (failure == null) {
+      return new ScaleResultModel(item, Status.NO_CONTENT.getStatusCode(), null);
+    }
+    Object entity = failure.getResponse().getEntity();
+    return new ScaleResultModel(item, failure.getResponse().getStatus(),
+        entity != null ? entity.toString() : failure.getMessage());
+  }
+}
@@ -49,6 +49,8 @@ public class VersionResource extends BaseResource {
         );
     addSelfAndParentLinks(item);
     addLink(item, "domains");
+    addLink(item, "scale");
+    addLink(item, "alerts");
     addLink(item, "swagger");
     LOGGER.exiting(item);
     return item;
@@ -66,6 +68,30 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'scale' jaxrs child resource.
+   * @return the scale sub resource.
+   */
+  @Path("scale")
+  public ScaleResource getScaleResource() {
+    LOGGER.entering(href());
+    ScaleResource result = new ScaleResource(this, "scale");
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  /**
+   * Construct and return the 'alerts' jaxrs child resource.
+   * @return the alerts sub resource.
+   */
+  @Path("alerts")
+  public AlertsResource getAlertsResource() {
+    LOGGER.entering(href());
+    AlertsResource result = new AlertsResource(this, "alerts");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Construct and return the 'swagger' jaxrs child resource.
    * @return the swagger sub resource.
@@ -9,7 +9,6 @@ import java.util.Map;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ServiceList;
 import io.kubernetes.client.models.V1Status;
-import io.kubernetes.client.models.V1beta1IngressList;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
@@ -36,32 +35,36 @@ public class DeleteDomainStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+    LOGGER.info(MessageKeys.DELETING_DOMAIN_RESOURCES, domainUID, namespace);
+    long startMillis = System.currentTimeMillis();
 
-    Step deletePods = factory.create().with($ -> {
-      $.labelSelector = LabelConstants.DOMAINUID_LABEL + "=" + domainUID + ","
-          + LabelConstants.CREATEDBYOPERATOR_LABEL;
-    }).deleteCollectionPodAsync(namespace, new ResponseStep<V1Status>(next) {
-      @Override
-      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        if (statusCode == CallBuilder.NOT_FOUND) {
-          return onSuccess(packet, null, statusCode, responseHeaders);
-        }
-        return super.onFailure(packet, e, statusCode, responseHeaders);
-      }
+    // pods, services and ingresses do not depend on each other, so they are deleted concurrently
+    return doNext(new ParallelStep(new DeletedStep(startMillis, next), deletePods(), deleteServices(), deleteIngresses()),
+        packet);
+  }
 
-      @Override
-      public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        return doNext(packet);
-      }
+  private String getLabelSelector() {
+    return LabelConstants.DOMAINUID_LABEL + "=" + domainUID + "," + LabelConstants.CREATEDBYOPERATOR_LABEL;
+  }
+
+  private CallBuilder createCallBuilder() {
+    CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+    return factory.create().with($ -> {
+      $.labelSelector = getLabelSelector();
     });
+  }
+
+  private Step deletePods() {
+    return createCallBuilder().deleteCollectionPodAsync(namespace, new DeleteCollectionResponseStep());
+  }
 
-    Step serviceList = factory.create().with($ -> {
-      $.labelSelector = LabelConstants.DOMAINUID_LABEL + "=" + domainUID + ","
-          + LabelConstants.CREATEDBYOPERATOR_LABEL;
-    }).listServiceAsync(namespace, new ResponseStep<V1ServiceList>(deletePods) {
+  private Step deleteIngresses() {
+    return createCallBuilder().deleteCollectionIngressAsync(namespace, new DeleteCollectionResponseStep());
+  }
+
+  // services do not support delete-collection
+  private Step deleteServices() {
+    return createCallBuilder().listServiceAsync(namespace, new ResponseStep<V1ServiceList>(null) {
       @Override
       public NextAction onFailure(Packet packet, ApiException e, int statusCode,
           Map<String, List<String>> responseHeaders) {
@@ -75,37 +78,46 @@ public class DeleteDomainStep extends Step {
       public NextAction onSuccess(Packet packet, V1ServiceList result, int statusCode,
           Map<String, List<String>> responseHeaders) {
         if (result != null) {
-          return doNext(new DeleteServiceListStep(result.getItems(), deletePods), packet);
+          return doNext(new DeleteServiceListStep(result.getItems(), next), packet);
         }
         return doNext(packet);
       }
     });
+  }
 
-    LOGGER.finer(MessageKeys.LIST_INGRESS_FOR_DOMAIN, domainUID, namespace);
-    Step deleteIngress = factory.create().with($ -> {
-      $.labelSelector = LabelConstants.DOMAINUID_LABEL + "=" + domainUID + ","
-          + LabelConstants.CREATEDBYOPERATOR_LABEL;
-    }).listIngressAsync(namespace, new ResponseStep<V1beta1IngressList>(serviceList) {
-      @Override
-      public NextAction onFailure(Packet packet, ApiException e, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        if (statusCode == CallBuilder.NOT_FOUND) {
-          return onSuccess(packet, null, statusCode, responseHeaders);
-        }
-        return super.onFailure(packet, e, statusCode, responseHeaders);
+  private static class DeleteCollectionResponseStep extends ResponseStep<V1Status> {
+    DeleteCollectionResponseStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, ApiException e, int statusCode,
+        Map<String, List<String>> responseHeaders) {
+      if (statusCode == CallBuilder.NOT_FOUND) {
+        return onSuccess(packet, null, statusCode, responseHeaders);
       }
+      return super.onFailure(packet, e, statusCode, responseHeaders);
+    }
 
-      @Override
-      public NextAction onSuccess(Packet packet, V1beta1IngressList result, int statusCode,
-          Map<String, List<String>> responseHeaders) {
-        if (result != null) {
+    @Override
+    public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
+        Map<String, List<String>> responseHeaders) {
+      return doNext(packet);
+    }
+  }
 
-          return doNext(new DeleteIngressListStep(result.getItems(), serviceList), packet);
-        }
-        return doNext(packet);
-      }
-    });
+  private class DeletedStep extends Step {
+    private final long startMillis;
+
+    DeletedStep(long startMillis, Step next) {
+      super(next);
+      this.startMillis = startMillis;
+    }
 
-    return doNext(deleteIngress, packet);
+    @Override
+    public NextAction apply(Packet packet) {
+      LOGGER.info(MessageKeys.DOMAIN_RESOURCES_DELETED, domainUID, System.currentTimeMillis() - startMillis);
+      return doNext(packet);
+    }
   }
-}
\ No newline at end of file
+}
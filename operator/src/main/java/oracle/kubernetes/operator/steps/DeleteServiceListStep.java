@@ -3,10 +3,13 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ObjectMeta;
@@ -15,25 +18,84 @@ import io.kubernetes.client.models.V1Status;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+/**
+ * Deletes a collection of services.  Services do not support delete-collection, so the services are deleted
+ * one by one, with up to a bounded number of deletes in progress at a time.  Each lane of deletes has its own
+ * clone of the packet, since each delete keeps its response in the packet.
+ */
 public class DeleteServiceListStep extends Step {
-  private final Iterator<V1Service> it;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int MAX_CONCURRENT_DELETES = 10;
+  private static final int PROGRESS_INTERVAL = 50;
+
+  private final Collection<V1Service> c;
 
   public DeleteServiceListStep(Collection<V1Service> c, Step next) {
     super(next);
-    this.it = c.iterator();
+    this.c = c;
   }
 
   @Override
   public NextAction apply(Packet packet) {
+    if (c.isEmpty()) {
+      return doNext(packet);
+    }
+
     CallBuilderFactory factory = ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+    Queue<V1Service> pending = new ConcurrentLinkedQueue<>(c);
+    AtomicInteger deleted = new AtomicInteger(0);
+    Collection<StepAndPacket> lanes = new ArrayList<>();
+    for (int i = 0; i < Math.min(MAX_CONCURRENT_DELETES, c.size()); i++) {
+      lanes.add(new StepAndPacket(new DeleteNextServiceStep(factory, pending, deleted, c.size()), packet.clone()));
+    }
+    return doForkJoin(new LanesDoneStep(packet, next), packet, lanes);
+  }
+
+  // continues with the original packet, whichever lane completed last
+  private static class LanesDoneStep extends Step {
+    private final Packet packet;
+
+    LanesDoneStep(Packet packet, Step next) {
+      super(next);
+      this.packet = packet;
+    }
+
+    @Override
+    public NextAction apply(Packet ignored) {
+      return doNext(packet);
+    }
+  }
+
+  private static class DeleteNextServiceStep extends Step {
+    private final CallBuilderFactory factory;
+    private final Queue<V1Service> pending;
+    private final AtomicInteger deleted;
+    private final int total;
+
+    DeleteNextServiceStep(CallBuilderFactory factory, Queue<V1Service> pending, AtomicInteger deleted, int total) {
+      super(null);
+      this.factory = factory;
+      this.pending = pending;
+      this.deleted = deleted;
+      this.total = total;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1Service service = pending.poll();
+      if (service == null) {
+        return doNext(packet);
+      }
 
-    if (it.hasNext()) {
-      V1Service service = it.next();
       V1ObjectMeta meta = service.getMetadata();
       Step delete = factory.create().deleteServiceAsync(meta.getName(), meta.getNamespace(),
           new ResponseStep<V1Status>(this) {
@@ -49,12 +111,14 @@ public class DeleteServiceListStep extends Step {
             @Override
             public NextAction onSuccess(Packet packet, V1Status result, int statusCode,
                 Map<String, List<String>> responseHeaders) {
+              int count = deleted.incrementAndGet();
+              if (count % PROGRESS_INTERVAL == 0 || count == total) {
+                LOGGER.info(MessageKeys.SERVICES_DELETED, count, total, meta.getNamespace());
+              }
               return doNext(packet);
             }
           });
       return doNext(delete, packet);
     }
-
-    return doNext(packet);
   }
-}
\ No newline at end of file
+}
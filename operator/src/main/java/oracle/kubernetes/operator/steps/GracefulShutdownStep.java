@@ -0,0 +1,116 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.InvocationCallback;
+
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.http.Result;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Asks the administration server to gracefully shut down managed servers through the server lifecycle REST
+ * API, for all of the servers at once.  The step completes when every server has shut down or the shutdown
+ * of a server failed or timed out; a server that did not shut down is stopped when its pod is deleted.
+ * Expects the {@link HttpClient} for the administration server in the packet.
+ */
+public class GracefulShutdownStep extends Step {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // time for the admin server to respond after WebLogic's own shutdown timeout has expired
+  private static final int RESPONSE_GRACE_SECONDS = 10;
+
+  private final Collection<String> serverNames;
+  private final V1Service adminService;
+  private final int timeoutSeconds;
+
+  /**
+   * Creates the step
+   * @param serverNames Names of the servers to shut down
+   * @param adminService Service of the administration server
+   * @param timeoutSeconds Time the servers are given to complete in-flight work before they are forced down
+   * @param next Next processing step
+   */
+  public GracefulShutdownStep(Collection<String> serverNames, V1Service adminService, int timeoutSeconds, Step next) {
+    super(next);
+    this.serverNames = serverNames;
+    this.adminService = adminService;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  static String getShutdownUrl(String serverName) {
+    return "/management/weblogic/latest/domainRuntime/serverLifeCycleRuntimes/" + serverName + "/shutdown";
+  }
+
+  String getShutdownPayload() {
+    return "{ \"timeout\": " + timeoutSeconds + ", \"ignoreSessions\": false }";
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
+    String serviceURL = HttpClient.getServiceURL(adminService);
+    if (httpClient == null || serviceURL == null || serverNames.isEmpty()) {
+      return doNext(packet);
+    }
+
+    Collection<StepAndPacket> shutdowns = new ArrayList<>();
+    for (String serverName : serverNames) {
+      shutdowns.add(new StepAndPacket(new ShutdownServerStep(httpClient, serviceURL, serverName), packet));
+    }
+    return doForkJoin(next, packet, shutdowns);
+  }
+
+  private class ShutdownServerStep extends Step {
+    private final HttpClient httpClient;
+    private final String serviceURL;
+    private final String serverName;
+
+    ShutdownServerStep(HttpClient httpClient, String serviceURL, String serverName) {
+      super(null);
+      this.httpClient = httpClient;
+      this.serviceURL = serviceURL;
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      // the fiber is suspended while the admin server shuts the server down, so no operator thread waits for it
+      return doSuspend((fiber) -> {
+        try {
+          httpClient.executePostUrlOnServiceClusterIPAsync(getShutdownUrl(serverName), serviceURL,
+              getShutdownPayload(), (int) TimeUnit.SECONDS.toMillis(timeoutSeconds + RESPONSE_GRACE_SECONDS),
+              new InvocationCallback<Result>() {
+                @Override
+                public void completed(Result result) {
+                  if (!result.isSuccessful()) {
+                    LOGGER.warning(MessageKeys.SERVER_SHUTDOWN_FAILED, serverName, result.getStatus());
+                  }
+                  fiber.resume(packet);
+                }
+
+                @Override
+                public void failed(Throwable throwable) {
+                  LOGGER.warning(MessageKeys.SERVER_SHUTDOWN_FAILED, serverName, throwable);
+                  fiber.resume(packet);
+                }
+              });
+        } catch (RuntimeException e) {
+          LOGGER.warning(MessageKeys.SERVER_SHUTDOWN_FAILED, serverName, e);
+          fiber.resume(packet);
+        }
+      });
+    }
+  }
+}
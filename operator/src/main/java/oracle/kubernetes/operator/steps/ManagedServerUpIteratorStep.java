@@ -8,13 +8,19 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.kubernetes.client.models.V1Pod;
+import oracle.kubernetes.operator.PodWatcher;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -38,6 +44,14 @@ public class ManagedServerUpIteratorStep extends Step {
     Map<String, StepAndPacket> rolling = new ConcurrentHashMap<>();
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
 
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    MainTuning main = tuning != null ? tuning.getMainTuning() : null;
+    DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+    StartupScheduler scheduler = main != null
+        ? info.getStartupScheduler(main.startupMaxConcurrency, main.startupMaxConcurrencyPerCluster)
+        : info.getStartupScheduler(0, 0);
+    int readyTimeoutSeconds = main != null ? main.startupReadyTimeoutSeconds : 0;
+
     for (ServerStartupInfo ssi : c) {
       Packet p = packet.clone();
       p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
@@ -49,12 +63,10 @@ public class ManagedServerUpIteratorStep extends Step {
       ServerStartup ss = ssi.serverStartup;
       p.put(ProcessingConstants.NODE_PORT, ss != null ? ss.getNodePort() : null);
 
-      startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
+      startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, scheduler, readyTimeoutSeconds, null), p));
     }
 
     if (LOGGER.isFineEnabled()) {
-      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-
       Domain dom = info.getDomain();
       DomainSpec spec = dom.getSpec();
 
@@ -64,6 +76,10 @@ public class ManagedServerUpIteratorStep extends Step {
       }
       LOGGER.fine("Starting or validating servers for domain with UID: " + spec.getDomainUID() + ", server list: "
           + serverList);
+      if (main != null) {
+        LOGGER.fine(MessageKeys.STARTING_SERVERS, spec.getDomainUID(), main.startupMaxConcurrency,
+            main.startupMaxConcurrencyPerCluster);
+      }
     }
 
     if (startDetails.isEmpty()) {
@@ -77,7 +93,37 @@ public class ManagedServerUpIteratorStep extends Step {
   // "serverScan"
   // "clusterScan"
   // "envVars"
-  private static Step bringManagedServerUp(ServerStartupInfo ssi, Step next) {
-    return PodHelper.createManagedPodStep(ServiceHelper.createForServerStep(next));
+  // the service does not depend on the pod, so both are read and, if necessary, created concurrently; a server
+  // whose pod is created keeps its start permit until the pod is ready, or its startup fails, so that the next
+  // server starts once this one is up.  A server whose pod already exists returns its permit at once, and a pod
+  // that must be replaced is rolled, and waited for, once the other servers have been started
+  private static Step bringManagedServerUp(ServerStartupInfo ssi, StartupScheduler scheduler, int readyTimeoutSeconds,
+      Step next) {
+    String clusterName = ssi.clusterConfig != null ? ssi.clusterConfig.getClusterName() : null;
+    return scheduler.withPermit(clusterName,
+        new ParallelStep(null,
+            PodHelper.createManagedPodStep(new WaitForStartedPodReadyStep(readyTimeoutSeconds, null)),
+            ServiceHelper.createForServerStep(null)),
+        next);
+  }
+
+  // pre-condition: the pod created for the server, if any, under "startedPod"
+  private static class WaitForStartedPodReadyStep extends Step {
+    private final int timeoutSeconds;
+
+    WaitForStartedPodReadyStep(int timeoutSeconds, Step next) {
+      super(next);
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1Pod pod = (V1Pod) packet.get(ProcessingConstants.STARTED_POD);
+      PodWatcher pw = packet.getSPI(PodWatcher.class);
+      if (pod == null || pw == null) {
+        return doNext(packet);
+      }
+      return doNext(pw.waitForReady(pod, timeoutSeconds, next), packet);
+    }
   }
-}
\ No newline at end of file
+}
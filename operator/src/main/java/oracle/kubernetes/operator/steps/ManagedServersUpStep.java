@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -69,15 +71,13 @@ public class ManagedServersUpStep extends Step {
     for (String clusterName : info.getExplicitRestartClusters()) {
       WlsClusterConfig cluster = scan.getClusterConfig(clusterName);
       if (cluster != null) {
-        for (WlsServerConfig server : cluster.getServerConfigs()) {
-          info.getExplicitRestartServers().add(server.getName());
-        }
+        info.getExplicitRestartServers().addAll(cluster.getServerNames());
       }
     }
     info.getExplicitRestartClusters().clear();
 
     boolean startAll = false;
-    Collection<String> servers = new ArrayList<String>();
+    Collection<String> servers = new LinkedHashSet<String>();
     switch (sc) {
     case StartupControlConstants.ALL_STARTUPCONTROL:
       startAll = true;
@@ -87,7 +87,11 @@ public class ManagedServersUpStep extends Step {
 
       // start specified servers with their custom options
       List<ServerStartup> ssl = spec.getServerStartup();
+      Map<String, ServerStartup> serverStartups = new HashMap<>();
       if (ssl != null) {
+        for (ServerStartup ss : ssl) {
+          serverStartups.putIfAbsent(ss.getServerName(), ss);
+        }
         for (ServerStartup ss : ssl) {
           String serverName = ss.getServerName();
           WlsServerConfig wlsServerConfig = scan.getServerConfig(serverName);
@@ -95,15 +99,7 @@ public class ManagedServersUpStep extends Step {
             // start server
             servers.add(serverName);
             // find cluster if this server is part of one
-            WlsClusterConfig cc = null;
-            find: for (WlsClusterConfig wlsClusterConfig : scan.getClusterConfigs().values()) {
-              for (WlsServerConfig clusterMemberServerConfig : wlsClusterConfig.getServerConfigs()) {
-                if (serverName.equals(clusterMemberServerConfig.getName())) {
-                  cc = wlsClusterConfig;
-                  break find;
-                }
-              }
-            }
+            WlsClusterConfig cc = scan.getClusterConfigForServer(serverName);
             List<V1EnvVar> env = ss.getEnv();
             if (WebLogicConstants.ADMIN_STATE.equals(ss.getDesiredState())) {
               env = startInAdminMode(env);
@@ -114,32 +110,24 @@ public class ManagedServersUpStep extends Step {
       }
       List<ClusterStartup> lcs = spec.getClusterStartup();
       if (lcs != null) {
-        cluster: for (ClusterStartup cs : lcs) {
+        for (ClusterStartup cs : lcs) {
           String clusterName = cs.getClusterName();
           clusters.add(clusterName);
           int startedCount = 0;
           // find cluster
           WlsClusterConfig wlsClusterConfig = scan.getClusterConfig(clusterName);
           if (wlsClusterConfig != null) {
-            for (WlsServerConfig wlsServerConfig : wlsClusterConfig.getServerConfigs()) {
-              // done with the current cluster
-              if (startedCount >= cs.getReplicas() && !startAll)
-                continue cluster;
-
+            // stop once replicas are reached, so that no dynamic server configuration is created for a server
+            // that will not be started
+            List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+            for (int i = 0; i < serverConfigs.size() && (startAll || startedCount < cs.getReplicas()); i++) {
+              WlsServerConfig wlsServerConfig = serverConfigs.get(i);
               String serverName = wlsServerConfig.getName();
               if (!serverName.equals(asName) && !servers.contains(serverName)) {
                 List<V1EnvVar> env = cs.getEnv();
-                ServerStartup ssi = null;
-                ssl = spec.getServerStartup();
-                if (ssl != null) {
-                  for (ServerStartup ss : ssl) {
-                    String s = ss.getServerName();
-                    if (serverName.equals(s)) {
-                      env = ss.getEnv();
-                      ssi = ss;
-                      break;
-                    }
-                  }
+                ServerStartup ssi = serverStartups.get(serverName);
+                if (ssi != null) {
+                  env = ssi.getEnv();
                 }
                 // start server
                 servers.add(serverName);
@@ -180,9 +168,9 @@ public class ManagedServersUpStep extends Step {
           if (!clusters.contains(wlsClusterConfig.getKey())) {
             int startedCount = 0;
             WlsClusterConfig config = wlsClusterConfig.getValue();
-            for (WlsServerConfig wlsServerConfig : config.getServerConfigs()) {
-              if (startedCount >= spec.getReplicas())
-                break;
+            List<WlsServerConfig> serverConfigs = config.getServerConfigs();
+            for (int i = 0; i < serverConfigs.size() && startedCount < spec.getReplicas(); i++) {
+              WlsServerConfig wlsServerConfig = serverConfigs.get(i);
               String serverName = wlsServerConfig.getName();
               if (!serverName.equals(asName) && !servers.contains(serverName)) {
                 // start server
@@ -0,0 +1,79 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Runs independent steps concurrently and continues with the next step when all have completed.  Each step
+ * runs with its own clone of the packet, since Kubernetes calls keep their response in the packet; the next
+ * step continues with the original packet, into which only the joined entries are copied back from the steps,
+ * in step order.
+ */
+public class ParallelStep extends Step {
+  private final Collection<String> joinedKeys;
+  private final Step[] steps;
+
+  public ParallelStep(Step next, Step... steps) {
+    this(next, Collections.emptyList(), steps);
+  }
+
+  /**
+   * Creates a step that runs steps concurrently
+   * @param next Next step, run once all steps have completed
+   * @param joinedKeys Keys of the packet entries the steps make that the next step needs
+   * @param steps Steps
+   */
+  public ParallelStep(Step next, Collection<String> joinedKeys, Step... steps) {
+    super(next);
+    this.joinedKeys = joinedKeys;
+    this.steps = steps;
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    List<Packet> branches = new ArrayList<>();
+    for (Step step : steps) {
+      Packet branch = packet.clone();
+      branches.add(branch);
+      startDetails.add(new StepAndPacket(step, branch));
+    }
+    return doForkJoin(new JoinStep(next, packet, branches, joinedKeys), packet, startDetails);
+  }
+
+  // continues with the original packet, whichever branch completed last
+  private static class JoinStep extends Step {
+    private final Packet packet;
+    private final List<Packet> branches;
+    private final Collection<String> joinedKeys;
+
+    JoinStep(Step next, Packet packet, List<Packet> branches, Collection<String> joinedKeys) {
+      super(next);
+      this.packet = packet;
+      this.branches = branches;
+      this.joinedKeys = joinedKeys;
+    }
+
+    @Override
+    public NextAction apply(Packet ignored) {
+      for (Packet branch : branches) {
+        for (String key : joinedKeys) {
+          Object value = branch.get(key);
+          if (value != null) {
+            packet.put(key, value);
+          }
+        }
+      }
+      return doNext(packet);
+    }
+  }
+}
@@ -7,10 +7,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -51,6 +58,56 @@ public class ServerDownIteratorStep extends Step {
     if (startDetails.isEmpty()) {
       return doNext(packet);
     }
-    return doForkJoin(next, packet, startDetails);
+
+    // shut the servers down gracefully, then delete all of their pods with one call and
+    // finally remove their services
+    Collection<ServerKubernetesObjects> skos = new ArrayList<>();
+    for (Map.Entry<String, ServerKubernetesObjects> entry : c) {
+      skos.add(entry.getValue());
+    }
+    Step serversDown = PodHelper.deletePodsStep(skos, new ServersDownStep(startDetails, next));
+    return doNext(createGracefulShutdownStep(packet, serversDown), packet);
+  }
+
+  private Step createGracefulShutdownStep(Packet packet, Step next) {
+    TuningParameters tuning = ContainerResolver.getInstance().getContainer().getSPI(TuningParameters.class);
+    int timeoutSeconds = tuning != null ? tuning.getMainTuning().gracefulShutdownTimeoutSeconds : 0;
+    DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+    ServerKubernetesObjects adminSko = info.getAdmin();
+    V1Service adminService = adminSko != null ? adminSko.getService().get() : null;
+    if (timeoutSeconds <= 0 || adminService == null) {
+      return next;
+    }
+
+    // only a server that is up can be shut down
+    Collection<String> runningServers = new ArrayList<>();
+    for (Map.Entry<String, ServerKubernetesObjects> entry : c) {
+      if (WebLogicConstants.RUNNING_STATE.equals(entry.getValue().getLastKnownStatus().get())) {
+        runningServers.add(entry.getKey());
+      }
+    }
+    if (runningServers.isEmpty()) {
+      return next;
+    }
+
+    DomainSpec spec = info.getDomain().getSpec();
+    LOGGER.info(MessageKeys.SERVER_SHUTDOWN_STARTING, spec.getDomainUID(), runningServers, timeoutSeconds);
+    return HttpClient.createAuthenticatedClientForServer(info.getDomain().getMetadata().getNamespace(),
+        spec.getAdminSecret() == null ? null : spec.getAdminSecret().getName(),
+        new GracefulShutdownStep(runningServers, adminService, timeoutSeconds, next));
+  }
+
+  private static class ServersDownStep extends Step {
+    private final Collection<StepAndPacket> serversDown;
+
+    ServersDownStep(Collection<StepAndPacket> serversDown, Step next) {
+      super(next);
+      this.serversDown = serversDown;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(next, packet, serversDown);
+    }
   }
 }
\ No newline at end of file
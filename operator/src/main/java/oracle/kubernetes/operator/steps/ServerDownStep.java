@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator.steps;
 
-import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.work.NextAction;
@@ -22,7 +21,7 @@ public class ServerDownStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    return doNext(PodHelper.deletePodStep(sko,
-        ServiceHelper.deleteServiceStep(sko, new ServerDownFinalizeStep(serverName, next))), packet);
+    // the pods of the servers were deleted together before their services
+    return doNext(ServiceHelper.deleteServiceStep(sko, new ServerDownFinalizeStep(serverName, next)), packet);
   }
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Limits the number of managed servers of a domain that are starting at the same time, so that the servers do not
+ * all request their configuration from the administration server at once.  A server holds a start permit from the
+ * time its pod is created until the pod is ready; the fiber of a server that cannot start yet is suspended and is
+ * resumed, in request order, when a server of the domain or of its cluster becomes ready.  Each domain has one
+ * scheduler, kept with its {@link oracle.kubernetes.operator.helpers.DomainPresenceInfo}, so that the limits hold
+ * across overlapping attempts to start the domain's servers.  A cancelled fiber does not return its permit, so the
+ * permits of cancelled fibers are reclaimed when a server cannot otherwise start, and cancelled fibers that are
+ * still waiting are never given one.
+ */
+public class StartupScheduler {
+  private final int maxStarting;
+  private final int maxStartingPerCluster;
+
+  private int starting;
+  private final Map<String, Integer> startingByCluster = new HashMap<>();
+  private final Map<Fiber, String> permits = new HashMap<>();
+  private final List<Waiter> waiters = new LinkedList<>();
+
+  /**
+   * Creates a scheduler
+   * @param maxStarting Maximum number of servers of the domain starting at a time, or 0 for no limit
+   * @param maxStartingPerCluster Maximum number of servers of a cluster starting at a time, or 0 for no limit
+   */
+  public StartupScheduler(int maxStarting, int maxStartingPerCluster) {
+    this.maxStarting = maxStarting;
+    this.maxStartingPerCluster = maxStartingPerCluster;
+  }
+
+  /**
+   * Returns true if this scheduler applies the specified limits
+   * @param maxStarting Maximum number of servers of the domain starting at a time, or 0 for no limit
+   * @param maxStartingPerCluster Maximum number of servers of a cluster starting at a time, or 0 for no limit
+   * @return true, if the limits are the same
+   */
+  public boolean hasLimits(int maxStarting, int maxStartingPerCluster) {
+    return this.maxStarting == maxStarting && this.maxStartingPerCluster == maxStartingPerCluster;
+  }
+
+  /**
+   * Creates a step that waits for a start permit, runs the server's startup steps while holding it, and then
+   * returns the permit, whether the startup steps completed or failed
+   * @param clusterName Name of the server's cluster, or null for a non-clustered server
+   * @param body Steps that start the server
+   * @param next Next processing step, once the server has started
+   * @return Asynchronous step
+   */
+  Step withPermit(String clusterName, Step body, Step next) {
+    return new AcquireStep(clusterName, new HoldPermitStep(body, next));
+  }
+
+  private boolean tryAcquire(String clusterName, Fiber fiber) {
+    if (!hasRoom(clusterName)) {
+      reclaimCancelled();
+      if (!hasRoom(clusterName)) {
+        return false;
+      }
+    }
+    if (clusterName != null && maxStartingPerCluster > 0) {
+      startingByCluster.merge(clusterName, 1, Integer::sum);
+    }
+    starting++;
+    permits.put(fiber, clusterName);
+    return true;
+  }
+
+  private boolean hasRoom(String clusterName) {
+    if (maxStarting > 0 && starting >= maxStarting) {
+      return false;
+    }
+    return clusterName == null || maxStartingPerCluster <= 0
+        || startingByCluster.getOrDefault(clusterName, 0) < maxStartingPerCluster;
+  }
+
+  // the fibers of a domain are cancelled when a newer attempt to start its servers replaces them
+  private void reclaimCancelled() {
+    for (Iterator<Map.Entry<Fiber, String>> it = permits.entrySet().iterator(); it.hasNext(); ) {
+      Map.Entry<Fiber, String> permit = it.next();
+      if (permit.getKey().isCancelled()) {
+        it.remove();
+        returnPermit(permit.getValue());
+      }
+    }
+  }
+
+  private void returnPermit(String clusterName) {
+    starting--;
+    if (clusterName != null && maxStartingPerCluster > 0) {
+      startingByCluster.merge(clusterName, -1, Integer::sum);
+    }
+  }
+
+  private void doRelease(Fiber fiber) {
+    List<Waiter> resumed = new ArrayList<>();
+    synchronized (this) {
+      if (!permits.containsKey(fiber)) {
+        // already reclaimed
+        return;
+      }
+      returnPermit(permits.remove(fiber));
+      // a server waiting on a full cluster does not hold up the servers of other clusters
+      for (Iterator<Waiter> it = waiters.iterator(); it.hasNext(); ) {
+        Waiter waiter = it.next();
+        if (waiter.fiber.isCancelled()) {
+          it.remove();
+        } else if (tryAcquire(waiter.clusterName, waiter.fiber)) {
+          it.remove();
+          resumed.add(waiter);
+        } else if (maxStarting > 0 && starting >= maxStarting) {
+          break;
+        }
+      }
+    }
+    for (Waiter waiter : resumed) {
+      waiter.fiber.resume(waiter.packet);
+    }
+  }
+
+  private void enqueue(Waiter waiter) {
+    synchronized (this) {
+      // a permit may have been returned since the step found none
+      if (!tryAcquire(waiter.clusterName, waiter.fiber)) {
+        waiters.add(waiter);
+        return;
+      }
+    }
+    waiter.fiber.resume(waiter.packet);
+  }
+
+  private static class Waiter {
+    private final String clusterName;
+    private final Fiber fiber;
+    private final Packet packet;
+
+    Waiter(String clusterName, Fiber fiber, Packet packet) {
+      this.clusterName = clusterName;
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+  }
+
+  private class AcquireStep extends Step {
+    private final String clusterName;
+
+    AcquireStep(String clusterName, Step next) {
+      super(next);
+      this.clusterName = clusterName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      synchronized (StartupScheduler.this) {
+        if (tryAcquire(clusterName, Fiber.current())) {
+          return doNext(packet);
+        }
+      }
+      return doSuspend(next, (fiber) -> enqueue(new Waiter(clusterName, fiber, packet)));
+    }
+  }
+
+  // runs the body in a child fiber, so that the permit is returned even if a step of the body throws
+  private class HoldPermitStep extends Step {
+    private final Step body;
+
+    HoldPermitStep(Step body, Step next) {
+      super(next);
+      this.body = body;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(next, (fiber) -> fiber.createChildFiber().start(body, packet, new CompletionCallback() {
+        @Override
+        public void onCompletion(Packet p) {
+          doRelease(fiber);
+          fiber.resume(p);
+        }
+
+        @Override
+        public void onThrowable(Packet p, Throwable throwable) {
+          doRelease(fiber);
+          fiber.terminate(throwable, p);
+        }
+      }));
+    }
+  }
+}
@@ -3,8 +3,6 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
-import java.util.Map;
-
 /**
  * Contains configuration for a Network Access Point
  */
@@ -15,15 +13,6 @@ public class NetworkAccessPoint {
   final Integer listenPort;
   final Integer publicPort;
 
-  NetworkAccessPoint(Map<String, Object> networkAccessPointConfigMap) {
-    this((String)networkAccessPointConfigMap.get("name"),
-            (String)networkAccessPointConfigMap.get("protocol"),
-            (Integer)networkAccessPointConfigMap.get("listenPort"),
-            (Integer)networkAccessPointConfigMap.get("publicPort")
-    );
-
-  }
-
   public NetworkAccessPoint(String name, String protocol, Integer listenPort, Integer publicPort) {
     this.name = name;
     this.protocol = protocol;
@@ -9,9 +9,10 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Step;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Contains configuration of a WLS cluster
@@ -20,7 +21,10 @@ public class WlsClusterConfig {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String clusterName;
-  private List<WlsServerConfig> serverConfigs = new ArrayList<>();
+  // statically configured servers
+  private final List<WlsServerConfig> serverConfigs;
+  // statically configured and dynamic servers, computed on first use
+  private volatile List<WlsServerConfig> allServerConfigs;
   private final WlsDynamicServersConfig dynamicServersConfig;
   private WlsDomainConfig wlsDomainConfig;
 
@@ -30,8 +34,7 @@ public class WlsClusterConfig {
    * @param clusterName Name of the WLS cluster
    */
   public WlsClusterConfig(String clusterName) {
-    this.clusterName = clusterName;
-    this.dynamicServersConfig = null;
+    this(clusterName, null, null);
   }
 
   /**
@@ -42,40 +45,38 @@ public class WlsClusterConfig {
    *                             cluster
    */
   public WlsClusterConfig(String clusterName, WlsDynamicServersConfig dynamicServersConfig) {
-    this.clusterName = clusterName;
-    this.dynamicServersConfig = dynamicServersConfig;
+    this(clusterName, dynamicServersConfig, null);
   }
 
   /**
-   * Creates a WlsClusterConfig object using an "clusters" item parsed from JSON result from WLS REST call
-   *
-   * @param clusterConfigMap Map containing "cluster" item parsed from JSON result from WLS REST call
-   * @param serverTemplates Map containing all server templates configuration read from the WLS domain
-   * @param domainName Name of the WLS domain that this WLS cluster belongs to
+   * Constructor that also provides the statically configured servers of the cluster
    *
-   * @return A new WlsClusterConfig object created based on the JSON result
+   * @param clusterName Name of the WLS cluster
+   * @param dynamicServersConfig A WlsDynamicServersConfig object containing the dynamic servers configuration for this
+   *                             cluster, or null if this is not a dynamic cluster
+   * @param serverConfigs A List of WlsServerConfig for the statically configured servers that belong to this cluster
    */
-  @SuppressWarnings("unchecked")
-  static WlsClusterConfig create(Map<String, Object> clusterConfigMap, Map<String, WlsServerConfig> serverTemplates, String domainName) {
-    String clusterName = (String) clusterConfigMap.get("name");
-    WlsDynamicServersConfig dynamicServersConfig =
-            WlsDynamicServersConfig.create((Map<String, Object>) clusterConfigMap.get("dynamicServers"), serverTemplates, clusterName, domainName);
-    // set dynamicServersConfig only if the cluster contains dynamic servers, i.e., its dynamic servers configuration
-    // contains non-null server template name
-    if (dynamicServersConfig.getServerTemplate() == null) {
-      dynamicServersConfig = null;
-    }
-    return new WlsClusterConfig(clusterName, dynamicServersConfig);
+  public WlsClusterConfig(String clusterName, WlsDynamicServersConfig dynamicServersConfig,
+                          List<WlsServerConfig> serverConfigs) {
+    this.clusterName = clusterName;
+    this.dynamicServersConfig = dynamicServersConfig;
+    this.serverConfigs = serverConfigs == null || serverConfigs.isEmpty() ?
+            Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(serverConfigs));
   }
 
   /**
-   * Add a statically configured WLS server to this cluster
+   * Creates a copy of this cluster that also contains a statically configured WLS server.  This cluster is not
+   * changed, so the WlsDomainConfig it belongs to, and that domain's index of servers by cluster, stay consistent;
+   * the copy belongs to no domain until a WlsDomainConfig is created with it.
    *
    * @param wlsServerConfig A WlsServerConfig object containing the configuration of the statically configured WLS server
    *                        that belongs to this cluster
+   * @return A new WlsClusterConfig object with the server added
    */
-  synchronized void addServerConfig(WlsServerConfig wlsServerConfig) {
-    serverConfigs.add(wlsServerConfig);
+  WlsClusterConfig withServerConfig(WlsServerConfig wlsServerConfig) {
+    List<WlsServerConfig> newServerConfigs = new ArrayList<>(serverConfigs);
+    newServerConfigs.add(wlsServerConfig);
+    return new WlsClusterConfig(clusterName, dynamicServersConfig, newServerConfigs);
   }
 
   /**
@@ -83,7 +84,7 @@ public class WlsClusterConfig {
    *
    * @return The number of servers that are statically configured in this cluster
    */
-  public synchronized int getClusterSize() {
+  public int getClusterSize() {
     return serverConfigs.size();
   }
 
@@ -118,21 +119,71 @@ public class WlsClusterConfig {
    *
    * @return A list of WlsServerConfig containing configurations of servers that belong to this cluster
    */
-  public synchronized List<WlsServerConfig> getServerConfigs() {
-    if (dynamicServersConfig != null) {
-      List<WlsServerConfig> result = new ArrayList<>(dynamicServersConfig.getDynamicClusterSize() + serverConfigs.size());
-      result.addAll(dynamicServersConfig.getServerConfigs());
-      result.addAll(serverConfigs);
-      return result;
+  public List<WlsServerConfig> getServerConfigs() {
+    List<WlsServerConfig> result = allServerConfigs;
+    if (result == null) {
+      List<WlsServerConfig> staticServerConfigs = serverConfigs;
+      List<WlsServerConfig> dynamicServerConfigs = dynamicServersConfig != null ?
+              dynamicServersConfig.getServerConfigs() : null;
+      if (dynamicServerConfigs == null || dynamicServerConfigs.isEmpty()) {
+        result = staticServerConfigs;
+      } else {
+        result = new ServerConfigList(dynamicServerConfigs, staticServerConfigs);
+      }
+      allServerConfigs = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the names of the servers that belong to this cluster, which includes both statically configured
+   * servers and dynamic servers. Unlike {@link #getServerConfigs()}, this does not create the configurations
+   * of the dynamic servers.
+   *
+   * @return A list containing the names of the servers that belong to this cluster
+   */
+  public List<String> getServerNames() {
+    List<String> dynamicServerNames = dynamicServersConfig != null ?
+            dynamicServersConfig.getServerNames() : Collections.emptyList();
+    List<WlsServerConfig> staticServerConfigs = serverConfigs;
+    List<String> result = new ArrayList<>(dynamicServerNames.size() + staticServerConfigs.size());
+    result.addAll(dynamicServerNames);
+    for (WlsServerConfig serverConfig : staticServerConfigs) {
+      result.add(serverConfig.getName());
+    }
+    return result;
+  }
+
+  /**
+   * Read-only view of the dynamic servers followed by the statically configured servers, which retrieves
+   * dynamic servers from the underlying list only when they are accessed
+   */
+  private static class ServerConfigList extends AbstractList<WlsServerConfig> {
+    private final List<WlsServerConfig> dynamicServerConfigs;
+    private final List<WlsServerConfig> staticServerConfigs;
+
+    ServerConfigList(List<WlsServerConfig> dynamicServerConfigs, List<WlsServerConfig> staticServerConfigs) {
+      this.dynamicServerConfigs = dynamicServerConfigs;
+      this.staticServerConfigs = staticServerConfigs;
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      int dynamicSize = dynamicServerConfigs.size();
+      return index < dynamicSize ? dynamicServerConfigs.get(index) : staticServerConfigs.get(index - dynamicSize);
+    }
+
+    @Override
+    public int size() {
+      return dynamicServerConfigs.size() + staticServerConfigs.size();
     }
-    return serverConfigs;
   }
 
   /**
    * Whether the cluster contains any statically configured servers
    * @return True if the cluster contains any statically configured servers
    */
-  public synchronized boolean hasStaticServers() {
+  public boolean hasStaticServers() {
     return !serverConfigs.isEmpty();
   }
 
@@ -3,14 +3,22 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,13 +30,18 @@ public class WlsDomainConfig {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   // Contains all configured WLS clusters in the WLS domain
-  private Map<String, WlsClusterConfig> wlsClusterConfigs = new HashMap<>();
+  private final Map<String, WlsClusterConfig> wlsClusterConfigs;
   // Contains all statically configured WLS servers in the WLS domain
-  private Map<String, WlsServerConfig> wlsServerConfigs = new HashMap<>();
+  private final Map<String, WlsServerConfig> wlsServerConfigs;
   // Contains all configured server templates in the WLS domain
-  private Map<String, WlsServerConfig> wlsServerTemplates = new HashMap<>();
+  private final Map<String, WlsServerConfig> wlsServerTemplates;
   // Contains all configured machines in the WLS domain
-  private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
+  private final Map<String, WlsMachineConfig> wlsMachineConfigs;
+
+  // Cluster, keyed by server name, of every static or dynamic server that belongs to a cluster
+  private final Map<String, WlsClusterConfig> serverClusterIndex;
+  // Names of the static or dynamic servers, keyed by machine name, that are assigned to each machine
+  private volatile Map<String, List<String>> machineServerIndex;
 
   // Name of this WLS domain (This is NOT the domain UID in the weblogic domain kubernetes CRD)
   private final String name;
@@ -45,17 +58,45 @@ public class WlsDomainConfig {
     return WlsDomainConfig.create(parsedResult);
   }
 
+  /**
+   * Compute a fingerprint of the json result from the WLS REST call. Two responses with the same
+   * fingerprint describe the same WebLogic configuration, so a previously created WlsDomainConfig
+   * can be reused rather than parsed again.
+   *
+   * @param jsonResult A String containing the JSON response from the WLS REST call
+   *
+   * @return Hex encoded SHA-256 digest of the JSON response, or null if jsonResult is null
+   */
+  public static String computeFingerprint(String jsonResult) {
+    if (jsonResult == null) {
+      return null;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(jsonResult.getBytes(StandardCharsets.UTF_8));
+      StringBuilder sb = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Constructor when no JSON response is available
    *
    * @param name Name of the WLS domain
    */
   public WlsDomainConfig(String name) {
-    this.name = name;
+    this(name, null, null, null, null);
   }
 
   /**
-   * Constructor
+   * Constructor. The WlsDomainConfig is an immutable snapshot of the WLS domain configuration, so the
+   * provided Maps are copied and the server to cluster index is computed once here.
    *
    * @param name Name of this WLS domain
    * @param wlsClusterConfigs A Map containing clusters configured in this WLS domain
@@ -63,21 +104,59 @@ public class WlsDomainConfig {
    * @param wlsServerTemplates A Map containing server templates configued in this WLS domain
    * @param wlsMachineConfigs A Map containing machines configured in the WLS domain
    */
-  WlsDomainConfig(String name, Map<String, WlsClusterConfig> wlsClusterConfigs,
-                  Map<String, WlsServerConfig> wlsServerConfigs,
-                  Map<String, WlsServerConfig> wlsServerTemplates,
-                  Map<String, WlsMachineConfig> wlsMachineConfigs) {
-    this.wlsClusterConfigs = wlsClusterConfigs;
-    this.wlsServerConfigs = wlsServerConfigs;
-    this.wlsServerTemplates = wlsServerTemplates;
-    this.wlsMachineConfigs = wlsMachineConfigs;
+  public WlsDomainConfig(String name, Map<String, WlsClusterConfig> wlsClusterConfigs,
+                         Map<String, WlsServerConfig> wlsServerConfigs,
+                         Map<String, WlsServerConfig> wlsServerTemplates,
+                         Map<String, WlsMachineConfig> wlsMachineConfigs) {
+    this.wlsClusterConfigs = snapshot(wlsClusterConfigs);
+    this.wlsServerConfigs = snapshot(wlsServerConfigs);
+    this.wlsServerTemplates = snapshot(wlsServerTemplates);
+    this.wlsMachineConfigs = snapshot(wlsMachineConfigs);
     this.name = name;
-    // set domainConfig for each WlsClusterConfig
-    if (wlsClusterConfigs != null) {
-      for (WlsClusterConfig wlsClusterConfig: wlsClusterConfigs.values()) {
-        wlsClusterConfig.setWlsDomainConfig(this);
+
+    Map<String, WlsClusterConfig> serverClusters = new HashMap<>();
+    for (WlsClusterConfig wlsClusterConfig: this.wlsClusterConfigs.values()) {
+      // set domainConfig for each WlsClusterConfig
+      wlsClusterConfig.setWlsDomainConfig(this);
+      for (String serverName : wlsClusterConfig.getServerNames()) {
+        serverClusters.putIfAbsent(serverName, wlsClusterConfig);
       }
     }
+    this.serverClusterIndex = serverClusters;
+  }
+
+  /**
+   * Index of server names by machine name. This is computed on first use as it needs the configurations of the
+   * dynamic servers.
+   */
+  private Map<String, List<String>> getMachineServerIndex() {
+    Map<String, List<String>> result = machineServerIndex;
+    if (result == null) {
+      result = new HashMap<>();
+      for (WlsServerConfig wlsServerConfig : wlsServerConfigs.values()) {
+        indexMachine(result, wlsServerConfig);
+      }
+      for (WlsClusterConfig wlsClusterConfig : wlsClusterConfigs.values()) {
+        for (WlsServerConfig wlsServerConfig : wlsClusterConfig.getServerConfigs()) {
+          if (wlsServerConfig.isDynamicServer()) {
+            indexMachine(result, wlsServerConfig);
+          }
+        }
+      }
+      machineServerIndex = result;
+    }
+    return result;
+  }
+
+  private static <T> Map<String, T> snapshot(Map<String, T> map) {
+    return map == null || map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(map));
+  }
+
+  private static void indexMachine(Map<String, List<String>> machineServers, WlsServerConfig wlsServerConfig) {
+    String machineName = wlsServerConfig.getMachineName();
+    if (machineName != null) {
+      machineServers.computeIfAbsent(machineName, k -> new ArrayList<>()).add(wlsServerConfig.getName());
+    }
   }
 
   /**
@@ -94,7 +173,7 @@ public class WlsDomainConfig {
    *
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
     return wlsClusterConfigs;
   }
 
@@ -105,7 +184,7 @@ public class WlsDomainConfig {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
+  public Map<String, WlsServerConfig> getServerConfigs() {
     return wlsServerConfigs;
   }
 
@@ -114,7 +193,7 @@ public class WlsDomainConfig {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -125,7 +204,7 @@ public class WlsDomainConfig {
    * @return The WlsClusterConfig object containing configuration of the WLS cluster with the given name. This methods
    * return an empty WlsClusterConfig object even if no WLS configuration is found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
+  public WlsClusterConfig getClusterConfig(String clusterName) {
     WlsClusterConfig result = null;
     if (clusterName != null) {
       result = wlsClusterConfigs.get(clusterName);
@@ -145,9 +224,9 @@ public class WlsDomainConfig {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given name. This methods
    * return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
     WlsServerConfig result = null;
-    if (serverName != null && wlsServerConfigs != null) {
+    if (serverName != null) {
       result = wlsServerConfigs.get(serverName);
     }
     return result;
@@ -160,14 +239,38 @@ public class WlsDomainConfig {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given name. This methods
    * return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
-    if (machineName != null && wlsMachineConfigs != null) {
+    if (machineName != null) {
       result = wlsMachineConfigs.get(machineName);
     }
     return result;
   }
 
+  /**
+   * Returns the configuration for the WLS cluster that the server with the given name belongs to. Unlike
+   * {@link #getServerConfig(String)}, dynamic servers are also considered.
+   *
+   * @param serverName name of the WLS server
+   * @return The WlsClusterConfig object containing configuration of the WLS cluster that the server belongs to, or
+   * null if the server is not a member of any WLS cluster
+   */
+  public WlsClusterConfig getClusterConfigForServer(String serverName) {
+    return serverName != null ? serverClusterIndex.get(serverName) : null;
+  }
+
+  /**
+   * Returns the names of the servers, including dynamic servers, that are assigned to the WLS machine with the
+   * given name.
+   *
+   * @param machineName name of the WLS machine
+   * @return An unmodifiable List of server names, which is empty if no server is assigned to the machine
+   */
+  public List<String> getServerNamesForMachine(String machineName) {
+    List<String> result = machineName != null ? getMachineServerIndex().get(machineName) : null;
+    return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+  }
+
   /**
    * Create a new WlsDomainConfig object based on the parsed JSON result from WLS admin server
    *
@@ -187,37 +290,31 @@ public class WlsDomainConfig {
     Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
 
     // process list of server templates
-    if (parsedResult.serverTemplates != null) {
-      for (Map<String, Object> thisServerTemplate : parsedResult.serverTemplates) {
-        WlsServerConfig wlsServerTemplate = WlsServerConfig.create(thisServerTemplate);
-        wlsServerTemplates.put(wlsServerTemplate.getName(), wlsServerTemplate);
+    for (WlsServerConfig wlsServerTemplate : parsedResult.serverTemplates) {
+      wlsServerTemplates.put(wlsServerTemplate.getName(), wlsServerTemplate);
+    }
+    // group statically configured servers by the cluster they belong to
+    Map<String, List<WlsServerConfig>> clusterMembers = new HashMap<>();
+    for (WlsServerConfig wlsServerConfig : parsedResult.servers) {
+      wlsServerConfigs.put(wlsServerConfig.getName(), wlsServerConfig);
+      String clusterName = parsedResult.serverClusterNames.get(wlsServerConfig.getName());
+      if (clusterName != null) {
+        clusterMembers.computeIfAbsent(clusterName, k -> new ArrayList<>()).add(wlsServerConfig);
       }
     }
     // process list of clusters (Note: must process server templates before processing clusters)
-    if (parsedResult.clusters != null) {
-      for (Map<String, Object> clusterConfig : parsedResult.clusters) {
-        WlsClusterConfig wlsClusterConfig = WlsClusterConfig.create(clusterConfig, wlsServerTemplates, name);
-        wlsClusterConfigs.put(wlsClusterConfig.getClusterName(), wlsClusterConfig);
-      }
+    for (ParsedCluster parsedCluster : parsedResult.clusters) {
+      WlsClusterConfig wlsClusterConfig = parsedCluster.create(wlsServerTemplates, name,
+              clusterMembers.remove(parsedCluster.name));
+      wlsClusterConfigs.put(wlsClusterConfig.getClusterName(), wlsClusterConfig);
     }
-    // process list of statically configured servers
-    if (parsedResult.servers != null) {
-      for (Map<String, Object> thisServer : parsedResult.servers) {
-        WlsServerConfig wlsServerConfig = WlsServerConfig.create(thisServer);
-        wlsServerConfigs.put(wlsServerConfig.getName(), wlsServerConfig);
-        String clusterName = WlsServerConfig.getClusterNameFromJsonMap(thisServer);
-        if (clusterName != null) {
-          WlsClusterConfig wlsClusterConfig = wlsClusterConfigs.computeIfAbsent(clusterName, WlsClusterConfig::new);
-          wlsClusterConfig.addServerConfig(wlsServerConfig);
-        }
-      }
+    // servers may refer to clusters that were not returned in the list of clusters
+    for (Map.Entry<String, List<WlsServerConfig>> entry : clusterMembers.entrySet()) {
+      wlsClusterConfigs.put(entry.getKey(), new WlsClusterConfig(entry.getKey(), null, entry.getValue()));
     }
     // process list of machines
-    if (parsedResult.machines != null) {
-      for (Map<String, Object> machineConfig : parsedResult.machines) {
-        WlsMachineConfig wlsMachineConfig = WlsMachineConfig.create(machineConfig);
-        wlsMachineConfigs.put(wlsMachineConfig.getName(), wlsMachineConfig);
-      }
+    for (WlsMachineConfig wlsMachineConfig : parsedResult.machines) {
+      wlsMachineConfigs.put(wlsMachineConfig.getName(), wlsMachineConfig);
     }
     return new WlsDomainConfig(name, wlsClusterConfigs, wlsServerConfigs, wlsServerTemplates, wlsMachineConfigs);
   }
@@ -238,41 +335,50 @@ public class WlsDomainConfig {
             "}";
   }
 
+  /**
+   * Payload of a search of the domainConfig tree for the time the domain configuration was last modified,
+   * which is much cheaper to answer than the search for the servers, clusters and machines.
+   *
+   * @return Search payload
+   */
+  public static String getModificationTimeSearchPayload() {
+    return "{ fields: [ 'lastModificationTime' ], links: [] }";
+  }
+
+  /**
+   * Read the time the domain configuration was last modified from the response to a search with
+   * {@link #getModificationTimeSearchPayload()}.
+   *
+   * @param jsonResult A String containing the JSON response from the WLS REST call
+   *
+   * @return The last modification time, or null if the response does not contain it
+   */
+  public static String parseModificationTime(String jsonResult) {
+    if (jsonResult == null) {
+      return null;
+    }
+    try {
+      JsonNode modificationTime = new ObjectMapper().readTree(jsonResult).path("lastModificationTime");
+      return modificationTime.isValueNode() ? modificationTime.asText() : null;
+    } catch (IOException e) {
+      LOGGER.warning(MessageKeys.JSON_PARSING_FAILED, jsonResult, e.getMessage());
+    }
+    return null;
+  }
+
   private static String getSearchFields() {
     return "'name' ";
   }
 
   /**
-   * Parse the json string containing WLS configuration and return a list containing a map of (server
-   * attribute name, attribute value).
+   * Parse the json string containing WLS configuration into the configuration objects it describes.
    *
    * @param jsonString JSON string containing WLS configuration to be parsed
    * @return a ParsedJson object containing WebLogic domain configuration by parsing the given JSON string
    */
-  @SuppressWarnings("unchecked")
   private static ParsedJson parseJson(String jsonString) {
-    ObjectMapper mapper = new ObjectMapper();
     try {
-      ParsedJson parsedJson = new ParsedJson();
-      Map result = mapper.readValue(jsonString, Map.class);
-      parsedJson.domainName = (String) result.get("name");
-      Map servers = (Map<String, Object>) result.get("servers");
-      if (servers != null) {
-        parsedJson.servers = (List<Map<String, Object>>) servers.get("items");
-      }
-      Map serverTemplates = (Map<String, Object>) result.get("serverTemplates");
-      if (serverTemplates != null) {
-        parsedJson.serverTemplates = (List<Map<String, Object>>) serverTemplates.get("items");
-      }
-      Map clusters = (Map<String, Object>) result.get("clusters");
-      if (clusters != null) {
-        parsedJson.clusters = (List<Map<String, Object>>) clusters.get("items");
-      }
-      Map machines = (Map<String, Object>) result.get("machines");
-      if (machines != null) {
-        parsedJson.machines = (List<Map<String, Object>>) machines.get("items");
-      }
-      return parsedJson;
+      return WlsDomainConfigParser.parse(jsonString);
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.JSON_PARSING_FAILED, jsonString, e.getMessage());
     }
@@ -336,10 +442,44 @@ public class WlsDomainConfig {
    */
   static class ParsedJson {
     String domainName;
-    List<Map<String, Object>> servers;
-    List<Map<String, Object>> serverTemplates;
-    List<Map<String, Object>> clusters;
-    List<Map<String, Object>> machines;
+    List<WlsServerConfig> servers = new ArrayList<>();
+    // name of the cluster, if any, that each statically configured server belongs to
+    Map<String, String> serverClusterNames = new HashMap<>();
+    List<WlsServerConfig> serverTemplates = new ArrayList<>();
+    List<ParsedCluster> clusters = new ArrayList<>();
+    List<WlsMachineConfig> machines = new ArrayList<>();
+  }
+
+  /**
+   * A "clusters" item read by the parser. Creation of the WlsClusterConfig is deferred until all
+   * server templates have been read, since the dynamic servers configuration refers to one of them.
+   */
+  static class ParsedCluster {
+    String name;
+    boolean hasDynamicServers;
+    Integer dynamicClusterSize;
+    Integer maxDynamicClusterSize;
+    String serverNamePrefix;
+    boolean calculatedListenPorts;
+    String machineNameMatchExpression;
+    String serverTemplateName;
+    List<String> dynamicServerNames;
+
+    WlsClusterConfig create(Map<String, WlsServerConfig> serverTemplates, String domainName,
+                            List<WlsServerConfig> serverConfigs) {
+      WlsDynamicServersConfig dynamicServersConfig = null;
+      if (hasDynamicServers) {
+        dynamicServersConfig = WlsDynamicServersConfig.create(dynamicClusterSize, maxDynamicClusterSize,
+                serverNamePrefix, calculatedListenPorts, machineNameMatchExpression, serverTemplateName,
+                dynamicServerNames, serverTemplates, name, domainName);
+        // set dynamicServersConfig only if the cluster contains dynamic servers, i.e., its dynamic servers
+        // configuration contains non-null server template name
+        if (dynamicServersConfig.getServerTemplate() == null) {
+          dynamicServersConfig = null;
+        }
+      }
+      return new WlsClusterConfig(name, dynamicServersConfig, serverConfigs);
+    }
   }
 
   @Override
@@ -0,0 +1,336 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the JSON result of the WLS REST domainConfig search request. The configuration
+ * objects are created as the tokens are read, so no intermediate tree of Maps and Lists is built for
+ * the whole response.
+ */
+class WlsDomainConfigParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private WlsDomainConfigParser() {
+  }
+
+  /**
+   * Parse the json string containing WLS configuration
+   *
+   * @param jsonString JSON string containing WLS configuration to be parsed
+   * @return a ParsedJson object containing WebLogic domain configuration
+   * @throws IOException if the JSON string cannot be parsed
+   */
+  static WlsDomainConfig.ParsedJson parse(String jsonString) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(jsonString)) {
+      WlsDomainConfig.ParsedJson parsedJson = new WlsDomainConfig.ParsedJson();
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        switch (field) {
+          case "name":
+            parsedJson.domainName = readString(parser);
+            break;
+          case "servers":
+            readItems(parser, () -> readServer(parser, parsedJson));
+            break;
+          case "serverTemplates":
+            readItems(parser, () -> parsedJson.serverTemplates.add(readServerConfig(parser, null)));
+            break;
+          case "clusters":
+            readItems(parser, () -> parsedJson.clusters.add(readCluster(parser)));
+            break;
+          case "machines":
+            readItems(parser, () -> parsedJson.machines.add(readMachine(parser)));
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      return parsedJson;
+    }
+  }
+
+  private interface ItemReader {
+    void read() throws IOException;
+  }
+
+  /**
+   * Read a collection element of the form { "items": [ {...}, {...} ] }, invoking the item reader
+   * with the parser positioned on the START_OBJECT token of each item
+   */
+  private static void readItems(JsonParser parser, ItemReader itemReader) throws IOException {
+    if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          itemReader.read();
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static void readServer(JsonParser parser, WlsDomainConfig.ParsedJson parsedJson) throws IOException {
+    String[] clusterName = new String[1];
+    WlsServerConfig serverConfig = readServerConfig(parser, clusterName);
+    parsedJson.servers.add(serverConfig);
+    if (clusterName[0] != null) {
+      parsedJson.serverClusterNames.put(serverConfig.getName(), clusterName[0]);
+    }
+  }
+
+  /**
+   * Read a "servers" or "serverTemplates" item
+   *
+   * @param parser parser positioned on the START_OBJECT token of the item
+   * @param clusterName optional single element array that receives the name of the cluster the server belongs to
+   * @return A new WlsServerConfig object
+   */
+  private static WlsServerConfig readServerConfig(JsonParser parser, String[] clusterName) throws IOException {
+    String name = null;
+    Integer listenPort = null;
+    String listenAddress = null;
+    Integer sslListenPort = null;
+    boolean sslPortEnabled = false;
+    String machineName = null;
+    List<NetworkAccessPoint> networkAccessPoints = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          name = readString(parser);
+          break;
+        case "listenPort":
+          listenPort = readInteger(parser);
+          break;
+        case "listenAddress":
+          listenAddress = readString(parser);
+          break;
+        case "machine":
+          machineName = readReference(parser, "machines");
+          break;
+        case "cluster":
+          String cluster = readReference(parser, "clusters");
+          if (clusterName != null) {
+            clusterName[0] = cluster;
+          }
+          break;
+        case "SSL":
+          if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+              String sslField = parser.getCurrentName();
+              parser.nextToken();
+              if ("listenPort".equals(sslField)) {
+                sslListenPort = readInteger(parser);
+              } else if ("enabled".equals(sslField)) {
+                sslPortEnabled = readBoolean(parser);
+              } else {
+                parser.skipChildren();
+              }
+            }
+          } else {
+            parser.skipChildren();
+          }
+          break;
+        case "networkAccessPoints":
+          readItems(parser, () -> networkAccessPoints.add(readNetworkAccessPoint(parser)));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return new WlsServerConfig(name, listenPort, listenAddress, sslListenPort, sslPortEnabled, machineName,
+            networkAccessPoints);
+  }
+
+  private static NetworkAccessPoint readNetworkAccessPoint(JsonParser parser) throws IOException {
+    String name = null;
+    String protocol = null;
+    Integer listenPort = null;
+    Integer publicPort = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          name = readString(parser);
+          break;
+        case "protocol":
+          protocol = readString(parser);
+          break;
+        case "listenPort":
+          listenPort = readInteger(parser);
+          break;
+        case "publicPort":
+          publicPort = readInteger(parser);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return new NetworkAccessPoint(name, protocol, listenPort, publicPort);
+  }
+
+  private static WlsDomainConfig.ParsedCluster readCluster(JsonParser parser) throws IOException {
+    WlsDomainConfig.ParsedCluster cluster = new WlsDomainConfig.ParsedCluster();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("name".equals(field)) {
+        cluster.name = readString(parser);
+      } else if ("dynamicServers".equals(field) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+        readDynamicServers(parser, cluster);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return cluster;
+  }
+
+  private static void readDynamicServers(JsonParser parser, WlsDomainConfig.ParsedCluster cluster) throws IOException {
+    cluster.hasDynamicServers = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case "dynamicClusterSize":
+          cluster.dynamicClusterSize = readInteger(parser);
+          break;
+        case "maxDynamicClusterSize":
+          cluster.maxDynamicClusterSize = readInteger(parser);
+          break;
+        case "serverNamePrefix":
+          cluster.serverNamePrefix = readString(parser);
+          break;
+        case "calculatedListenPorts":
+          cluster.calculatedListenPorts = readBoolean(parser);
+          break;
+        case "machineNameMatchExpression":
+          cluster.machineNameMatchExpression = readString(parser);
+          break;
+        case "serverTemplate":
+          cluster.serverTemplateName = readReference(parser, "serverTemplates");
+          break;
+        case "dynamicServerNames":
+          cluster.dynamicServerNames = readStrings(parser);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+  }
+
+  private static WlsMachineConfig readMachine(JsonParser parser) throws IOException {
+    String name = null;
+    Integer nodeManagerListenPort = null;
+    String nodeManagerListenAddress = null;
+    String nodeManagerType = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("name".equals(field)) {
+        name = readString(parser);
+      } else if ("nodeManager".equals(field) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String nmField = parser.getCurrentName();
+          parser.nextToken();
+          if ("listenAddress".equals(nmField)) {
+            nodeManagerListenAddress = readString(parser);
+          } else if ("listenPort".equals(nmField)) {
+            nodeManagerListenPort = readInteger(parser);
+          } else if ("NMType".equals(nmField)) {
+            nodeManagerType = readString(parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return new WlsMachineConfig(name, nodeManagerListenPort, nodeManagerListenAddress, nodeManagerType);
+  }
+
+  /**
+   * Read a reference to another configuration element, which the REST call returns in the form
+   * ["clusters", "DockerCluster"]. The first entry that is not the collection name is assumed to be
+   * the name of the referenced element.
+   */
+  private static String readReference(JsonParser parser, String collectionName) throws IOException {
+    String result = null;
+    if (parser.getCurrentToken() == JsonToken.START_ARRAY) {
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        String value = readString(parser);
+        if (result == null && !collectionName.equals(value)) {
+          result = value;
+        }
+      }
+    } else {
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  private static List<String> readStrings(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    List<String> result = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      result.add(readString(parser));
+    }
+    return result;
+  }
+
+  private static String readString(JsonParser parser) throws IOException {
+    JsonToken token = parser.getCurrentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token.isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getText();
+  }
+
+  private static Integer readInteger(JsonParser parser) throws IOException {
+    return parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : skipValue(parser);
+  }
+
+  private static boolean readBoolean(JsonParser parser) throws IOException {
+    JsonToken token = parser.getCurrentToken();
+    parser.skipChildren();
+    return token == JsonToken.VALUE_TRUE;
+  }
+
+  private static Integer skipValue(JsonParser parser) throws IOException {
+    parser.skipChildren();
+    return null;
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+    if (actual != expected) {
+      throw new IOException("Expected " + expected + " but found " + actual);
+    }
+  }
+}
@@ -7,9 +7,11 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Contains values from a WLS dynamic servers configuration, which configures a WLS dynamic cluster
@@ -27,42 +29,41 @@ public class WlsDynamicServersConfig {
   List<WlsServerConfig> serverConfigs;
 
   /**
+   * Creates a WlsDynamicServersConfig object using values read from the "dynamicServers" item of the JSON result
+   * from WLS REST call
    *
-   * Creates a WlsDynamicServersConfig object using an "dynamicServers" item parsed from JSON result from WLS REST call
-   *
-   * @param dynamicServerConfig Map containing "dynamicServers" item parsed from JSON result from WLS REST call
+   * @param dynamicClusterSize current size of the dynamic cluster
+   * @param maxDynamicClusterSize maximum size of the dynamic cluster
+   * @param serverNamePrefix prefix for names of servers in this dynamic cluster
+   * @param calculatedListenPorts whether listen ports are fixed or calculated based on server index
+   * @param machineNameMatchExpression the expression is used when determining machines to use for server assignments
+   * @param serverTemplateName name of the server template of servers in the dynamic cluster
+   * @param dynamicServerNames names of the dynamic servers corresponding to the current cluster size
    * @param serverTemplates Map containing all server templates configuration read from the WLS domain
    * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
    * @param domainName Name of the WLS domain that this WLS cluster belongs to
    *
-   * @return A new WlsDynamicServersConfig object created based on the JSON result
+   * @return A new WlsDynamicServersConfig object
    */
-  @SuppressWarnings("unchecked")
-  static WlsDynamicServersConfig create(Map<String, Object> dynamicServerConfig, Map<String, WlsServerConfig> serverTemplates,
-                          String clusterName, String domainName) {
-    Integer dynamicClusterSize = null;
-    Integer maxDynamicClusterSize = null;
-    String serverNamePrefix = null;
-    boolean calculatedListenPorts = false;
-    String machineNameMatchExpression = null;
+  static WlsDynamicServersConfig create(Integer dynamicClusterSize, Integer maxDynamicClusterSize,
+                                        String serverNamePrefix, boolean calculatedListenPorts,
+                                        String machineNameMatchExpression, String serverTemplateName,
+                                        List<String> dynamicServerNames, Map<String, WlsServerConfig> serverTemplates,
+                                        String clusterName, String domainName) {
     WlsServerConfig serverTemplate = null;
     List<WlsServerConfig> serverConfigs = null;
-    if (dynamicServerConfig != null) {
-      dynamicClusterSize = (Integer) dynamicServerConfig.get("dynamicClusterSize");
-      maxDynamicClusterSize = (Integer) dynamicServerConfig.get("maxDynamicClusterSize");
-      serverNamePrefix = (String) dynamicServerConfig.get("serverNamePrefix");
-      calculatedListenPorts = (boolean) dynamicServerConfig.get("calculatedListenPorts");
-      machineNameMatchExpression = (String) dynamicServerConfig.get("machineNameMatchExpression");
-      String serverTemplateName = getServerTemplateNameFromConfig(dynamicServerConfig);
-
-      if (serverTemplateName != null) {
-        serverTemplate = serverTemplates.get(serverTemplateName);
-        if (serverTemplate == null) {
-          LOGGER.warning(MessageKeys.WLS_SERVER_TEMPLATE_NOT_FOUND, serverTemplateName, clusterName);
-        } else {
-          serverConfigs = createServerConfigsFromTemplate((List<String>) dynamicServerConfig.get("dynamicServerNames"),
-                  serverTemplate, clusterName, domainName, calculatedListenPorts);
-        }
+    // only the servers within the current dynamic cluster size can be started
+    if (dynamicServerNames != null && dynamicClusterSize != null && dynamicClusterSize >= 0
+            && dynamicServerNames.size() > dynamicClusterSize) {
+      dynamicServerNames = dynamicServerNames.subList(0, dynamicClusterSize);
+    }
+    if (serverTemplateName != null) {
+      serverTemplate = serverTemplates.get(serverTemplateName);
+      if (serverTemplate == null) {
+        LOGGER.warning(MessageKeys.WLS_SERVER_TEMPLATE_NOT_FOUND, serverTemplateName, clusterName);
+      } else {
+        serverConfigs = createServerConfigsFromTemplate(dynamicServerNames,
+                serverTemplate, clusterName, domainName, calculatedListenPorts);
       }
     }
     return new WlsDynamicServersConfig(dynamicClusterSize, maxDynamicClusterSize, serverNamePrefix,
@@ -94,7 +95,10 @@ public class WlsDynamicServersConfig {
   }
 
   /**
-   * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current cluster size
+   * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current cluster size.
+   * The WlsServerConfig of each dynamic server is only created from the server template when it is first
+   * retrieved from the list, so that the cost of a dynamic cluster depends on the servers that are actually
+   * used rather than on the configured cluster size.
    *
    * @param serverNames Names of the servers corresponding to the current cluster size
    * @param serverTemplate WlsServerConfig object containing template used for creating dynamic servers in this cluster
@@ -107,19 +111,77 @@ public class WlsDynamicServersConfig {
    static List<WlsServerConfig> createServerConfigsFromTemplate(List<String> serverNames, WlsServerConfig serverTemplate,
                                                                 String clusterName, String domainName,
                                                                 boolean calculatedListenPorts) {
-    List<WlsServerConfig> serverConfigs = null;
     if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex = 1; // hard coded to 1 for the time being. This will be configurable in later version of WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
-                WlsDynamicServerConfig.create(serverName, index + startingServerIndex,
-                        clusterName, domainName, calculatedListenPorts, serverTemplate));
-        index++;
+      return new DynamicServerConfigList(serverNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    }
+    return null;
+  }
+
+  /**
+   * List of dynamic server configurations that creates each WlsDynamicServerConfig from the server template
+   * the first time it is retrieved
+   */
+  private static class DynamicServerConfigList extends AbstractList<WlsServerConfig> {
+    // hard coded to 1 for the time being. This will be configurable in later version of WLS
+    private static final int STARTING_SERVER_INDEX = 1;
+
+    private final List<String> serverNames;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+    private final boolean calculatedListenPorts;
+    private final AtomicReferenceArray<WlsServerConfig> serverConfigs;
+
+    DynamicServerConfigList(List<String> serverNames, WlsServerConfig serverTemplate, String clusterName,
+                            String domainName, boolean calculatedListenPorts) {
+      this.serverNames = new ArrayList<>(serverNames);
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+      this.calculatedListenPorts = calculatedListenPorts;
+      this.serverConfigs = new AtomicReferenceArray<>(serverNames.size());
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      WlsServerConfig result = serverConfigs.get(index);
+      if (result == null) {
+        serverConfigs.compareAndSet(index, null, WlsDynamicServerConfig.create(serverNames.get(index),
+                index + STARTING_SERVER_INDEX, clusterName, domainName, calculatedListenPorts, serverTemplate));
+        result = serverConfigs.get(index);
       }
+      return result;
     }
-    return serverConfigs;
+
+    @Override
+    public int size() {
+      return serverNames.size();
+    }
+
+    @Override
+    public String toString() {
+      // avoid creating every dynamic server just to log the configuration
+      return serverNames.toString();
+    }
+  }
+
+  /**
+   * Return the names of the dynamic servers that can be started under the current cluster size, without
+   * creating their WlsServerConfig objects
+   *
+   * @return A list containing the names of the dynamic servers, which is empty if there are none
+   */
+  public List<String> getServerNames() {
+    if (serverConfigs instanceof DynamicServerConfigList) {
+      return ((DynamicServerConfigList) serverConfigs).serverNames;
+    }
+    List<String> result = new ArrayList<>();
+    if (serverConfigs != null) {
+      for (WlsServerConfig serverConfig : serverConfigs) {
+        result.add(serverConfig.getName());
+      }
+    }
+    return result;
   }
 
   /**
@@ -157,28 +219,6 @@ public class WlsDynamicServersConfig {
     return serverConfigs;
   }
 
-  /**
-   * Helper method to extract the server template name from the Map obtained from parsing the "dynamicServers" element
-   * from the REST result.
-   *
-   * @param dynamicServerConfig Map containing the "dynamicServers" element from the REST call
-   * @return Name of the server template associated with this dynamic server configuration
-   *
-   */
-  private static String getServerTemplateNameFromConfig(Map dynamicServerConfig) {
-    // dynamicServerConfig contains a "serverTemplates" entry from the REST call which is in the form: "serverTemplate": ["serverTemplates", "my-server-template-name"]
-    List serverTemplatesList = (List) dynamicServerConfig.get("serverTemplate");
-    if (serverTemplatesList != null) {
-      for (Object value : serverTemplatesList) {
-        // the first entry that is not "serverTemplates" is assumed to be the server template name
-        if (!"serverTemplates".equals(value)) {
-          return (String) value;
-        }
-      }
-    }
-    return null;
-  }
-
   /**
    * Return the server template associated with this dynamic servers configuration
    * @return The server template associated with this dynamic servers configuration
@@ -3,9 +3,6 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
-
-import java.util.Map;
-
 /**
  * Contains values from a WLS machine configuration
  */
@@ -23,28 +20,6 @@ public class WlsMachineConfig {
     this.nodeManagerType = nodeManagerType;
   }
 
-  /**
-   * Creates a WlsMachineConfig object using an "machines" item parsed from JSON result from WLS REST call
-   *
-   * @param machineConfigMap Map containing "machine" item parsed from JSON result from WLS REST call
-   *
-   * @return A new WlsMachineConfig object created based on the JSON result
-   */
-  @SuppressWarnings("unchecked")
-  static WlsMachineConfig create(Map<String, Object> machineConfigMap) {
-    String machineName = (String) machineConfigMap.get("name");
-    Map nodeManager = (Map<String, Object>) machineConfigMap.get("nodeManager");
-    Integer nodeManagerListenPort = null;
-    String nodeManagerListenAddress = null;
-    String nodeManagerType = null;
-    if (nodeManager != null) {
-      nodeManagerListenAddress = (String) nodeManager.get("listenAddress");
-      nodeManagerListenPort = (Integer) nodeManager.get("listenPort");
-      nodeManagerType = (String) nodeManager.get("NMType");
-    }
-    return new WlsMachineConfig(machineName, nodeManagerListenPort, nodeManagerListenAddress, nodeManagerType);
-  }
-
   /**
    *
    * @return Name of the machine that this WlsMachineConfig is created for
@@ -10,10 +10,15 @@ import oracle.kubernetes.weblogic.domain.v1.ServerHealth;
 import oracle.kubernetes.weblogic.domain.v1.SubsystemHealth;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.http.HTTPException;
 import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Histogram;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -95,10 +100,35 @@ public class WlsRetriever {
   private static final int SCALE = 100;
   private static final int MAX = 10000;
 
+  private static final Histogram LATENCY = MetricsRegistry.getInstance().histogram(
+      "operator_weblogic_request_duration_seconds",
+      "Time until a WebLogic REST request of the operator responded or failed.", "domain", "request");
+  private static final Counter FAILURES = MetricsRegistry.getInstance().counter(
+      "operator_weblogic_request_failures_total",
+      "WebLogic REST requests of the operator that failed.", "domain", "request");
+  private static final String SCALE_REQUEST = "scale";
+
   private enum RequestType {
     CONFIG,
     HEALTH
   }
+
+  // issues a WebLogic REST request of the domain and records its latency
+  private static Result executePost(HttpClient httpClient, String url, String serviceURL, String payload,
+      String domainUID, String request) throws HTTPException {
+    long startNanos = System.nanoTime();
+    boolean successful = false;
+    try {
+      Result result = httpClient.executePostUrlOnServiceClusterIP(url, serviceURL, payload, true);
+      successful = true;
+      return result;
+    } finally {
+      LATENCY.observeSince(startNanos, domainUID, request);
+      if (!successful) {
+        FAILURES.inc(domainUID, request);
+      }
+    }
+  }
   
   /**
    * Creates asynchronous {@link Step} to read configuration from an admin server
@@ -207,11 +237,21 @@ public class WlsRetriever {
           DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
           long startTime = System.currentTimeMillis();
+          long startNanos = System.nanoTime();
+          String domainUID = info.getDomain().getSpec().getDomainUID();
 
           String serviceURL = HttpClient.getServiceURL(info.getAdmin().getService().get());
 
-          boolean successful = updateDynamicClusterSizeWithServiceURL(wlsClusterConfig,
-                  targetClusterSize, httpClient, serviceURL);
+          boolean successful = false;
+          try {
+            successful = updateDynamicClusterSizeWithServiceURL(wlsClusterConfig,
+                targetClusterSize, httpClient, serviceURL);
+          } finally {
+            LATENCY.observeSince(startNanos, domainUID, SCALE_REQUEST);
+            if (!successful) {
+              FAILURES.inc(domainUID, SCALE_REQUEST);
+            }
+          }
 
           if (successful) {
             LOGGER.info(MessageKeys.WLS_CLUSTER_SIZE_UPDATED, clusterName, targetClusterSize, (System.currentTimeMillis() - startTime));
@@ -226,6 +266,17 @@ public class WlsRetriever {
     }
   }
 
+  // returns the time the domain configuration was last modified, or null if it could not be read
+  private static String readModificationTime(HttpClient httpClient, String serviceURL, String domainUID) {
+    try {
+      return WlsDomainConfig.parseModificationTime(executePost(httpClient,
+          WlsDomainConfig.getRetrieveServersSearchUrl(), serviceURL,
+          WlsDomainConfig.getModificationTimeSearchPayload(), domainUID, "config-version").getResponse());
+    } catch (HTTPException e) {
+      return null;
+    }
+  }
+
   private static final class WithHttpClientStep extends Step {
     private final RequestType requestType;
     private final V1Service service;
@@ -250,12 +301,32 @@ public class WlsRetriever {
 
         if (RequestType.CONFIG.equals(requestType)) {
           WlsDomainConfig wlsDomainConfig = null;
-          String jsonResult = httpClient.executePostUrlOnServiceClusterIP(
-              WlsDomainConfig.getRetrieveServersSearchUrl(), serviceURL,
-              WlsDomainConfig.getRetrieveServersSearchPayload(),
-          true).getResponse();
-
-          wlsDomainConfig = WlsDomainConfig.create(jsonResult);
+          String domainUID = dom.getSpec().getDomainUID();
+
+          // Ask the admin server when the domain configuration was last modified, and only search it
+          // for the servers, clusters and machines when that differs from the time of the cached scan
+          String modificationTime = readModificationTime(httpClient, serviceURL, domainUID);
+          WlsDomainConfig cachedConfig = info.getScan();
+          String fingerprint = info.getScanFingerprint();
+          if (cachedConfig != null && modificationTime != null && modificationTime.equals(fingerprint)) {
+            wlsDomainConfig = cachedConfig;
+            LOGGER.fine(MessageKeys.WLS_CONFIGURATION_UNCHANGED, fingerprint);
+          } else {
+            String jsonResult = executePost(httpClient,
+                WlsDomainConfig.getRetrieveServersSearchUrl(), serviceURL,
+                WlsDomainConfig.getRetrieveServersSearchPayload(),
+                domainUID, "config").getResponse();
+
+            // Without a modification time, the response is its own fingerprint
+            String previous = fingerprint;
+            fingerprint = modificationTime != null ? modificationTime : WlsDomainConfig.computeFingerprint(jsonResult);
+            if (cachedConfig != null && fingerprint != null && fingerprint.equals(previous)) {
+              wlsDomainConfig = cachedConfig;
+              LOGGER.fine(MessageKeys.WLS_CONFIGURATION_UNCHANGED, fingerprint);
+            } else {
+              wlsDomainConfig = WlsDomainConfig.create(jsonResult);
+            }
+          }
 
           List<ConfigUpdate> suggestedConfigUpdates = new ArrayList<>();
 
@@ -264,6 +335,7 @@ public class WlsRetriever {
           wlsDomainConfig.validate(dom.getSpec(), suggestedConfigUpdates);
 
           info.setScan(wlsDomainConfig);
+          info.setScanFingerprint(fingerprint);
           info.setLastScanTime(new DateTime());
 
           LOGGER.info(MessageKeys.WLS_CONFIGURATION_READ, (System.currentTimeMillis() - ((Long) packet.get(START_TIME))), wlsDomainConfig);
@@ -280,9 +352,10 @@ public class WlsRetriever {
           }
 
         } else { // RequestType.HEALTH
-          String jsonResult = httpClient.executePostUrlOnServiceClusterIP(
+          String jsonResult = executePost(httpClient,
               getRetrieveHealthSearchUrl(), serviceURL,
-              getRetrieveHealthSearchPayload(), true).getResponse();
+              getRetrieveHealthSearchPayload(),
+              dom.getSpec().getDomainUID(), "health").getResponse();
 
           ObjectMapper mapper = new ObjectMapper();
           JsonNode root = mapper.readTree(jsonResult);
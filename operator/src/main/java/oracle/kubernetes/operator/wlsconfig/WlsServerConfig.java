@@ -3,9 +3,7 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Contains configuration of a WebLogic server
@@ -76,42 +74,6 @@ public class WlsServerConfig {
     return networkAccessPoints;
   }
 
-  /**
-   * Creates a WLSServerConfig object using an "servers" or "serverTemplates" item parsed from JSON result from
-   * WLS REST call
-   *
-   * @param serverConfigMap A Map containing the parsed "servers" or "serverTemplates" element for
-   *                        a WLS server or WLS server template.
-   * @return A new WlsServerConfig object using the provided configuration from the configuration map
-   */
-  @SuppressWarnings("unchecked")
-  static WlsServerConfig create(Map<String, Object> serverConfigMap) {
-    // parse the configured network access points or channels
-    Map networkAccessPointsMap = (Map<String, Object>) serverConfigMap.get("networkAccessPoints");
-    List<NetworkAccessPoint> networkAccessPoints = new ArrayList<>();
-    if (networkAccessPointsMap != null) {
-      List<Map<String, Object>> networkAccessPointItems =  (List<Map<String, Object>>) networkAccessPointsMap.get("items");
-      if (networkAccessPointItems != null && networkAccessPointItems.size() > 0) {
-        for (Map<String, Object> networkAccessPointConfigMap:  networkAccessPointItems) {
-          NetworkAccessPoint networkAccessPoint = new NetworkAccessPoint(networkAccessPointConfigMap);
-          networkAccessPoints.add(networkAccessPoint);
-        }
-      }
-    }
-    // parse the SSL configuration
-    Map<String, Object> sslMap = (Map<String, Object>) serverConfigMap.get("SSL");
-    Integer sslListenPort = (sslMap == null)? null: (Integer) sslMap.get("listenPort");
-    boolean sslPortEnabled = (sslMap == null)? false: (boolean) sslMap.get("enabled");
-
-    return new WlsServerConfig((String) serverConfigMap.get("name"),
-            (Integer) serverConfigMap.get("listenPort"),
-            (String) serverConfigMap.get("listenAddress"),
-            sslListenPort,
-            sslPortEnabled,
-            getMachineNameFromJsonMap(serverConfigMap),
-            networkAccessPoints);
-  }
-
   /**
    * Construct a WlsServerConfig object using values provided
    *
@@ -136,47 +98,6 @@ public class WlsServerConfig {
     this.machineName = machineName;
   }
 
-  /**
-   * Helper method to parse the cluster name from an item from the Json "servers" or "serverTemplates" element
-   * @param serverMap Map containing parsed Json "servers" or "serverTemplates" element
-   * @return Cluster name contained in the Json element
-   */
-  static String getClusterNameFromJsonMap(Map<String, Object> serverMap) {
-    // serverMap contains a "cluster" entry from the REST call which is in the form: "cluster": ["clusters", "DockerCluster"]
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    List<String> clusterList = (List) serverMap.get("cluster");
-    if (clusterList != null) {
-      for (String value : clusterList) {
-        // the first entry that is not "clusters" is assumed to be the cluster name
-        if (!"clusters".equals(value)) {
-          return value;
-        }
-      }
-    }
-    return null;
-  }
-
-  /**
-   * Helper method to parse the machine name from an item from the Json "servers" or "serverTemplates" element
-   * @param serverMap Map containing parsed Json "servers" or "serverTemplates" element
-   * @return Machine name contained in the Json element
-   */
-  static String getMachineNameFromJsonMap(Map<String, Object> serverMap) {
-    // serverMap contains a "machine" entry from the REST call which is in the form: "machine": ["machines", "domain1-machine1"]
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    List<String> clusterList = (List) serverMap.get("machine");
-    if (clusterList != null) {
-      for (String value : clusterList) {
-        // the first entry that is not "machines" is assumed to be the machine name
-        if (!"machines".equals(value)) {
-          return value;
-        }
-      }
-    }
-    return null;
-  }
-
-
   /**
    * Whether this server is a dynamic server, ie, not statically configured
    * @return True if this server is a dynamic server, false if this server is configured statically
@@ -8,6 +8,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
@@ -16,12 +19,27 @@ public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
   
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-	  return wrap(container, Executors.newScheduledThreadPool(DEFAULT_THREAD_COUNT, 
-			  new DaemonThreadFactory(id)));
+	  return wrappedExecutorService(id, container, DEFAULT_THREAD_COUNT);
+  }
+
+  /**
+   * Creates an executor whose daemon threads run in the container
+   * @param id Executor id, used to name the threads
+   * @param container Container, or null
+   * @param threadCount Number of threads
+   * @return executor
+   */
+  public static ScheduledExecutorService wrappedExecutorService(String id, Container container, int threadCount) {
+    return wrap(container, Executors.newScheduledThreadPool(threadCount, new DaemonThreadFactory(id)));
   }
 
   private volatile ScheduledExecutorService threadPool;
 
+  private final AtomicInteger activeFibers = new AtomicInteger();
+  private final AtomicInteger runningFibers = new AtomicInteger();
+  private final AtomicLong completedFibers = new AtomicLong();
+  private final AtomicLong cancelledFibers = new AtomicLong();
+
   /**
    * Returns the executor
    * @return executor
@@ -50,6 +68,71 @@ public class Engine {
     getExecutor().execute(fiber);
   }
 
+  void fiberStarted() {
+    activeFibers.incrementAndGet();
+  }
+
+  void fiberFinished(boolean cancelled) {
+    activeFibers.decrementAndGet();
+    (cancelled ? cancelledFibers : completedFibers).incrementAndGet();
+  }
+
+  void fiberRunning(boolean running) {
+    if (running) {
+      runningFibers.incrementAndGet();
+    } else {
+      runningFibers.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the number of fibers that were started and are not yet done or cancelled
+   * @return Active fiber count
+   */
+  public int getActiveFiberCount() {
+    return activeFibers.get();
+  }
+
+  /**
+   * Returns the number of fibers that a thread is currently executing
+   * @return Running fiber count
+   */
+  public int getRunningFiberCount() {
+    return runningFibers.get();
+  }
+
+  /**
+   * Returns the number of fibers that were done
+   * @return Completed fiber count
+   */
+  public long getCompletedFiberCount() {
+    return completedFibers.get();
+  }
+
+  /**
+   * Returns the number of started fibers that were cancelled
+   * @return Cancelled fiber count
+   */
+  public long getCancelledFiberCount() {
+    return cancelledFibers.get();
+  }
+
+  /**
+   * Exports the fiber counts of this engine as metrics
+   * @param name Engine name, used as the value of the metrics' engine label
+   */
+  public void registerMetrics(String name) {
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    MetricsRegistry.Gauge fibers = registry.gauge("operator_fibers",
+        "Fibers that were started and are not yet done, by state.", "engine", "state");
+    fibers.set(this::getRunningFiberCount, name, "running");
+    fibers.set(() -> Math.max(0, getActiveFiberCount() - getRunningFiberCount()), name, "suspended");
+    MetricsRegistry.Gauge finished = registry.suppliedCounter("operator_fibers_finished_total",
+        "Fibers that were done or cancelled, by outcome.", "engine", "outcome");
+    finished.set(this::getCompletedFiberCount, name, "completed");
+    finished.set(this::getCancelledFiberCount, name, "cancelled");
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
@@ -104,6 +104,11 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final int CANCELLED = 2;
   private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
 
+  // accounting of this fiber in the engine's fiber counts: whether it was started and whether it finished
+  private static final int STARTED = 1;
+  private static final int FINISHED = 2;
+  private final AtomicInteger accounting = new AtomicInteger(0);
+
   /**
    * Callback to be invoked when a {@link Fiber} finishes execution.
    */
@@ -184,11 +189,26 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       LOGGER.fine("{0} started", new Object[] { getName() });
     }
 
+    if (accounting.getAndUpdate(a -> a | STARTED) == 0) {
+      owner.fiberStarted();
+    }
     if (status.get() == NOT_COMPLETE) {
       owner.addRunnable(this);
     }
   }
 
+  // moves the fiber to the done or cancelled status, if it is not already complete
+  private boolean complete(int newStatus) {
+    if (!status.compareAndSet(NOT_COMPLETE, newStatus)) {
+      return false;
+    }
+    // a fiber that completes before it starts is not counted at all
+    if (accounting.getAndUpdate(a -> a | FINISHED) == STARTED) {
+      owner.fiberFinished(newStatus == CANCELLED);
+    }
+    return true;
+  }
+
   /**
    * Wakes up a suspended fiber.
    * If a fiber was suspended without specifying the next {@link Step}, then the
@@ -304,7 +324,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
    */
   @Override
   public boolean cancel(boolean mayInterrupt) {
-    if (!status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
+    if (!complete(CANCELLED)) {
       return false;
     }
     
@@ -479,12 +499,14 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       
       final Fiber oldFiber = CURRENT_FIBER.get();
       CURRENT_FIBER.set(this);
+      owner.fiberRunning(true);
       try {
         // doRun returns true to indicate an early exit from fiber processing
         if (!doRun(next)) {
             completionCheck();
         }
       } finally {
+        owner.fiberRunning(false);
         CURRENT_FIBER.set(oldFiber);
       }
     }
@@ -500,7 +522,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         if (LOGGER.isFineEnabled()) {
           LOGGER.fine("{0} completed", getName());
         }
-        boolean isDone = status.compareAndSet(NOT_COMPLETE, DONE);
+        boolean isDone = complete(DONE);
         condition.signalAll();
         if (isDone && completionCallback != null) {
           if (applyThrowable != null) {
@@ -716,7 +738,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
    */
   public boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
-    status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    complete(CANCELLED);
     
     if (LOGGER.isFineEnabled()) {
       LOGGER.fine("{0} cancelled", new Object[] { getName() });
@@ -98,6 +98,14 @@ public class FiberGate {
     return f;
   }
   
+  /**
+   * Returns the number of keys that have a running Fiber
+   * @return Active key count
+   */
+  public int getActiveKeyCount() {
+    return gateMap.size();
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
@@ -0,0 +1,209 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Event;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscriber;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainStatusBroadcasterTest {
+
+  private static final String UID = "domain1";
+  private static final int MAX_PENDING = 3;
+
+  private final DomainStatusBroadcaster broadcaster = new DomainStatusBroadcaster("epoch", MAX_PENDING);
+  private final List<Runnable> deliveries = new ArrayList<>();
+
+  // delivers events only when the test calls deliver(), to simulate a slow client
+  private final Executor deferred = deliveries::add;
+
+  private void deliver() {
+    while (!deliveries.isEmpty()) {
+      deliveries.remove(0).run();
+    }
+  }
+
+  private static DomainStatus status(String reason, ServerStatus... servers) {
+    return new DomainStatus().withReason(reason).withServers(new ArrayList<>(Arrays.asList(servers)));
+  }
+
+  private static ServerStatus server(String name, String state) {
+    return new ServerStatus().withServerName(name).withState(state);
+  }
+
+  @Test
+  public void whenSubscribed_receiveCurrentStatusThenDeltas() {
+    broadcaster.publish(UID, status("Starting", server("ms1", "STARTING")));
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    broadcaster.publish(UID, status("Starting", server("ms1", "RUNNING"), server("ms2", "STARTING")));
+
+    assertThat(subscriber.getNames(), contains(DomainStatusBroadcaster.STATUS_EVENT,
+        DomainStatusBroadcaster.DELTA_EVENT));
+    String delta = subscriber.events.get(1).getData();
+    assertThat(delta, containsString("\"ms2\""));
+    assertThat(delta, containsString("\"RUNNING\""));
+    assertThat(delta, not(containsString("Starting")));
+  }
+
+  @Test
+  public void whenStatusUnchanged_publishNothing() {
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    broadcaster.publish(UID, status("Available", server("ms1", "RUNNING")));
+    broadcaster.publish(UID, status("Available", server("ms1", "RUNNING")));
+
+    assertThat(subscriber.events.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerRemoved_deltaNamesIt() {
+    broadcaster.publish(UID, status("Available", server("ms1", "RUNNING"), server("ms2", "RUNNING")));
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    broadcaster.publish(UID, status("Available", server("ms1", "RUNNING")));
+
+    assertThat(subscriber.events.get(1).getData(), equalTo("{\"removedServers\":[\"ms2\"]}"));
+  }
+
+  @Test
+  public void whenFieldRemoved_deltaSetsItToNull() {
+    broadcaster.publish(UID, status("Failed").withMessage("it broke"));
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    broadcaster.publish(UID, status("Failed"));
+
+    assertThat(subscriber.events.get(1).getData(), equalTo("{\"status\":{\"message\":null}}"));
+  }
+
+  @Test
+  public void whenResumedWithRecentId_replayLaterEvents() {
+    TestSubscriber first = new TestSubscriber();
+    broadcaster.subscribe(UID, null, first, Runnable::run);
+    broadcaster.publish(UID, status("Starting"));
+    broadcaster.publish(UID, status("Progressing"));
+    broadcaster.publish(UID, status("Available"));
+
+    TestSubscriber resumed = new TestSubscriber();
+    broadcaster.subscribe(UID, first.events.get(0).getId(), resumed, Runnable::run);
+
+    assertThat(resumed.getIds(), contains(first.events.get(1).getId(), first.events.get(2).getId()));
+  }
+
+  @Test
+  public void whenResumedWithUnknownId_receiveCurrentStatus() {
+    broadcaster.publish(UID, status("Starting"));
+    broadcaster.publish(UID, status("Available"));
+
+    TestSubscriber resumed = new TestSubscriber();
+    broadcaster.subscribe(UID, "earlier-run-1", resumed, Runnable::run);
+
+    assertThat(resumed.getNames(), contains(DomainStatusBroadcaster.STATUS_EVENT));
+    assertThat(resumed.events.get(0).getData(), containsString("Available"));
+  }
+
+  @Test
+  public void whenClientTooSlow_replaceQueuedEventsWithCurrentStatus() {
+    broadcaster.publish(UID, status("0"));
+    TestSubscriber slow = new TestSubscriber();
+    TestSubscriber fast = new TestSubscriber();
+    broadcaster.subscribe(UID, null, slow, deferred);
+    broadcaster.subscribe(UID, null, fast, Runnable::run);
+    for (int i = 1; i <= MAX_PENDING; i++) {
+      broadcaster.publish(UID, status(Integer.toString(i)));
+    }
+    deliver();
+
+    assertThat(fast.events.size(), equalTo(MAX_PENDING + 1));
+    assertThat(slow.getNames(), contains(DomainStatusBroadcaster.STATUS_EVENT));
+    assertThat(slow.events.get(0).getData(), containsString("\"" + MAX_PENDING + "\""));
+    assertThat(broadcaster.getOverflowCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenClientGone_unsubscribe() {
+    broadcaster.publish(UID, status("Starting"));
+    TestSubscriber subscriber = new TestSubscriber();
+    subscriber.gone = true;
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    assertThat(broadcaster.getSubscriberCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenDomainClosed_sendQueuedEventsThenClose() {
+    broadcaster.publish(UID, status("Starting"));
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, deferred);
+    broadcaster.close(UID);
+    deliver();
+
+    assertThat(subscriber.events.size(), equalTo(1));
+    assertThat(subscriber.closed, equalTo(true));
+    assertThat(broadcaster.getSubscriberCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenNoStatusPublished_sendNothing() {
+    TestSubscriber subscriber = new TestSubscriber();
+    broadcaster.subscribe(UID, null, subscriber, Runnable::run);
+
+    assertThat(subscriber.events, empty());
+  }
+
+  static class TestSubscriber implements Subscriber {
+    private final List<Event> events = new ArrayList<>();
+    private boolean gone;
+    private boolean closed;
+
+    @Override
+    public boolean send(Event event) {
+      if (gone) {
+        return false;
+      }
+      events.add(event);
+      return true;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+    List<String> getNames() {
+      List<String> names = new ArrayList<>();
+      for (Event event : events) {
+        names.add(event.getName());
+      }
+      return names;
+    }
+
+    List<String> getIds() {
+      List<String> ids = new ArrayList<>();
+      for (Event event : events) {
+        ids.add(event.getId());
+      }
+      return ids;
+    }
+  }
+}
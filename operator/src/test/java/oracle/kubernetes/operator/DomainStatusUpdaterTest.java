@@ -0,0 +1,112 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodSpec;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsFactory;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainStatusUpdaterTest {
+
+  private static final String NAMESPACE = "namespace";
+  private static final String DOMAIN_UID = "domain1";
+  private static final String SERVER_NAME = "ms1";
+
+  private DomainPresenceInfo info;
+  private ServerKubernetesObjects sko;
+
+  @Before
+  public void setUp() {
+    info = new DomainPresenceInfo(new Domain().withMetadata(new V1ObjectMeta().namespace(NAMESPACE)));
+    sko = new ServerKubernetesObjectsFactory(new ConcurrentHashMap<>()).getOrCreate(info, DOMAIN_UID, SERVER_NAME);
+    info.clearStatusDirty();
+  }
+
+  private V1Pod createPod(String nodeName) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(DOMAIN_UID + "-" + SERVER_NAME)
+            .putLabelsItem(LabelConstants.DOMAINUID_LABEL, DOMAIN_UID)
+            .putLabelsItem(LabelConstants.SERVERNAME_LABEL, SERVER_NAME))
+        .spec(new V1PodSpec().nodeName(nodeName));
+  }
+
+  @Test
+  public void whenPodChanges_onlyItsServerStatusIsUpdatedAndDomainIsDirty() {
+    sko.getPod().set(createPod("node1"));
+    sko.getLastKnownStatus().set(WebLogicConstants.RUNNING_STATE);
+
+    DomainStatusUpdater.onServerChanged(info, SERVER_NAME);
+
+    ServerStatus status = info.getServerStatuses().get(SERVER_NAME);
+    assertThat(status.getState(), equalTo(WebLogicConstants.RUNNING_STATE));
+    assertThat(status.getNodeName(), equalTo("node1"));
+    assertThat(info.clearStatusDirty(), equalTo(true));
+  }
+
+  @Test
+  public void whenPodIsUnchanged_serverStatusIsNotReplaced() {
+    sko.getPod().set(createPod("node1"));
+    sko.getLastKnownStatus().set(WebLogicConstants.RUNNING_STATE);
+    DomainStatusUpdater.onServerChanged(info, SERVER_NAME);
+    ServerStatus status = info.getServerStatuses().get(SERVER_NAME);
+
+    DomainStatusUpdater.onServerChanged(info, SERVER_NAME);
+
+    assertThat(info.getServerStatuses().get(SERVER_NAME), sameInstance(status));
+  }
+
+  @Test
+  public void whenPodOfServerNotInScanIsDeleted_serverStatusIsRemoved() {
+    sko.getPod().set(createPod("node1"));
+    DomainStatusUpdater.onServerChanged(info, SERVER_NAME);
+
+    sko.getPod().set(null);
+    DomainStatusUpdater.onServerChanged(info, SERVER_NAME);
+
+    assertThat(info.getServerStatuses(), not(hasKey(SERVER_NAME)));
+  }
+
+  @Test
+  public void whenServerStatusIsUnchanged_domainIsNotMarkedDirty() {
+    ServerStatus status = new ServerStatus().withServerName(SERVER_NAME).withState(WebLogicConstants.RUNNING_STATE);
+    info.updateServerStatus(SERVER_NAME, status);
+    info.clearStatusDirty();
+
+    info.updateServerStatus(SERVER_NAME,
+        new ServerStatus().withServerName(SERVER_NAME).withState(WebLogicConstants.RUNNING_STATE));
+
+    assertThat(info.clearStatusDirty(), equalTo(false));
+  }
+
+  @Test
+  public void whenDomainReplacedWithSameSpec_domainIsNotMarkedDirty() {
+    info.setDomain(new Domain().withMetadata(new V1ObjectMeta().namespace(NAMESPACE).resourceVersion("2")));
+
+    assertThat(info.clearStatusDirty(), equalTo(false));
+  }
+
+  @Test
+  public void whenDomainSpecChanges_domainIsDirty() {
+    info.setDomain(new Domain().withMetadata(new V1ObjectMeta().namespace(NAMESPACE))
+        .withSpec(new DomainSpec().withDomainUID(DOMAIN_UID)));
+
+    assertThat(info.clearStatusDirty(), equalTo(true));
+  }
+}
@@ -0,0 +1,181 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.calls.CallFactory;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.helpers.AsyncRequestStepFactory;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainStatusWriterTest {
+
+  private static final long WRITE_INTERVAL_MILLIS = 100;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Queue<String> calls = new ConcurrentLinkedQueue<>();
+  private final Queue<Integer> replaceFailures = new ConcurrentLinkedQueue<>();
+  private final Queue<Object> replaced = new ConcurrentLinkedQueue<>();
+  private final ApiException failure = new ApiException();
+  private ScheduledExecutorService executor;
+  private Engine engine;
+  private DomainPresenceInfo info;
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(failure));
+    mementos.add(StaticStubSupport.install(CallBuilder.class, "STEP_FACTORY", new RecordingStepFactory()));
+    Container container = new Container();
+    container.getComponents().put("callBuilders", Component.createFor(new CallBuilderFactory()));
+    executor = Engine.wrappedExecutorService("test", container, 2);
+    engine = new Engine(executor);
+    info = new DomainPresenceInfo(createDomain());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private static Domain createDomain() {
+    return new Domain().withMetadata(new V1ObjectMeta().namespace("namespace").name("domain1"));
+  }
+
+  @Test
+  public void whenManyStatusChangesRequestedWithinInterval_writeDomainOnce() throws Exception {
+    DomainStatus status = new DomainStatus();
+    for (int i = 0; i < 10; i++) {
+      DomainStatusWriter.requestWrite(info, status, engine, WRITE_INTERVAL_MILLIS);
+    }
+
+    Thread.sleep(5 * WRITE_INTERVAL_MILLIS);
+
+    assertThat(calls, contains("replaceDomain"));
+  }
+
+  @Test
+  public void whenStatusChangedAfterWrite_writeAgain() throws Exception {
+    DomainStatus status = new DomainStatus();
+    DomainStatusWriter.requestWrite(info, status, engine, WRITE_INTERVAL_MILLIS);
+    Thread.sleep(3 * WRITE_INTERVAL_MILLIS);
+    DomainStatusWriter.requestWrite(info, status, engine, WRITE_INTERVAL_MILLIS);
+
+    Thread.sleep(3 * WRITE_INTERVAL_MILLIS);
+
+    assertThat(calls, contains("replaceDomain", "replaceDomain"));
+  }
+
+  @Test
+  public void whenWriteConflicts_applyStatusToLatestDomain() throws Exception {
+    replaceFailures.add(CallBuilder.CONFLICT);
+    DomainStatus status = new DomainStatus().withMessage("changed");
+    info.getDomain().setStatus(status);
+    DomainStatusWriter.requestWrite(info, status, engine, WRITE_INTERVAL_MILLIS);
+
+    Thread.sleep(5 * WRITE_INTERVAL_MILLIS);
+
+    assertThat(calls, contains("replaceDomain", "readDomain", "replaceDomain"));
+    assertThat(info.getDomain().getStatus(), sameInstance(status));
+    assertThat(info.getStatusWriteScheduled().get(), equalTo(false));
+  }
+
+  @Test
+  public void whenWriteFails_markStatusDirty() throws Exception {
+    replaceFailures.add(HttpURLConnection.HTTP_INTERNAL_ERROR);
+    info.clearStatusDirty();
+    DomainStatusWriter.requestWrite(info, new DomainStatus(), engine, WRITE_INTERVAL_MILLIS);
+
+    Thread.sleep(3 * WRITE_INTERVAL_MILLIS);
+
+    assertThat(info.clearStatusDirty(), equalTo(true));
+  }
+
+  @Test
+  public void whenWriteFails_writeStatusAgain() throws Exception {
+    replaceFailures.add(HttpURLConnection.HTTP_INTERNAL_ERROR);
+    DomainStatusWriter.requestWrite(info, new DomainStatus().withMessage("changed"), engine, WRITE_INTERVAL_MILLIS);
+
+    Thread.sleep(5 * WRITE_INTERVAL_MILLIS);
+
+    assertThat(calls, contains("replaceDomain", "replaceDomain"));
+    assertThat(((Domain) replaced.peek()).getStatus().getMessage(), equalTo("changed"));
+  }
+
+  @Test
+  public void whenStatusWritten_writeCopyOfStatus() throws Exception {
+    DomainStatus status = new DomainStatus().withMessage("changed");
+    info.getDomain().setStatus(status);
+    DomainStatusWriter.requestWrite(info, status, engine, WRITE_INTERVAL_MILLIS);
+    status.setMessage("changed again, before the write");
+
+    Thread.sleep(3 * WRITE_INTERVAL_MILLIS);
+
+    DomainStatus written = ((Domain) replaced.peek()).getStatus();
+    assertThat(written, not(sameInstance(status)));
+    assertThat(written.getMessage(), equalTo("changed"));
+    assertThat(info.getDomain().getStatus(), sameInstance(status));
+  }
+
+  private class RecordingStepFactory implements AsyncRequestStepFactory {
+    @Override
+    public <T> Step createRequestAsync(ResponseStep<T> next, RequestParams requestParams, CallFactory<T> factory,
+        ClientPool helper, int timeoutSeconds, int maxRetryCount, String fieldSelector, String labelSelector,
+        String resourceVersion) {
+      return new Step(next) {
+        @Override
+        @SuppressWarnings("unchecked")
+        public NextAction apply(Packet packet) {
+          calls.add(requestParams.call);
+          if ("replaceDomain".equals(requestParams.call)) {
+            replaced.add(requestParams.body);
+          }
+          Integer failureStatus = "replaceDomain".equals(requestParams.call) ? replaceFailures.poll() : null;
+          CallResponse<Domain> response = failureStatus != null
+              ? new CallResponse<>(null, failure, failureStatus, Collections.emptyMap())
+              : new CallResponse<>(createDomain(), null, HttpURLConnection.HTTP_OK, Collections.emptyMap());
+          packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(response));
+          return doNext(packet);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,125 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import oracle.kubernetes.operator.StatusUpdateScheduler.Completion;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+
+/**
+ * Simulates the periodic status updates of 1,000 domains, first with a fixed delay task per domain as the operator
+ * used to schedule them and then with the {@link StatusUpdateScheduler}.  Each simulated update takes 20-80 ms and
+ * changes the status with a small probability.  Reports the number of updates, the number of scheduled tasks created,
+ * the peak number of concurrently running updates and the most updates started within a 100 ms window.
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     oracle.kubernetes.operator.StatusUpdateSchedulerBenchmark
+ * </pre>
+ */
+public class StatusUpdateSchedulerBenchmark {
+
+  private static final int DOMAINS = 1000;
+  private static final int DURATION_SECONDS = 30;
+  private static final double CHANGE_PROBABILITY = 0.02;
+
+  private static final MainTuning TUNING = new MainTuning(30, 300, 10, 3, 1, 5, 20, 10, 1000, 10, 5, 600, 30);
+
+  private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+  private final AtomicInteger updates = new AtomicInteger(0);
+  private final AtomicInteger scheduledTasks = new AtomicInteger(0);
+  private final AtomicInteger running = new AtomicInteger(0);
+  private final AtomicInteger peakRunning = new AtomicInteger(0);
+  private final AtomicLongArray startsPerWindow = new AtomicLongArray(DURATION_SECONDS * 10 + 100);
+  private long startNanos;
+
+  private void runUpdate(Completion completion) {
+    updates.incrementAndGet();
+    int windowIndex = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) / 100;
+    if (windowIndex < startsPerWindow.length()) {
+      startsPerWindow.incrementAndGet(windowIndex);
+    }
+    peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    executor.schedule(() -> {
+      running.decrementAndGet();
+      completion.done(ThreadLocalRandom.current().nextDouble() >= CHANGE_PROBABILITY);
+    }, ThreadLocalRandom.current().nextLong(20, 81), TimeUnit.MILLISECONDS);
+  }
+
+  // Same rescheduling as the operator used before the status update scheduler
+  private void scheduleWithFixedDelay() {
+    AtomicInteger unchangedCount = new AtomicInteger(0);
+    AtomicReference<ScheduledFuture<?>> statusUpdater = new AtomicReference<>();
+    Runnable command = new Runnable() {
+      public void run() {
+        Runnable r = this;
+        runUpdate(unchanged -> {
+          ScheduledFuture<?> existing = null;
+          if (unchanged) {
+            if (unchangedCount.incrementAndGet() == TUNING.unchangedCountToDelayStatusRecheck) {
+              existing = statusUpdater.getAndSet(schedule(r, TUNING.eventualLongDelay));
+            }
+          } else {
+            unchangedCount.set(0);
+            existing = statusUpdater.getAndSet(schedule(r, TUNING.initialShortDelay));
+          }
+          if (existing != null) {
+            existing.cancel(false);
+          }
+        });
+      }
+    };
+    statusUpdater.set(schedule(command, TUNING.initialShortDelay));
+  }
+
+  private ScheduledFuture<?> schedule(Runnable command, long delaySeconds) {
+    scheduledTasks.incrementAndGet();
+    return executor.scheduleWithFixedDelay(command, delaySeconds, delaySeconds, TimeUnit.SECONDS);
+  }
+
+  private void report(String name) {
+    long maxStarts = 0;
+    for (int i = 0; i < startsPerWindow.length(); i++) {
+      maxStarts = Math.max(maxStarts, startsPerWindow.get(i));
+    }
+    System.out.printf("%-16s updates=%d scheduledTasks=%d peakRunning=%d maxStartsPer100ms=%d%n",
+        name, updates.get(), scheduledTasks.get(), peakRunning.get(), maxStarts);
+  }
+
+  private void runFixedDelay() throws InterruptedException {
+    startNanos = System.nanoTime();
+    for (int i = 0; i < DOMAINS; i++) {
+      scheduleWithFixedDelay();
+    }
+    Thread.sleep(TimeUnit.SECONDS.toMillis(DURATION_SECONDS));
+    executor.shutdownNow();
+    report("fixedDelay");
+  }
+
+  private void runTimingWheel() throws InterruptedException {
+    StatusUpdateScheduler scheduler = new StatusUpdateScheduler(executor, () -> TUNING, 100, 512);
+    startNanos = System.nanoTime();
+    for (int i = 0; i < DOMAINS; i++) {
+      scheduler.schedule(this::runUpdate);
+    }
+    scheduledTasks.incrementAndGet();
+    Thread.sleep(TimeUnit.SECONDS.toMillis(DURATION_SECONDS));
+    scheduler.shutdown();
+    executor.shutdownNow();
+    report("timingWheel");
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    new StatusUpdateSchedulerBenchmark().runFixedDelay();
+    new StatusUpdateSchedulerBenchmark().runTimingWheel();
+  }
+}
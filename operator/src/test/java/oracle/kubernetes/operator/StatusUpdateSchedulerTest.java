@@ -0,0 +1,89 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.StatusUpdateScheduler.Completion;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StatusUpdateSchedulerTest {
+
+  private static final int MAX_CONCURRENCY = 5;
+
+  private final MainTuning tuning = new MainTuning(30, 300, 10, 2, 1, 2, MAX_CONCURRENCY, 10, 1000, 10, 5, 600, 30);
+  private ScheduledExecutorService executor;
+  private StatusUpdateScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newScheduledThreadPool(2);
+    scheduler = new StatusUpdateScheduler(executor, () -> tuning, 10, 64);
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void whenUpdatesDoNotComplete_runningUpdatesAreLimitedToMaxConcurrency() throws Exception {
+    List<Completion> completions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      scheduler.schedule(completion -> {
+        synchronized (completions) {
+          completions.add(completion);
+        }
+      });
+    }
+
+    Thread.sleep(1500);
+
+    assertThat(scheduler.getRunningCount(), equalTo(MAX_CONCURRENCY));
+    synchronized (completions) {
+      assertThat(completions.size(), equalTo(MAX_CONCURRENCY));
+    }
+  }
+
+  @Test
+  public void whenUpdateCompletes_expiredUpdatesWaitingForSlotAreStarted() throws Exception {
+    AtomicInteger started = new AtomicInteger(0);
+    for (int i = 0; i < 2 * MAX_CONCURRENCY; i++) {
+      scheduler.schedule(completion -> {
+        if (started.incrementAndGet() <= MAX_CONCURRENCY) {
+          executor.execute(() -> completion.done(true));
+        }
+      });
+    }
+
+    Thread.sleep(1500);
+
+    assertThat(started.get() >= 2 * MAX_CONCURRENCY, equalTo(true));
+  }
+
+  @Test
+  public void whenRegistrationCancelled_updateDoesNotRun() throws Exception {
+    AtomicInteger started = new AtomicInteger(0);
+    ScheduledFuture<?> future = scheduler.schedule(completion -> started.incrementAndGet());
+
+    assertThat(future.cancel(false), equalTo(true));
+    Thread.sleep(1500);
+
+    assertThat(started.get(), equalTo(0));
+    assertThat(future.isCancelled(), equalTo(true));
+  }
+}
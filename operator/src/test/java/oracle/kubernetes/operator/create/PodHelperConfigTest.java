@@ -273,6 +273,11 @@ public class PodHelperConfigTest {
           /* "livenessProbePeriodSeconds" */ 10);
       return pod;
     }
+
+    @Override
+    public RestTuning getRestTuning() {
+      return null;
+    }
     
   }
 
@@ -0,0 +1,150 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.models.V1ResourceRule;
+import oracle.kubernetes.operator.helpers.AuthorizationCache.Key;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AuthorizationCacheTest {
+
+  private static final int TTL_SECONDS = 10;
+  private static final String NS = "namespace";
+
+  private long now;
+  private int reviews;
+  private final AuthorizationCache cache = new AuthorizationCache(AuthorizationCache.MAX_SIZE, () -> now);
+
+  private Supplier<Boolean> returning(Boolean allowed) {
+    return () -> {
+      reviews++;
+      return allowed;
+    };
+  }
+
+  private boolean check(Key key, Boolean allowed) {
+    return cache.check(key, TTL_SECONDS, returning(allowed));
+  }
+
+  private static Key key(String user, List<String> groups, Operation operation) {
+    return new Key(user, groups, operation, Resource.DOMAINS, "domain1", NS);
+  }
+
+  private static Key selfKey(Operation operation, Resource resource) {
+    return new Key(AuthorizationCache.SELF, null, operation, resource, null, NS);
+  }
+
+  @Test
+  public void whenCheckedBefore_returnCachedDecision() {
+    check(key("user", null, Operation.get), true);
+
+    assertThat(check(key("user", null, Operation.get), false), equalTo(true));
+    assertThat(reviews, equalTo(1));
+    assertThat(cache.getHitCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenAccessDenied_cacheDenial() {
+    check(key("user", null, Operation.update), false);
+
+    assertThat(check(key("user", null, Operation.update), true), equalTo(false));
+    assertThat(reviews, equalTo(1));
+  }
+
+  @Test
+  public void whenGroupsInDifferentOrder_returnCachedDecision() {
+    check(key("user", Arrays.asList("a", "b"), Operation.get), true);
+    check(key("user", Arrays.asList("b", "a"), Operation.get), true);
+
+    assertThat(reviews, equalTo(1));
+  }
+
+  @Test
+  public void whenUsersOrOperationsDiffer_reviewEach() {
+    check(key("user1", null, Operation.get), true);
+    check(key("user2", null, Operation.get), true);
+    check(key("user1", null, Operation.update), true);
+
+    assertThat(reviews, equalTo(3));
+  }
+
+  @Test
+  public void whenTtlExpired_reviewAgain() {
+    check(key("user", null, Operation.get), true);
+    now += TimeUnit.SECONDS.toNanos(TTL_SECONDS);
+    check(key("user", null, Operation.get), true);
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenReviewCouldNotBeMade_denyWithoutCaching() {
+    assertThat(check(key("user", null, Operation.get), null), equalTo(false));
+    check(key("user", null, Operation.get), true);
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenRulesAllowOperation_answerFromRules() {
+    cache.addRules(NS, Collections.singletonList(
+        new V1ResourceRule().apiGroups(Collections.singletonList("weblogic.oracle"))
+            .resources(Collections.singletonList("domains")).verbs(Arrays.asList("get", "list"))),
+        TTL_SECONDS);
+
+    assertThat(check(selfKey(Operation.get, Resource.DOMAINS), false), equalTo(true));
+    assertThat(check(selfKey(Operation.list, Resource.DOMAINS), false), equalTo(true));
+    assertThat(reviews, equalTo(0));
+  }
+
+  @Test
+  public void whenRulesUseWildcards_answerFromRules() {
+    cache.addRules(NS, Collections.singletonList(
+        new V1ResourceRule().apiGroups(Collections.singletonList("*"))
+            .resources(Collections.singletonList("*")).verbs(Collections.singletonList("*"))),
+        TTL_SECONDS);
+
+    assertThat(check(selfKey(Operation.delete, Resource.PODS), false), equalTo(true));
+    assertThat(reviews, equalTo(0));
+  }
+
+  @Test
+  public void whenRulesDoNotAllowOperation_review() {
+    cache.addRules(NS, Collections.singletonList(
+        new V1ResourceRule().apiGroups(Collections.singletonList(""))
+            .resources(Collections.singletonList("pods")).verbs(Collections.singletonList("get"))),
+        TTL_SECONDS);
+
+    check(selfKey(Operation.get, Resource.PODS), false);
+    check(selfKey(Operation.delete, Resource.PODS), false);
+    check(selfKey(Operation.get, Resource.SERVICES), false);
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenRulesRestrictedToResourceNames_review() {
+    cache.addRules(NS, Collections.singletonList(
+        new V1ResourceRule().apiGroups(Collections.singletonList(""))
+            .resources(Collections.singletonList("pods")).verbs(Collections.singletonList("get"))
+            .resourceNames(Collections.singletonList("pod1"))),
+        TTL_SECONDS);
+
+    check(selfKey(Operation.get, Resource.PODS), true);
+
+    assertThat(reviews, equalTo(1));
+  }
+}
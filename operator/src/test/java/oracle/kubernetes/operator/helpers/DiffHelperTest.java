@@ -0,0 +1,62 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PodSpec;
+import static oracle.kubernetes.operator.helpers.DiffHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class DiffHelperTest {
+
+  private static V1PodSpec createSpec(String image) {
+    return new V1PodSpec().addContainersItem(
+        new V1Container().name("weblogic-server").image(image).imagePullPolicy("IfNotPresent")
+            .addEnvItem(new V1EnvVar().name("DOMAIN_UID").value("domain1")));
+  }
+
+  @Test
+  public void identical_specs_have_no_differences() throws Exception {
+    assertThat(getDifferences("spec", createSpec("store/oracle/weblogic:12.2.1.3"), createSpec("store/oracle/weblogic:12.2.1.3")),
+        empty());
+  }
+
+  @Test
+  public void changed_image_is_reported() throws Exception {
+    assertThat(getDifferences("spec", createSpec("store/oracle/weblogic:12.2.1.3"), createSpec("store/oracle/weblogic:12.2.1.2")),
+        contains("spec.containers[0].image"));
+  }
+
+  @Test
+  public void fields_defaulted_by_api_server_are_not_reported() throws Exception {
+    V1PodSpec current = createSpec("store/oracle/weblogic:12.2.1.3").restartPolicy("Always").dnsPolicy("ClusterFirst");
+    current.getContainers().get(0).terminationMessagePath("/dev/termination-log");
+
+    assertThat(getDifferences("spec", createSpec("store/oracle/weblogic:12.2.1.3"), current), empty());
+  }
+
+  @Test
+  public void sha256_of_equal_specs_is_equal() throws Exception {
+    V1ObjectMeta meta1 = new V1ObjectMeta();
+    V1ObjectMeta meta2 = new V1ObjectMeta();
+    AnnotationHelper.annotateWithSha256(meta1, createSpec("store/oracle/weblogic:12.2.1.3"));
+    AnnotationHelper.annotateWithSha256(meta2, createSpec("store/oracle/weblogic:12.2.1.3"));
+
+    assertThat(AnnotationHelper.getSha256(meta1), equalTo(AnnotationHelper.getSha256(meta2)));
+  }
+
+  @Test
+  public void sha256_of_changed_spec_differs() throws Exception {
+    V1ObjectMeta meta1 = new V1ObjectMeta();
+    V1ObjectMeta meta2 = new V1ObjectMeta();
+    AnnotationHelper.annotateWithSha256(meta1, createSpec("store/oracle/weblogic:12.2.1.3"));
+    AnnotationHelper.annotateWithSha256(meta2, createSpec("store/oracle/weblogic:12.2.1.2"));
+
+    assertThat(AnnotationHelper.getSha256(meta1), not(equalTo(AnnotationHelper.getSha256(meta2))));
+  }
+}
@@ -28,7 +28,10 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -79,18 +82,19 @@ public class IngressHelperTest {
     info = new DomainPresenceInfo(domain);
     
     // Create scan
-    WlsDomainConfig scan = new WlsDomainConfig(null);
     WlsServerConfig server1Scan = new WlsServerConfig(server1Name, server1Port, server1Name, null, false, null, null);
     WlsServerConfig server2Scan = new WlsServerConfig(server2Name, server2Port, server2Name, null, false, null, null);
 
-    scan.getServerConfigs().put(server1Name, server1Scan);
-    scan.getServerConfigs().put(server2Name, server2Scan);
+    Map<String, WlsServerConfig> servers = new HashMap<>();
+    servers.put(server1Name, server1Scan);
+    servers.put(server2Name, server2Scan);
 
-    WlsClusterConfig cluster1Scan = new WlsClusterConfig(clusterName);
-    cluster1Scan.getServerConfigs().add(server1Scan);
-    cluster1Scan.getServerConfigs().add(server2Scan);
-    
-    scan.getClusterConfigs().put(clusterName, cluster1Scan);
+    WlsClusterConfig cluster1Scan = new WlsClusterConfig(clusterName, null, Arrays.asList(server1Scan, server2Scan));
+
+    Map<String, WlsClusterConfig> clusters = new HashMap<>();
+    clusters.put(clusterName, cluster1Scan);
+
+    WlsDomainConfig scan = new WlsDomainConfig(null, clusters, servers, null, null);
     
     info.setScan(scan);
     
@@ -0,0 +1,77 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1SecretReference;
+import oracle.kubernetes.operator.TuningParameters.PodTuning;
+import oracle.kubernetes.operator.helpers.PodHelper.ManagedPodTemplate;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ManagedPodTemplateTest {
+
+  private static final String CLUSTER = "cluster1";
+
+  private final PodTuning tuning = new PodTuning(2, 5, 5, 10, 5, 10);
+  private DomainPresenceInfo info;
+
+  @Before
+  public void setUp() {
+    info = new DomainPresenceInfo(createDomain("store/oracle/weblogic:12.2.1.3"));
+    info.setClaims(new V1PersistentVolumeClaimList());
+  }
+
+  private static Domain createDomain(String image) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace("namespace").name("domain1"))
+        .withSpec(new DomainSpec().withDomainUID("uid1").withDomainName("base_domain").withImage(image)
+            .withAsName("admin-server").withAsPort(7001).withAdminSecret(new V1SecretReference().name("secret")));
+  }
+
+  @Test
+  public void whenDomainSpecUnchanged_templateIsReused() {
+    ManagedPodTemplate template = ManagedPodTemplate.getTemplate(info, tuning, CLUSTER);
+
+    info.setDomain(createDomain("store/oracle/weblogic:12.2.1.3"));
+
+    assertThat(ManagedPodTemplate.getTemplate(info, tuning, CLUSTER), sameInstance(template));
+  }
+
+  @Test
+  public void whenDomainSpecChanged_templateIsRebuilt() {
+    ManagedPodTemplate template = ManagedPodTemplate.getTemplate(info, tuning, CLUSTER);
+
+    info.setDomain(createDomain("store/oracle/weblogic:12.2.1.2"));
+
+    assertThat(ManagedPodTemplate.getTemplate(info, tuning, CLUSTER), not(sameInstance(template)));
+  }
+
+  @Test
+  public void whenTuningChanged_templateIsRebuilt() {
+    ManagedPodTemplate template = ManagedPodTemplate.getTemplate(info, tuning, CLUSTER);
+
+    assertThat(ManagedPodTemplate.getTemplate(info, new PodTuning(2, 5, 5, 10, 5, 10), CLUSTER),
+        not(sameInstance(template)));
+  }
+
+  @Test
+  public void podsOfServers_shareVolumesButNotServerSpecificValues() {
+    ManagedPodTemplate template = ManagedPodTemplate.getTemplate(info, tuning, CLUSTER);
+
+    V1Pod pod1 = template.createPod("ms1", 8001, null);
+    V1Pod pod2 = template.createPod("ms2", 8001, null);
+
+    assertThat(pod1.getSpec().getVolumes(), sameInstance(pod2.getSpec().getVolumes()));
+    assertThat(pod1.getMetadata().getName(), equalTo("uid1-ms1"));
+    assertThat(pod2.getMetadata().getName(), equalTo("uid1-ms2"));
+    assertThat(pod2.getMetadata().getLabels(), hasEntry("weblogic.clusterName", CLUSTER));
+  }
+}
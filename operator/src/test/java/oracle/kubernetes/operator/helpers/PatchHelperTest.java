@@ -0,0 +1,51 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import static oracle.kubernetes.operator.helpers.PatchHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class PatchHelperTest {
+
+  private static V1ObjectMeta createDesiredMeta() {
+    return new V1ObjectMeta()
+        .putLabelsItem("weblogic.domainUID", "domain1")
+        .putAnnotationsItem("prometheus.io/port", "8001");
+  }
+
+  @Test
+  public void labels_added_by_others_do_not_require_patch() throws Exception {
+    V1ObjectMeta current = createDesiredMeta().putLabelsItem("app", "other");
+
+    assertThat(isMetadataCurrent(createDesiredMeta(), current), equalTo(true));
+  }
+
+  @Test
+  public void changed_annotation_is_patched_with_escaped_path() throws Exception {
+    V1ObjectMeta current = createDesiredMeta().putAnnotationsItem("prometheus.io/port", "7001");
+    List<Object> patch = new ArrayList<>();
+
+    addMetadataPatch(patch, createDesiredMeta(), current);
+
+    assertThat(isMetadataCurrent(createDesiredMeta(), current), equalTo(false));
+    assertThat(patch, contains(createAddOperation("/metadata/annotations/prometheus.io~1port", "8001")));
+  }
+
+  @Test
+  public void missing_labels_are_added_as_map() throws Exception {
+    V1ObjectMeta desired = createDesiredMeta();
+    V1ObjectMeta current = new V1ObjectMeta().putAnnotationsItem("prometheus.io/port", "8001");
+    List<Object> patch = new ArrayList<>();
+
+    addMetadataPatch(patch, desired, current);
+
+    assertThat(patch, contains(createAddOperation("/metadata/labels", desired.getLabels())));
+  }
+}
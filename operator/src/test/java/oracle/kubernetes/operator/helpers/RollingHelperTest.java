@@ -0,0 +1,64 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import com.meterware.simplestub.Memento;
+
+import oracle.kubernetes.TestUtils;
+import static oracle.kubernetes.operator.helpers.RollingHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class RollingHelperTest {
+
+  @Test
+  public void withoutMaxUnavailable_leaveMinimumOfClusterAvailable() throws Exception {
+    assertThat(getConcurrentRestarts(null, 10, 0), equalTo(8));
+  }
+
+  @Test
+  public void withoutMaxUnavailable_restartAtLeastOneServer() throws Exception {
+    assertThat(getConcurrentRestarts(null, 2, 0), equalTo(1));
+  }
+
+  @Test
+  public void withMaxUnavailableCount_restartThatManyServers() throws Exception {
+    assertThat(getConcurrentRestarts("3", 10, 0), equalTo(3));
+  }
+
+  @Test
+  public void withMaxUnavailablePercentage_restartThatShareOfClusterServers() throws Exception {
+    assertThat(getConcurrentRestarts("25%", 100, 0), equalTo(25));
+    assertThat(getConcurrentRestarts("25%", 3, 0), equalTo(1));
+  }
+
+  @Test
+  public void withInvalidMaxUnavailable_restartOneServer() throws Exception {
+    Memento memento = TestUtils.silenceOperatorLogger();
+    try {
+      assertThat(getConcurrentRestarts("many", 10, 0), equalTo(1));
+    } finally {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void whenServersAlreadyDown_restartOnlyRemainingShareOfMaxUnavailable() throws Exception {
+    assertThat(getConcurrentRestarts("3", 10, 2), equalTo(1));
+    assertThat(getConcurrentRestarts("25%", 100, 10), equalTo(15));
+  }
+
+  @Test
+  public void whenAsManyServersDownAsMaxUnavailable_restartNoServers() throws Exception {
+    assertThat(getConcurrentRestarts("3", 10, 3), equalTo(0));
+    assertThat(getConcurrentRestarts("3", 10, 5), equalTo(0));
+  }
+
+  @Test
+  public void withoutMaxUnavailable_whenServersAlreadyDown_leaveMinimumOfClusterAvailable() throws Exception {
+    assertThat(getConcurrentRestarts(null, 10, 3), equalTo(5));
+    assertThat(getConcurrentRestarts(null, 3, 1), equalTo(0));
+  }
+}
@@ -0,0 +1,123 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.models.V1TokenReviewStatus;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TokenReviewCacheTest {
+
+  private static final int TTL_SECONDS = 60;
+  private static final int FAILURE_TTL_SECONDS = 5;
+
+  private long now;
+  private int reviews;
+  private final TokenReviewCache cache = new TokenReviewCache(2, () -> now);
+
+  private Supplier<V1TokenReviewStatus> returning(V1TokenReviewStatus status) {
+    return () -> {
+      reviews++;
+      return status;
+    };
+  }
+
+  private V1TokenReviewStatus check(String token, V1TokenReviewStatus status) {
+    return cache.get(token, TTL_SECONDS, FAILURE_TTL_SECONDS, returning(status));
+  }
+
+  private static V1TokenReviewStatus authenticated() {
+    return new V1TokenReviewStatus().authenticated(true);
+  }
+
+  private static V1TokenReviewStatus rejected() {
+    return new V1TokenReviewStatus().authenticated(false);
+  }
+
+  private void advanceSeconds(int seconds) {
+    now += TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  @Test
+  public void whenTokenReviewedBefore_returnCachedResult() {
+    V1TokenReviewStatus status = authenticated();
+    check("token", status);
+
+    assertThat(check("token", authenticated()), sameInstance(status));
+    assertThat(reviews, equalTo(1));
+    assertThat(cache.getHitCount(), equalTo(1L));
+    assertThat(cache.getMissCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenTokensDiffer_reviewEach() {
+    check("token1", authenticated());
+    check("token2", authenticated());
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTtlExpired_reviewAgain() {
+    check("token", authenticated());
+    advanceSeconds(TTL_SECONDS);
+    check("token", authenticated());
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTokenRejected_cacheRejectionForFailureTtl() {
+    check("token", rejected());
+    check("token", authenticated());
+    advanceSeconds(FAILURE_TTL_SECONDS);
+    check("token", authenticated());
+
+    assertThat(reviews, equalTo(2));
+    assertThat(cache.getNegativeHitCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenReviewReturnedError_cacheAsFailure() {
+    check("token", new V1TokenReviewStatus().error("bad token"));
+    check("token", authenticated());
+
+    assertThat(reviews, equalTo(1));
+    assertThat(cache.getNegativeHitCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenReviewCouldNotBeMade_doNotCache() {
+    assertThat(check("token", null), nullValue());
+    check("token", authenticated());
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTtlIsZero_doNotCache() {
+    cache.get("token", 0, 0, returning(authenticated()));
+    cache.get("token", 0, 0, returning(authenticated()));
+
+    assertThat(reviews, equalTo(2));
+  }
+
+  @Test
+  public void whenCacheFull_evictEntries() {
+    check("token1", authenticated());
+    check("token2", authenticated());
+    check("token3", authenticated());
+
+    assertThat(cache.size(), equalTo(2L));
+    assertThat(cache.getEvictionCount(), equalTo(1L));
+  }
+}
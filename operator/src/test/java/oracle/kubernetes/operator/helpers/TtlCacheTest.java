@@ -0,0 +1,59 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TtlCacheTest {
+
+  private long now;
+  private final TtlCache<String, String> cache = new TtlCache<>(2, () -> now);
+
+  @Test
+  public void whenValueCached_returnItUntilItExpires() {
+    cache.put("key", "value", 10);
+    now += TimeUnit.SECONDS.toNanos(9);
+
+    assertThat(cache.get("key"), equalTo("value"));
+
+    now += TimeUnit.SECONDS.toNanos(1);
+
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  public void whenEntriesHaveDifferentTtls_expireEachOnItsOwn() {
+    cache.put("short", "value", 1);
+    cache.put("long", "value", 10);
+    now += TimeUnit.SECONDS.toNanos(1);
+
+    assertThat(cache.get("short"), nullValue());
+    assertThat(cache.get("long"), equalTo("value"));
+  }
+
+  @Test
+  public void whenTtlIsZero_removeCachedValue() {
+    cache.put("key", "value", 10);
+    cache.put("key", "other", 0);
+
+    assertThat(cache.get("key"), nullValue());
+    assertThat(cache.size(), equalTo(0L));
+  }
+
+  @Test
+  public void whenCacheFull_evictEntries() {
+    cache.put("key1", "value", 10);
+    cache.put("key2", "value", 10);
+    cache.put("key3", "value", 10);
+
+    assertThat(cache.size(), equalTo(2L));
+    assertThat(cache.getEvictionCount(), equalTo(1L));
+  }
+}
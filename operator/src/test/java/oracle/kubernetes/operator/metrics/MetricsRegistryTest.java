@@ -0,0 +1,101 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.Histogram;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class MetricsRegistryTest {
+
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  public void whenCounterIncremented_writeCountPerLabelValues() {
+    Counter counter = registry.counter("test_events_total", "Test events.", "type");
+    counter.inc("ADDED");
+    counter.inc("ADDED");
+    counter.inc("DELETED");
+
+    String metrics = registry.write();
+
+    assertThat(metrics, containsString("# HELP test_events_total Test events.\n# TYPE test_events_total counter\n"));
+    assertThat(metrics, containsString("test_events_total{type=\"ADDED\"} 2\n"));
+    assertThat(metrics, containsString("test_events_total{type=\"DELETED\"} 1\n"));
+  }
+
+  @Test
+  public void whenHistogramObserved_writeCumulativeBuckets() {
+    Histogram histogram = registry.histogram("test_duration_seconds", "Test durations.", "call");
+    histogram.observe(0.003, "list");
+    histogram.observe(0.2, "list");
+    histogram.observe(100, "list");
+
+    String metrics = registry.write();
+
+    assertThat(metrics, containsString("# TYPE test_duration_seconds histogram\n"));
+    assertThat(metrics, containsString("test_duration_seconds_bucket{call=\"list\",le=\"0.005\"} 1\n"));
+    assertThat(metrics, containsString("test_duration_seconds_bucket{call=\"list\",le=\"0.1\"} 1\n"));
+    assertThat(metrics, containsString("test_duration_seconds_bucket{call=\"list\",le=\"0.25\"} 2\n"));
+    assertThat(metrics, containsString("test_duration_seconds_bucket{call=\"list\",le=\"60\"} 2\n"));
+    assertThat(metrics, containsString("test_duration_seconds_bucket{call=\"list\",le=\"+Inf\"} 3\n"));
+    assertThat(metrics, containsString("test_duration_seconds_sum{call=\"list\"} 100.203\n"));
+    assertThat(metrics, containsString("test_duration_seconds_count{call=\"list\"} 3\n"));
+  }
+
+  @Test
+  public void whenGaugeWritten_readCurrentValue() {
+    long[] value = { 3 };
+    registry.gauge("test_pool_size", "Test pool size.").set(() -> value[0]);
+    value[0] = 5;
+
+    assertThat(registry.write(), containsString("test_pool_size 5\n"));
+  }
+
+  @Test
+  public void whenLabelValueHasSpecialCharacters_escapeIt() {
+    registry.counter("test_total", "Test.", "name").inc("a\"b\\c\nd");
+
+    assertThat(registry.write(), containsString("test_total{name=\"a\\\"b\\\\c\\nd\"} 1\n"));
+  }
+
+  @Test
+  public void whenRegisteredAgain_returnSameMetric() {
+    Counter counter = registry.counter("test_total", "Test.", "name");
+
+    assertThat(registry.counter("test_total", "Test.", "name"), sameInstance(counter));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenRegisteredAgainWithOtherLabels_throw() {
+    registry.counter("test_total", "Test.", "name");
+    registry.counter("test_total", "Test.", "other");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenLabelValuesMissing_throw() {
+    registry.counter("test_total", "Test.", "domain", "request").inc("domain1");
+  }
+
+  @Test
+  public void whenSeriesRemovedByLabelValue_writeOtherSeries() {
+    Counter counter = registry.counter("test_total", "Test.", "domain", "request");
+    counter.inc("domain1", "config");
+    counter.inc("domain1", "health");
+    counter.inc("domain2", "config");
+
+    registry.removeSeries("domain", "domain1");
+
+    String metrics = registry.write();
+    assertThat(metrics, not(containsString("domain1")));
+    assertThat(counter.get("domain2", "config"), equalTo(1L));
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import com.meterware.simplestub.Memento;
+
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.AlertResultModel;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AlertScalerTest {
+
+  private static final int STEP = 1;
+  private static final int COOLDOWN_SECONDS = 60;
+  private static final int MIN = 1;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final RestBackendStub backend = createStub(RestBackendStub.class);
+  private long now;
+  private final AlertScaler scaler = new AlertScaler(() -> now);
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    backend.managedServerCount = 2;
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private AlertResultModel scale(Map<String, Object> payload) {
+    List<AlertResultModel> results = scaler.scale(payload, backend, null, STEP, COOLDOWN_SECONDS, MIN).join();
+    assertThat(results.size(), equalTo(1));
+    return results.get(0);
+  }
+
+  private static Map<String, Object> alertmanagerNotification(String status, Map<String, Object> labels) {
+    Map<String, Object> alert = new HashMap<>();
+    alert.put("status", status);
+    alert.put("labels", labels);
+    alert.put("annotations", Collections.singletonMap(AlertScaler.STEP_LABEL, "1"));
+    Map<String, Object> notification = new HashMap<>();
+    notification.put("status", status);
+    notification.put("alerts", Collections.singletonList(alert));
+    return notification;
+  }
+
+  private static Map<String, Object> labels(String action) {
+    Map<String, Object> labels = new HashMap<>();
+    labels.put("alertname", "HighLoad");
+    labels.put(AlertScaler.DOMAIN_UID_LABEL, "domain1");
+    labels.put(AlertScaler.CLUSTER_LABEL, "cluster1");
+    labels.put(AlertScaler.ACTION_LABEL, action);
+    return labels;
+  }
+
+  @Test
+  public void whenScaleUpAlertFires_scaleClusterByStep() {
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.SCALED));
+    assertThat(result.getAlert(), equalTo("HighLoad"));
+    assertThat(result.getManagedServerCount(), equalTo(3));
+    assertThat(backend.applied, contains(3));
+  }
+
+  @Test
+  public void whenAlertResolved_ignoreIt() {
+    AlertResultModel result = scale(alertmanagerNotification("resolved", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.IGNORED));
+    assertThat(backend.applied, empty());
+  }
+
+  @Test
+  public void whenWldfNotificationHasLabels_scaleClusterByItsStep() {
+    Map<String, Object> notification = labels(AlertScaler.SCALE_DOWN);
+    notification.put(AlertScaler.STEP_LABEL, 5);
+
+    AlertResultModel result = scale(notification);
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.SCALED));
+    assertThat(backend.applied, contains(MIN));
+  }
+
+  @Test
+  public void whenClusterAtMaximum_doNotScaleIt() {
+    Map<String, Object> labels = labels(AlertScaler.SCALE_UP);
+    labels.put(AlertScaler.MAX_LABEL, "2");
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.UNCHANGED));
+    assertThat(result.getManagedServerCount(), equalTo(2));
+    assertThat(backend.applied, empty());
+  }
+
+  @Test
+  public void whenClusterScaledWithinCooldown_doNotScaleItAgain() {
+    scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+    backend.managedServerCount = 3;
+    now += TimeUnit.SECONDS.toNanos(COOLDOWN_SECONDS - 1);
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.COOLDOWN));
+    assertThat(backend.applied, contains(3));
+  }
+
+  @Test
+  public void whenCooldownPassed_scaleClusterAgain() {
+    scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+    backend.managedServerCount = 3;
+    now += TimeUnit.SECONDS.toNanos(COOLDOWN_SECONDS);
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.SCALED));
+    assertThat(backend.applied, contains(3, 4));
+  }
+
+  @Test
+  public void whenAlertDidNotScaleCluster_doNotStartCooldown() {
+    Map<String, Object> labels = labels(AlertScaler.SCALE_UP);
+    labels.put(AlertScaler.MAX_LABEL, "2");
+    scale(alertmanagerNotification("firing", labels));
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.SCALED));
+  }
+
+  @Test
+  public void whenActionMissing_failAlert() {
+    Map<String, Object> labels = labels(AlertScaler.SCALE_UP);
+    labels.remove(AlertScaler.ACTION_LABEL);
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.FAILED));
+    assertThat(backend.applied, empty());
+  }
+
+  @Test
+  public void whenClusterUnknown_failAlert() {
+    Map<String, Object> labels = labels(AlertScaler.SCALE_UP);
+    labels.put(AlertScaler.CLUSTER_LABEL, "cluster2");
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.FAILED));
+    assertThat(backend.applied, empty());
+  }
+
+  @Test
+  public void whenScalingFails_failAlertAndDoNotStartCooldown() {
+    backend.failure = new WebApplicationException(
+        Response.status(Status.CONFLICT).entity("domain was changed").build());
+
+    AlertResultModel result = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+    backend.failure = null;
+    AlertResultModel retried = scale(alertmanagerNotification("firing", labels(AlertScaler.SCALE_UP)));
+
+    assertThat(result.getOutcome(), equalTo(AlertResultModel.FAILED));
+    assertThat(result.getMessage(), equalTo("domain was changed"));
+    assertThat(retried.getOutcome(), equalTo(AlertResultModel.SCALED));
+  }
+
+  abstract static class RestBackendStub implements RestBackend {
+    private int managedServerCount;
+    private WebApplicationException failure;
+    private final List<Integer> applied = new ArrayList<>();
+
+    @Override
+    public boolean isDomainUID(String domainUID) {
+      return "domain1".equals(domainUID);
+    }
+
+    @Override
+    public boolean isCluster(String domainUID, String cluster) {
+      return "cluster1".equals(cluster);
+    }
+
+    @Override
+    public int getManagedServerCount(String domainUID, String cluster) {
+      return managedServerCount;
+    }
+
+    @Override
+    public CompletableFuture<Integer> scaleCluster(String domainUID, String cluster, int managedServerCount,
+        String idempotencyKey, ScheduledExecutorService executor) {
+      if (failure != null) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        result.completeExceptionally(failure);
+        return result;
+      }
+      applied.add(managedServerCount);
+      return CompletableFuture.completedFuture(managedServerCount);
+    }
+  }
+}
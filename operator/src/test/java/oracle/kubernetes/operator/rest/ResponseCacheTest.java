@@ -0,0 +1,73 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ResponseCacheTest {
+
+  private static final int TTL_SECONDS = 5;
+  private static final String HREF = "/operator/latest/domains/domain1/clusters";
+
+  private long now;
+  private int computed;
+  private final ResponseCache cache = new ResponseCache(TTL_SECONDS, ResponseCache.MAX_SIZE, () -> now);
+
+  private Supplier<Object> computing() {
+    return () -> {
+      computed++;
+      return new Object();
+    };
+  }
+
+  @Test
+  public void whenVersionUnchanged_returnCachedEntity() {
+    Object entity = cache.get(HREF, "1", computing());
+
+    assertThat(cache.get(HREF, "1", computing()), sameInstance(entity));
+    assertThat(computed, equalTo(1));
+    assertThat(cache.getHitCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenVersionChanged_computeEntity() {
+    cache.get(HREF, "1", computing());
+    cache.get(HREF, "2", computing());
+
+    assertThat(computed, equalTo(2));
+  }
+
+  @Test
+  public void whenResourcesDiffer_computeEach() {
+    cache.get(HREF, "1", computing());
+    cache.get(HREF + "/cluster1", "1", computing());
+
+    assertThat(computed, equalTo(2));
+  }
+
+  @Test
+  public void whenTtlExpired_computeEntity() {
+    cache.get(HREF, "1", computing());
+    now += TimeUnit.SECONDS.toNanos(TTL_SECONDS);
+    cache.get(HREF, "1", computing());
+
+    assertThat(computed, equalTo(2));
+  }
+
+  @Test
+  public void whenTtlIsZero_doNotCache() {
+    ResponseCache uncached = new ResponseCache(0, ResponseCache.MAX_SIZE, () -> now);
+    uncached.get(HREF, "1", computing());
+    uncached.get(HREF, "1", computing());
+
+    assertThat(computed, equalTo(2));
+  }
+}
@@ -0,0 +1,234 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response.Status;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+
+import io.kubernetes.client.ApiClient;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1SubjectAccessReview;
+import io.kubernetes.client.models.V1SubjectAccessReviewStatus;
+import io.kubernetes.client.models.V1TokenReview;
+import io.kubernetes.client.models.V1TokenReviewStatus;
+import io.kubernetes.client.models.V1UserInfo;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.SynchronousCallFactory;
+import oracle.kubernetes.operator.rest.backend.ScaleRequest;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainList;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RestBackendImplTest {
+
+  private static final String NAMESPACE = "namespace";
+  private static final String CLUSTER = "cluster1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final SynchronousCallFactoryStub callFactory = createStub(SynchronousCallFactoryStub.class);
+  private final Map<String, DomainPresenceInfo> infos = new HashMap<>();
+  private Container savedContainer;
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StaticStubSupport.install(CallBuilder.class, "CALL_FACTORY", callFactory));
+    Container container = new Container();
+    container.getComponents().put("callBuilders", Component.createFor(new CallBuilderFactory()));
+    savedContainer = ContainerResolver.getDefault().enterContainer(container);
+
+    addDomain("domain1");
+    addDomain("domain2");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    ContainerResolver.getDefault().exitContainer(savedContainer);
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private void addDomain(String domainUID) {
+    DomainPresenceInfo info = new DomainPresenceInfo(createDomain(domainUID, "1"));
+    info.setScan(new WlsDomainConfig(domainUID, Collections.singletonMap(CLUSTER, createCluster()),
+        null, null, null));
+    infos.put(domainUID, info);
+  }
+
+  private static Domain createDomain(String domainUID, String resourceVersion) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace(NAMESPACE).name(domainUID).resourceVersion(resourceVersion))
+        .withSpec(new DomainSpec().withDomainUID(domainUID).withClusterStartup(
+            new ArrayList<>(Collections.singletonList(new ClusterStartup().withClusterName(CLUSTER).withReplicas(1)))));
+  }
+
+  private static WlsClusterConfig createCluster() {
+    List<WlsServerConfig> servers = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      servers.add(new WlsServerConfig("ms" + i, 8001, null, null, false, null, null));
+    }
+    return new WlsClusterConfig(CLUSTER, null, servers);
+  }
+
+  private RestBackendImpl createBackend() {
+    return new RestBackendImpl("principal", "token", Collections.singletonList(NAMESPACE), infos);
+  }
+
+  private static Integer getStatus(WebApplicationException failure) {
+    return failure != null ? failure.getResponse().getStatus() : null;
+  }
+
+  private static Integer getReplicas(Domain domain) {
+    return domain.getSpec().getClusterStartup().get(0).getReplicas();
+  }
+
+  @Test
+  public void whenScaleRequestsValid_replaceEachDomainOnce() {
+    List<WebApplicationException> failures = createBackend().scaleClusters(Arrays.asList(
+        new ScaleRequest("domain1", CLUSTER, 2), new ScaleRequest("domain2", CLUSTER, 3)));
+
+    assertThat(failures, contains(nullValue(), nullValue()));
+    assertThat(callFactory.replaced, contains("domain1", "domain2"));
+  }
+
+  @Test
+  public void whenScaleRequestDoesNotNameDomainOrCluster_failItWithBadRequest() {
+    List<WebApplicationException> failures = createBackend().scaleClusters(Arrays.asList(
+        new ScaleRequest(null, CLUSTER, 2), new ScaleRequest("domain1", null, 2),
+        new ScaleRequest("domain2", CLUSTER, 2)));
+
+    assertThat(getStatus(failures.get(0)), equalTo(Status.BAD_REQUEST.getStatusCode()));
+    assertThat(getStatus(failures.get(1)), equalTo(Status.BAD_REQUEST.getStatusCode()));
+    assertThat(failures.get(2), nullValue());
+    assertThat(callFactory.replaced, contains("domain2"));
+  }
+
+  @Test
+  public void whenScalingOneDomainFailsUnexpectedly_reportItInThatDomainsResults() {
+    callFactory.failingDomain = "domain1";
+
+    List<WebApplicationException> failures = createBackend().scaleClusters(Arrays.asList(
+        new ScaleRequest("domain1", CLUSTER, 2), new ScaleRequest("domain2", CLUSTER, 2)));
+
+    assertThat(getStatus(failures.get(0)), equalTo(Status.INTERNAL_SERVER_ERROR.getStatusCode()));
+    assertThat(failures.get(1), nullValue());
+    assertThat(callFactory.replaced, contains("domain2"));
+  }
+
+  @Test
+  public void whenScaled_doNotChangeDomainInMemory() {
+    createBackend().scaleClusters(Collections.singletonList(new ScaleRequest("domain1", CLUSTER, 2)));
+
+    assertThat(getReplicas(infos.get("domain1").getDomain()), equalTo(1));
+  }
+
+  @Test
+  public void whenDomainInMemory_scaleItWithoutListingDomains() {
+    List<WebApplicationException> failures = createBackend().scaleClusters(
+        Collections.singletonList(new ScaleRequest("domain1", CLUSTER, 2)));
+
+    assertThat(failures, contains(nullValue()));
+    assertThat(callFactory.listedNamespaces, empty());
+  }
+
+  @Test
+  public void whenDomainNotInMemoryOrKubernetes_failItWithNotFound() {
+    List<WebApplicationException> failures = createBackend().scaleClusters(
+        Collections.singletonList(new ScaleRequest("domain3", CLUSTER, 2)));
+
+    assertThat(getStatus(failures.get(0)), equalTo(Status.NOT_FOUND.getStatusCode()));
+    assertThat(callFactory.listedNamespaces, contains(NAMESPACE));
+    assertThat(callFactory.replaced, empty());
+  }
+
+  @Test
+  public void whenDomainInMemoryIsStale_scaleLatestDomainAfterConflict() {
+    callFactory.conflictingDomain = "domain1";
+    callFactory.listedDomains.add(createDomain("domain1", "2"));
+
+    List<WebApplicationException> failures = createBackend().scaleClusters(
+        Collections.singletonList(new ScaleRequest("domain1", CLUSTER, 2)));
+
+    assertThat(failures, contains(nullValue()));
+    assertThat(callFactory.replaced, contains("domain1"));
+    assertThat(callFactory.replacedBodies.get(0).getMetadata().getResourceVersion(), equalTo("2"));
+    assertThat(getReplicas(callFactory.replacedBodies.get(0)), equalTo(2));
+    assertThat(getReplicas(infos.get("domain1").getDomain()), equalTo(1));
+  }
+
+  abstract static class SynchronousCallFactoryStub implements SynchronousCallFactory {
+    private final List<String> replaced = new ArrayList<>();
+    private final List<Domain> replacedBodies = new ArrayList<>();
+    private final List<String> listedNamespaces = new ArrayList<>();
+    private final List<Domain> listedDomains = new ArrayList<>();
+    private String failingDomain;
+    private String conflictingDomain;
+
+    @Override
+    public V1TokenReview createTokenReview(ApiClient client, V1TokenReview body, String pretty) {
+      return new V1TokenReview().status(
+          new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo().username("user")));
+    }
+
+    @Override
+    public V1SubjectAccessReview createSubjectAccessReview(ApiClient client, V1SubjectAccessReview body,
+        String pretty) {
+      return body.status(new V1SubjectAccessReviewStatus().allowed(true));
+    }
+
+    @Override
+    public DomainList getDomainList(ApiClient client, String namespace, String pretty, String _continue,
+        String fieldSelector, Boolean includeUninitialized, String labelSelector, Integer limit,
+        String resourceVersion, Integer timeoutSeconds, Boolean watch) {
+      listedNamespaces.add(namespace);
+      return new DomainList().withItems(listedDomains);
+    }
+
+    @Override
+    public Domain replaceDomain(ApiClient client, String name, String namespace, Domain body, String pretty)
+        throws ApiException {
+      if (name.equals(failingDomain)) {
+        throw new IllegalStateException("unexpected failure");
+      }
+      // only the domain with the latest resource version can be replaced
+      if (name.equals(conflictingDomain) && "1".equals(body.getMetadata().getResourceVersion())) {
+        throw new ApiException(CallBuilder.CONFLICT, "domain was changed");
+      }
+      replaced.add(name);
+      replacedBodies.add(body);
+      return body;
+    }
+  }
+}
@@ -4,17 +4,29 @@
 package oracle.kubernetes.operator.rest;
 
 import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.DomainStatusBroadcaster;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscriber;
+import oracle.kubernetes.operator.DomainStatusBroadcaster.Subscription;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import org.glassfish.jersey.jsonp.JsonProcessingFeature;
 import org.apache.commons.codec.binary.Base64;
 
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.backend.ScaleRequest;
+import oracle.kubernetes.operator.rest.model.AlertResultModel;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 import oracle.kubernetes.operator.rest.model.ErrorModel;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
+import oracle.kubernetes.operator.rest.model.ScaleItemModel;
+import oracle.kubernetes.operator.rest.model.ScaleParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleResultModel;
 import oracle.kubernetes.operator.rest.model.VersionModel;
+import oracle.kubernetes.operator.rest.resource.DomainStatusResource;
+import oracle.kubernetes.operator.rest.resource.ScaleClusterResource;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
 import oracle.kubernetes.operator.work.Container;
 
 import org.junit.After;
@@ -27,6 +39,8 @@ import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -38,10 +52,14 @@ import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Handler;
 import java.util.logging.Logger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the Weblogic Operator REST api
@@ -56,8 +74,11 @@ public class RestTest {
   private static final String OPERATOR_HREF = "/operator";
   private static final String V1_HREF = OPERATOR_HREF + "/" + V1;
   private static final String LATEST_HREF = OPERATOR_HREF + "/latest";
+  private static final String METRICS_HREF = "/metrics";
 
   private static final String SWAGGER = "swagger";
+  private static final String SCALE = "scale";
+  private static final String ALERTS = "alerts";
   private static final String DOMAINS = "domains";
   private static final String CLUSTERS = "clusters";
   private static final String DOMAIN1 = "domain1";
@@ -65,10 +86,15 @@ public class RestTest {
 
   private static final String SWAGGER_HREF = LATEST_HREF + "/" + SWAGGER;
   private static final String DOMAINS_HREF = LATEST_HREF + "/" + DOMAINS;
+  private static final String SCALE_HREF = LATEST_HREF + "/" + SCALE;
+  private static final String ALERTS_HREF = LATEST_HREF + "/" + ALERTS;
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/" + DOMAIN1;
+  private static final String DOMAIN1_VERSION = "42-fingerprint";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/" + CLUSTERS;
   private static final String DOMAIN1_CLUSTER1_HREF = DOMAIN1_CLUSTERS_HREF + "/" + CLUSTER1;
   private static final String DOMAIN1_CLUSTER1_SCALE_HREF = DOMAIN1_CLUSTER1_HREF + "/scale";
+  private static final String BASIC_CREDENTIALS =
+      "Basic " + Base64.encodeBase64String("wldf:dummy token".getBytes());
 
   private static final String CA_CERT_DATA = "LS0tLS1CRUdJTiBDRVJUSUZJQ0FURS0tLS0tCk1JSUR3VENDQXFtZ0F3SUJBZ0lFVHVHU216QU5CZ2txaGtpRzl3MEJBUXNGQURDQmdURUxNQWtHQTFVRUJoTUMNClZWTXhFREFPQmdOVkJBZ1RCMDE1VTNSaGRHVXhEekFOQmdOVkJBY1RCazE1Vkc5M2JqRVhNQlVHQTFVRUNoTU8NClRYbFBjbWRoYm1sNllYUnBiMjR4R1RBWEJnTlZCQXNURUVaUFVpQlVSVk5VU1U1SElFOU9URmt4R3pBWkJnTlYNCkJBTVRFbGRsWW14dloybGpUM0JsY21GMGIzSkRRVEFlRncweE56RXlNRFV5TXpJNE1ERmFGdzB5TnpFeU1ETXkNCk16STRNREZhTUlHQk1Rc3dDUVlEVlFRR0V3SlZVekVRTUE0R0ExVUVDQk1IVFhsVGRHRjBaVEVQTUEwR0ExVUUNCkJ4TUdUWGxVYjNkdU1SY3dGUVlEVlFRS0V3NU5lVTl5WjJGdWFYcGhkR2x2YmpFWk1CY0dBMVVFQ3hNUVJrOVMNCklGUkZVMVJKVGtjZ1QwNU1XVEViTUJrR0ExVUVBeE1TVjJWaWJHOW5hV05QY0dWeVlYUnZja05CTUlJQklqQU4NCkJna3Foa2lHOXcwQkFRRUZBQU9DQVE4QU1JSUJDZ0tDQVFFQWp1Q1JtOE5Wck02bjQrQ1ptZFh3M3FqRjV3T00NCnZYZVJDZG9TZ1dEalRrUmtKV1RZOVlVaGVIaVB1TGozdXZRbFNwNUNZdngwTUYyM2pxbzcyaEJqM3U2cGZqbVMNCnJBeEpSdjZQV1E3Y3dTbGU3SU1URk5Qb3NvS0wrSEZmTWxmL2o2WUtqZzlQZXJPY09ocEI2WnJWS0NxeDdvOCsNCmRpb2FxdXlYV2drKzQxdkNKeGs5QVlqRGdBM1BnNC8xQ1BPVUU4eGN4Z29ldi9teW4yTFMvZkU5NzJsNVo4eUINCnFtcXI1V09EbUZLVWNqV0tSVGlnWjFSNVBoQjNVaHhBUXN4aHJKYVZFM3drT1ZjYWdza2QvWHM2eWY3cS9pVXMNClUxL1VCc3Q1SE5Dd2hnWUZ3bkV1RXZvaVNPeFl2UEx4cjRWTU1RM2lPR21QS0VBKzJoUUtxc214b3dJREFRQUINCm96OHdQVEFQQmdOVkhSTUVDREFHQVFIL0FnRUJNQXNHQTFVZER3UUVBd0lDQkRBZEJnTlZIUTRFRmdRVVlFcDANCmkxc2hZcDh5N1lQTEk5MXh6L2pXWVVBd0RRWUpLb1pJaHZjTkFRRUxCUUFEZ2dFQkFIZFNtUVZZT0pzdmJFR1QNCmxwdk1CcjhCL0M1cUdGQjF4N3BBZWRlOFA1TXk0MHg1QnNjTjg4ZkN3djZSVStUbDNjenQ4ZHBMc0RZaTIzR2QNCnEwSk1LT2docXdSa2w4bEZRNmY0ZUdsZGFLMGlOc3hxQkJZUVFBeHNscTV0RXRUZk4rYmdVbGUyMmhpNERjUGsNClh0UDNncGhHdzRjSXlpZ09DbWpiOVk5VnNQY0M2Rit2bmhNaWxkRVhmUEFJcWRQSnlWZFMrWWNXOXdkaXF2d28NClVsK0h2VDhyMnFSbTV0U2NReFRySEY1emdwZzZhUmRENk1qWGQwZFAydzUzazVQeUZPb0o4eE1Qd1JGeE1xazkNCmkzdm9ZcUFBNXBNZXBVR3ladllKenUrUEk2cmFJNlllc3NMcW02NEE0NlZYS0xIOEZvTnYwMEQ2Y0o5R1NwMUUNCkJmRm85L3M9Ci0tLS0tRU5EIENFUlRJRklDQVRFLS0tLS0K";
   private static final String OP_CERT_DATA = "LS0tLS1CRUdJTiBDRVJUSUZJQ0FURS0tLS0tCk1JSUR4ekNDQXErZ0F3SUJBZ0lFT2lMdG1EQU5CZ2txaGtpRzl3MEJBUXNGQURDQmdURUxNQWtHQTFVRUJoTUMNClZWTXhFREFPQmdOVkJBZ1RCMDE1VTNSaGRHVXhEekFOQmdOVkJBY1RCazE1Vkc5M2JqRVhNQlVHQTFVRUNoTU8NClRYbFBjbWRoYm1sNllYUnBiMjR4R1RBWEJnTlZCQXNURUVaUFVpQlVSVk5VU1U1SElFOU9URmt4R3pBWkJnTlYNCkJBTVRFbGRsWW14dloybGpUM0JsY21GMGIzSkRRVEFlRncweE56RXlNRFV5TXpJNE1EUmFGdzB5TnpFeU1ETXkNCk16STRNRFJhTUhneEN6QUpCZ05WQkFZVEFsVlRNUkF3RGdZRFZRUUlFd2ROZVZOMFlYUmxNUTh3RFFZRFZRUUgNCkV3Wk5lVlJ2ZDI0eEZ6QVZCZ05WQkFvVERrMTVUM0puWVc1cGVtRjBhVzl1TVJrd0Z3WURWUVFMRXhCR1QxSWcNClZFVlRWRWxPUnlCUFRreFpNUkl3RUFZRFZRUURFd2xzYjJOaGJHaHZjM1F3Z2dFaU1BMEdDU3FHU0liM0RRRUINCkFRVUFBNElCRHdBd2dnRUtBb0lCQVFDOCs1MVNYcnpPUm8xaHYwb1doZFhnNTBCczRJc0pUSUw4ZVdZV1R6SGINCkxVcVMxQldWZllVMHJGWXZYTDBGQnh6SGdtL1lVZ0dHVkQwZEVtdVBMSXc3cEd4TS84Sm5HbGpvampnZSs5QmUNCk9rMFBKSXc3MmpPazA0a3ZOK1V6QnJodk5kRnRUQ3VnaVZDWG1ncjZLYjlIM2JpSlkraWZIMmR1OTRIamcrQ2ENCkRYZU5qZXlSRmVZQmdmRTd1cERBNGx6aXNrRVFjczVTSHJNcVB5TFViZVRrYk1aSy82bVVYazdOTGhyQ3BRNmMNCjNnVGgrSDVLaElBd0lXR2hXTEhOTGkzWm5kbWhRRW53enZMOUlDYVpHazZ3QmlxNDJsdUUxYndPdmpMVnRKOEsNCmVJWGFONnlIdXFFamNMUFBEeEhtYkZwVWlaZmgrWTk0K29RQTRMS3lGdWhOQWdNQkFBR2pUekJOTUI4R0ExVWQNCkl3UVlNQmFBRkdCS2RJdGJJV0tmTXUyRHl5UGRjYy80MW1GQU1Bc0dBMVVkRHdRRUF3SUQrREFkQmdOVkhRNEUNCkZnUVVvcFFvY0ExaVpGN042ZDhMdmoyM1Ezc0FJTVl3RFFZSktvWklodmNOQVFFTEJRQURnZ0VCQUlHZFpkMVMNCkhZdFMxQnVRSnpLcSthTEVHUzQvQk01aXk2Q0oxaGpvUnpyc0Y0TEhtTmNqOE04M1RYY1JXTHJraEhtd3FFU0cNCjVpU3o0bVJnbmxxSlIxcndxZjhOUnAwU3dnVVlmbmdvdGI2dlZxVUhWZzcvdWtaRURYV2dUMThaS1BrZkp4SnoNCmRPdlpEeDhETzVhOWhQVFZKeWwzekd3ckhBaVY3Zjg1RWdIVkxsUTFqbC91eG9zSXJaMm5VZ3BFVTlzaC8xd04NCkIyYUtZVk5WQVFNZVZuVHhHU0h0WW5pOUJ1U1FDMFhZS3FCbVlHWWlwUDlnenJBd0hFTXVEeFRxcUdIRU84WVgNCjgrem1xVGJTVzQ2NkNYL2RsTFhNKzR3MFErNU1XODZBbkpzVGhEeE5mWkMrd3o5ZHNwbm9lclVsYWVyMVhiaWkNCjAwd2ZNaU81UU9uTlF3TT0KLS0tLS1FTkQgQ0VSVElGSUNBVEUtLS0tLQo=";
@@ -139,6 +165,8 @@ public class RestTest {
     VersionModel want = createLatestVersion();
     want.addSelfAndParentLinks(V1_HREF, OPERATOR_HREF);
     want.addLink(DOMAINS, V1_HREF + "/" + DOMAINS);
+    want.addLink(SCALE, V1_HREF + "/" + SCALE);
+    want.addLink(ALERTS, V1_HREF + "/" + ALERTS);
     want.addLink(SWAGGER, V1_HREF + "/" + SWAGGER);
     verifyEntity(r, want);
   }
@@ -150,6 +178,8 @@ public class RestTest {
     VersionModel want = createLatestVersion();
     want.addSelfAndParentLinks(LATEST_HREF, OPERATOR_HREF);
     want.addLink(DOMAINS, DOMAINS_HREF);
+    want.addLink(SCALE, SCALE_HREF);
+    want.addLink(ALERTS, ALERTS_HREF);
     want.addLink(SWAGGER, SWAGGER_HREF);
     verifyEntity(r, want);
   }
@@ -173,6 +203,16 @@ public class RestTest {
     assertEquals(j.getString("swagger"), "2.0");
   }
 
+  @Test
+  public void testMetrics() {
+    Response r = request(METRICS_HREF).get();
+    verifyOK(r);
+    assertTrue(r.getMediaType().toString().startsWith(MediaType.TEXT_PLAIN));
+    String metrics = r.readEntity(String.class);
+    assertTrue(metrics.contains("# TYPE operator_fibers gauge"));
+    assertTrue(metrics.contains("operator_fibers{engine=\"rest\",state=\"suspended\"}"));
+  }
+
   @Test
   public void testDomains() {
     Response r = request(DOMAINS_HREF).get();
@@ -234,6 +274,25 @@ public class RestTest {
     verifyEntity(r, want);
   }
 
+  @Test
+  public void testConditionalGetOfCurrentVersion() {
+    for (String href : Arrays.asList(DOMAIN1_HREF, DOMAIN1_CLUSTERS_HREF, DOMAIN1_CLUSTER1_HREF)) {
+      Response r = request(href).get();
+      verifyOK(r);
+      EntityTag tag = r.getEntityTag();
+      assertEquals(DOMAIN1_VERSION, tag.getValue());
+
+      verifyStatusCode(request(href).header(HttpHeaders.IF_NONE_MATCH, tag.toString()).get(), Status.NOT_MODIFIED);
+    }
+  }
+
+  @Test
+  public void testConditionalGetOfOtherVersion() {
+    Response r = request(DOMAIN1_CLUSTERS_HREF).header(HttpHeaders.IF_NONE_MATCH, "\"earlier\"").get();
+    verifyOK(r);
+    assertEquals(DOMAIN1_VERSION, r.getEntityTag().getValue());
+  }
+
   @Test
   public void testNonExistingCluster() {
     String href = DOMAIN1_CLUSTERS_HREF + "/cluster2";
@@ -246,11 +305,41 @@ public class RestTest {
   @Test
   public void testScaleCluster() {
     Entity<ScaleClusterParamsModel> entity = Entity.entity(createScaleClusterParams(), MediaType.APPLICATION_JSON);
+    Response r =
+      request(DOMAIN1_CLUSTER1_SCALE_HREF)
+        .header("X-Requested-By", "TestClient")
+        .post(entity);
+    verifyOK(r);
+    verifyEntity(r, new ScaleClusterResultModel(3));
+  }
+
+  @Test
+  public void testScaleClusterRetriedWithIdempotencyKey() {
+    ScaleClusterParamsModel params = createScaleClusterParams();
+    request(DOMAIN1_CLUSTER1_SCALE_HREF)
+      .header("X-Requested-By", "TestClient")
+      .header(ScaleClusterResource.IDEMPOTENCY_KEY_HEADER, "alert-1")
+      .post(Entity.entity(params, MediaType.APPLICATION_JSON));
+    params.setManagedServerCount(4);
+    Response r =
+      request(DOMAIN1_CLUSTER1_SCALE_HREF)
+        .header("X-Requested-By", "TestClient")
+        .header(ScaleClusterResource.IDEMPOTENCY_KEY_HEADER, "alert-1")
+        .post(Entity.entity(params, MediaType.APPLICATION_JSON));
+    verifyOK(r);
+    verifyEntity(r, new ScaleClusterResultModel(3));
+  }
+
+  @Test
+  public void testScaleClusterRejectedByBackend() {
+    ScaleClusterParamsModel params = createScaleClusterParams();
+    params.setManagedServerCount(-1);
+    Entity<ScaleClusterParamsModel> entity = Entity.entity(params, MediaType.APPLICATION_JSON);
     verifyStatusCode(
       request(DOMAIN1_CLUSTER1_SCALE_HREF)
         .header("X-Requested-By", "TestClient")
         .post(entity),
-      Status.NO_CONTENT
+      Status.BAD_REQUEST
     );
   }
 
@@ -264,6 +353,131 @@ public class RestTest {
     );
   }
 
+  @Test
+  public void testDomainStatusStream() {
+    String body =
+      request(DOMAIN1_HREF + "/status/stream")
+        .accept(DomainStatusResource.EVENT_STREAM)
+        .get(String.class);
+    assertTrue(body.contains("event: " + DomainStatusBroadcaster.STATUS_EVENT + "\n"));
+    assertTrue(body.contains("\"Available\""));
+  }
+
+  @Test
+  public void testBulkScale() {
+    ScaleParamsModel params = new ScaleParamsModel();
+    params.addItem(new ScaleItemModel(DOMAIN1, CLUSTER1, 3));
+    params.addItem(new ScaleItemModel(DOMAIN1, CLUSTER1, -1));
+    params.addItem(new ScaleItemModel("domain2", CLUSTER1, 3));
+    Response r =
+      request(SCALE_HREF)
+        .header("X-Requested-By", "TestClient")
+        .post(Entity.entity(params, MediaType.APPLICATION_JSON));
+    verifyOK(r);
+    CollectionModel<ScaleResultModel> have =
+      r.readEntity(new GenericType<CollectionModel<ScaleResultModel>>() {});
+    List<Integer> statuses = new ArrayList<>();
+    for (ScaleResultModel item : have.getItems()) {
+      statuses.add(item.getStatus());
+    }
+    assertEquals(
+      Arrays.asList(
+        Status.NO_CONTENT.getStatusCode(),
+        Status.BAD_REQUEST.getStatusCode(),
+        Status.NOT_FOUND.getStatusCode()),
+      statuses
+    );
+  }
+
+  @Test
+  public void testBulkScaleWithoutItems() {
+    verifyStatusCode(
+      request(SCALE_HREF)
+        .header("X-Requested-By", "TestClient")
+        .post(Entity.entity("{\"items\": null}", MediaType.APPLICATION_JSON)),
+      Status.BAD_REQUEST
+    );
+  }
+
+  @Test
+  public void testBulkScaleMissingRequestedByHeader() {
+    ScaleParamsModel params = new ScaleParamsModel();
+    params.addItem(new ScaleItemModel(DOMAIN1, CLUSTER1, 3));
+    verifyStatusCode(
+      request(SCALE_HREF)
+        .post(Entity.entity(params, MediaType.APPLICATION_JSON)),
+      Status.BAD_REQUEST
+    );
+  }
+
+  @Test
+  public void testAlertmanagerNotification() {
+    String notification =
+      "{\"status\": \"firing\", \"alerts\": ["
+        + "{\"status\": \"firing\", \"labels\": {\"alertname\": \"HighLoad\", \"domainUID\": \"domain1\","
+        + " \"clusterName\": \"cluster1\", \"action\": \"scaleUp\"}},"
+        + "{\"status\": \"resolved\", \"labels\": {\"alertname\": \"LowLoad\", \"domainUID\": \"domain1\","
+        + " \"clusterName\": \"cluster1\", \"action\": \"scaleDown\"}}]}";
+    // the webhook does not require the X-Requested-By header, which alert senders cannot send
+    Response r = request(ALERTS_HREF).post(Entity.entity(notification, MediaType.APPLICATION_JSON));
+    verifyOK(r);
+    CollectionModel<AlertResultModel> have =
+      r.readEntity(new GenericType<CollectionModel<AlertResultModel>>() {});
+    List<String> outcomes = new ArrayList<>();
+    for (AlertResultModel item : have.getItems()) {
+      outcomes.add(item.getOutcome());
+    }
+    assertEquals(Arrays.asList(AlertResultModel.SCALED, AlertResultModel.IGNORED), outcomes);
+    assertEquals(3, have.getItems().get(0).getManagedServerCount());
+  }
+
+  @Test
+  public void testWldfNotificationWithBasicCredentials() {
+    String notification =
+      "{\"watchName\": \"HighLoad\", \"domainUID\": \"domain2\", \"clusterName\": \"cluster1\","
+        + " \"action\": \"scaleUp\"}";
+    Response r =
+      externalHttpsTarget
+        .path(ALERTS_HREF)
+        .request()
+        .header(HttpHeaders.AUTHORIZATION, BASIC_CREDENTIALS)
+        .header("X-Requested-By", "TestClient")
+        .post(Entity.entity(notification, MediaType.APPLICATION_JSON));
+    verifyOK(r);
+    CollectionModel<AlertResultModel> have =
+      r.readEntity(new GenericType<CollectionModel<AlertResultModel>>() {});
+    assertEquals(AlertResultModel.FAILED, have.getItems().get(0).getOutcome());
+  }
+
+  @Test
+  public void testWldfNotificationWithBasicCredentialsMissingRequestedByHeader() {
+    // WLDF cannot send custom headers; a JSON request cannot be forged by a browser
+    String notification =
+      "{\"watchName\": \"HighLoad\", \"domainUID\": \"domain2\", \"clusterName\": \"cluster1\","
+        + " \"action\": \"scaleUp\"}";
+    Response r =
+      externalHttpsTarget
+        .path(ALERTS_HREF)
+        .request()
+        .header(HttpHeaders.AUTHORIZATION, BASIC_CREDENTIALS)
+        .post(Entity.entity(notification, MediaType.APPLICATION_JSON));
+    verifyOK(r);
+    CollectionModel<AlertResultModel> have =
+      r.readEntity(new GenericType<CollectionModel<AlertResultModel>>() {});
+    assertEquals(AlertResultModel.FAILED, have.getItems().get(0).getOutcome());
+  }
+
+  @Test
+  public void testBasicCredentialsOutsideAlerts() {
+    Response r =
+      externalHttpsTarget
+        .path(OPERATOR_HREF)
+        .request()
+        .header(HttpHeaders.AUTHORIZATION, BASIC_CREDENTIALS)
+        .get();
+    verifyNotAuthenticated(r);
+  }
+
   @Test
   public void testMissingAuthorizationHeader() {
     Response r = externalHttpsTarget.path(OPERATOR_HREF).request().get();
@@ -418,6 +632,9 @@ public class RestTest {
   }
 
   private static class TestRestBackendImpl implements RestBackend {
+    // a backend is created for each request; retries are recognized across requests
+    private static final Map<String, Integer> scaledByIdempotencyKey = Collections.synchronizedMap(new HashMap<>());
+
     Map<String, Set<String>> domains = new HashMap<>();
 
     private TestRestBackendImpl() {
@@ -447,13 +664,60 @@ public class RestTest {
       return domains.get(domainUID);
     }
 
+    @Override
+    public String getDomainVersion(String domainUID) {
+      return DOMAIN1.equals(domainUID) ? DOMAIN1_VERSION : null;
+    }
+
     @Override
     public boolean isCluster(String domainUID, String cluster) {
       return getClusters(domainUID).contains(cluster);
     }
 
     @Override
-    public void scaleCluster(String domainId, String cluster, int managedServerCount) {
+    public int getManagedServerCount(String domainUID, String cluster) {
+      return 2;
+    }
+
+    @Override
+    public CompletableFuture<Integer> scaleCluster(String domainId, String cluster, int managedServerCount,
+        String idempotencyKey, ScheduledExecutorService executor) {
+      if (managedServerCount < 0) {
+        throw new WebApplicationException(Status.BAD_REQUEST);
+      }
+      return CompletableFuture.completedFuture(idempotencyKey != null
+          ? scaledByIdempotencyKey.computeIfAbsent(idempotencyKey, k -> managedServerCount)
+          : managedServerCount);
+    }
+
+    @Override
+    public Subscription subscribeDomainStatus(String domainUID, String lastEventId, Subscriber subscriber,
+        Executor executor) {
+      // the stream ends once the current status is sent
+      DomainStatusBroadcaster broadcaster = DomainStatusBroadcaster.getInstance();
+      broadcaster.publish(domainUID, new DomainStatus().withReason("Available"));
+      Subscription subscription = broadcaster.subscribe(domainUID, lastEventId, subscriber, executor);
+      broadcaster.close(domainUID);
+      return subscription;
+    }
+
+    @Override
+    public List<WebApplicationException> scaleClusters(List<ScaleRequest> requests) {
+      List<WebApplicationException> failures = new ArrayList<>();
+      for (ScaleRequest request : requests) {
+        WebApplicationException failure = null;
+        if (!isDomainUID(request.getDomainUID()) || !isCluster(request.getDomainUID(), request.getCluster())) {
+          failure = new WebApplicationException(Status.NOT_FOUND);
+        } else {
+          try {
+            scaleCluster(request.getDomainUID(), request.getCluster(), request.getManagedServerCount(), null, null);
+          } catch (WebApplicationException e) {
+            failure = e;
+          }
+        }
+        failures.add(failure);
+      }
+      return failures;
     }
   }
 
@@ -0,0 +1,208 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response.Status;
+
+import com.meterware.simplestub.Memento;
+
+import oracle.kubernetes.TestUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ScaleCoalescerTest {
+
+  private static final int WINDOW_MILLIS = 500;
+  private static final int IDEMPOTENCY_TTL_SECONDS = 60;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final SchedulerStub scheduler = createStub(SchedulerStub.class);
+  private final List<Integer> applied = new ArrayList<>();
+  private long now;
+  private final ScaleCoalescer coalescer = new ScaleCoalescer(ScaleCoalescer.MAX_COMPLETED, () -> now);
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private CompletableFuture<Integer> scale(String cluster, int count, String idempotencyKey, IntConsumer apply) {
+    return coalescer.scale("domain1", cluster, count, idempotencyKey, WINDOW_MILLIS, IDEMPOTENCY_TTL_SECONDS,
+        scheduler, apply);
+  }
+
+  private CompletableFuture<Integer> scale(int count) {
+    return scale("cluster1", count, null, applied::add);
+  }
+
+  private int scaleAlone(int count, String idempotencyKey) {
+    int result = scale("cluster1", count, idempotencyKey, applied::add).join();
+    scheduler.runScheduled();
+    return result;
+  }
+
+  @Test
+  public void whenNothingPending_applyRequestWithoutDelay() {
+    CompletableFuture<Integer> first = scale(3);
+
+    assertThat(first.isDone(), is(true));
+    assertThat(first.join(), equalTo(3));
+    assertThat(applied, contains(3));
+  }
+
+  @Test
+  public void whenRequestsArriveWithinWindow_applyLastTargetOnceWindowEnds() {
+    CompletableFuture<Integer> first = scale(3);
+    CompletableFuture<Integer> second = scale(4);
+    CompletableFuture<Integer> third = scale(5);
+
+    assertThat(second.isDone(), is(false));
+    scheduler.runScheduled();
+
+    assertThat(first.join(), equalTo(3));
+    assertThat(second.join(), equalTo(5));
+    assertThat(third.join(), equalTo(5));
+    assertThat(applied, contains(3, 5));
+    assertThat(coalescer.getCoalescedCount(), equalTo(2L));
+  }
+
+  @Test
+  public void whenWindowEndsWithoutRequests_applyNextRequestWithoutDelay() {
+    scale(3);
+    scheduler.runScheduled();
+
+    CompletableFuture<Integer> second = scale(4);
+
+    assertThat(coalescer.isPending("domain1", "cluster1"), is(true));
+    assertThat(second.isDone(), is(true));
+    assertThat(applied, contains(3, 4));
+  }
+
+  @Test
+  public void afterCoalescedRequestsApplied_coalesceRequestsOfNextWindow() {
+    scale(3);
+    scale(4);
+    scheduler.runScheduled();
+
+    CompletableFuture<Integer> third = scale(5);
+    assertThat(third.isDone(), is(false));
+    scheduler.runScheduled();
+
+    assertThat(third.join(), equalTo(5));
+    assertThat(applied, contains(3, 4, 5));
+  }
+
+  @Test
+  public void whenRequestsForDifferentClusters_applyEach() {
+    CompletableFuture<Integer> first = scale("cluster1", 3, null, applied::add);
+    CompletableFuture<Integer> second = scale("cluster2", 4, null, applied::add);
+
+    assertThat(first.join(), equalTo(3));
+    assertThat(second.join(), equalTo(4));
+    assertThat(applied, contains(3, 4));
+  }
+
+  @Test
+  public void whenRequestRetriedWithIdempotencyKey_returnRecordedTarget() {
+    scaleAlone(3, "alert-1");
+
+    assertThat(scaleAlone(5, "alert-1"), equalTo(3));
+    assertThat(applied, contains(3));
+    assertThat(coalescer.getReplayedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenIdempotencyKeysDiffer_applyEach() {
+    scaleAlone(3, "alert-1");
+    scaleAlone(5, "alert-2");
+
+    assertThat(applied, contains(3, 5));
+  }
+
+  @Test
+  public void whenIdempotencyTtlExpired_applyAgain() {
+    scaleAlone(3, "alert-1");
+    now += TimeUnit.SECONDS.toNanos(IDEMPOTENCY_TTL_SECONDS);
+    scaleAlone(5, "alert-1");
+
+    assertThat(applied, contains(3, 5));
+  }
+
+  @Test
+  public void whenScalingFails_failAndDoNotRecordIdempotencyKey() {
+    int status = 0;
+    try {
+      scale("cluster1", 3, "alert-1", count -> {
+        throw new WebApplicationException(Status.BAD_REQUEST);
+      }).join();
+    } catch (CompletionException e) {
+      status = ((WebApplicationException) e.getCause()).getResponse().getStatus();
+    }
+    scheduler.runScheduled();
+    scaleAlone(3, "alert-1");
+
+    assertThat(status, equalTo(Status.BAD_REQUEST.getStatusCode()));
+    assertThat(applied, contains(3));
+  }
+
+  @Test
+  public void whenCoalescedRequestsFail_failEach() {
+    IntConsumer failAboveFour = count -> {
+      if (count > 4) {
+        throw new WebApplicationException(Status.CONFLICT);
+      }
+      applied.add(count);
+    };
+    scale("cluster1", 3, null, failAboveFour);
+    CompletableFuture<Integer> second = scale("cluster1", 4, null, failAboveFour);
+    CompletableFuture<Integer> third = scale("cluster1", 5, null, failAboveFour);
+    scheduler.runScheduled();
+
+    assertThat(second.isCompletedExceptionally(), is(true));
+    assertThat(third.isCompletedExceptionally(), is(true));
+    assertThat(applied, contains(3));
+  }
+
+  // runs the scheduled work when the test asks for it, as if the scheduled time had come
+  abstract static class SchedulerStub implements ScheduledExecutorService {
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      scheduled.add(command);
+      return null;
+    }
+
+    void runScheduled() {
+      List<Runnable> due = new ArrayList<>(scheduled);
+      scheduled.clear();
+      for (Runnable runnable : due) {
+        runnable.run();
+      }
+    }
+  }
+}
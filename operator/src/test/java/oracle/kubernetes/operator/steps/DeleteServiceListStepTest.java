@@ -0,0 +1,149 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Status;
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DeleteServiceListStepTest {
+
+  private Collection<V1Service> services = new ArrayList<>();
+  private TerminalStep terminalStep = new TerminalStep();
+
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private List<Memento> mementos = new ArrayList<>();
+  private Container savedContainer;
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(TestUtils.silenceOperatorLogger());
+
+    Container container = new Container();
+    container.getComponents().put("callBuilderFactory", Component.createFor(new CallBuilderFactory()));
+    savedContainer = ContainerResolver.getDefault().enterContainer(container);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    ContainerResolver.getDefault().exitContainer(savedContainer);
+    for (Memento memento : mementos) memento.revert();
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenCollectionEmpty_makeNoCalls() throws Exception {
+    runDeleteStep();
+  }
+
+  private void runDeleteStep(V1Service... services) {
+    this.services.addAll(Arrays.asList(services));
+    testSupport.runStep(new DeleteServiceListStep(this.services, terminalStep));
+  }
+
+  @Test
+  public void whenCollectionContainsItems_invokeDeleteCalls() throws Exception {
+    defineResponse("namespace1", "name1").returning(new V1Status());
+    defineResponse("namespace2", "name2").returning(new V1Status());
+
+    runDeleteStep(new V1Service().metadata(new V1ObjectMeta().namespace("namespace1").name("name1")),
+                  new V1Service().metadata(new V1ObjectMeta().namespace("namespace2").name("name2")));
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenCollectionLargerThanConcurrentDeletes_deleteAllServices() throws Exception {
+    List<V1Service> services = new ArrayList<>();
+    for (int i = 0; i < 3 * DeleteServiceListStep.MAX_CONCURRENT_DELETES + 1; i++) {
+      defineResponse("namespace1", "name" + i).returning(new V1Status());
+      services.add(new V1Service().metadata(new V1ObjectMeta().namespace("namespace1").name("name" + i)));
+    }
+
+    runDeleteStep(services.toArray(new V1Service[services.size()]));
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenDeletesCompleteTogether_eachLaneContinuesAndNextStepGetsOriginalPacket() throws Exception {
+    List<V1Service> services = new ArrayList<>();
+    for (int i = 0; i < 2 * DeleteServiceListStep.MAX_CONCURRENT_DELETES; i++) {
+      defineResponse("namespace1", "name" + i).returningAsynchronously(new V1Status());
+      services.add(new V1Service().metadata(new V1ObjectMeta().namespace("namespace1").name("name" + i)));
+    }
+    CapturingStep end = new CapturingStep(null);
+    CapturingStep start = new CapturingStep(new DeleteServiceListStep(services, end));
+
+    testSupport.runStep(start);
+    testSupport.completeAsynchronousCalls();
+    testSupport.completeAsynchronousCalls();
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+    assertThat(end.packet, is(sameInstance(start.packet)));
+  }
+
+  private static class CapturingStep extends Step {
+    private Packet packet;
+
+    CapturingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      this.packet = packet;
+      return doNext(packet);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> AsyncCallTestSupport.CannedResponse<T> defineResponse(String namespace, String name) {
+    return testSupport.createCannedResponse("deleteService").withNamespace(namespace).withName(name);
+  }
+
+  @Test
+  public void onFailureResponse_reportError() throws Exception {
+    defineResponse("namespace1", "name1").failingWithStatus(HttpURLConnection.HTTP_FORBIDDEN);
+
+    runDeleteStep(new V1Service().metadata(new V1ObjectMeta().namespace("namespace1").name("name1")));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+  }
+
+  @Test
+  public void onNotFoundResponse_dontReportError() throws Exception {
+    defineResponse("namespace1", "name1").failingWithStatus(HttpURLConnection.HTTP_NOT_FOUND);
+
+    runDeleteStep(new V1Service().metadata(new V1ObjectMeta().namespace("namespace1").name("name1")));
+  }
+}
\ No newline at end of file
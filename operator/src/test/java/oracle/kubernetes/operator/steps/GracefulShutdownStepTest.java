@@ -0,0 +1,110 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpServer;
+
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class GracefulShutdownStepTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+  private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+  private HttpServer server;
+  private int responseStatus = 200;
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      requests.add(exchange.getRequestURI().getPath());
+      exchange.sendResponseHeaders(responseStatus, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.stop(0);
+    executor.shutdownNow();
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private V1Service createAdminService() {
+    return new V1Service().spec(new V1ServiceSpec().clusterIP("127.0.0.1")
+        .ports(Collections.singletonList(new V1ServicePort().port(server.getAddress().getPort()))));
+  }
+
+  private boolean runShutdown(String... serverNames) throws InterruptedException {
+    Packet packet = new Packet();
+    packet.put(HttpClient.KEY, HttpClient.createAuthenticatedClient("user".getBytes(), "password".getBytes()));
+    CountDownLatch done = new CountDownLatch(1);
+    new Engine(executor).createFiber().start(
+        new GracefulShutdownStep(Arrays.asList(serverNames), createAdminService(), 5, null), packet,
+        new CompletionCallback() {
+          @Override
+          public void onCompletion(Packet packet) {
+            done.countDown();
+          }
+
+          @Override
+          public void onThrowable(Packet packet, Throwable throwable) {
+          }
+        });
+    return done.await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shutDownEachServerThroughLifecycleRuntime() throws Exception {
+    assertThat(runShutdown("ms1", "ms2"), equalTo(true));
+
+    assertThat(requests, containsInAnyOrder(
+        GracefulShutdownStep.getShutdownUrl("ms1"), GracefulShutdownStep.getShutdownUrl("ms2")));
+  }
+
+  @Test
+  public void whenShutdownFails_complete() throws Exception {
+    responseStatus = 500;
+
+    assertThat(runShutdown("ms1"), equalTo(true));
+  }
+
+  @Test
+  public void whenAdminServerUnreachable_complete() throws Exception {
+    server.stop(0);
+
+    assertThat(runShutdown("ms1"), equalTo(true));
+  }
+}
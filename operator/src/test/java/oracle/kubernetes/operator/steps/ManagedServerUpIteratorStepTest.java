@@ -0,0 +1,221 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodStatus;
+import io.kubernetes.client.models.V1SecretReference;
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.PodWatcher;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.AnnotationHelper;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsFactory;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ManagedServerUpIteratorStepTest {
+
+  private static final String NS = "namespace";
+  private static final String DOMAIN_UID = "domain1";
+
+  private final AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(createDomain());
+  private final PodWatcher podWatcher = PodWatcher.create(r -> new Thread(), NS, "", response -> { },
+      new AtomicBoolean(true));
+  private Container savedContainer;
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(TestUtils.silenceOperatorLogger());
+
+    ScheduledExecutorService executor = createStub(ScheduledExecutorService.class);
+    Container container = new Container();
+    container.getComponents().put(ProcessingConstants.MAIN_COMPONENT_NAME, Component.createFor(
+        ScheduledExecutorService.class, executor,
+        TuningParameters.class, createStub(TestTuningParameters.class),
+        new Engine(executor), new CallBuilderFactory(), new ServerKubernetesObjectsFactory(new ConcurrentHashMap<>())));
+    savedContainer = ContainerResolver.getDefault().enterContainer(container);
+
+    info.setClaims(new V1PersistentVolumeClaimList());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    ContainerResolver.getDefault().exitContainer(savedContainer);
+    for (Memento memento : mementos) memento.revert();
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenCreatedPodNotReady_nextServerDoesNotStart() throws Exception {
+    defineNewServerResponses("ms1", "ms2");
+
+    startServers("ms1", "ms2");
+
+    assertThat(getStartedPod("ms1"), notNullValue());
+    assertThat(getStartedPod("ms2"), nullValue());
+  }
+
+  @Test
+  public void whenCreatedPodBecomesReady_startNextServer() throws Exception {
+    defineNewServerResponses("ms1", "ms2");
+
+    startServers("ms1", "ms2");
+    podWatcher.receivedResponse(WatchEvent.createModifiedEvent(createReadyPod(getStartedPod("ms1"))).toWatchResponse());
+
+    assertThat(getStartedPod("ms2"), notNullValue());
+  }
+
+  @Test
+  public void whenPodExists_startNextServerWithoutWaiting() throws Exception {
+    defineNewServerResponses("ms2");
+    testSupport.createCannedResponse("readPod").withNamespace(NS).withName(toName("ms1"))
+        .returning(new DesiredPodStep().computePod("ms1"));
+    defineServiceResponses("ms1");
+
+    startServers("ms1", "ms2");
+
+    assertThat(getStartedPod("ms2"), notNullValue());
+  }
+
+  private void startServers(String... serverNames) {
+    List<ServerStartupInfo> startupInfos = new ArrayList<>();
+    for (String serverName : serverNames) {
+      startupInfos.add(new ServerStartupInfo(createServerConfig(serverName), null, Collections.emptyList(), null));
+    }
+    testSupport.runStep(new ComponentsStep(new ManagedServerUpIteratorStep(startupInfos, null)));
+  }
+
+  private void defineNewServerResponses(String... serverNames) {
+    for (String serverName : serverNames) {
+      testSupport.createCannedResponse("readPod").withNamespace(NS).withName(toName(serverName))
+          .failingWithStatus(CallBuilder.NOT_FOUND);
+      defineServiceResponses(serverName);
+    }
+    // every server is given this pod, so the tests make only the first server's pod ready
+    testSupport.createCannedResponse("createPod").withNamespace(NS)
+        .returning(new V1Pod().metadata(new V1ObjectMeta().name(toName(serverNames[0])).namespace(NS)));
+  }
+
+  private void defineServiceResponses(String serverName) {
+    testSupport.createCannedResponse("readService").withNamespace(NS).withName(toName(serverName))
+        .failingWithStatus(CallBuilder.NOT_FOUND);
+    testSupport.createCannedResponse("createService").withNamespace(NS).returning(new V1Service());
+  }
+
+  private static WlsServerConfig createServerConfig(String serverName) {
+    return new WlsServerConfig(serverName, 8001, null, null, false, null, null);
+  }
+
+  private V1Pod getStartedPod(String serverName) {
+    ServerKubernetesObjects sko = info.getServers().get(serverName);
+    return sko != null ? sko.getPod().get() : null;
+  }
+
+  private static String toName(String serverName) {
+    return CallBuilder.toDNS1123LegalName(DOMAIN_UID + "-" + serverName);
+  }
+
+  private static V1Pod createReadyPod(V1Pod pod) {
+    return new V1Pod().metadata(pod.getMetadata()).status(new V1PodStatus().phase("Running")
+        .conditions(Collections.singletonList(new V1PodCondition().type("Ready").status("True"))));
+  }
+
+  private static Domain createDomain() {
+    DomainSpec spec = new DomainSpec();
+    spec.setDomainUID(DOMAIN_UID);
+    spec.setDomainName("base_domain");
+    spec.setAsName("admin-server");
+    spec.setAsPort(7001);
+    spec.setAdminSecret(new V1SecretReference().name("secret"));
+    Domain domain = new Domain();
+    domain.setMetadata(new V1ObjectMeta().namespace(NS));
+    domain.setSpec(spec);
+    return domain;
+  }
+
+  // computes the pod that the operator would create for the server
+  private class DesiredPodStep extends PodHelper.ManagedPodStep {
+    DesiredPodStep() {
+      super(null);
+    }
+
+    V1Pod computePod(String serverName) {
+      Packet packet = new Packet();
+      packet.getComponents().put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info));
+      packet.put(ProcessingConstants.SERVER_SCAN, createServerConfig(serverName));
+      packet.put(ProcessingConstants.ENVVARS, Collections.emptyList());
+      V1Pod pod = computeManagedPodConfig(createStub(TestTuningParameters.class), packet);
+      AnnotationHelper.annotateWithSha256(pod.getMetadata(), pod.getSpec());
+      return pod;
+    }
+  }
+
+  private class ComponentsStep extends Step {
+    ComponentsStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.getComponents().put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info, podWatcher));
+      return doNext(packet);
+    }
+  }
+
+  static abstract class TestTuningParameters extends HashMap<String, String> implements TuningParameters {
+    // one server starts at a time, and its pod is waited for until it is ready
+    @Override
+    public MainTuning getMainTuning() {
+      return new MainTuning(0, 0, 0, 0, 0, 0, 0, 0, 3600000, 1, 0, 0, 0);
+    }
+
+    @Override
+    public PodTuning getPodTuning() {
+      return new PodTuning(2, 5, 10, 10, 5, 10);
+    }
+  }
+}
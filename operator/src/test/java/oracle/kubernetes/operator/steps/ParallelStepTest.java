@@ -0,0 +1,181 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.meterware.simplestub.Memento;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ParallelStepTest {
+
+  private static final String NS = "namespace";
+
+  private final AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<String> events = new ArrayList<>();
+  private final AtomicReference<Fiber> waitingFiber = new AtomicReference<>();
+  private final Map<String, Object> results = new HashMap<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) memento.revert();
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenFirstStepWaits_secondStepRunsBeforeItCompletes_andNextStepRunsAfterBoth() throws Exception {
+    testSupport.runStep(new ParallelStep(new RecordingStep("next", null), new WaitingStep(), new ResumingStep()));
+
+    assertThat(events, contains("waiting", "resuming", "resumed", "next"));
+  }
+
+  @Test
+  public void whenStepsMakeCallsThatCompleteTogether_eachStepReceivesItsOwnResponse() throws Exception {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("server1"));
+    V1Service service = new V1Service().metadata(new V1ObjectMeta().name("server1"));
+    testSupport.createCannedResponse("readPod").withNamespace(NS).withName("server1").returningAsynchronously(pod);
+    testSupport.createCannedResponse("readService").withNamespace(NS).withName("server1")
+        .returningAsynchronously(service);
+    CallBuilder callBuilder = new CallBuilderFactory().create();
+
+    testSupport.runStep(new ParallelStep(new RecordingStep("next", null),
+        callBuilder.readPodAsync("server1", NS, new RecordingResponseStep<>("pod")),
+        callBuilder.readServiceAsync("server1", NS, new RecordingResponseStep<>("service"))));
+    testSupport.completeAsynchronousCalls();
+
+    assertThat(results.get("pod"), sameInstance(pod));
+    assertThat(results.get("service"), sameInstance(service));
+    assertThat(events, contains("next"));
+  }
+
+  @Test
+  public void whenStepsComplete_nextStepReceivesOnlyJoinedEntries() throws Exception {
+    Packet[] joined = new Packet[1];
+    testSupport.runStep(new ParallelStep(new CapturingStep(joined), Collections.singletonList("joined"),
+        new PuttingStep("joined", "value"), new PuttingStep("other", "value")));
+
+    assertThat(joined[0].get("joined"), sameInstance("value"));
+    assertThat(joined[0].containsKey("other"), is(false));
+  }
+
+  private class RecordingResponseStep<T> extends ResponseStep<T> {
+    private final String name;
+
+    RecordingResponseStep(String name) {
+      super(null);
+      this.name = name;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      results.put(name, result);
+      return doNext(packet);
+    }
+  }
+
+  private static class PuttingStep extends Step {
+    private final String key;
+    private final String value;
+
+    PuttingStep(String key, String value) {
+      super(null);
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(key, value);
+      return doNext(packet);
+    }
+  }
+
+  private static class CapturingStep extends Step {
+    private final Packet[] captured;
+
+    CapturingStep(Packet[] captured) {
+      super(null);
+      this.captured = captured;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      captured[0] = packet;
+      return doNext(packet);
+    }
+  }
+
+  private class WaitingStep extends Step {
+    WaitingStep() {
+      super(new RecordingStep("resumed", null));
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      events.add("waiting");
+      return doSuspend(next, waitingFiber::set);
+    }
+  }
+
+  private class ResumingStep extends Step {
+    ResumingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      events.add("resuming");
+      waitingFiber.get().resume(packet);
+      return doNext(packet);
+    }
+  }
+
+  private class RecordingStep extends Step {
+    private final String event;
+
+    RecordingStep(String event, Step next) {
+      super(next);
+      this.event = event;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      events.add(event);
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+/**
+ * Simulates the startup of the managed servers of a domain whose administration server serves the configuration
+ * requests of the starting servers.  The administration server serves ADMIN_CAPACITY units of work per tick while
+ * no more than EFFICIENT_CONCURRENCY servers are starting; each additional starting server makes it thrash and
+ * serve less.  A server is RUNNING once it has received WORK_PER_SERVER units.
+ */
+public class StartupSchedulerTest {
+
+  private static final int CLUSTERS = 2;
+  private static final int SERVERS_PER_CLUSTER = 12;
+  private static final double WORK_PER_SERVER = 10;
+  private static final double ADMIN_CAPACITY = 4;
+  private static final int EFFICIENT_CONCURRENCY = 4;
+  private static final double THRASH_FACTOR = 0.5;
+  private static final int MAX_TICKS = 10000;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<StartingServer> starting = new ArrayList<>();
+  private final Map<String, Integer> startingByCluster = new HashMap<>();
+  private int running;
+  private int peakStarting;
+  private int peakStartingInCluster;
+  private Fiber testFiber;
+
+  @After
+  public void tearDown() throws Exception {
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void withoutLimits_startAllServersAtOnce() throws Exception {
+    runSimulation(new StartupScheduler(0, 0));
+
+    assertThat(peakStarting, equalTo(CLUSTERS * SERVERS_PER_CLUSTER));
+  }
+
+  @Test
+  public void withLimits_neverStartMoreServersThanAllowed() throws Exception {
+    runSimulation(new StartupScheduler(4, 3));
+
+    assertThat(running, equalTo(CLUSTERS * SERVERS_PER_CLUSTER));
+    assertThat(peakStarting, lessThanOrEqualTo(4));
+    assertThat(peakStartingInCluster, lessThanOrEqualTo(3));
+  }
+
+  @Test
+  public void whenClusterLimitReached_startServersOfOtherClusters() throws Exception {
+    runSimulation(new StartupScheduler(0, 2));
+
+    assertThat(peakStarting, equalTo(2 * CLUSTERS));
+  }
+
+  @Test
+  public void withLimits_allServersRunSoonerThanWhenStartedAtOnce() throws Exception {
+    int stagedTicks = new StartupSchedulerTest().runSimulation(new StartupScheduler(EFFICIENT_CONCURRENCY, 3));
+    int unlimitedTicks = new StartupSchedulerTest().runSimulation(new StartupScheduler(0, 0));
+
+    assertThat(stagedTicks, lessThan(unlimitedTicks / 2));
+  }
+
+  @Test
+  public void whenServerStartupFails_releaseItsPermit() throws Exception {
+    StartupScheduler scheduler = new StartupScheduler(1, 0);
+
+    testSupport.runStep(new ParallelStep(null,
+        scheduler.withPermit("cluster0", new FailingStep(), new RunningStep()),
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep())));
+    tick(WORK_PER_SERVER);
+
+    assertThat(running, equalTo(1));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenServerStartupFails_releaseItsClusterPermit() throws Exception {
+    StartupScheduler scheduler = new StartupScheduler(0, 1);
+
+    testSupport.runStep(new ParallelStep(null,
+        scheduler.withPermit("cluster0", new FailingStep(), new RunningStep()),
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep())));
+    tick(WORK_PER_SERVER);
+
+    assertThat(running, equalTo(1));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenAttemptCancelled_nextAttemptReclaimsItsPermitsAndSkipsItsWaitingServers() throws Exception {
+    StartupScheduler scheduler = new StartupScheduler(1, 0);
+    testSupport.runStep(new SuspendingStep());
+
+    Fiber cancelled = startAttempt(
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep()),
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep()));
+    cancelled.cancel(false);
+    startAttempt(
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep()),
+        scheduler.withPermit("cluster0", new StartServerStep("cluster0", null), new RunningStep()));
+    tick(2 * WORK_PER_SERVER);
+    tick(WORK_PER_SERVER);
+
+    assertThat(running, equalTo(2));
+  }
+
+  // starts the servers in a child of the suspended test fiber, so that they can be cancelled together
+  private Fiber startAttempt(Step... servers) {
+    Fiber fiber = testFiber.createChildFiber();
+    fiber.start(new ParallelStep(null, servers), new Packet(), null);
+    return fiber;
+  }
+
+  // returns the number of ticks until all servers are RUNNING
+  private int runSimulation(StartupScheduler scheduler) {
+    List<Step> servers = new ArrayList<>();
+    for (int i = 0; i < CLUSTERS; i++) {
+      String clusterName = "cluster" + i;
+      for (int j = 0; j < SERVERS_PER_CLUSTER; j++) {
+        servers.add(scheduler.withPermit(clusterName, new StartServerStep(clusterName, null), new RunningStep()));
+      }
+    }
+    testSupport.runStep(new ParallelStep(null, servers.toArray(new Step[servers.size()])));
+
+    int ticks = 0;
+    while (running < servers.size() && ticks < MAX_TICKS) {
+      tick();
+      ticks++;
+    }
+    assertThat(running, equalTo(servers.size()));
+    return ticks;
+  }
+
+  private void tick() {
+    int count = starting.size();
+    if (count == 0) {
+      return;
+    }
+    tick(ADMIN_CAPACITY / (1 + THRASH_FACTOR * Math.max(0, count - EFFICIENT_CONCURRENCY)));
+  }
+
+  private void tick(double capacity) {
+    int count = starting.size();
+    List<StartingServer> ready = new ArrayList<>();
+    for (Iterator<StartingServer> it = starting.iterator(); it.hasNext(); ) {
+      StartingServer server = it.next();
+      server.remaining -= capacity / count;
+      if (server.remaining <= 0) {
+        it.remove();
+        startingByCluster.merge(server.clusterName, -1, Integer::sum);
+        ready.add(server);
+      }
+    }
+    // readiness events
+    for (StartingServer server : ready) {
+      server.fiber.resume(server.packet);
+    }
+  }
+
+  private static class StartingServer {
+    private final String clusterName;
+    private final Fiber fiber;
+    private final Packet packet;
+    private double remaining = WORK_PER_SERVER;
+
+    StartingServer(String clusterName, Fiber fiber, Packet packet) {
+      this.clusterName = clusterName;
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+  }
+
+  private class StartServerStep extends Step {
+    private final String clusterName;
+
+    StartServerStep(String clusterName, Step next) {
+      super(next);
+      this.clusterName = clusterName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(next, (fiber) -> {
+        starting.add(new StartingServer(clusterName, fiber, packet));
+        peakStarting = Math.max(peakStarting, starting.size());
+        peakStartingInCluster = Math.max(peakStartingInCluster, startingByCluster.merge(clusterName, 1, Integer::sum));
+      });
+    }
+  }
+
+  private class SuspendingStep extends Step {
+    SuspendingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend((fiber) -> testFiber = fiber);
+    }
+  }
+
+  private static class FailingStep extends Step {
+    FailingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      throw new IllegalStateException();
+    }
+  }
+
+  private class RunningStep extends Step {
+    RunningStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      running++;
+      return doNext(packet);
+    }
+  }
+}
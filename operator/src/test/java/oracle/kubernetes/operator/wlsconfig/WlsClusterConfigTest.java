@@ -16,6 +16,7 @@ import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,11 +43,19 @@ public class WlsClusterConfigTest {
     @Test
   public void verifyClusterSizeIsSameAsNumberOfServers() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", null, null));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-1", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", null, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-1", 8011, null));
     assertEquals(2, wlsClusterConfig.getClusterSize());
   }
 
+  @Test
+  public void verifyAddingServerDoesNotChangeOriginalCluster() throws Exception {
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
+    WlsClusterConfig withServer = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", null, null));
+    assertEquals(0, wlsClusterConfig.getClusterSize());
+    assertEquals(1, withServer.getClusterSize());
+  }
+
   @Test
   public void verifyClusterSizeIs0IfNoServers() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
@@ -62,7 +71,7 @@ public class WlsClusterConfigTest {
   @Test
   public void verifyHasStaticServersIsTrueIfStaticServers() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", null, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", null, null));
     assertTrue(wlsClusterConfig.hasStaticServers());
   }
 
@@ -90,7 +99,7 @@ public class WlsClusterConfigTest {
   public void verifyHasDynamicServersIsTrueForMixedCluster() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1",
             createDynamicServersConfig(2, 5, "ms-", "clsuter1"));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("mss-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("mss-0", 8011, null));
     assertTrue(wlsClusterConfig.hasDynamicServers());
   }
 
@@ -98,7 +107,7 @@ public class WlsClusterConfigTest {
   public void verifyHasStaticServersIsTrueForMixedCluster() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1",
             createDynamicServersConfig(2, 5, "ms-", "clsuter1"));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("mss-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("mss-0", 8011, null));
     assertTrue(wlsClusterConfig.hasStaticServers());
   }
 
@@ -120,8 +129,8 @@ public class WlsClusterConfigTest {
   @Test
   public void verifyGetServerConfigsReturnListOfAllServerConfigs() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011, null));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-1", 8012, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-1", 8012, null));
 
     List<WlsServerConfig> wlsServerConfigList = wlsClusterConfig.getServerConfigs();
     assertEquals(2, wlsServerConfigList.size());
@@ -133,8 +142,8 @@ public class WlsClusterConfigTest {
   public void verifyGetServerConfigsReturnListOfAllServerConfigsWithDynamicServers() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1",
             createDynamicServersConfig(3, 5, "ms-", "clsuter1"));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("static-0", 8011, null));
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("static-1", 8012, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("static-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("static-1", 8012, null));
 
     List<WlsServerConfig> wlsServerConfigList = wlsClusterConfig.getServerConfigs();
     assertEquals(5, wlsServerConfigList.size());
@@ -147,6 +156,27 @@ public class WlsClusterConfigTest {
     assertTrue(containsServer(wlsClusterConfig, "static-1"));
   }
 
+  @Test
+  public void verifyDynamicServersAreLimitedToDynamicClusterSize() throws Exception {
+    Map<String, WlsServerConfig> serverTemplates = new HashMap<>();
+    serverTemplates.put("template1", new WlsServerConfig("template1", 8001, "host1", null, false, null, null));
+    WlsDynamicServersConfig wlsDynamicServersConfig = WlsDynamicServersConfig.create(2, 1000, "ms-", true, null,
+            "template1", Arrays.asList("ms-1", "ms-2", "ms-3"), serverTemplates, "cluster1", "base_domain");
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", wlsDynamicServersConfig);
+    assertEquals(Arrays.asList("ms-1", "ms-2"), wlsClusterConfig.getServerNames());
+    assertEquals(2, wlsClusterConfig.getServerConfigs().size());
+    assertEquals(Integer.valueOf(8003), wlsClusterConfig.getServerConfigs().get(1).getListenPort());
+  }
+
+  @Test
+  public void verifyDynamicServerConfigIsCreatedOnceWhenRetrieved() throws Exception {
+    WlsDynamicServersConfig wlsDynamicServersConfig = createDynamicServersConfig(3, 1000, "ms-", "cluster1");
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", wlsDynamicServersConfig);
+    WlsServerConfig serverConfig = wlsClusterConfig.getServerConfigs().get(2);
+    assertEquals("ms-3", serverConfig.getName());
+    assertSame(serverConfig, wlsDynamicServersConfig.getServerConfigs().get(2));
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
@@ -174,7 +204,7 @@ public class WlsClusterConfigTest {
   @Test
   public void verifyValidateClusterStartupWarnsIfReplicasTooHigh() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", 8011, null));
     ClusterStartup cs = new ClusterStartup().withClusterName("cluster1").withReplicas(2);
     TestUtil.LogHandlerImpl handler = null;
     try {
@@ -189,7 +219,7 @@ public class WlsClusterConfigTest {
   @Test
   public void verifyValidateClusterStartupDoNotSuggestsUpdateToConfiguredClusterIfReplicasTooHigh() throws Exception {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", 8011, null));
     ClusterStartup cs = new ClusterStartup().withClusterName("cluster1").withReplicas(2);
     ArrayList<ConfigUpdate> suggestedConfigUpdates = new ArrayList<>();
     wlsClusterConfig.validateClusterStartup(cs, suggestedConfigUpdates);
@@ -215,7 +245,7 @@ public class WlsClusterConfigTest {
   public void verifyValidateClusterStartupWarnsIfReplicasTooHigh_mixedCluster() throws Exception {
     WlsDynamicServersConfig wlsDynamicServersConfig = createDynamicServersConfig(1, 1, "ms-", "cluster1");
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", wlsDynamicServersConfig);
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", 8011, null));
     ClusterStartup cs = new ClusterStartup().withClusterName("cluster1").withReplicas(3);
     TestUtil.LogHandlerImpl handler = null;
     try {
@@ -231,7 +261,7 @@ public class WlsClusterConfigTest {
   public void verifyValidateClusterStartupDoNotWarnIfReplicasNotHigh_mixedCluster() throws Exception {
     WlsDynamicServersConfig wlsDynamicServersConfig = createDynamicServersConfig(1, 1, "ms-", "cluster1");
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", wlsDynamicServersConfig);
-    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011, null));
+    wlsClusterConfig = wlsClusterConfig.withServerConfig(createWlsServerConfig("ms-0", 8011, null));
     ClusterStartup cs = new ClusterStartup().withClusterName("cluster1").withReplicas(2);
     TestUtil.LogHandlerImpl handler = null;
     try {
@@ -424,11 +454,7 @@ public class WlsClusterConfigTest {
     assertTrue(wlsClusterConfig.checkUpdateDynamicClusterSizeJsonResult("{}"));
   }
   private WlsServerConfig createWlsServerConfig(String serverName, Integer listenPort, String listenAddress) {
-    Map<String, Object> serverConfigMap = new HashMap<>();
-    serverConfigMap.put("name", serverName);
-    serverConfigMap.put("listenPort", listenPort);
-    serverConfigMap.put("listenAddress", listenAddress);
-    return WlsServerConfig.create(serverConfigMap);
+    return new WlsServerConfig(serverName, listenPort, listenAddress, null, false, null, new ArrayList<>());
   }
 
   @Test
@@ -0,0 +1,150 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a WlsDomainConfig with the streaming parser against only deserializing the same
+ * response into a generic Map, which is the first half of the work the previous parser did.
+ * Run with the gc profiler to compare allocation rates as well:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     oracle.kubernetes.operator.wlsconfig.WlsDomainConfigBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WlsDomainConfigBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int serversPerCluster;
+
+  @Param({"4"})
+  public int networkAccessPointsPerServer;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private String json;
+
+  @Setup
+  public void createJson() {
+    json = createDomainJson(3, serversPerCluster, networkAccessPointsPerServer);
+  }
+
+  @Benchmark
+  public Map<?, ?> mapDeserialization() throws Exception {
+    return mapper.readValue(json, Map.class);
+  }
+
+  @Benchmark
+  public WlsDomainConfig streamingParse() {
+    return WlsDomainConfig.create(json);
+  }
+
+  /**
+   * Create a domainConfig search response for a domain with a static and a dynamic cluster for
+   * each cluster index.
+   */
+  static String createDomainJson(int clusters, int serversPerCluster, int networkAccessPointsPerServer) {
+    StringBuilder sb = new StringBuilder("{\"name\": \"base_domain\", \"servers\": {\"items\": [");
+    sb.append("{\"name\": \"AdminServer\", \"listenPort\": 7001, \"listenAddress\": \"\", \"cluster\": null,")
+      .append(" \"machine\": null, \"networkAccessPoints\": {\"items\": []}}");
+    for (int c = 0; c < clusters; c++) {
+      for (int s = 0; s < serversPerCluster; s++) {
+        sb.append(", {\"name\": \"static").append(c).append("-ms-").append(s).append("\",")
+          .append(" \"listenPort\": 8001, \"listenAddress\": \"static").append(c).append("-ms-").append(s).append("\",")
+          .append(" \"cluster\": [\"clusters\", \"static").append(c).append("\"],")
+          .append(" \"machine\": [\"machines\", \"machine-").append(s % 4).append("\"],")
+          .append(" \"SSL\": {\"enabled\": true, \"listenPort\": 8101},")
+          .append(" \"networkAccessPoints\": {\"items\": [");
+        appendNetworkAccessPoints(sb, networkAccessPointsPerServer);
+        sb.append("]}}");
+      }
+    }
+    sb.append("]}, \"serverTemplates\": {\"items\": [");
+    for (int c = 0; c < clusters; c++) {
+      if (c > 0) {
+        sb.append(", ");
+      }
+      sb.append("{\"name\": \"template").append(c).append("\", \"listenPort\": 8001, \"listenAddress\": \"\",")
+        .append(" \"cluster\": [\"clusters\", \"dynamic").append(c).append("\"], \"machine\": null,")
+        .append(" \"SSL\": {\"enabled\": false, \"listenPort\": 8100},")
+        .append(" \"networkAccessPoints\": {\"items\": [");
+      appendNetworkAccessPoints(sb, networkAccessPointsPerServer);
+      sb.append("]}}");
+    }
+    sb.append("]}, \"clusters\": {\"items\": [");
+    for (int c = 0; c < clusters; c++) {
+      if (c > 0) {
+        sb.append(", ");
+      }
+      sb.append("{\"name\": \"static").append(c).append("\", \"dynamicServers\": {\"serverTemplate\": null,")
+        .append(" \"dynamicClusterSize\": 0, \"maxDynamicClusterSize\": 8, \"serverNamePrefix\": null,")
+        .append(" \"calculatedListenPorts\": false, \"machineNameMatchExpression\": null, \"dynamicServerNames\": []}}, ");
+      sb.append("{\"name\": \"dynamic").append(c).append("\", \"dynamicServers\": {")
+        .append("\"serverTemplate\": [\"serverTemplates\", \"template").append(c).append("\"],")
+        .append(" \"dynamicClusterSize\": ").append(serversPerCluster).append(",")
+        .append(" \"maxDynamicClusterSize\": ").append(serversPerCluster).append(",")
+        .append(" \"serverNamePrefix\": \"dynamic").append(c).append("-ms-\", \"calculatedListenPorts\": true,")
+        .append(" \"machineNameMatchExpression\": \"machine-*\", \"dynamicServerNames\": [");
+      for (int s = 1; s <= serversPerCluster; s++) {
+        if (s > 1) {
+          sb.append(", ");
+        }
+        sb.append("\"dynamic").append(c).append("-ms-").append(s).append("\"");
+      }
+      sb.append("]}}");
+    }
+    sb.append("]}, \"machines\": {\"items\": [");
+    for (int m = 0; m < 4; m++) {
+      if (m > 0) {
+        sb.append(", ");
+      }
+      sb.append("{\"name\": \"machine-").append(m).append("\", \"nodeManager\": {")
+        .append("\"NMType\": \"SSL\", \"listenAddress\": \"localhost\", \"listenPort\": 5556}}");
+    }
+    return sb.append("]}}").toString();
+  }
+
+  private static void appendNetworkAccessPoints(StringBuilder sb, int count) {
+    for (int n = 0; n < count; n++) {
+      if (n > 0) {
+        sb.append(", ");
+      }
+      sb.append("{\"name\": \"Channel-").append(n).append("\", \"protocol\": \"t3\", \"listenPort\": ")
+        .append(9000 + n).append(", \"publicPort\": ").append(9000 + n).append("}");
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(WlsDomainConfigBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build();
+    new Runner(options).run();
+  }
+}
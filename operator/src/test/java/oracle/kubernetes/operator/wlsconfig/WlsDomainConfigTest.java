@@ -11,7 +11,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Handler;
@@ -47,6 +49,67 @@ public class WlsDomainConfigTest {
     assertEquals("base_domain", wlsDomainConfig.getName());
   }
 
+  @Test
+  public void verifyFingerprintOnlyChangesWithJsonString() throws Exception {
+    String fingerprint = WlsDomainConfig.computeFingerprint(JSON_STRING_1_CLUSTER);
+    assertEquals(fingerprint, WlsDomainConfig.computeFingerprint(new String(JSON_STRING_1_CLUSTER)));
+    assertFalse(fingerprint.equals(WlsDomainConfig.computeFingerprint(JSON_STRING_2_CLUSTERS)));
+    assertNull(WlsDomainConfig.computeFingerprint(null));
+  }
+
+  @Test
+  public void verifyModificationTimeIsReadFromSearchResponse() throws Exception {
+    assertEquals("1539950000000",
+        WlsDomainConfig.parseModificationTime("{\"lastModificationTime\": 1539950000000, \"links\": []}"));
+    assertNull(WlsDomainConfig.parseModificationTime("{\"links\": []}"));
+    assertNull(WlsDomainConfig.parseModificationTime(null));
+  }
+
+  @Test
+  public void verifyUnknownElementsAreSkippedWhenParsingJsonString() throws Exception {
+    WlsDomainConfig wlsDomainConfig = WlsDomainConfig.create(
+        "{\"links\": [{\"rel\": \"self\", \"href\": \"http://admin\"}], \"name\": \"base_domain\", " +
+        "\"servers\": {\"links\": [], \"items\": [{\"name\": \"ms-0\", \"listenPort\": 8011, " +
+        "\"extra\": {\"nested\": [1, 2, {\"a\": null}]}, \"cluster\": [\"clusters\", \"cluster-1\"]}]}}");
+    assertEquals("base_domain", wlsDomainConfig.getName());
+    assertEquals(Integer.valueOf(8011), wlsDomainConfig.getServerConfig("ms-0").getListenPort());
+    assertEquals(1, wlsDomainConfig.getClusterConfig("cluster-1").getClusterSize());
+  }
+
+  @Test
+  public void verifyLargeDomainLoadedFromJsonString() throws Exception {
+    WlsDomainConfig wlsDomainConfig = WlsDomainConfig.create(WlsDomainConfigBenchmark.createDomainJson(2, 50, 3));
+    assertEquals(101, wlsDomainConfig.getServerConfigs().size());
+    assertEquals(4, wlsDomainConfig.getClusterConfigs().size());
+    assertEquals(4, wlsDomainConfig.getMachineConfigs().size());
+    assertEquals(50, wlsDomainConfig.getClusterConfig("static1").getClusterSize());
+    assertFalse(wlsDomainConfig.getClusterConfig("static1").hasDynamicServers());
+    WlsClusterConfig dynamicCluster = wlsDomainConfig.getClusterConfig("dynamic1");
+    assertTrue(dynamicCluster.hasDynamicServers());
+    assertEquals(50, dynamicCluster.getDynamicClusterSize());
+    assertEquals(3, dynamicCluster.getServerConfigs().get(0).getNetworkAccessPoints().size());
+    assertEquals("machine-2", wlsDomainConfig.getServerConfig("static0-ms-2").getMachineName());
+    assertTrue(wlsDomainConfig.getServerConfig("static0-ms-2").isSslPortEnabled());
+  }
+
+  @Test
+  public void verifyClusterAndMachineIndexesIncludeDynamicServers() throws Exception {
+    WlsDomainConfig wlsDomainConfig = WlsDomainConfig.create(WlsDomainConfigBenchmark.createDomainJson(2, 8, 0));
+    assertEquals("static1", wlsDomainConfig.getClusterConfigForServer("static1-ms-3").getClusterName());
+    assertEquals("dynamic0", wlsDomainConfig.getClusterConfigForServer("dynamic0-ms-8").getClusterName());
+    assertNull(wlsDomainConfig.getClusterConfigForServer("AdminServer"));
+    assertNull(wlsDomainConfig.getClusterConfigForServer("no-such-server"));
+    assertEquals(Arrays.asList("static0-ms-1", "static0-ms-5", "static1-ms-1", "static1-ms-5"),
+        sorted(wlsDomainConfig.getServerNamesForMachine("machine-1")));
+    assertTrue(wlsDomainConfig.getServerNamesForMachine("no-such-machine").isEmpty());
+  }
+
+  private static List<String> sorted(List<String> list) {
+    List<String> result = new ArrayList<>(list);
+    Collections.sort(result);
+    return result;
+  }
+
   @Test
   public void verifyServersLoadedFromJsonString() throws Exception {
     WlsDomainConfig wlsDomainConfig = WlsDomainConfig.create(JSON_STRING_1_CLUSTER);
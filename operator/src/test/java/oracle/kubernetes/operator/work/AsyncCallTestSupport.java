@@ -70,6 +70,7 @@ public class AsyncCallTestSupport extends FiberTestSupport {
   }
 
   private Map<CannedResponse,Boolean> cannedResponses = new HashMap<>();
+  private List<PendingResponse> pendingResponses = new ArrayList<>();
 
   /**
    * Primes CallBuilder to expect a request for the specified method.
@@ -102,6 +103,34 @@ public class AsyncCallTestSupport extends FiberTestSupport {
     return formatter.toString();
   }
 
+  /**
+   * Completes the calls whose canned responses were defined by #returningAsynchronously. All of the responses
+   * are delivered before any of the waiting fibers resumes, as they may be when the calls complete together.
+   * The fibers are resumed from a scheduled runnable, so that each runs once its resume has returned.
+   */
+  public void completeAsynchronousCalls() {
+    List<PendingResponse> responses = new ArrayList<>(pendingResponses);
+    pendingResponses.clear();
+    for (PendingResponse response : responses)
+      response.packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(response.callResponse));
+    schedule(() -> {
+      for (PendingResponse response : responses)
+        response.fiber.resume(response.packet);
+    });
+  }
+
+  private static class PendingResponse {
+    private final Fiber fiber;
+    private final Packet packet;
+    private final CallResponse<?> callResponse;
+
+    PendingResponse(Fiber fiber, Packet packet, CallResponse<?> callResponse) {
+      this.fiber = fiber;
+      this.packet = packet;
+      this.callResponse = callResponse;
+    }
+  }
+
   /**
    * Throws an exception if any of the canned responses were not used.
    */
@@ -155,6 +184,7 @@ public class AsyncCallTestSupport extends FiberTestSupport {
     private Map<String,String> requestParamExpectations = new HashMap<>();
     private T result;
     private int status;
+    private boolean asynchronous;
 
     private CannedResponse(String methodName) {
       this.methodName = methodName;
@@ -205,6 +235,15 @@ public class AsyncCallTestSupport extends FiberTestSupport {
       this.result = result;
     }
 
+    /**
+     * Specifies the result to be returned by the canned response once #completeAsynchronousCalls is invoked.
+     * @param result the response to return
+     */
+    public void returningAsynchronously(T result) {
+      this.result = result;
+      this.asynchronous = true;
+    }
+
     /**
      * Indicates that the canned response should fail and specifies the HTML status to report.
      * @param status the failure status
@@ -223,7 +262,7 @@ public class AsyncCallTestSupport extends FiberTestSupport {
     }
   }
 
-  private static class CannedResponseStep<T> extends Step {
+  private class CannedResponseStep<T> extends Step {
     private CannedResponse<T> cannedResponse;
 
     CannedResponseStep(Step next, CannedResponse<T> cannedResponse) {
@@ -235,6 +274,8 @@ public class AsyncCallTestSupport extends FiberTestSupport {
     public NextAction apply(Packet packet) {
       CannedResponse<T> cannedResponse = this.cannedResponse;
       CallResponse<T> callResponse = cannedResponse.getCallResponse();
+      if (cannedResponse.asynchronous)
+        return doSuspend(next, fiber -> pendingResponses.add(new PendingResponse(fiber, packet, callResponse)));
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(callResponse));
 
       return doNext(packet);
@@ -11,7 +11,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import io.kubernetes.client.ApiException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -83,7 +82,7 @@ public class FiberTestSupport {
    * Clears the throwable so that #throwOnFailure will not throw the expected exception.
    * @param throwableClass the class of the excepted throwable
    */
-  public void verifyCompletionThrowable(Class<ApiException> throwableClass) {
+  public void verifyCompletionThrowable(Class<? extends Throwable> throwableClass) {
     completionCallback.verifyThrowable(throwableClass);
   }
 
@@ -365,6 +365,49 @@ public class StepTest {
     assertTrue(throwables.isEmpty());
   }
 
+  @Test
+  public void whenFiberCompletes_countItCompleted() throws InterruptedException {
+    Semaphore signal = new Semaphore(0);
+    engine.createFiber().start(new Step1(null), new Packet(), new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        signal.release();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        signal.release();
+      }
+    });
+
+    assertTrue(signal.tryAcquire(5, TimeUnit.SECONDS));
+    assertEquals(1, engine.getCompletedFiberCount());
+    assertEquals(0, engine.getActiveFiberCount());
+  }
+
+  @Test
+  public void whenSuspendedFiberCancelled_countItCancelled() throws InterruptedException {
+    Step suspend = new Step(null) {
+      @Override
+      public NextAction apply(Packet packet) {
+        return doSuspend(fiber -> {});
+      }
+    };
+    Fiber f = engine.createFiber();
+    f.start(suspend, new Packet(), null);
+    for (int i = 0; i < 500 && (engine.getActiveFiberCount() != 1 || engine.getRunningFiberCount() != 0); i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(1, engine.getActiveFiberCount());
+    assertEquals(0, engine.getRunningFiberCount());
+
+    f.cancel(false);
+
+    assertEquals(0, engine.getActiveFiberCount());
+    assertEquals(1, engine.getCancelledFiberCount());
+    assertEquals(0, engine.getCompletedFiberCount());
+  }
+
   private abstract static class BaseStep extends Step {
     public BaseStep(Step next) {
       super(next);
@@ -60,6 +60,10 @@ case $arg in
     access_token="${arg#*=}"
     shift # past argument=value
     ;;
+    --idempotency_key=*)
+    idempotency_key="${arg#*=}"
+    shift # past argument=value
+    ;;
     *)
           # unknown option
     ;;
@@ -69,7 +73,7 @@ done
 # Verify required parameters
 if [ -z "$scaling_action" ] || [ -z "$wls_domain_uid" ] || [ -z "$wls_cluster_name" ]
 then
-    echo "Usage: scalingAction.sh --action=[scaleUp | scaleDown] --domain_uid=<domain uid> --cluster_name=<cluster name> [--kubernetes_master=https://kubernetes] [--access_token=<access_token>] [--wls_domain_namespace=default] [--operator_namespace=weblogic-operator] [--operator_service_name=weblogic-operator] [--scaling_size=1]"
+    echo "Usage: scalingAction.sh --action=[scaleUp | scaleDown] --domain_uid=<domain uid> --cluster_name=<cluster name> [--kubernetes_master=https://kubernetes] [--access_token=<access_token>] [--wls_domain_namespace=default] [--operator_namespace=weblogic-operator] [--operator_service_name=weblogic-operator] [--scaling_size=1] [--idempotency_key=<key>]"
     echo "  where"
     echo "    action - scaleUp or scaleDown"
     echo "    domain_uid - WebLogic Domain Unique Identifier"
@@ -81,6 +85,7 @@ then
     echo "    operator_service_account - Kubernetes Service Account for WebLogic Operator, default=weblogic-operator"
     echo "    operator_namespace - WebLogic Operator Namespace, default=weblogic-operator"
     echo "    scaling_size - number of WebLogic server instances by which to scale up or down, default=1"
+    echo "    idempotency_key - identifies retries of the same scaling action, which the operator does not apply again"
     exit 1
 fi
 
@@ -98,6 +103,7 @@ echo "operator_service_name: $operator_service_name" >> scalingAction.log
 echo "operator_service_account: $operator_service_account" >> scalingAction.log
 echo "operator_namespace: $operator_namespace" >> scalingAction.log
 echo "scaling_size: $scaling_size" >> scalingAction.log
+echo "idempotency_key: $idempotency_key" >> scalingAction.log
 
 # Query WebLogic Operator Service Port
 STATUS=`curl -v --cacert /var/run/secrets/kubernetes.io/serviceaccount/ca.crt -H "Authorization: Bearer $(cat /var/run/secrets/kubernetes.io/serviceaccount/token)" -X GET $kubernetes_master/api/v1/namespaces/$operator_namespace/services/$operator_service_name/status` 
@@ -215,7 +221,12 @@ echo "operator_url: $operator_url" >> scalingAction.log
 # send REST request to Operator
 if [ -e $pem_filename ]
 then
-  result=`curl --cacert $pem_filename -X POST -H "$content_type" -H "$requested_by" -H "$authorization" -d "$request_body" $operator_url`
+  if [ -n "$idempotency_key" ]
+  then
+    result=`curl --cacert $pem_filename -X POST -H "$content_type" -H "$requested_by" -H "$authorization" -H "Idempotency-Key: $idempotency_key" -d "$request_body" $operator_url`
+  else
+    result=`curl --cacert $pem_filename -X POST -H "$content_type" -H "$requested_by" -H "$authorization" -d "$request_body" $operator_url`
+  fi
 else
   echo "Operator PEM formatted file not found" >> scalingAction.log
   exit 1